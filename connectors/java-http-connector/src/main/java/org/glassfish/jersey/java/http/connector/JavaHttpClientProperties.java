@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.java.http.connector;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the Client API that utilizes {@link JavaHttpConnectorProvider}.
+ *
+ * @since 2.47
+ */
+@PropertiesClass
+public final class JavaHttpClientProperties {
+
+    /**
+     * Prevents instantiation.
+     */
+    private JavaHttpClientProperties() {
+        throw new AssertionError("No instances allowed.");
+    }
+
+    /**
+     * The HTTP protocol version the client prefers.
+     * <p/>
+     * With {@link java.net.http.HttpClient.Version#HTTP_2 HTTP_2} the client negotiates HTTP/2 with the server and
+     * multiplexes the concurrent requests to a server over a single connection. The client falls back to HTTP/1.1
+     * with the servers that do not support HTTP/2.
+     * <p/>
+     * The value MUST be an instance of {@link java.net.http.HttpClient.Version} or its name as a {@link String}.
+     * If the property is absent the default value is {@link java.net.http.HttpClient.Version#HTTP_2 HTTP_2}.
+     */
+    public static final String HTTP_VERSION =
+            "jersey.config.java.http.client.httpVersion";
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.java.http.connector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javax.net.ssl.SSLContext;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.innate.ClientProxy;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+import org.glassfish.jersey.message.internal.HeaderUtils;
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * A {@link Connector} that utilizes the JDK {@link HttpClient} to send and receive HTTP requests and responses.
+ * <p/>
+ * The requests are sent asynchronously by the non-blocking HTTP client. The request entity is serialized in the
+ * thread that sends the request and published to the client as it is consumed, see {@link OutputStreamPublisher}.
+ * The response entity stream is fed by the client as the response body arrives, a reading thread blocks only
+ * until the next part of the body is received. No thread is therefore allocated per request.
+ * <p/>
+ * The following properties are only supported at construction of this class:
+ * <ul>
+ * <li>{@link ClientProperties#ASYNC_THREADPOOL_SIZE}</li>
+ * <li>{@link ClientProperties#CONNECT_TIMEOUT}</li>
+ * <li>{@link ClientProperties#FOLLOW_REDIRECTS}</li>
+ * <li>{@link ClientProperties#PROXY_URI}</li>
+ * <li>{@link ClientProperties#PROXY_USERNAME}</li>
+ * <li>{@link ClientProperties#PROXY_PASSWORD}</li>
+ * <li>{@link JavaHttpClientProperties#HTTP_VERSION}</li>
+ * </ul>
+ * The {@link ClientProperties#READ_TIMEOUT} is supported per request and limits the time to receive the response
+ * headers.
+ *
+ * @since 2.47
+ */
+class JavaHttpConnector implements Connector {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaHttpConnector.class.getName());
+
+    /**
+     * Headers set by {@link HttpClient} itself which are not allowed to be set in a request.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "host", "upgrade"));
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+
+    /**
+     * Create the new JDK HTTP client connector.
+     *
+     * @param jaxrsClient JAX-RS client instance, for which the connector is created.
+     * @param config      client configuration.
+     */
+    JavaHttpConnector(final Client jaxrsClient, final Configuration config) {
+        final Map<String, Object> properties = config.getProperties();
+        final HttpClient.Builder builder = HttpClient.newBuilder();
+
+        builder.version(httpVersion(properties.get(JavaHttpClientProperties.HTTP_VERSION)));
+
+        final int connectTimeout = ClientProperties.getValue(properties, ClientProperties.CONNECT_TIMEOUT, 0);
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+
+        final boolean followRedirects = ClientProperties.getValue(properties, ClientProperties.FOLLOW_REDIRECTS, true);
+        builder.followRedirects(followRedirects ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER);
+
+        final Optional<ClientProxy> proxy = ClientProxy.proxyFromConfiguration(config);
+        proxy.ifPresent(clientProxy -> {
+            builder.proxy(ProxySelector.of((InetSocketAddress) clientProxy.proxy().address()));
+            if (clientProxy.userName() != null) {
+                builder.authenticator(new ProxyAuthenticator(clientProxy.userName(), clientProxy.password()));
+            }
+        });
+
+        final SSLContext sslContext = jaxrsClient.getSslContext();
+        if (sslContext != null) {
+            builder.sslContext(sslContext);
+        }
+        if (jaxrsClient.getHostnameVerifier() != null) {
+            LOGGER.warning(LocalizationMessages.HOSTNAME_VERIFIER_NOT_SUPPORTED());
+        }
+
+        final int threadPoolSize = ClientProperties.getValue(properties, ClientProperties.ASYNC_THREADPOOL_SIZE, 0);
+        if (threadPoolSize > 0) {
+            executor = Executors.newFixedThreadPool(threadPoolSize, new ThreadFactoryBuilder()
+                    .setNameFormat("jersey-java-http-client-" + hashCode() + "-%d")
+                    .setDaemon(true)
+                    .build());
+            builder.executor(executor);
+        } else {
+            executor = null;
+        }
+
+        this.client = builder.build();
+    }
+
+    private static HttpClient.Version httpVersion(final Object version) {
+        if (version == null) {
+            return HttpClient.Version.HTTP_2;
+        }
+        if (version instanceof HttpClient.Version) {
+            return (HttpClient.Version) version;
+        }
+        try {
+            return HttpClient.Version.valueOf(version.toString().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new ProcessingException(
+                    LocalizationMessages.INVALID_HTTP_VERSION(version, JavaHttpClientProperties.HTTP_VERSION), e);
+        }
+    }
+
+    /**
+     * Get the {@link HttpClient}.
+     *
+     * @return the {@link HttpClient}.
+     */
+    public HttpClient getHttpClient() {
+        return client;
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) throws ProcessingException {
+        try {
+            return send(request).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof ProcessingException ? (ProcessingException) cause : new ProcessingException(cause);
+        }
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        final CompletableFuture<ClientResponse> responseFuture = send(request);
+        responseFuture.whenComplete((response, failure) -> {
+            if (failure == null) {
+                callback.response(response);
+            } else if (!(failure instanceof CancellationException)) {
+                callback.failure(failure);
+            }
+        });
+        return responseFuture;
+    }
+
+    /**
+     * Send the request. The returned future is completed once the response headers are received.
+     */
+    private CompletableFuture<ClientResponse> send(final ClientRequest request) {
+        final CompletableFuture<ClientResponse> responseFuture = new CompletableFuture<>();
+        try {
+            final HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri());
+            final int readTimeout = request.resolveProperty(ClientProperties.READ_TIMEOUT, 0);
+            if (readTimeout > 0) {
+                builder.timeout(Duration.ofMillis(readTimeout));
+            }
+
+            if (request.hasEntity()) {
+                request.setStreamProvider(contentLength -> {
+                    // the headers are final once the entity stream is committed
+                    final Map<String, String> headers = writeOutboundHeaders(request, builder);
+                    final OutputStreamPublisher body = new OutputStreamPublisher();
+                    responseFuture.whenComplete((response, failure) -> {
+                        if (failure != null) {
+                            body.abort(failure);
+                        }
+                    });
+                    builder.method(request.getMethod(), contentLength == 0
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : contentLength > 0
+                            ? HttpRequest.BodyPublishers.fromPublisher(body, contentLength)
+                            : HttpRequest.BodyPublishers.fromPublisher(body));
+                    sendAsync(request, builder.build(), headers, responseFuture);
+                    return body;
+                });
+                request.writeEntity();
+            } else {
+                final Map<String, String> headers = writeOutboundHeaders(request, builder);
+                builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+                sendAsync(request, builder.build(), headers, responseFuture);
+            }
+        } catch (final IOException e) {
+            responseFuture.completeExceptionally(new ProcessingException(e));
+        } catch (final Throwable t) {
+            responseFuture.completeExceptionally(t);
+        }
+        return responseFuture;
+    }
+
+    private void sendAsync(final ClientRequest request,
+                           final HttpRequest httpRequest,
+                           final Map<String, String> headersSnapshot,
+                           final CompletableFuture<ClientResponse> responseFuture) {
+        final CompletableFuture<HttpResponse<InputStream>> exchange =
+                client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+        responseFuture.whenComplete((response, failure) -> {
+            if (failure instanceof CancellationException) {
+                exchange.cancel(true);
+            }
+        });
+        exchange.whenComplete((httpResponse, failure) -> {
+            if (failure != null) {
+                responseFuture.completeExceptionally(
+                        failure instanceof CompletionException ? failure.getCause() : failure);
+                return;
+            }
+            try {
+                HeaderUtils.checkHeaderChanges(headersSnapshot, request.getHeaders(),
+                        JavaHttpConnector.this.getClass().getName(), request.getConfiguration());
+                if (!responseFuture.complete(translateResponse(request, httpResponse))) {
+                    // cancelled or failed meanwhile
+                    httpResponse.body().close();
+                }
+            } catch (final Throwable t) {
+                responseFuture.completeExceptionally(t);
+            }
+        });
+    }
+
+    private static Map<String, String> writeOutboundHeaders(final ClientRequest request, final HttpRequest.Builder builder) {
+        final Map<String, String> headers =
+                HeaderUtils.asStringHeadersSingleValue(request.getHeaders(), request.getConfiguration());
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            final String name = header.getKey().toLowerCase(Locale.ROOT);
+            if ("expect".equals(name) && "100-continue".equalsIgnoreCase(header.getValue())) {
+                builder.expectContinue(true);
+            } else if (!RESTRICTED_HEADERS.contains(name)) {
+                builder.setHeader(header.getKey(), header.getValue());
+            }
+        }
+        return headers;
+    }
+
+    private static ClientResponse translateResponse(final ClientRequest request,
+                                                    final HttpResponse<InputStream> httpResponse) {
+        final ClientResponse response = new ClientResponse(
+                Statuses.from(httpResponse.statusCode()), request, httpResponse.uri());
+        for (final Map.Entry<String, List<String>> header : httpResponse.headers().map().entrySet()) {
+            if (!header.getKey().startsWith(":")) {
+                // HTTP/2 pseudo-headers are not exposed
+                response.getHeaders().addAll(header.getKey(), header.getValue());
+            }
+        }
+        response.setEntityStream(httpResponse.body());
+        return response;
+    }
+
+    @Override
+    public String getName() {
+        return "Java HttpClient " + Runtime.version();
+    }
+
+    @Override
+    public void close() {
+        // HttpClient releases its resources once it is no longer referenced, only the own executor is shut down
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class ProxyAuthenticator extends Authenticator {
+
+        private final String userName;
+        private final char[] password;
+
+        private ProxyAuthenticator(final String userName, final String password) {
+            this.userName = userName;
+            this.password = password == null ? new char[0] : password.toCharArray();
+        }
+
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            return getRequestorType() == RequestorType.PROXY
+                    ? new PasswordAuthentication(userName, password)
+                    : null;
+        }
+    }
+}
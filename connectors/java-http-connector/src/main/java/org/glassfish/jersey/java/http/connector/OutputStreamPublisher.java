@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.java.http.connector;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Request entity stream that publishes the written bytes to the HTTP client as the request body.
+ * <p/>
+ * Jersey serializes the request entity in the thread that sends the request. The written bytes are collected
+ * into buffers which are handed over to the single subscriber of the body as it requests them. The writing
+ * thread blocks once {@value #MAX_BUFFERS} buffers are waiting for the demand, so that a large entity is not
+ * held in memory as a whole and no extra thread is needed to bridge the blocking stream to the non-blocking body.
+ *
+ * @since 2.47
+ */
+final class OutputStreamPublisher extends OutputStream implements Flow.Publisher<ByteBuffer> {
+
+    /**
+     * Size of the buffers the written bytes are collected into.
+     */
+    static final int BUFFER_SIZE = 8192;
+    /**
+     * Number of the buffers that may wait for the demand before the writing thread is blocked.
+     */
+    static final int MAX_BUFFERS = 4;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition requested = lock.newCondition();
+    private final AtomicInteger drains = new AtomicInteger();
+
+    // guarded by lock
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+    private boolean subscribed;
+    private Flow.Subscriber<? super ByteBuffer> subscriber;
+    private long demand;
+    private boolean closed;
+    private boolean terminated;
+    private Throwable failure;
+
+    // accessed by the writing thread only
+    private ByteBuffer current;
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        final boolean first;
+        lock.lock();
+        try {
+            first = !subscribed;
+            subscribed = true;
+        } finally {
+            lock.unlock();
+        }
+
+        if (!first) {
+            // the body cannot be written again, e.g. when the client retries the request
+            subscriber.onSubscribe(new Rejected());
+            subscriber.onError(new IllegalStateException(LocalizationMessages.REQUEST_BODY_ALREADY_PUBLISHED()));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        // nothing is signalled before the subscriber knows its subscription
+        lock.lock();
+        try {
+            this.subscriber = subscriber;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (current == null) {
+            current = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        current.put((byte) b);
+        if (!current.hasRemaining()) {
+            publish();
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (current == null) {
+                current = ByteBuffer.allocate(BUFFER_SIZE);
+            }
+            final int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+            if (!current.hasRemaining()) {
+                publish();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (current != null && current.position() > 0) {
+            publish();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Fail the body. The subscriber is notified with the failure and the writing thread is released.
+     *
+     * @param t failure of the request.
+     */
+    void abort(final Throwable t) {
+        lock.lock();
+        try {
+            if (failure == null && !terminated) {
+                failure = t;
+            }
+            buffers.clear();
+            requested.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private void publish() throws IOException {
+        final ByteBuffer buffer = current;
+        current = null;
+        buffer.flip();
+
+        lock.lock();
+        try {
+            while (buffers.size() >= MAX_BUFFERS && failure == null && !terminated) {
+                requested.await();
+            }
+            if (failure != null || terminated) {
+                throw new IOException(LocalizationMessages.REQUEST_BODY_NOT_CONSUMED(), failure);
+            }
+            buffers.add(buffer);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private void drain() {
+        if (drains.getAndIncrement() != 0) {
+            // the signals are delivered by the thread that is already draining
+            return;
+        }
+        do {
+            for (;;) {
+                final Flow.Subscriber<? super ByteBuffer> s;
+                ByteBuffer next = null;
+                Throwable error = null;
+                boolean complete = false;
+
+                lock.lock();
+                try {
+                    s = subscriber;
+                    if (s == null || terminated) {
+                        break;
+                    }
+                    if (failure != null) {
+                        terminated = true;
+                        error = failure;
+                    } else if (demand > 0 && !buffers.isEmpty()) {
+                        next = buffers.poll();
+                        demand--;
+                        requested.signal();
+                    } else if (closed && buffers.isEmpty()) {
+                        terminated = true;
+                        complete = true;
+                    } else {
+                        break;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                if (next != null) {
+                    s.onNext(next);
+                } else if (error != null) {
+                    s.onError(error);
+                } else if (complete) {
+                    s.onComplete();
+                }
+            }
+        } while (drains.decrementAndGet() != 0);
+    }
+
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                abort(new IllegalArgumentException(LocalizationMessages.REQUEST_BODY_ILLEGAL_DEMAND(n)));
+                return;
+            }
+            lock.lock();
+            try {
+                demand += n;
+                if (demand < 0) {
+                    // overflow, the demand is unbounded
+                    demand = Long.MAX_VALUE;
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                terminated = true;
+                buffers.clear();
+                requested.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Rejected implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -14,15 +14,9 @@
  * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
  */
 
-package org.glassfish.jersey.server.internal.monitoring;
 
 /**
- * @author Stepan Vavra
+ * Jersey client {@link org.glassfish.jersey.client.spi.Connector connector} based on the
+ * JDK {@link java.net.http.HttpClient}.
  */
-public class AggregatingTrimmerZeroTimeTest extends AggregatingTrimmerTest {
-
-    @Override
-    protected long startTime() {
-        return 0;
-    }
-}
+package org.glassfish.jersey.java.http.connector;
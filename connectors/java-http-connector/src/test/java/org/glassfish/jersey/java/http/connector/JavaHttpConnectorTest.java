@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.java.http.connector;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HEAD;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link JavaHttpConnectorProvider java.net.http.HttpClient connector}.
+ */
+public class JavaHttpConnectorTest extends JerseyTest {
+
+    @Path("test")
+    public static class TestResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return "GET";
+        }
+
+        @HEAD
+        @Produces(MediaType.TEXT_PLAIN)
+        public Response head() {
+            return Response.ok().header("X-Test", "head").build();
+        }
+
+        @POST
+        @Path("echo")
+        public byte[] echo(final byte[] entity) {
+            return entity;
+        }
+
+        @GET
+        @Path("header")
+        public String header(@HeaderParam("X-Test") final String header) {
+            return header;
+        }
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            Thread.sleep(2000);
+            return "slow";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(TestResource.class);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.connectorProvider(new JavaHttpConnectorProvider());
+    }
+
+    @Test
+    public void testGet() {
+        final Response response = target("test").request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, response.getMediaType());
+        assertEquals("GET", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testHead() {
+        final Response response = target("test").request().head();
+        assertEquals(200, response.getStatus());
+        assertEquals("head", response.getHeaderString("X-Test"));
+        assertEquals(0, response.readEntity(byte[].class).length);
+    }
+
+    @Test
+    public void testRequestHeader() {
+        assertEquals("foo", target("test/header").request().header("X-Test", "foo").get(String.class));
+    }
+
+    @Test
+    public void testPostBuffered() {
+        final byte[] entity = entity(100);
+        final byte[] echoed = target("test/echo").request()
+                .post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM), byte[].class);
+        assertArrayEquals(entity, echoed);
+    }
+
+    @Test
+    public void testPostStreamed() {
+        // greater than the default outbound buffer, the entity is streamed without a content length
+        final byte[] entity = entity(1024 * 1024);
+        final Response response = target("test/echo").request()
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                .post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM));
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(entity, response.readEntity(byte[].class));
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        final int requests = 20;
+        final CountDownLatch latch = new CountDownLatch(requests);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 0; i < requests; i++) {
+            target("test").request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(final String response) {
+                    if (!"GET".equals(response)) {
+                        failure.set(new AssertionError(response));
+                    }
+                    latch.countDown();
+                }
+
+                @Override
+                public void failed(final Throwable throwable) {
+                    failure.set(throwable);
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void testAsyncPost() throws Exception {
+        final byte[] entity = entity(256 * 1024);
+        final Future<byte[]> echoed = target("test/echo").request().async()
+                .post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM), byte[].class);
+        assertArrayEquals(entity, echoed.get(10 * getAsyncTimeoutMultiplier(), TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testReadTimeout() {
+        final ProcessingException e = assertThrows(ProcessingException.class, () -> target("test/slow").request()
+                .property(ClientProperties.READ_TIMEOUT, 500)
+                .get());
+        assertTrue(e.getCause() instanceof HttpTimeoutException, String.valueOf(e.getCause()));
+    }
+
+    @Test
+    public void testHttpVersion() {
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new JavaHttpConnectorProvider())
+                .property(JavaHttpClientProperties.HTTP_VERSION, "http_1_1"));
+        try {
+            final HttpClient httpClient = JavaHttpConnectorProvider.getHttpClient(client);
+            assertNotNull(httpClient);
+            assertEquals(HttpClient.Version.HTTP_1_1, httpClient.version());
+            assertEquals("GET", client.target(getBaseUri()).path("test").request().get(String.class));
+        } finally {
+            client.close();
+        }
+    }
+
+    private static byte[] entity(final int length) {
+        final byte[] entity = new byte[length];
+        Arrays.fill(entity, (byte) 'x');
+        return entity;
+    }
+}
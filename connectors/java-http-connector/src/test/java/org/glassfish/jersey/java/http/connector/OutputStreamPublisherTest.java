@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.java.http.connector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link OutputStreamPublisher}.
+ */
+public class OutputStreamPublisherTest {
+
+    @Test
+    public void testWrittenBytesArePublished() throws Exception {
+        final OutputStreamPublisher publisher = new OutputStreamPublisher();
+        final CollectingSubscriber subscriber = new CollectingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        final byte[] entity = bytes(3 * OutputStreamPublisher.BUFFER_SIZE + 7);
+        publisher.write(entity[0]);
+        publisher.write(entity, 1, entity.length - 1);
+        publisher.close();
+
+        assertArrayEquals(entity, subscriber.completed.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testWriterWaitsForDemand() throws Exception {
+        final OutputStreamPublisher publisher = new OutputStreamPublisher();
+        final CollectingSubscriber subscriber = new CollectingSubscriber();
+        publisher.subscribe(subscriber);
+
+        final byte[] entity = bytes((OutputStreamPublisher.MAX_BUFFERS + 2) * OutputStreamPublisher.BUFFER_SIZE);
+        final CompletableFuture<Void> written = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < entity.length; i += OutputStreamPublisher.BUFFER_SIZE) {
+                    publisher.write(entity, i, OutputStreamPublisher.BUFFER_SIZE);
+                }
+                publisher.close();
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThrows(TimeoutException.class, () -> written.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(subscriber.completed.isDone());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        written.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(entity, subscriber.completed.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAbortReleasesWriter() throws Exception {
+        final OutputStreamPublisher publisher = new OutputStreamPublisher();
+        final CollectingSubscriber subscriber = new CollectingSubscriber();
+        publisher.subscribe(subscriber);
+
+        final CompletableFuture<Void> written = CompletableFuture.runAsync(() -> {
+            try {
+                publisher.write(bytes((OutputStreamPublisher.MAX_BUFFERS + 1) * OutputStreamPublisher.BUFFER_SIZE));
+                publisher.close();
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> written.get(200, TimeUnit.MILLISECONDS));
+
+        final IOException failure = new IOException("connection reset");
+        publisher.abort(failure);
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> written.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause().getCause() instanceof IOException);
+        final ExecutionException published = assertThrows(ExecutionException.class,
+                () -> subscriber.completed.get(5, TimeUnit.SECONDS));
+        assertEquals(failure, published.getCause());
+    }
+
+    @Test
+    public void testWriteAfterCancelFails() throws Exception {
+        final OutputStreamPublisher publisher = new OutputStreamPublisher();
+        final CollectingSubscriber subscriber = new CollectingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertThrows(IOException.class, () -> publisher.write(bytes(OutputStreamPublisher.BUFFER_SIZE)));
+    }
+
+    @Test
+    public void testSecondSubscriberIsRejected() throws Exception {
+        final OutputStreamPublisher publisher = new OutputStreamPublisher();
+        publisher.subscribe(new CollectingSubscriber());
+
+        final CollectingSubscriber second = new CollectingSubscriber();
+        publisher.subscribe(second);
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> second.completed.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    private static byte[] bytes(final int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private final CompletableFuture<byte[]> completed = new CompletableFuture<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final ByteBuffer item) {
+            final byte[] bytes = new byte[item.remaining()];
+            item.get(bytes);
+            received.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.complete(received.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Snapshot of the connection pool state of the {@link JdkConnectorProvider JDK connector}.
+ * <p/>
+ * The totals are summed over all the {@link #getDestinations() destinations} the connector currently keeps
+ * connections or queued requests for.
+ *
+ * @see JdkConnectorProvider#getConnectionPoolStatistics(javax.ws.rs.core.Configurable)
+ * @since 2.47
+ */
+public final class ConnectionPoolStatistics {
+
+    private final List<DestinationStatistics> destinations;
+
+    /**
+     * Create a new connection pool statistics snapshot.
+     *
+     * @param destinations statistics of the individual destinations.
+     */
+    public ConnectionPoolStatistics(final List<DestinationStatistics> destinations) {
+        this.destinations = Collections.unmodifiableList(new ArrayList<>(destinations));
+    }
+
+    /**
+     * Get the total number of open connections.
+     *
+     * @return number of open connections.
+     */
+    public int getOpenConnections() {
+        return destinations.stream().mapToInt(DestinationStatistics::getOpenConnections).sum();
+    }
+
+    /**
+     * Get the total number of requests in progress.
+     *
+     * @return number of active streams.
+     */
+    public int getActiveStreams() {
+        return destinations.stream().mapToInt(DestinationStatistics::getActiveStreams).sum();
+    }
+
+    /**
+     * Get the total number of requests waiting for a connection or a stream to become available.
+     *
+     * @return queue depth.
+     */
+    public int getQueuedRequests() {
+        return destinations.stream().mapToInt(DestinationStatistics::getQueuedRequests).sum();
+    }
+
+    /**
+     * Get the statistics of the individual destinations.
+     *
+     * @return unmodifiable list of destination statistics.
+     */
+    public List<DestinationStatistics> getDestinations() {
+        return destinations;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{"
+                + "openConnections=" + getOpenConnections()
+                + ", activeStreams=" + getActiveStreams()
+                + ", queuedRequests=" + getQueuedRequests()
+                + ", destinations=" + destinations
+                + '}';
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector;
+
+/**
+ * Snapshot of the connection pool state of a single destination of the {@link JdkConnectorProvider JDK connector}.
+ * A destination is determined by the host, port and whether the connection is secure.
+ *
+ * @see ConnectionPoolStatistics
+ * @since 2.47
+ */
+public final class DestinationStatistics {
+
+    /**
+     * Protocol name reported for destinations served over HTTP/1.1.
+     */
+    public static final String HTTP_1_1 = "HTTP/1.1";
+
+    /**
+     * Protocol name reported for destinations served over HTTP/2.
+     */
+    public static final String HTTP_2 = "HTTP/2";
+
+    private final String host;
+    private final int port;
+    private final boolean secure;
+    private final String protocol;
+    private final int openConnections;
+    private final int activeStreams;
+    private final int queuedRequests;
+
+    /**
+     * Create a new destination statistics snapshot.
+     *
+     * @param host            destination host.
+     * @param port            destination port.
+     * @param secure          {@code true} if the destination is accessed using HTTPS.
+     * @param protocol        protocol used for the destination, {@link #HTTP_1_1} or {@link #HTTP_2}.
+     * @param openConnections number of open connections.
+     * @param activeStreams   number of requests in progress.
+     * @param queuedRequests  number of requests waiting for a connection.
+     */
+    public DestinationStatistics(final String host, final int port, final boolean secure, final String protocol,
+                                 final int openConnections, final int activeStreams, final int queuedRequests) {
+        this.host = host;
+        this.port = port;
+        this.secure = secure;
+        this.protocol = protocol;
+        this.openConnections = openConnections;
+        this.activeStreams = activeStreams;
+        this.queuedRequests = queuedRequests;
+    }
+
+    /**
+     * Get the destination host.
+     *
+     * @return destination host.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Get the destination port.
+     *
+     * @return destination port.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Check whether the destination is accessed using HTTPS.
+     *
+     * @return {@code true} for HTTPS destinations.
+     */
+    public boolean isSecure() {
+        return secure;
+    }
+
+    /**
+     * Get the protocol used for the destination.
+     *
+     * @return {@link #HTTP_1_1} or {@link #HTTP_2}.
+     */
+    public String getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Get the number of open connections, including the connections being established.
+     *
+     * @return number of open connections.
+     */
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    /**
+     * Get the number of requests in progress. An HTTP/1.1 connection carries a single request at a time, an HTTP/2
+     * connection carries a stream per request.
+     *
+     * @return number of active streams.
+     */
+    public int getActiveStreams() {
+        return activeStreams;
+    }
+
+    /**
+     * Get the number of requests waiting for a connection or a stream to become available.
+     *
+     * @return queue depth.
+     */
+    public int getQueuedRequests() {
+        return queuedRequests;
+    }
+
+    @Override
+    public String toString() {
+        return "DestinationStatistics{"
+                + "host=" + host
+                + ", port=" + port
+                + ", secure=" + secure
+                + ", protocol=" + protocol
+                + ", openConnections=" + openConnections
+                + ", activeStreams=" + activeStreams
+                + ", queuedRequests=" + queuedRequests
+                + '}';
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -96,6 +96,34 @@ public final class JdkConnectorProperties {
      */
     public static final String CONNECTION_IDLE_TIMEOUT = "jersey.config.client.JdkConnectorProvider.connectionIdleTimeout";
 
+    /**
+     * Enable HTTP/2 ({@link Boolean} value).
+     * <p/>
+     * When enabled, {@code https} requests negotiate HTTP/2 with the server using ALPN and fall back to HTTP/1.1 if the
+     * server does not support it. Plain {@code http} requests use HTTP/2 with prior knowledge (h2c), the server is
+     * expected to support HTTP/2 without an HTTP/1.1 upgrade. A single connection carries multiple concurrent requests,
+     * so {@link #MAX_CONNECTIONS_PER_DESTINATION} limits the number of HTTP/2 connections. HTTP/2 is not used when
+     * a proxy is configured.
+     * <p/>
+     * The default value is {@value #DEFAULT_HTTP2_ENABLED}
+     *
+     * @since 2.47
+     */
+    public static final String HTTP2_ENABLED = "jersey.config.client.JdkConnectorProvider.http2.enabled";
+
+    /**
+     * A maximum number of concurrent requests (streams) sent over a single HTTP/2 connection ({@link Integer} value).
+     * <p/>
+     * The effective limit is the lower of this value and the {@code SETTINGS_MAX_CONCURRENT_STREAMS} announced
+     * by the server. Requests exceeding the limit wait in the destination queue or open another connection.
+     * <p/>
+     * The default value is {@value #DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS}
+     *
+     * @since 2.47
+     */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS = "jersey.config.client.JdkConnectorProvider"
+            + ".http2.maxConcurrentStreams";
+
     /**
      * Default value for the {@link org.glassfish.jersey.client.ClientProperties#CHUNKED_ENCODING_SIZE} property.
      */
@@ -131,6 +159,20 @@ public final class JdkConnectorProperties {
      */
     public static final int DEFAULT_CONNECTION_CLOSE_WAIT = 30_000;
 
+    /**
+     * Default value for the {@link #HTTP2_ENABLED} property.
+     *
+     * @since 2.47
+     */
+    public static final boolean DEFAULT_HTTP2_ENABLED = false;
+
+    /**
+     * Default value for the {@link #HTTP2_MAX_CONCURRENT_STREAMS} property.
+     *
+     * @since 2.47
+     */
+    public static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+
     public static <T> T getValue(final Map<String, ?> properties, final String key, final Class<T> type) {
         return PropertiesHelper.getValue(properties, key, type, null);
     }
@@ -54,6 +54,8 @@ class AsynchronousBodyInputStream extends BodyInputStream {
     private ExecutorService listenerExecutor = null;
     // a listener used internally by the connector
     private StateChangeLister stateChangeLister;
+    // a listener of the data consumption used internally by the connector
+    private volatile ConsumptionListener consumptionListener;
 
     // if in synchronous mode, this stream delegates to synchronousStream
     private ByteBufferInputStream synchronousStream = null;
@@ -123,18 +125,24 @@ class AsynchronousBodyInputStream extends BodyInputStream {
         commitToMode();
 
         if (mode == Mode.SYNCHRONOUS) {
-            return synchronousStream.read();
+            final int b = synchronousStream.read();
+            if (b != -1) {
+                consumed(1);
+            }
+            return b;
         }
 
         validateState();
-        return doRead();
+        final int b = doRead() & 0xFF;
+        consumed(1);
+        return b;
     }
 
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
         commitToMode();
         if (mode == Mode.SYNCHRONOUS) {
-            return synchronousStream.read(b, off, len);
+            return consumed(synchronousStream.read(b, off, len));
         }
 
         // some validation borrowed from InputStream
@@ -150,14 +158,14 @@ class AsynchronousBodyInputStream extends BodyInputStream {
 
         for (int i = 0; i < len; i++) {
             if (!hasDataToRead()) {
-                return i;
+                return consumed(i);
             }
 
             b[off + i] = doRead();
         }
 
         // if we are here we were able to fill the entire buffer
-        return len;
+        return consumed(len);
     }
 
     private synchronized byte doRead() {
@@ -186,28 +194,34 @@ class AsynchronousBodyInputStream extends BodyInputStream {
         commitToMode();
         // TODO this could be also supported in async mode
         assertSynchronousOperation();
-        return synchronousStream.skip(n);
+        final long skipped = synchronousStream.skip(n);
+        consumed((int) skipped);
+        return skipped;
     }
 
     @Override
     public int tryRead() throws IOException {
         commitToMode();
         assertSynchronousOperation();
-        return synchronousStream.tryRead();
+        final int b = synchronousStream.tryRead();
+        if (b >= 0) {
+            consumed(1);
+        }
+        return b;
     }
 
     @Override
     public int tryRead(byte[] b) throws IOException {
         commitToMode();
         assertSynchronousOperation();
-        return synchronousStream.tryRead(b);
+        return consumed(synchronousStream.tryRead(b));
     }
 
     @Override
     public int tryRead(byte[] b, int off, int len) throws IOException {
         commitToMode();
         assertSynchronousOperation();
-        return synchronousStream.tryRead(b, off, len);
+        return consumed(synchronousStream.tryRead(b, off, len));
     }
 
     synchronized void notifyDataAvailable(ByteBuffer availableData) {
@@ -238,6 +252,11 @@ class AsynchronousBodyInputStream extends BodyInputStream {
         if (mode == Mode.SYNCHRONOUS) {
             synchronousStream.close();
         }
+
+        final ConsumptionListener listener = consumptionListener;
+        if (listener != null) {
+            listener.onClosed();
+        }
     }
 
     synchronized void notifyError(Throwable t) {
@@ -393,6 +412,25 @@ class AsynchronousBodyInputStream extends BodyInputStream {
         }
     }
 
+    /**
+     * Notify the consumption listener about the bytes read by the user. Must not be called while holding the lock of
+     * this stream.
+     *
+     * @param bytes number of bytes read, ignored unless positive.
+     * @return the number of bytes read.
+     */
+    private int consumed(int bytes) {
+        final ConsumptionListener listener = consumptionListener;
+        if (listener != null && bytes > 0) {
+            listener.onRead(bytes);
+        }
+        return bytes;
+    }
+
+    void setConsumptionListener(ConsumptionListener consumptionListener) {
+        this.consumptionListener = consumptionListener;
+    }
+
     synchronized void setStateChangeLister(StateChangeLister stateChangeLister) {
         this.stateChangeLister = stateChangeLister;
 
@@ -421,4 +459,15 @@ class AsynchronousBodyInputStream extends BodyInputStream {
 
         void onAllDataRead();
     }
+
+    /**
+     * Internal listener, so that an HTTP/2 connection knows how much of the received data the user has read,
+     * so it can extend the flow control windows as the data is consumed.
+     */
+    interface ConsumptionListener {
+
+        void onRead(int bytes);
+
+        void onClosed();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -52,6 +52,8 @@ class ChunkedBodyOutputStream extends BodyOutputStream {
     private volatile boolean callListener = true;
 
     private volatile boolean closed = false;
+    // false if the data are passed to the downstream filter as they are, e.g. to be framed by an HTTP/2 stream
+    private volatile boolean chunkEncoding = true;
 
     ChunkedBodyOutputStream(int chunkSize) {
         this.chunkSize = chunkSize;
@@ -176,7 +178,7 @@ class ChunkedBodyOutputStream extends BodyOutputStream {
 
     protected void write(final ByteBuffer byteBuffer) throws IOException {
         // do transport encoding on the raw data
-        ByteBuffer httpChunk = encodeToHttp(byteBuffer);
+        ByteBuffer httpChunk = chunkEncoding ? encodeToHttp(byteBuffer) : copy(byteBuffer);
 
         if (mode == Mode.SYNCHRONOUS) {
             final CountDownLatch writeLatch = new CountDownLatch(1);
@@ -231,6 +233,18 @@ class ChunkedBodyOutputStream extends BodyOutputStream {
     }
 
     synchronized void open(Filter<ByteBuffer, ?, ?, ?> downstreamFilter) {
+        open(downstreamFilter, true);
+    }
+
+    /**
+     * Open the stream for data.
+     *
+     * @param downstreamFilter filter the body data are written to.
+     * @param chunkEncoding    {@code true} if the data should be chunk-encoded, {@code false} if the raw data should be
+     *                         passed to the filter. An empty buffer marks the end of the body in both cases.
+     */
+    synchronized void open(Filter<ByteBuffer, ?, ?, ?> downstreamFilter, boolean chunkEncoding) {
+        this.chunkEncoding = chunkEncoding;
         this.downstreamFilter = downstreamFilter;
         initialBlockingLatch.countDown();
         ready = true;
@@ -326,6 +340,14 @@ class ChunkedBodyOutputStream extends BodyOutputStream {
         return encodedChunks;
     }
 
+    private static ByteBuffer copy(ByteBuffer byteBuffer) {
+        // the buffer is reused by this stream once the write has completed
+        ByteBuffer copy = ByteBuffer.allocate(byteBuffer.remaining());
+        copy.put(byteBuffer.duplicate());
+        ((Buffer) copy).flip();
+        return copy;
+    }
+
     @Override
     public void close() throws IOException {
         if (closed) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -58,6 +58,8 @@ class ConnectorConfiguration {
     private final HostnameVerifier hostnameVerifier;
     private final int responseTimeout;
     private final int connectTimeout;
+    private final boolean http2Enabled;
+    private final int http2MaxConcurrentStreams;
     private final ProxyConfiguration proxyConfiguration;
     private final AtomicReference<SSLParamConfigurator> sniConfigs = new AtomicReference<>(null);
     private final Configuration configuration;
@@ -104,6 +106,20 @@ class ConnectorConfiguration {
 
         connectTimeout = ClientProperties.getValue(properties, ClientProperties.CONNECT_TIMEOUT, 0, Integer.class);
 
+        http2Enabled = JdkConnectorProperties.getValue(properties, JdkConnectorProperties.HTTP2_ENABLED,
+                JdkConnectorProperties.DEFAULT_HTTP2_ENABLED, Boolean.class);
+
+        int proposedMaxConcurrentStreams = JdkConnectorProperties.getValue(properties,
+                JdkConnectorProperties.HTTP2_MAX_CONCURRENT_STREAMS,
+                JdkConnectorProperties.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS, Integer.class);
+        if (proposedMaxConcurrentStreams <= 0) {
+            LOGGER.warning(LocalizationMessages.HTTP_2_INVALID_MAX_CONCURRENT_STREAMS(proposedMaxConcurrentStreams,
+                    JdkConnectorProperties.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS));
+            proposedMaxConcurrentStreams = JdkConnectorProperties.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+        }
+
+        http2MaxConcurrentStreams = proposedMaxConcurrentStreams;
+
         if (client.getSslContext() == null) {
             sslContext = SslConfigurator.getDefaultContext();
         } else {
@@ -171,6 +187,14 @@ class ConnectorConfiguration {
         return connectTimeout;
     }
 
+    boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    int getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
     public ProxyConfiguration getProxyConfiguration() {
         return proxyConfiguration;
     }
@@ -203,6 +227,8 @@ class ConnectorConfiguration {
                 + ", hostnameVerifier=" + hostnameVerifier
                 + ", responseTimeout=" + responseTimeout
                 + ", connectTimeout=" + connectTimeout
+                + ", http2Enabled=" + http2Enabled
+                + ", http2MaxConcurrentStreams=" + http2MaxConcurrentStreams
                 + ", proxyConfiguration=" + proxyConfiguration.toString()
                 + '}';
     }
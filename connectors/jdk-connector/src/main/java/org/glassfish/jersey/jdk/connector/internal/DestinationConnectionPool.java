@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,13 +20,17 @@ import java.io.IOException;
 import java.net.CookieManager;
 import java.net.URI;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.glassfish.jersey.jdk.connector.DestinationStatistics;
+
 /**
  * @author Petr Janouch
  */
@@ -35,24 +39,33 @@ class DestinationConnectionPool {
     private final ConnectorConfiguration configuration;
     private final Queue<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
     private final Set<HttpConnection> connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedDeque<>();
+    private final Set<Http2Connection> http2Connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Deque<RequestRecord> pendingRequests = new ConcurrentLinkedDeque<>();
     private final Map<HttpConnection, RequestRecord> requestsInProgress = new ConcurrentHashMap<>();
     private final CookieManager cookieManager;
     private final ScheduledExecutorService scheduler;
+    private final ExecutorService responseExecutor;
     private final ConnectionStateListener connectionStateListener;
+    private final Http2ConnectionListener http2ConnectionListener;
 
     private volatile ConnectionCloseListener connectionCloseListener;
+    // HTTP/2 is used until the server turns out not to support it
+    private volatile boolean http2;
 
     private int connectionCounter = 0;
     private boolean closed = false;
 
     DestinationConnectionPool(ConnectorConfiguration configuration,
                               CookieManager cookieManager,
-                              ScheduledExecutorService scheduler) {
+                              ScheduledExecutorService scheduler,
+                              ExecutorService responseExecutor) {
         this.configuration = configuration;
         this.cookieManager = cookieManager;
         this.scheduler = scheduler;
+        this.responseExecutor = responseExecutor;
         this.connectionStateListener = new ConnectionStateListener();
+        this.http2ConnectionListener = new Http2ConnectionListener();
+        this.http2 = configuration.isHttp2Enabled() && !configuration.getProxyConfiguration().isConfigured();
     }
 
     void setConnectionCloseListener(ConnectionCloseListener connectionCloseListener) {
@@ -61,7 +74,67 @@ class DestinationConnectionPool {
 
     void send(HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler) {
         pendingRequests.add(new RequestRecord(httpRequest, completionHandler));
-        processPendingRequests();
+
+        if (http2) {
+            processPendingHttp2Requests();
+        } else {
+            processPendingRequests();
+        }
+    }
+
+    private void processPendingHttp2Requests() {
+        while (true) {
+            RequestRecord pendingHead;
+            Http2Connection connection = null;
+
+            synchronized (this) {
+                /* this is synchronized so that another thread does not steal the pending request at the head of the queue
+                while we investigate if we can execute it. */
+                pendingHead = pendingRequests.peek();
+                if (pendingHead == null) {
+                    // no pending requests
+                    return;
+                }
+
+                for (Http2Connection http2Connection : http2Connections) {
+                    if (http2Connection.tryReserveStream()) {
+                        connection = http2Connection;
+                        break;
+                    }
+                }
+
+                if (connection != null) {
+                    pendingRequests.poll();
+                } else {
+                    boolean connecting = false;
+                    int acceptingConnections = 0;
+                    for (Http2Connection http2Connection : http2Connections) {
+                        connecting |= http2Connection.isConnecting();
+                        acceptingConnections += http2Connection.isAcceptingStreams() ? 1 : 0;
+                    }
+
+                    /* a connection being established is expected to take the pending requests, open another one only if
+                    all the open connections are at the limit of concurrent streams */
+                    if (connecting || configuration.getMaxConnectionsPerDestination() <= acceptingConnections) {
+                        return;
+                    }
+
+                    connection = new Http2Connection(pendingHead.request.getUri(), cookieManager, configuration, scheduler,
+                            responseExecutor, http2ConnectionListener);
+                    http2Connections.add(connection);
+                    connectionCounter++;
+                    pendingHead = null;
+                }
+            }
+
+            // we don't want to connect or send inside the synchronized block
+            if (pendingHead == null) {
+                connection.connect();
+                return;
+            }
+
+            connection.send(pendingHead.request, pendingHead.completionHandler);
+        }
     }
 
     private void processPendingRequests(HttpConnection connection) {
@@ -147,6 +220,26 @@ class DestinationConnectionPool {
         closed = true;
 
         connections.forEach(HttpConnection::close);
+        http2Connections.forEach(Http2Connection::close);
+    }
+
+    /**
+     * Get a snapshot of the pool statistics.
+     *
+     * @param destinationKey destination served by this pool.
+     * @return pool statistics.
+     */
+    synchronized DestinationStatistics getStatistics(DestinationKey destinationKey) {
+        int activeStreams = (int) connections.stream().filter(connection -> connection.state == HttpConnection.State
+                .SENDING_REQUEST || connection.state == HttpConnection.State.RECEIVING_HEADER
+                || connection.state == HttpConnection.State.RECEIVING_BODY).count();
+        for (Http2Connection connection : http2Connections) {
+            activeStreams += connection.getActiveStreamCount();
+        }
+
+        return new DestinationStatistics(destinationKey.getHost(), destinationKey.getPort(), destinationKey.isSecure(),
+                http2 ? DestinationStatistics.HTTP_2 : DestinationStatistics.HTTP_1_1,
+                connections.size() + http2Connections.size(), activeStreams, pendingRequests.size());
     }
 
     private RequestRecord getRequest(HttpConnection connection) {
@@ -190,6 +283,28 @@ class DestinationConnectionPool {
         processPendingRequests();
     }
 
+    private void cleanClosedHttp2Connection(Http2Connection connection) {
+        if (closed) {
+            return;
+        }
+
+        synchronized (this) {
+            if (!http2Connections.remove(connection)) {
+                return;
+            }
+            connectionCounter--;
+
+            if (pendingRequests.peek() == null) {
+                if (connectionCounter == 0) {
+                    connectionCloseListener.onLastConnectionClosed();
+                }
+                return;
+            }
+        }
+
+        processPendingHttp2Requests();
+    }
+
     private void handleIllegalStateTransition(HttpConnection.State oldState, HttpConnection.State newState) {
         throw new IllegalStateException("Illegal state transition, old state: " + oldState + " new state: " + newState);
     }
@@ -395,6 +510,53 @@ class DestinationConnectionPool {
         }
     }
 
+    private class Http2ConnectionListener implements Http2Connection.Listener {
+
+        @Override
+        public void onAvailable(Http2Connection connection) {
+            processPendingHttp2Requests();
+        }
+
+        @Override
+        public void onRefused(Http2Connection connection, HttpRequest httpRequest,
+                              CompletionHandler<HttpResponse> completionHandler) {
+            // the request has not been processed by the server, retry it before the requests that came later
+            pendingRequests.addFirst(new RequestRecord(httpRequest, completionHandler));
+            if (http2) {
+                processPendingHttp2Requests();
+            } else {
+                processPendingRequests();
+            }
+        }
+
+        @Override
+        public void onHttp11Negotiated(Http2Connection connection) {
+            int pending;
+            synchronized (DestinationConnectionPool.this) {
+                http2 = false;
+                http2Connections.remove(connection);
+                connectionCounter--;
+                pending = pendingRequests.size();
+            }
+
+            // open HTTP/1.1 connections as if the pending requests had just been sent
+            for (int i = 0; i < pending; i++) {
+                processPendingRequests();
+            }
+        }
+
+        @Override
+        public void onConnectFailed(Http2Connection connection, Throwable t) {
+            removeAllPendingWithError(t);
+            cleanClosedHttp2Connection(connection);
+        }
+
+        @Override
+        public void onClosed(Http2Connection connection) {
+            cleanClosedHttp2Connection(connection);
+        }
+    }
+
     private static class RequestRecord {
 
         private final HttpRequest request;
@@ -419,6 +581,18 @@ class DestinationConnectionPool {
             secure = Constants.HTTPS.equalsIgnoreCase(uri.getScheme());
         }
 
+        String getHost() {
+            return host;
+        }
+
+        int getPort() {
+            return port;
+        }
+
+        boolean isSecure() {
+            return secure;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HPACK (RFC 7541) header block decoder.
+ * <p/>
+ * The decoder keeps the dynamic table shared by all the header blocks received on a connection, therefore all the
+ * header blocks must be decoded in the order they have been received.
+ */
+class HpackDecoder {
+
+    private final Hpack.DynamicTable table;
+    private final int maxTableSize;
+
+    /**
+     * Create a new decoder.
+     *
+     * @param maxTableSize maximal size of the dynamic table announced to the peer.
+     */
+    HpackDecoder(final int maxTableSize) {
+        this.maxTableSize = maxTableSize;
+        this.table = new Hpack.DynamicTable(maxTableSize);
+    }
+
+    /**
+     * Decode a complete header block.
+     *
+     * @param block    header block.
+     * @param listener listener notified about every decoded header field.
+     * @throws Http2Exception if the header block cannot be decoded.
+     */
+    void decode(final ByteBuffer block, final HeaderListener listener) throws Http2Exception {
+        boolean fieldDecoded = false;
+
+        while (block.hasRemaining()) {
+            final int b = block.get(block.position()) & 0xFF;
+
+            if ((b & 0x80) != 0) {
+                // indexed header field
+                final String[] field = field(decodeInt(block, 7));
+                listener.onHeader(field[0], field[1]);
+                fieldDecoded = true;
+            } else if ((b & 0x40) != 0) {
+                // literal header field with incremental indexing
+                final int index = decodeInt(block, 6);
+                final String name = index == 0 ? decodeString(block) : field(index)[0];
+                final String value = decodeString(block);
+                table.add(name, value);
+                listener.onHeader(name, value);
+                fieldDecoded = true;
+            } else if ((b & 0x20) != 0) {
+                // dynamic table size update
+                if (fieldDecoded) {
+                    throw new Http2Exception(Http2Frames.COMPRESSION_ERROR, "table size update after a header field");
+                }
+
+                final int size = decodeInt(block, 5);
+                if (size > maxTableSize) {
+                    throw new Http2Exception(Http2Frames.COMPRESSION_ERROR, "table size update exceeds the limit");
+                }
+                table.setMaxSize(size);
+            } else {
+                // literal header field without indexing or never indexed
+                final int index = decodeInt(block, 4);
+                final String name = index == 0 ? decodeString(block) : field(index)[0];
+                final String value = decodeString(block);
+                listener.onHeader(name, value);
+                fieldDecoded = true;
+            }
+        }
+    }
+
+    private String[] field(final int index) throws Http2Exception {
+        if (index > 0 && index <= Hpack.STATIC_TABLE.length) {
+            return Hpack.STATIC_TABLE[index - 1];
+        }
+
+        final String[] field = table.get(index - Hpack.STATIC_TABLE.length);
+        if (field == null) {
+            throw new Http2Exception(Http2Frames.COMPRESSION_ERROR, "invalid header field index " + index);
+        }
+        return field;
+    }
+
+    private static int decodeInt(final ByteBuffer block, final int prefixBits) throws Http2Exception {
+        final int mask = (1 << prefixBits) - 1;
+        long value = block.get() & mask;
+        if (value < mask) {
+            return (int) value;
+        }
+
+        int shift = 0;
+        int b;
+        do {
+            if (!block.hasRemaining() || shift > 28) {
+                throw new Http2Exception(Http2Frames.COMPRESSION_ERROR, "invalid integer encoding");
+            }
+            b = block.get() & 0xFF;
+            value += (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (value > Integer.MAX_VALUE) {
+            throw new Http2Exception(Http2Frames.COMPRESSION_ERROR, "integer overflow");
+        }
+        return (int) value;
+    }
+
+    private static String decodeString(final ByteBuffer block) throws Http2Exception {
+        if (!block.hasRemaining()) {
+            throw new Http2Exception(Http2Frames.COMPRESSION_ERROR, "missing string literal");
+        }
+
+        final boolean huffman = (block.get(block.position()) & 0x80) != 0;
+        final int length = decodeInt(block, 7);
+        if (length > block.remaining()) {
+            throw new Http2Exception(Http2Frames.COMPRESSION_ERROR, "string literal exceeds the header block");
+        }
+
+        final byte[] bytes;
+        if (huffman) {
+            bytes = Hpack.huffmanDecode(block, length);
+        } else {
+            bytes = new byte[length];
+            block.get(bytes);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Listener notified about decoded header fields.
+     */
+    interface HeaderListener {
+
+        /**
+         * Called for every decoded header field in the order the fields appear in the header block.
+         *
+         * @param name  header field name.
+         * @param value header field value.
+         * @throws Http2Exception if the header field is not acceptable.
+         */
+        void onHeader(String name, String value) throws Http2Exception;
+    }
+}
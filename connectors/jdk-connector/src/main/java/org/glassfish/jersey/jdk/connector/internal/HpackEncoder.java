@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HPACK (RFC 7541) header block encoder.
+ * <p/>
+ * Header fields are added to the dynamic table so that the repeated fields of subsequent requests sent over the same
+ * connection are encoded as a single index. The dynamic table is shared by all the header blocks sent on
+ * a connection, therefore the header blocks must be sent in the order they have been encoded.
+ */
+class HpackEncoder {
+
+    // fields that change with almost every request and would only evict more useful entries from the dynamic table
+    private static final Set<String> NOT_INDEXED = new HashSet<>(Arrays.asList(":path", "content-length"));
+    // fields that must not be put into any compression context (RFC 7541, section 7.1.3)
+    private static final Set<String> NEVER_INDEXED = new HashSet<>(Arrays.asList("authorization", "proxy-authorization"));
+
+    private final Hpack.DynamicTable table = new Hpack.DynamicTable(Hpack.DEFAULT_TABLE_SIZE);
+
+    // the smallest and the latest table size not yet signalled to the peer, -1 if no size update is pending
+    private int pendingMinTableSize = -1;
+    private int pendingTableSize = -1;
+
+    /**
+     * Set the maximal dynamic table size allowed by the peer ({@code SETTINGS_HEADER_TABLE_SIZE}). The encoder never
+     * uses a table larger than {@link Hpack#DEFAULT_TABLE_SIZE}.
+     *
+     * @param maxTableSize maximal table size allowed by the peer.
+     */
+    void setMaxTableSize(final int maxTableSize) {
+        final int size = Math.min(maxTableSize, Hpack.DEFAULT_TABLE_SIZE);
+        if (size == (pendingTableSize == -1 ? table.getMaxSize() : pendingTableSize)) {
+            return;
+        }
+
+        pendingMinTableSize = Math.min(size, pendingMinTableSize == -1 ? table.getMaxSize() : pendingMinTableSize);
+        pendingTableSize = size;
+    }
+
+    /**
+     * Encode a header block.
+     *
+     * @param fields header fields as {@code [name, value]} pairs, pseudo-header fields first.
+     * @return encoded header block.
+     */
+    byte[] encode(final List<String[]> fields) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        if (pendingTableSize != -1) {
+            if (pendingMinTableSize < pendingTableSize) {
+                encodeInt(out, 0x20, 5, pendingMinTableSize);
+            }
+            encodeInt(out, 0x20, 5, pendingTableSize);
+            table.setMaxSize(pendingTableSize);
+            pendingMinTableSize = -1;
+            pendingTableSize = -1;
+        }
+
+        for (final String[] field : fields) {
+            encodeField(out, field[0], field[1]);
+        }
+
+        return out.toByteArray();
+    }
+
+    private void encodeField(final ByteArrayOutputStream out, final String name, final String value) {
+        final boolean neverIndexed = NEVER_INDEXED.contains(name);
+
+        if (!neverIndexed) {
+            int index = Hpack.staticFieldIndex(name, value);
+            if (index == 0) {
+                final int dynamicIndex = table.indexOf(name, value);
+                index = dynamicIndex == 0 ? 0 : dynamicIndex + Hpack.STATIC_TABLE.length;
+            }
+
+            if (index != 0) {
+                encodeInt(out, 0x80, 7, index);
+                return;
+            }
+        }
+
+        int nameIndex = Hpack.staticNameIndex(name);
+        if (nameIndex == 0) {
+            final int dynamicIndex = table.indexOf(name, null);
+            nameIndex = dynamicIndex == 0 ? 0 : dynamicIndex + Hpack.STATIC_TABLE.length;
+        }
+
+        if (neverIndexed) {
+            encodeInt(out, 0x10, 4, nameIndex);
+        } else if (NOT_INDEXED.contains(name)) {
+            encodeInt(out, 0x00, 4, nameIndex);
+        } else {
+            encodeInt(out, 0x40, 6, nameIndex);
+            table.add(name, value);
+        }
+
+        if (nameIndex == 0) {
+            encodeString(out, name);
+        }
+        encodeString(out, value);
+    }
+
+    private static void encodeString(final ByteArrayOutputStream out, final String string) {
+        final byte[] bytes = string.getBytes(StandardCharsets.ISO_8859_1);
+        final int huffmanLength = Hpack.huffmanEncodedLength(bytes);
+
+        if (huffmanLength < bytes.length) {
+            encodeInt(out, 0x80, 7, huffmanLength);
+            Hpack.huffmanEncode(bytes, out);
+        } else {
+            encodeInt(out, 0x00, 7, bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static void encodeInt(final ByteArrayOutputStream out, final int mask, final int prefixBits, final int value) {
+        final int max = (1 << prefixBits) - 1;
+        if (value < max) {
+            out.write(mask | value);
+            return;
+        }
+
+        out.write(mask | max);
+        int remainder = value - max;
+        while (remainder >= 0x80) {
+            out.write(remainder & 0x7F | 0x80);
+            remainder >>>= 7;
+        }
+        out.write(remainder);
+    }
+}
@@ -0,0 +1,1334 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.net.ssl.SSLContext;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.SslConfigurator;
+
+/**
+ * HTTP/2 (RFC 7540) connection multiplexing concurrent requests as streams over a single transport connection.
+ * <p/>
+ * Secure connections negotiate HTTP/2 using ALPN, plain connections use HTTP/2 with prior knowledge (h2c). If the server
+ * turns out to support only HTTP/1.1, the connection is closed and the {@link Listener} is notified, so the requests can
+ * be sent using {@link HttpConnection} instead.
+ * <p/>
+ * The connection becomes available for requests once the first {@code SETTINGS} frame of the server has been received.
+ * A request is sent in two steps: a stream is reserved using {@link #tryReserveStream()}, which respects the maximal
+ * number of concurrent streams, and the request is sent using {@link #send(HttpRequest, CompletionHandler)}.
+ * <p/>
+ * SYNCHRONIZATION NOTE: the connection state is guarded by the connection lock. The listener, the completion handlers
+ * and the response body streams are never invoked while holding the lock; the notifications are queued and dispatched
+ * in order by a single thread at a time after the lock has been released. Similarly, the frames are written
+ * to the transport outside the lock, one write at a time, coalescing the frames queued in the meantime.
+ */
+class Http2Connection {
+
+    private static final Logger LOGGER = Logger.getLogger(Http2Connection.class.getName());
+
+    /**
+     * Input buffer that is used by {@link TransportFilter} when SSL is turned on, see {@link HttpConnection}.
+     */
+    private static final int SSL_INPUT_BUFFER_SIZE = 17_000;
+    /**
+     * Input buffer that is used by {@link TransportFilter} when SSL is not turned on.
+     */
+    private static final int INPUT_BUFFER_SIZE = 16_384;
+
+    private static final String H2 = "h2";
+    private static final String[] APPLICATION_PROTOCOLS = {H2, "http/1.1"};
+    private static final String PROTOCOL_VERSION = "HTTP/2.0";
+
+    /**
+     * Receive windows announced to the server, larger than the protocol default not to throttle large responses.
+     */
+    private static final int STREAM_RECEIVE_WINDOW = 1 << 20;
+    private static final int CONNECTION_RECEIVE_WINDOW = 1 << 24;
+
+    /**
+     * Connection-specific header fields not allowed in HTTP/2 (RFC 7540, section 8.1.2.2).
+     */
+    private static final Set<String> CONNECTION_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding", "upgrade", "host"));
+
+    private final URI uri;
+    private final CookieManager cookieManager;
+    private final ConnectorConfiguration configuration;
+    private final ScheduledExecutorService scheduler;
+    /* Responses are handed over to the client on a separate thread, because the client may block reading the response
+    body and the body of the response, as well as the responses of the other streams, are received by the thread that
+    processes the incoming frames. */
+    private final ExecutorService responseExecutor;
+    private final Listener listener;
+    private final Filter<ByteBuffer, ByteBuffer, ?, ?> socket;
+    private final ConnectionFilter connectionFilter;
+    private final Http2FrameParser frameParser;
+    private final HpackEncoder hpackEncoder = new HpackEncoder();
+    private final HpackDecoder hpackDecoder = new HpackDecoder(Hpack.DEFAULT_TABLE_SIZE);
+
+    private final Map<Integer, Stream> streams = new LinkedHashMap<>();
+    private final Deque<ByteBuffer> writeQueue = new ArrayDeque<>();
+    private final Deque<Runnable> notifications = new ArrayDeque<>();
+
+    private State state = State.CREATED;
+    private boolean writing = false;
+    private boolean closeAfterWrite = false;
+    private boolean dispatching = false;
+
+    private int nextStreamId = 1;
+    private int reservedStreams = 0;
+    private int maxConcurrentStreams;
+    private int peerInitialWindowSize = Http2Frames.DEFAULT_WINDOW_SIZE;
+    private int peerMaxFrameSize = Http2Frames.DEFAULT_MAX_FRAME_SIZE;
+    private long sendWindow = Http2Frames.DEFAULT_WINDOW_SIZE;
+    private int unacknowledgedBytes = 0;
+
+    // header block being assembled from HEADERS and CONTINUATION frames
+    private ByteArrayOutputStream headerBlock;
+    private int headerBlockStreamId;
+    private int headerBlockFlags;
+
+    private Future<?> connectTimeout;
+    private Future<?> idleTimeout;
+
+    Http2Connection(URI uri,
+                    CookieManager cookieManager,
+                    ConnectorConfiguration configuration,
+                    ScheduledExecutorService scheduler,
+                    ExecutorService responseExecutor,
+                    Listener listener) {
+        this.uri = uri;
+        this.cookieManager = cookieManager;
+        this.configuration = configuration;
+        this.scheduler = scheduler;
+        this.responseExecutor = responseExecutor;
+        this.listener = listener;
+        this.maxConcurrentStreams = configuration.getHttp2MaxConcurrentStreams();
+        this.frameParser = new Http2FrameParser(Http2Frames.DEFAULT_MAX_FRAME_SIZE, this::onFrame);
+        this.socket = createSocket(uri, configuration);
+        this.connectionFilter = new ConnectionFilter(socket);
+    }
+
+    private static Filter<ByteBuffer, ByteBuffer, ?, ?> createSocket(URI uri, ConnectorConfiguration configuration) {
+        if (!Constants.HTTPS.equals(uri.getScheme())) {
+            return new TransportFilter(INPUT_BUFFER_SIZE, configuration.getThreadPoolConfig(),
+                    configuration.getContainerIdleTimeout());
+        }
+
+        SSLContext sslContext = configuration.getSslContext();
+        if (sslContext == null) {
+            sslContext = SslConfigurator.getDefaultContext();
+        }
+
+        TransportFilter transportFilter = new TransportFilter(SSL_INPUT_BUFFER_SIZE, configuration.getThreadPoolConfig(),
+                configuration.getContainerIdleTimeout());
+        return new SslFilter(transportFilter, sslContext, uri.getHost(), configuration.getHostnameVerifier(),
+                configuration.getSniConfig(), APPLICATION_PROTOCOLS);
+    }
+
+    void connect() {
+        synchronized (this) {
+            if (state != State.CREATED) {
+                throw new IllegalStateException(LocalizationMessages.HTTP_CONNECTION_ESTABLISHING_ILLEGAL_STATE(state));
+            }
+
+            state = State.CONNECTING;
+            scheduleConnectTimeout();
+        }
+
+        connectionFilter.connect(new InetSocketAddress(uri.getHost(), Utils.getPort(uri)), null);
+    }
+
+    /**
+     * Reserve a stream for a request to be sent using {@link #send(HttpRequest, CompletionHandler)}.
+     *
+     * @return {@code true} if the stream has been reserved, {@code false} if the connection is not open or the maximal
+     * number of concurrent streams has been reached.
+     */
+    synchronized boolean tryReserveStream() {
+        if (state != State.OPEN || streams.size() + reservedStreams >= maxConcurrentStreams
+                || nextStreamId + 2L * reservedStreams > Http2Frames.MAX_STREAM_ID) {
+            return false;
+        }
+
+        reservedStreams++;
+        cancelIdleTimeout();
+        return true;
+    }
+
+    /**
+     * Send a request over a stream reserved using {@link #tryReserveStream()}.
+     * <p/>
+     * If the connection has been closed in the meantime, the request is handed back to the {@link Listener}.
+     *
+     * @param httpRequest       request to be sent.
+     * @param completionHandler completion handler notified when the response header has been received.
+     */
+    void send(final HttpRequest httpRequest, final CompletionHandler<HttpResponse> completionHandler) {
+        List<String[]> headerFields = null;
+        IOException error = null;
+        try {
+            headerFields = createHeaderFields(httpRequest);
+        } catch (IOException e) {
+            error = e;
+        }
+
+        synchronized (this) {
+            reservedStreams--;
+
+            if (state != State.OPEN) {
+                notifications.add(() -> listener.onRefused(this, httpRequest, completionHandler));
+            } else if (error != null) {
+                final IOException failure = error;
+                notifications.add(() -> completionHandler.failed(failure));
+                notifications.add(() -> listener.onAvailable(this));
+                scheduleIdleTimeoutIfIdle();
+            } else {
+                openStream(httpRequest, completionHandler, headerFields);
+            }
+        }
+
+        flushWrites();
+        dispatch();
+    }
+
+    void close() {
+        synchronized (this) {
+            terminate(new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_RECEIVING()), Http2Frames.NO_ERROR);
+        }
+
+        flushWrites();
+        dispatch();
+    }
+
+    /**
+     * Get the number of streams in progress including the reserved ones.
+     *
+     * @return number of active streams.
+     */
+    synchronized int getActiveStreamCount() {
+        return streams.size() + reservedStreams;
+    }
+
+    synchronized boolean isConnecting() {
+        return state == State.CREATED || state == State.CONNECTING;
+    }
+
+    /**
+     * Check whether the connection is going to accept new streams, i.e. it is either being established or open and
+     * the server has not announced its shutdown.
+     *
+     * @return {@code true} if the connection is or will be able to accept new streams.
+     */
+    synchronized boolean isAcceptingStreams() {
+        return state == State.CREATED || state == State.CONNECTING || state == State.OPEN;
+    }
+
+    private void openStream(final HttpRequest httpRequest,
+                            final CompletionHandler<HttpResponse> completionHandler,
+                            final List<String[]> headerFields) {
+        final Stream stream = new Stream(nextStreamId, httpRequest, completionHandler, peerInitialWindowSize);
+        nextStreamId += 2;
+        streams.put(stream.id, stream);
+
+        final ByteBuffer body = httpRequest.getBodyMode() == HttpRequest.BodyMode.BUFFERED
+                ? httpRequest.getBufferedBody() : null;
+        final boolean endStream = httpRequest.getBodyMode() == HttpRequest.BodyMode.NONE
+                || body != null && !body.hasRemaining();
+
+        enqueue(Http2Frames.headers(stream.id, hpackEncoder.encode(headerFields), endStream, peerMaxFrameSize));
+        stream.endStreamSent = endStream;
+
+        if (body != null && body.hasRemaining()) {
+            stream.pendingData.add(new PendingData(body, true, null));
+            writeStreamData(stream);
+        }
+
+        if (httpRequest.getBodyMode() == HttpRequest.BodyMode.CHUNKED) {
+            final ChunkedBodyOutputStream bodyStream = (ChunkedBodyOutputStream) httpRequest.getBodyStream();
+            notifications.add(() -> bodyStream.open(new StreamBodyFilter(stream), false));
+        }
+
+        scheduleResponseTimeout(stream);
+    }
+
+    private List<String[]> createHeaderFields(final HttpRequest httpRequest) throws IOException {
+        final URI requestUri = httpRequest.getUri();
+        final Map<String, List<String>> headers = httpRequest.getHeaders();
+
+        final Map<String, List<String>> cookies = cookieManager.get(requestUri, headers);
+        // unfortunately CookieManager returns ""Cookie" -> empty list" pair if the cookie is not set
+        cookies.entrySet().stream().filter(cookieHeader -> cookieHeader.getValue() != null && !cookieHeader.getValue().isEmpty())
+                .forEach(cookieHeader -> headers.put(cookieHeader.getKey(), cookieHeader.getValue()));
+
+        String authority = null;
+        final List<String[]> fields = new ArrayList<>(headers.size() + 5);
+        for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+            final String name = header.getKey().toLowerCase(Locale.ROOT);
+            for (final String value : header.getValue()) {
+                if (Constants.HOST.equalsIgnoreCase(name)) {
+                    authority = value;
+                } else if (!CONNECTION_HEADERS.contains(name) && (!"te".equals(name) || "trailers".equalsIgnoreCase(value))) {
+                    fields.add(new String[] {name, value});
+                }
+            }
+        }
+
+        if (httpRequest.getBodyMode() == HttpRequest.BodyMode.BUFFERED && httpRequest.getHeaders().keySet().stream()
+                .noneMatch(Constants.CONTENT_LENGTH::equalsIgnoreCase)) {
+            fields.add(0, new String[] {"content-length", Integer.toString(httpRequest.getBodySize())});
+        }
+
+        String path = requestUri.getRawPath() == null || requestUri.getRawPath().isEmpty() ? "/" : requestUri.getRawPath();
+        if (requestUri.getRawQuery() != null) {
+            path += "?" + requestUri.getRawQuery();
+        }
+
+        fields.add(0, new String[] {":path", path});
+        fields.add(0, new String[] {":authority",
+                authority != null ? authority : requestUri.getHost() + ":" + Utils.getPort(requestUri)});
+        fields.add(0, new String[] {":scheme", requestUri.getScheme().toLowerCase(Locale.ROOT)});
+        fields.add(0, new String[] {":method", httpRequest.getMethod()});
+        return fields;
+    }
+
+    private void writeStreamData(final Stream stream) {
+        while (!stream.pendingData.isEmpty()) {
+            final PendingData pending = stream.pendingData.peek();
+            final int length = (int) Math.min(Math.min(pending.data.remaining(), peerMaxFrameSize),
+                    Math.min(sendWindow, stream.sendWindow));
+
+            if (pending.data.hasRemaining() && length <= 0) {
+                // wait for WINDOW_UPDATE
+                return;
+            }
+
+            final ByteBuffer chunk = pending.data.slice();
+            ((Buffer) chunk).limit(Math.max(length, 0));
+            ((Buffer) pending.data).position(pending.data.position() + chunk.remaining());
+            sendWindow -= chunk.remaining();
+            stream.sendWindow -= chunk.remaining();
+
+            final boolean last = !pending.data.hasRemaining();
+            enqueue(Http2Frames.data(stream.id, chunk, last && pending.endStream));
+
+            if (last) {
+                stream.pendingData.poll();
+                stream.endStreamSent = pending.endStream;
+                if (pending.completionHandler != null) {
+                    notifications.add(() -> pending.completionHandler.completed(pending.data));
+                }
+            }
+        }
+    }
+
+    private void onFrame(final int type, final int flags, final int streamId, final ByteBuffer payload)
+            throws Http2Exception {
+        if (headerBlock != null && (type != Http2Frames.CONTINUATION || streamId != headerBlockStreamId)) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "CONTINUATION frame expected");
+        }
+
+        if (state == State.CONNECTING && type != Http2Frames.SETTINGS) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "SETTINGS frame expected");
+        }
+
+        switch (type) {
+            case Http2Frames.DATA:
+                onData(flags, streamId, payload);
+                break;
+            case Http2Frames.HEADERS:
+                onHeaders(flags, streamId, payload);
+                break;
+            case Http2Frames.CONTINUATION:
+                onContinuation(flags, streamId, payload);
+                break;
+            case Http2Frames.RST_STREAM:
+                onRstStream(streamId, payload);
+                break;
+            case Http2Frames.SETTINGS:
+                onSettings(flags, streamId, payload);
+                break;
+            case Http2Frames.PING:
+                onPing(flags, streamId, payload);
+                break;
+            case Http2Frames.GOAWAY:
+                onGoAway(streamId, payload);
+                break;
+            case Http2Frames.WINDOW_UPDATE:
+                onWindowUpdate(streamId, payload);
+                break;
+            case Http2Frames.PUSH_PROMISE:
+                // server push has been disabled in the client SETTINGS
+                throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "PUSH_PROMISE frame received");
+            default:
+                // PRIORITY and unknown frames are ignored
+                break;
+        }
+    }
+
+    private void onData(final int flags, final int streamId, final ByteBuffer payload) throws Http2Exception {
+        checkStreamId(streamId);
+        final int frameLength = payload.remaining();
+        final ByteBuffer data = removePadding(flags, payload);
+
+        final Stream stream = streams.get(streamId);
+        if (stream == null) {
+            // the stream has been reset or timed out, the data is discarded
+            acknowledge(null, frameLength);
+            return;
+        }
+
+        if (stream.response == null) {
+            acknowledge(null, frameLength);
+            resetStream(stream, Http2Frames.PROTOCOL_ERROR,
+                    new Http2Exception(Http2Frames.PROTOCOL_ERROR, "DATA frame before response header"));
+            return;
+        }
+
+        /* The windows are extended as the body is read by the client, see onBodyRead, so that the server cannot send more
+        data than the receive windows while the client is not reading. Only the padding is acknowledged right away. */
+        final boolean endStream = (flags & Http2Frames.FLAG_END_STREAM) != 0;
+        acknowledge(endStream ? null : stream, frameLength - data.remaining());
+
+        if (data.hasRemaining()) {
+            stream.unreadBytes += data.remaining();
+            // the payload is backed by the parser buffer
+            final ByteBuffer copy = ByteBuffer.allocate(data.remaining());
+            copy.put(data);
+            ((Buffer) copy).flip();
+            final AsynchronousBodyInputStream bodyStream = stream.response.getBodyStream();
+            notifications.add(() -> bodyStream.notifyDataAvailable(copy));
+        }
+
+        if (endStream) {
+            onEndStream(stream);
+        }
+    }
+
+    private void onHeaders(final int flags, final int streamId, final ByteBuffer payload) throws Http2Exception {
+        checkStreamId(streamId);
+        final ByteBuffer block = removePadding(flags, payload);
+
+        if ((flags & Http2Frames.FLAG_PRIORITY) != 0) {
+            if (block.remaining() < 5) {
+                throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "HEADERS frame too short");
+            }
+            ((Buffer) block).position(block.position() + 5);
+        }
+
+        if ((flags & Http2Frames.FLAG_END_HEADERS) != 0) {
+            onHeaderBlock(flags, streamId, block);
+            return;
+        }
+
+        headerBlock = new ByteArrayOutputStream();
+        headerBlockStreamId = streamId;
+        headerBlockFlags = flags;
+        appendHeaderBlock(block);
+    }
+
+    private void onContinuation(final int flags, final int streamId, final ByteBuffer payload) throws Http2Exception {
+        if (headerBlock == null) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "unexpected CONTINUATION frame");
+        }
+
+        appendHeaderBlock(payload);
+
+        if ((flags & Http2Frames.FLAG_END_HEADERS) != 0) {
+            final ByteBuffer block = ByteBuffer.wrap(headerBlock.toByteArray());
+            headerBlock = null;
+            onHeaderBlock(headerBlockFlags, streamId, block);
+        }
+    }
+
+    private void appendHeaderBlock(final ByteBuffer fragment) throws Http2Exception {
+        if (headerBlock.size() + fragment.remaining() > configuration.getMaxHeaderSize() * 8) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, LocalizationMessages.HTTP_PACKET_HEADER_OVERFLOW());
+        }
+
+        final byte[] bytes = new byte[fragment.remaining()];
+        fragment.get(bytes);
+        headerBlock.write(bytes, 0, bytes.length);
+    }
+
+    private void onHeaderBlock(final int flags, final int streamId, final ByteBuffer block) throws Http2Exception {
+        // the header block must be decoded even if the stream is gone to keep the HPACK context in sync
+        final List<String[]> fields = new ArrayList<>();
+        hpackDecoder.decode(block, (name, value) -> fields.add(new String[] {name, value}));
+
+        final Stream stream = streams.get(streamId);
+        if (stream == null) {
+            return;
+        }
+
+        final boolean endStream = (flags & Http2Frames.FLAG_END_STREAM) != 0;
+
+        if (stream.response != null) {
+            // trailers
+            if (!endStream) {
+                resetStream(stream, Http2Frames.PROTOCOL_ERROR,
+                        new Http2Exception(Http2Frames.PROTOCOL_ERROR, "trailers without END_STREAM"));
+                return;
+            }
+
+            fields.stream().filter(field -> !field[0].startsWith(":"))
+                    .forEach(field -> stream.response.addTrailerHeader(field[0], field[1]));
+            onEndStream(stream);
+            return;
+        }
+
+        int status = -1;
+        for (final String[] field : fields) {
+            if (":status".equals(field[0])) {
+                try {
+                    status = Integer.parseInt(field[1]);
+                } catch (NumberFormatException e) {
+                    status = -1;
+                }
+            }
+        }
+
+        if (status < 100 || status > 999) {
+            resetStream(stream, Http2Frames.PROTOCOL_ERROR,
+                    new Http2Exception(Http2Frames.PROTOCOL_ERROR, "invalid response status"));
+            return;
+        }
+
+        if (status < 200) {
+            // informational response, the final one follows
+            return;
+        }
+
+        final Response.Status statusInfo = Response.Status.fromStatusCode(status);
+        final HttpResponse response = new HttpResponse(PROTOCOL_VERSION, status,
+                statusInfo != null ? statusInfo.getReasonPhrase() : "");
+        fields.stream().filter(field -> !field[0].startsWith(":")).forEach(field -> response.addHeader(field[0], field[1]));
+        response.setHasContent(!endStream);
+
+        try {
+            cookieManager.put(stream.request.getUri(), response.getHeaders());
+        } catch (IOException e) {
+            resetStream(stream, Http2Frames.CANCEL, e);
+            return;
+        }
+
+        stream.response = response;
+        response.getBodyStream().setConsumptionListener(new AsynchronousBodyInputStream.ConsumptionListener() {
+            @Override
+            public void onRead(int bytes) {
+                onBodyRead(stream, bytes);
+            }
+
+            @Override
+            public void onClosed() {
+                onBodyClosed(stream);
+            }
+        });
+        notifications.add(() -> responseExecutor.execute(() -> stream.completionHandler.completed(response)));
+
+        if (endStream) {
+            onEndStream(stream);
+        }
+    }
+
+    private void onEndStream(final Stream stream) {
+        final AsynchronousBodyInputStream bodyStream = stream.response.getBodyStream();
+        notifications.add(bodyStream::notifyAllDataRead);
+        stream.endStreamReceived = true;
+
+        if (!stream.endStreamSent) {
+            // the server has responded without reading the entire request body
+            enqueue(Http2Frames.rstStream(stream.id, Http2Frames.NO_ERROR));
+        }
+
+        removeStream(stream);
+    }
+
+    private void onRstStream(final int streamId, final ByteBuffer payload) throws Http2Exception {
+        checkStreamId(streamId);
+        if (payload.remaining() != 4) {
+            throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "RST_STREAM frame of invalid length");
+        }
+
+        final int errorCode = payload.getInt();
+        final Stream stream = streams.get(streamId);
+        if (stream == null) {
+            return;
+        }
+
+        if (errorCode == Http2Frames.REFUSED_STREAM && isRetryable(stream)) {
+            refuseStream(stream);
+        } else {
+            failStream(stream, new IOException(LocalizationMessages.HTTP_2_STREAM_RESET(errorCode)));
+        }
+    }
+
+    private void onSettings(final int flags, final int streamId, final ByteBuffer payload) throws Http2Exception {
+        if (streamId != 0) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "SETTINGS frame on a stream");
+        }
+
+        if ((flags & Http2Frames.FLAG_ACK) != 0) {
+            if (payload.hasRemaining()) {
+                throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "SETTINGS acknowledgement with payload");
+            }
+            return;
+        }
+
+        if (payload.remaining() % 6 != 0) {
+            throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "SETTINGS frame of invalid length");
+        }
+
+        while (payload.hasRemaining()) {
+            final int identifier = payload.getShort() & 0xFFFF;
+            final long value = payload.getInt() & 0xFFFFFFFFL;
+
+            switch (identifier) {
+                case Http2Frames.SETTINGS_HEADER_TABLE_SIZE:
+                    hpackEncoder.setMaxTableSize((int) Math.min(value, Integer.MAX_VALUE));
+                    break;
+                case Http2Frames.SETTINGS_MAX_CONCURRENT_STREAMS:
+                    maxConcurrentStreams = (int) Math.min(value, configuration.getHttp2MaxConcurrentStreams());
+                    break;
+                case Http2Frames.SETTINGS_INITIAL_WINDOW_SIZE:
+                    if (value > Http2Frames.MAX_WINDOW_SIZE) {
+                        throw new Http2Exception(Http2Frames.FLOW_CONTROL_ERROR, "initial window size " + value);
+                    }
+                    final long delta = value - peerInitialWindowSize;
+                    peerInitialWindowSize = (int) value;
+                    for (final Stream stream : streams.values()) {
+                        stream.sendWindow += delta;
+                    }
+                    break;
+                case Http2Frames.SETTINGS_MAX_FRAME_SIZE:
+                    if (value < Http2Frames.DEFAULT_MAX_FRAME_SIZE || value > Http2Frames.MAX_FRAME_SIZE_UPPER_BOUND) {
+                        throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "max frame size " + value);
+                    }
+                    peerMaxFrameSize = (int) value;
+                    break;
+                default:
+                    // SETTINGS_ENABLE_PUSH and SETTINGS_MAX_HEADER_LIST_SIZE do not affect the client, unknown are ignored
+                    break;
+            }
+        }
+
+        enqueue(Http2Frames.settingsAck());
+
+        if (state == State.CONNECTING) {
+            state = State.OPEN;
+            cancelConnectTimeout();
+            scheduleIdleTimeoutIfIdle();
+        }
+
+        for (final Stream stream : new ArrayList<>(streams.values())) {
+            writeStreamData(stream);
+        }
+
+        // the connection has just opened or the limit of concurrent streams might have changed
+        notifications.add(() -> listener.onAvailable(this));
+    }
+
+    private void onPing(final int flags, final int streamId, final ByteBuffer payload) throws Http2Exception {
+        if (streamId != 0) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "PING frame on a stream");
+        }
+
+        if (payload.remaining() != 8) {
+            throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "PING frame of invalid length");
+        }
+
+        if ((flags & Http2Frames.FLAG_ACK) == 0) {
+            enqueue(Http2Frames.pingAck(payload));
+        }
+    }
+
+    private void onGoAway(final int streamId, final ByteBuffer payload) throws Http2Exception {
+        if (streamId != 0) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "GOAWAY frame on a stream");
+        }
+
+        if (payload.remaining() < 8) {
+            throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "GOAWAY frame too short");
+        }
+
+        final int lastStreamId = payload.getInt() & Http2Frames.MAX_STREAM_ID;
+        final int errorCode = payload.getInt();
+        final IOException cause = new IOException(LocalizationMessages.HTTP_2_CONNECTION_CLOSED(errorCode));
+
+        if (state == State.OPEN) {
+            state = State.DRAINING;
+        }
+
+        // streams above the last stream id have not been processed by the server and can be safely retried
+        for (final Stream stream : new ArrayList<>(streams.values())) {
+            if (stream.id > lastStreamId) {
+                if (isRetryable(stream)) {
+                    refuseStream(stream);
+                } else {
+                    failStream(stream, cause);
+                }
+            }
+        }
+
+        if (streams.isEmpty()) {
+            terminate(cause, -1);
+        } else {
+            notifications.add(() -> listener.onAvailable(this));
+        }
+    }
+
+    private void onWindowUpdate(final int streamId, final ByteBuffer payload) throws Http2Exception {
+        if (payload.remaining() != 4) {
+            throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "WINDOW_UPDATE frame of invalid length");
+        }
+
+        final int increment = payload.getInt() & Http2Frames.MAX_WINDOW_SIZE;
+
+        if (streamId == 0) {
+            if (increment == 0) {
+                throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "zero window increment");
+            }
+
+            sendWindow += increment;
+            if (sendWindow > Http2Frames.MAX_WINDOW_SIZE) {
+                throw new Http2Exception(Http2Frames.FLOW_CONTROL_ERROR, "connection window overflow");
+            }
+
+            for (final Stream stream : new ArrayList<>(streams.values())) {
+                writeStreamData(stream);
+            }
+            return;
+        }
+
+        checkStreamId(streamId);
+        final Stream stream = streams.get(streamId);
+        if (stream == null) {
+            return;
+        }
+
+        stream.sendWindow += increment;
+        if (increment == 0 || stream.sendWindow > Http2Frames.MAX_WINDOW_SIZE) {
+            final int errorCode = increment == 0 ? Http2Frames.PROTOCOL_ERROR : Http2Frames.FLOW_CONTROL_ERROR;
+            resetStream(stream, errorCode, new Http2Exception(errorCode, "invalid stream window increment"));
+            return;
+        }
+
+        writeStreamData(stream);
+    }
+
+    private void checkStreamId(final int streamId) throws Http2Exception {
+        // the server cannot open streams as push is disabled
+        if (streamId == 0 || (streamId & 1) == 0 || streamId >= nextStreamId) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "frame on idle stream " + streamId);
+        }
+    }
+
+    private static ByteBuffer removePadding(final int flags, final ByteBuffer payload) throws Http2Exception {
+        if ((flags & Http2Frames.FLAG_PADDED) == 0) {
+            return payload;
+        }
+
+        if (!payload.hasRemaining()) {
+            throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "missing padding length");
+        }
+
+        final int padLength = payload.get() & 0xFF;
+        if (padLength > payload.remaining()) {
+            throw new Http2Exception(Http2Frames.PROTOCOL_ERROR, "padding exceeds the frame payload");
+        }
+
+        ((Buffer) payload).limit(payload.limit() - padLength);
+        return payload;
+    }
+
+    private static boolean isRetryable(final Stream stream) {
+        // a streamed body cannot be sent again
+        return stream.response == null && stream.request.getBodyMode() != HttpRequest.BodyMode.CHUNKED;
+    }
+
+    private void refuseStream(final Stream stream) {
+        removeStream(stream);
+        notifications.add(() -> listener.onRefused(this, stream.request, stream.completionHandler));
+    }
+
+    private void resetStream(final Stream stream, final int errorCode, final IOException cause) {
+        enqueue(Http2Frames.rstStream(stream.id, errorCode));
+        failStream(stream, cause);
+    }
+
+    private void failStream(final Stream stream, final Throwable cause) {
+        removeStream(stream);
+        // the data that has not been read yet is not going to be read
+        acknowledge(null, stream.unreadBytes);
+        stream.unreadBytes = 0;
+
+        if (stream.response == null) {
+            notifications.add(() -> stream.completionHandler.failed(cause));
+        } else if (!stream.endStreamReceived) {
+            final AsynchronousBodyInputStream bodyStream = stream.response.getBodyStream();
+            notifications.add(() -> bodyStream.notifyError(cause));
+        }
+    }
+
+    private void removeStream(final Stream stream) {
+        streams.remove(stream.id);
+        cancel(stream.responseTimeout);
+
+        // the rest of the request body is discarded
+        for (final PendingData pending : stream.pendingData) {
+            if (pending.completionHandler != null) {
+                notifications.add(() -> pending.completionHandler.completed(pending.data));
+            }
+        }
+        stream.pendingData.clear();
+
+        if (state == State.DRAINING && streams.isEmpty()) {
+            terminate(new IOException(LocalizationMessages.CONNECTION_CLOSED()), Http2Frames.NO_ERROR);
+        } else if (state == State.OPEN) {
+            scheduleIdleTimeoutIfIdle();
+            notifications.add(() -> listener.onAvailable(this));
+        }
+    }
+
+    private void handleConnectionError(final Throwable t) {
+        synchronized (this) {
+            final IOException cause = t instanceof IOException ? (IOException) t : new IOException(t);
+            final int errorCode = t instanceof Http2Exception ? ((Http2Exception) t).getErrorCode() : -1;
+            if (errorCode != -1 && LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, t.getMessage(), t);
+            }
+            terminate(cause, errorCode);
+        }
+
+        flushWrites();
+        dispatch();
+    }
+
+    /**
+     * Close the connection, failing all the streams in progress.
+     *
+     * @param cause           the reason reported to the streams in progress.
+     * @param goAwayErrorCode error code sent to the server in a GOAWAY frame, {@code -1} if GOAWAY should not be sent.
+     */
+    private void terminate(final IOException cause, final int goAwayErrorCode) {
+        if (state == State.CLOSED) {
+            return;
+        }
+
+        final boolean connecting = state == State.CREATED || state == State.CONNECTING;
+        final boolean open = state == State.OPEN || state == State.DRAINING;
+        state = State.CLOSED;
+        cancelConnectTimeout();
+        cancelIdleTimeout();
+        headerBlock = null;
+
+        for (final Stream stream : new ArrayList<>(streams.values())) {
+            failStream(stream, cause);
+        }
+
+        writeQueue.clear();
+        if (open && goAwayErrorCode >= 0) {
+            writeQueue.add(Http2Frames.goAway(0, goAwayErrorCode));
+            closeAfterWrite = true;
+        } else if (!writing) {
+            notifications.add(socket::close);
+        } else {
+            closeAfterWrite = true;
+        }
+
+        if (connecting) {
+            notifications.add(() -> listener.onConnectFailed(this, cause));
+        } else {
+            notifications.add(() -> listener.onClosed(this));
+        }
+    }
+
+    private void fallbackToHttp11() {
+        if (state != State.CONNECTING) {
+            return;
+        }
+
+        state = State.CLOSED;
+        cancelConnectTimeout();
+        writeQueue.clear();
+        notifications.add(socket::close);
+        notifications.add(() -> listener.onHttp11Negotiated(this));
+    }
+
+    /**
+     * Extend the receive windows of the connection and of a stream by received data the server does not need to keep
+     * account of anymore. The {@code WINDOW_UPDATE} frames are sent once half of a window has been used.
+     *
+     * @param stream stream whose window is extended or {@code null} if only the connection window is extended.
+     * @param bytes  number of bytes.
+     */
+    private void acknowledge(final Stream stream, final int bytes) {
+        if (bytes <= 0 || state == State.CLOSED) {
+            return;
+        }
+
+        unacknowledgedBytes += bytes;
+        if (unacknowledgedBytes >= CONNECTION_RECEIVE_WINDOW / 2) {
+            enqueue(Http2Frames.windowUpdate(0, unacknowledgedBytes));
+            unacknowledgedBytes = 0;
+        }
+
+        // the window of a stream that is over does not matter
+        if (stream != null && streams.get(stream.id) == stream) {
+            stream.unacknowledgedBytes += bytes;
+            if (stream.unacknowledgedBytes >= STREAM_RECEIVE_WINDOW / 2) {
+                enqueue(Http2Frames.windowUpdate(stream.id, stream.unacknowledgedBytes));
+                stream.unacknowledgedBytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Called when the client has read a part of the response body.
+     */
+    private void onBodyRead(final Stream stream, final int bytes) {
+        synchronized (this) {
+            final int read = Math.min(bytes, stream.unreadBytes);
+            stream.unreadBytes -= read;
+            acknowledge(stream, read);
+        }
+
+        flushWrites();
+    }
+
+    /**
+     * Called when the client has closed the response body, possibly before reading all of it.
+     */
+    private void onBodyClosed(final Stream stream) {
+        synchronized (this) {
+            acknowledge(null, stream.unreadBytes);
+            stream.unreadBytes = 0;
+
+            if (streams.get(stream.id) == stream) {
+                // the client is not interested in the rest of the response
+                enqueue(Http2Frames.rstStream(stream.id, Http2Frames.CANCEL));
+                removeStream(stream);
+            }
+        }
+
+        flushWrites();
+        dispatch();
+    }
+
+    private void enqueue(final ByteBuffer frame) {
+        writeQueue.add(frame);
+    }
+
+    /**
+     * Write the queued frames unless a write is already in progress. Must not be called while holding the lock.
+     */
+    private void flushWrites() {
+        final ByteBuffer data;
+
+        synchronized (this) {
+            if (writing || writeQueue.isEmpty() || state == State.CLOSED && !closeAfterWrite) {
+                return;
+            }
+
+            writing = true;
+            if (writeQueue.size() == 1) {
+                data = writeQueue.poll();
+            } else {
+                int size = 0;
+                for (final ByteBuffer frame : writeQueue) {
+                    size += frame.remaining();
+                }
+
+                data = ByteBuffer.allocate(size);
+                ByteBuffer frame;
+                while ((frame = writeQueue.poll()) != null) {
+                    data.put(frame);
+                }
+                ((Buffer) data).flip();
+            }
+        }
+
+        socket.write(data, new CompletionHandler<ByteBuffer>() {
+            @Override
+            public void completed(ByteBuffer result) {
+                final boolean close;
+                synchronized (Http2Connection.this) {
+                    writing = false;
+                    close = closeAfterWrite && writeQueue.isEmpty();
+                }
+
+                if (close) {
+                    socket.close();
+                    return;
+                }
+
+                flushWrites();
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                synchronized (Http2Connection.this) {
+                    writing = false;
+                    writeQueue.clear();
+                    if (state == State.CLOSED) {
+                        notifications.add(socket::close);
+                    } else {
+                        terminate(throwable instanceof IOException ? (IOException) throwable : new IOException(throwable),
+                                -1);
+                    }
+                }
+
+                dispatch();
+            }
+        });
+    }
+
+    /**
+     * Run the queued notifications. Only one thread dispatches at a time, so the notifications are delivered in order.
+     * Must not be called while holding the lock.
+     */
+    private void dispatch() {
+        synchronized (this) {
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        }
+
+        while (true) {
+            final Runnable notification;
+            synchronized (this) {
+                notification = notifications.poll();
+                if (notification == null) {
+                    dispatching = false;
+                    return;
+                }
+            }
+
+            try {
+                notification.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void scheduleConnectTimeout() {
+        if (configuration.getConnectTimeout() == 0) {
+            return;
+        }
+
+        connectTimeout = scheduler.schedule(() -> {
+            synchronized (Http2Connection.this) {
+                if (state != State.CONNECTING) {
+                    return;
+                }
+
+                connectTimeout = null;
+                terminate(new IOException(LocalizationMessages.CONNECTION_TIMEOUT()), -1);
+            }
+
+            dispatch();
+        }, configuration.getConnectTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelConnectTimeout() {
+        cancel(connectTimeout);
+        connectTimeout = null;
+    }
+
+    private void scheduleIdleTimeoutIfIdle() {
+        if (configuration.getConnectionIdleTimeout() == 0 || idleTimeout != null || !streams.isEmpty()
+                || reservedStreams > 0) {
+            return;
+        }
+
+        idleTimeout = scheduler.schedule(() -> {
+            synchronized (Http2Connection.this) {
+                if (state != State.OPEN || !streams.isEmpty() || reservedStreams > 0) {
+                    return;
+                }
+
+                idleTimeout = null;
+                terminate(new IOException(LocalizationMessages.CLOSED_BY_CLIENT_WHILE_RECEIVING()), Http2Frames.NO_ERROR);
+            }
+
+            flushWrites();
+            dispatch();
+        }, configuration.getConnectionIdleTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelIdleTimeout() {
+        cancel(idleTimeout);
+        idleTimeout = null;
+    }
+
+    private void scheduleResponseTimeout(final Stream stream) {
+        if (configuration.getResponseTimeout() == 0) {
+            return;
+        }
+
+        stream.responseTimeout = scheduler.schedule(() -> {
+            synchronized (Http2Connection.this) {
+                if (streams.get(stream.id) != stream) {
+                    return;
+                }
+
+                stream.responseTimeout = null;
+                resetStream(stream, Http2Frames.CANCEL, new IOException(stream.response == null
+                        ? LocalizationMessages.TIMEOUT_RECEIVING_RESPONSE()
+                        : LocalizationMessages.TIMEOUT_RECEIVING_RESPONSE_BODY()));
+            }
+
+            flushWrites();
+            dispatch();
+        }, configuration.getResponseTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void cancel(final Future<?> timeout) {
+        if (timeout != null) {
+            timeout.cancel(true);
+        }
+    }
+
+    private class ConnectionFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
+
+        ConnectionFilter(Filter<ByteBuffer, ByteBuffer, ?, ?> downstreamFilter) {
+            super(downstreamFilter);
+        }
+
+        @Override
+        void processConnect() {
+            synchronized (Http2Connection.this) {
+                if (state != State.CONNECTING) {
+                    return;
+                }
+            }
+
+            downstreamFilter.startSsl();
+        }
+
+        @Override
+        void processSslHandshakeCompleted() {
+            synchronized (Http2Connection.this) {
+                if (state != State.CONNECTING) {
+                    return;
+                }
+
+                final String protocol = downstreamFilter instanceof SslFilter
+                        ? ((SslFilter) downstreamFilter).getApplicationProtocol() : null;
+                if (protocol != null && !H2.equals(protocol)) {
+                    fallbackToHttp11();
+                } else {
+                    enqueue(ByteBuffer.wrap(Http2Frames.CLIENT_PREFACE));
+                    enqueue(Http2Frames.settings(
+                            Http2Frames.SETTINGS_ENABLE_PUSH, 0,
+                            Http2Frames.SETTINGS_INITIAL_WINDOW_SIZE, STREAM_RECEIVE_WINDOW));
+                    enqueue(Http2Frames.windowUpdate(0, CONNECTION_RECEIVE_WINDOW - Http2Frames.DEFAULT_WINDOW_SIZE));
+                }
+            }
+
+            flushWrites();
+            dispatch();
+        }
+
+        @Override
+        boolean processRead(ByteBuffer data) {
+            try {
+                synchronized (Http2Connection.this) {
+                    if (state == State.CONNECTING && data.hasRemaining() && data.get(data.position()) == 'H') {
+                        // "HTTP/1.1 ..." - the server does not speak HTTP/2
+                        fallbackToHttp11();
+                    }
+
+                    if (state == State.CLOSED) {
+                        ((Buffer) data).position(data.limit());
+                    } else {
+                        frameParser.parse(data);
+                    }
+                }
+            } catch (Http2Exception e) {
+                handleConnectionError(e);
+                return false;
+            }
+
+            flushWrites();
+            dispatch();
+            return false;
+        }
+
+        @Override
+        void processConnectionClosed() {
+            synchronized (Http2Connection.this) {
+                terminate(new IOException(LocalizationMessages.CONNECTION_CLOSED()), -1);
+            }
+
+            dispatch();
+        }
+
+        @Override
+        void processError(Throwable t) {
+            handleConnectionError(t);
+        }
+    }
+
+    /**
+     * Passes the request body written to {@link ChunkedBodyOutputStream} to the stream as DATA frames.
+     */
+    private class StreamBodyFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
+
+        private final Stream stream;
+
+        StreamBodyFilter(Stream stream) {
+            super(null);
+            this.stream = stream;
+        }
+
+        @Override
+        void write(ByteBuffer data, CompletionHandler<ByteBuffer> completionHandler) {
+            synchronized (Http2Connection.this) {
+                if (streams.get(stream.id) != stream || stream.endStreamSent) {
+                    // the stream is over, the rest of the body is discarded
+                    notifications.add(() -> completionHandler.completed(data));
+                } else {
+                    // an empty buffer closes the body
+                    stream.pendingData.add(new PendingData(data, !data.hasRemaining(), completionHandler));
+                    writeStreamData(stream);
+                }
+            }
+
+            flushWrites();
+            dispatch();
+        }
+    }
+
+    private static class Stream {
+
+        private final int id;
+        private final HttpRequest request;
+        private final CompletionHandler<HttpResponse> completionHandler;
+        private final Deque<PendingData> pendingData = new ArrayDeque<>();
+
+        private HttpResponse response;
+        private long sendWindow;
+        private int unacknowledgedBytes = 0;
+        // received response body bytes not read by the client yet
+        private int unreadBytes = 0;
+        private boolean endStreamSent = false;
+        private boolean endStreamReceived = false;
+        private Future<?> responseTimeout;
+
+        Stream(int id, HttpRequest request, CompletionHandler<HttpResponse> completionHandler, int sendWindow) {
+            this.id = id;
+            this.request = request;
+            this.completionHandler = completionHandler;
+            this.sendWindow = sendWindow;
+        }
+    }
+
+    private static class PendingData {
+
+        private final ByteBuffer data;
+        private final boolean endStream;
+        private final CompletionHandler<ByteBuffer> completionHandler;
+
+        PendingData(ByteBuffer data, boolean endStream, CompletionHandler<ByteBuffer> completionHandler) {
+            this.data = data;
+            this.endStream = endStream;
+            this.completionHandler = completionHandler;
+        }
+    }
+
+    private enum State {
+        CREATED,
+        CONNECTING,
+        OPEN,
+        DRAINING,
+        CLOSED
+    }
+
+    /**
+     * Listener notified about the connection events. It is never invoked while holding the connection lock.
+     */
+    interface Listener {
+
+        /**
+         * Called when the connection might be able to accept a new stream, e.g. it has been established or a stream has
+         * completed.
+         *
+         * @param connection the connection.
+         */
+        void onAvailable(Http2Connection connection);
+
+        /**
+         * Called when a request has not been processed by the server and can be retried.
+         *
+         * @param connection        the connection.
+         * @param httpRequest       refused request.
+         * @param completionHandler completion handler of the refused request.
+         */
+        void onRefused(Http2Connection connection, HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler);
+
+        /**
+         * Called when the server does not support HTTP/2. The connection has been closed.
+         *
+         * @param connection the connection.
+         */
+        void onHttp11Negotiated(Http2Connection connection);
+
+        /**
+         * Called when the connection could not be established.
+         *
+         * @param connection the connection.
+         * @param t          the cause.
+         */
+        void onConnectFailed(Http2Connection connection, Throwable t);
+
+        /**
+         * Called when an established connection has been closed.
+         *
+         * @param connection the connection.
+         */
+        void onClosed(Http2Connection connection);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.IOException;
+
+/**
+ * HTTP/2 connection error (RFC 7540, section 5.4.1) carrying the error code to be reported to the peer.
+ */
+class Http2Exception extends IOException {
+
+    private static final long serialVersionUID = -2411093416467613476L;
+
+    private final int errorCode;
+
+    /**
+     * Create a new HTTP/2 connection error.
+     *
+     * @param errorCode HTTP/2 error code.
+     * @param message   error detail.
+     */
+    Http2Exception(final int errorCode, final String message) {
+        super(LocalizationMessages.HTTP_2_PROTOCOL_ERROR(errorCode, message));
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Get the HTTP/2 error code.
+     *
+     * @return error code.
+     */
+    int getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Splits the data read from a connection into HTTP/2 frames.
+ * <p/>
+ * Incomplete frames are buffered until the rest of the frame arrives, so the parser consumes all the data passed to
+ * {@link #parse(ByteBuffer)}. The payload passed to the {@link FrameListener} is valid only during the listener
+ * invocation and must be copied if it is retained.
+ */
+class Http2FrameParser {
+
+    private final FrameListener listener;
+    private final int maxFrameSize;
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a new frame parser.
+     *
+     * @param maxFrameSize maximal frame payload size announced to the peer.
+     * @param listener     listener notified about every parsed frame.
+     */
+    Http2FrameParser(final int maxFrameSize, final FrameListener listener) {
+        this.maxFrameSize = maxFrameSize;
+        this.listener = listener;
+        this.buffer = ByteBuffer.allocate(Http2Frames.FRAME_HEADER_LENGTH + maxFrameSize);
+    }
+
+    /**
+     * Parse the data read from the connection and notify the listener about all the completed frames.
+     *
+     * @param data data read from the connection.
+     * @throws Http2Exception if a frame violates the protocol.
+     */
+    void parse(final ByteBuffer data) throws Http2Exception {
+        while (data.hasRemaining()) {
+            final int length = Math.min(buffer.remaining(), data.remaining());
+            final ByteBuffer chunk = data.slice();
+            ((Buffer) chunk).limit(length);
+            buffer.put(chunk);
+            ((Buffer) data).position(data.position() + length);
+
+            ((Buffer) buffer).flip();
+            try {
+                parseFrames();
+            } finally {
+                buffer.compact();
+            }
+        }
+    }
+
+    private void parseFrames() throws Http2Exception {
+        while (buffer.remaining() >= Http2Frames.FRAME_HEADER_LENGTH) {
+            final int start = buffer.position();
+            final int length = (buffer.get(start) & 0xFF) << 16 | (buffer.get(start + 1) & 0xFF) << 8
+                    | buffer.get(start + 2) & 0xFF;
+
+            if (length > maxFrameSize) {
+                throw new Http2Exception(Http2Frames.FRAME_SIZE_ERROR, "frame of " + length + " bytes");
+            }
+
+            if (buffer.remaining() < Http2Frames.FRAME_HEADER_LENGTH + length) {
+                return;
+            }
+
+            final int type = buffer.get(start + 3) & 0xFF;
+            final int flags = buffer.get(start + 4) & 0xFF;
+            final int streamId = buffer.getInt(start + 5) & Http2Frames.MAX_STREAM_ID;
+
+            ((Buffer) buffer).position(start + Http2Frames.FRAME_HEADER_LENGTH);
+            final ByteBuffer payload = buffer.slice();
+            ((Buffer) payload).limit(length);
+            ((Buffer) buffer).position(start + Http2Frames.FRAME_HEADER_LENGTH + length);
+
+            listener.onFrame(type, flags, streamId, payload);
+        }
+    }
+
+    /**
+     * Listener notified about parsed frames.
+     */
+    interface FrameListener {
+
+        /**
+         * Called for every parsed frame in the order the frames have been received.
+         *
+         * @param type     frame type.
+         * @param flags    frame flags.
+         * @param streamId stream identifier, {@code 0} for connection frames.
+         * @param payload  frame payload.
+         * @throws Http2Exception if the frame violates the protocol.
+         */
+        void onFrame(int type, int flags, int streamId, ByteBuffer payload) throws Http2Exception;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP/2 (RFC 7540) protocol constants and frame encoding.
+ */
+final class Http2Frames {
+
+    /**
+     * Connection preface sent by the client (RFC 7540, section 3.5).
+     */
+    static final byte[] CLIENT_PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    static final int FRAME_HEADER_LENGTH = 9;
+    static final int DEFAULT_MAX_FRAME_SIZE = 16384;
+    static final int MAX_FRAME_SIZE_UPPER_BOUND = 16777215;
+    static final int DEFAULT_WINDOW_SIZE = 65535;
+    static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+    static final int MAX_STREAM_ID = Integer.MAX_VALUE;
+
+    // frame types
+    static final int DATA = 0x0;
+    static final int HEADERS = 0x1;
+    static final int PRIORITY = 0x2;
+    static final int RST_STREAM = 0x3;
+    static final int SETTINGS = 0x4;
+    static final int PUSH_PROMISE = 0x5;
+    static final int PING = 0x6;
+    static final int GOAWAY = 0x7;
+    static final int WINDOW_UPDATE = 0x8;
+    static final int CONTINUATION = 0x9;
+
+    // frame flags
+    static final int FLAG_END_STREAM = 0x1;
+    static final int FLAG_ACK = 0x1;
+    static final int FLAG_END_HEADERS = 0x4;
+    static final int FLAG_PADDED = 0x8;
+    static final int FLAG_PRIORITY = 0x20;
+
+    // settings
+    static final int SETTINGS_HEADER_TABLE_SIZE = 0x1;
+    static final int SETTINGS_ENABLE_PUSH = 0x2;
+    static final int SETTINGS_MAX_CONCURRENT_STREAMS = 0x3;
+    static final int SETTINGS_INITIAL_WINDOW_SIZE = 0x4;
+    static final int SETTINGS_MAX_FRAME_SIZE = 0x5;
+    static final int SETTINGS_MAX_HEADER_LIST_SIZE = 0x6;
+
+    // error codes
+    static final int NO_ERROR = 0x0;
+    static final int PROTOCOL_ERROR = 0x1;
+    static final int INTERNAL_ERROR = 0x2;
+    static final int FLOW_CONTROL_ERROR = 0x3;
+    static final int STREAM_CLOSED = 0x5;
+    static final int FRAME_SIZE_ERROR = 0x6;
+    static final int REFUSED_STREAM = 0x7;
+    static final int CANCEL = 0x8;
+    static final int COMPRESSION_ERROR = 0x9;
+
+    /**
+     * Encode a SETTINGS frame.
+     *
+     * @param settings pairs of setting identifiers and values.
+     * @return encoded frame.
+     */
+    static ByteBuffer settings(final int... settings) {
+        final ByteBuffer frame = header(settings.length / 2 * 6, SETTINGS, 0, 0);
+        for (int i = 0; i < settings.length; i += 2) {
+            frame.putShort((short) settings[i]);
+            frame.putInt(settings[i + 1]);
+        }
+        return flip(frame);
+    }
+
+    /**
+     * Encode a SETTINGS frame acknowledging the peer's settings.
+     *
+     * @return encoded frame.
+     */
+    static ByteBuffer settingsAck() {
+        return flip(header(0, SETTINGS, FLAG_ACK, 0));
+    }
+
+    /**
+     * Encode a PING frame acknowledging the peer's PING.
+     *
+     * @param payload opaque data of the received PING frame.
+     * @return encoded frame.
+     */
+    static ByteBuffer pingAck(final ByteBuffer payload) {
+        final ByteBuffer frame = header(8, PING, FLAG_ACK, 0);
+        frame.put(payload);
+        return flip(frame);
+    }
+
+    /**
+     * Encode a GOAWAY frame.
+     *
+     * @param lastStreamId identifier of the last peer-initiated stream processed.
+     * @param errorCode    error code.
+     * @return encoded frame.
+     */
+    static ByteBuffer goAway(final int lastStreamId, final int errorCode) {
+        final ByteBuffer frame = header(8, GOAWAY, 0, 0);
+        frame.putInt(lastStreamId);
+        frame.putInt(errorCode);
+        return flip(frame);
+    }
+
+    /**
+     * Encode a RST_STREAM frame.
+     *
+     * @param streamId  stream identifier.
+     * @param errorCode error code.
+     * @return encoded frame.
+     */
+    static ByteBuffer rstStream(final int streamId, final int errorCode) {
+        final ByteBuffer frame = header(4, RST_STREAM, 0, streamId);
+        frame.putInt(errorCode);
+        return flip(frame);
+    }
+
+    /**
+     * Encode a WINDOW_UPDATE frame.
+     *
+     * @param streamId  stream identifier, {@code 0} for the connection flow-control window.
+     * @param increment window size increment.
+     * @return encoded frame.
+     */
+    static ByteBuffer windowUpdate(final int streamId, final int increment) {
+        final ByteBuffer frame = header(4, WINDOW_UPDATE, 0, streamId);
+        frame.putInt(increment);
+        return flip(frame);
+    }
+
+    /**
+     * Encode a HEADERS frame followed by as many CONTINUATION frames as needed to carry the header block.
+     *
+     * @param streamId     stream identifier.
+     * @param headerBlock  HPACK encoded header block.
+     * @param endStream    {@code true} if no DATA frames follow the headers.
+     * @param maxFrameSize maximal frame payload size accepted by the peer.
+     * @return encoded frames.
+     */
+    static ByteBuffer headers(final int streamId, final byte[] headerBlock, final boolean endStream, final int maxFrameSize) {
+        final int frames = Math.max(1, (headerBlock.length + maxFrameSize - 1) / maxFrameSize);
+        final ByteBuffer buffer = ByteBuffer.allocate(frames * FRAME_HEADER_LENGTH + headerBlock.length);
+
+        int offset = 0;
+        do {
+            final int length = Math.min(maxFrameSize, headerBlock.length - offset);
+            final boolean last = offset + length == headerBlock.length;
+            final int type = offset == 0 ? HEADERS : CONTINUATION;
+            final int flags = (last ? FLAG_END_HEADERS : 0) | (type == HEADERS && endStream ? FLAG_END_STREAM : 0);
+
+            putHeader(buffer, length, type, flags, streamId);
+            buffer.put(headerBlock, offset, length);
+            offset += length;
+        } while (offset < headerBlock.length);
+
+        return flip(buffer);
+    }
+
+    /**
+     * Encode a DATA frame.
+     *
+     * @param streamId  stream identifier.
+     * @param data      frame payload, not larger than the maximal frame size accepted by the peer.
+     * @param endStream {@code true} if this is the last frame of the stream.
+     * @return encoded frame.
+     */
+    static ByteBuffer data(final int streamId, final ByteBuffer data, final boolean endStream) {
+        final ByteBuffer frame = header(data.remaining(), DATA, endStream ? FLAG_END_STREAM : 0, streamId);
+        frame.put(data);
+        return flip(frame);
+    }
+
+    private static ByteBuffer header(final int length, final int type, final int flags, final int streamId) {
+        final ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_LENGTH + length);
+        putHeader(frame, length, type, flags, streamId);
+        return frame;
+    }
+
+    private static void putHeader(final ByteBuffer buffer, final int length, final int type, final int flags,
+                                  final int streamId) {
+        buffer.put((byte) (length >>> 16));
+        buffer.put((byte) (length >>> 8));
+        buffer.put((byte) length);
+        buffer.put((byte) type);
+        buffer.put((byte) flags);
+        buffer.putInt(streamId & MAX_STREAM_ID);
+    }
+
+    private static ByteBuffer flip(final ByteBuffer buffer) {
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private Http2Frames() {
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,14 +17,22 @@
 package org.glassfish.jersey.jdk.connector.internal;
 
 import org.glassfish.jersey.client.innate.http.SSLParamConfigurator;
+import org.glassfish.jersey.jdk.connector.ConnectionPoolStatistics;
+import org.glassfish.jersey.jdk.connector.DestinationStatistics;
 
 import java.net.CookieManager;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Petr Janouch
@@ -40,12 +48,34 @@ class HttpConnectionPool {
 
     private final ConnectorConfiguration connectorConfiguration;
     private final CookieManager cookieManager;
+    // hands the HTTP/2 responses over to the client, see Http2Connection
+    private final ExecutorService http2ResponseExecutor;
     private final Map<DestinationConnectionPool.DestinationKey, DestinationConnectionPool> destinationPools = new
             ConcurrentHashMap<>();
 
     HttpConnectionPool(ConnectorConfiguration connectorConfiguration, CookieManager cookieManager) {
         this.connectorConfiguration = connectorConfiguration;
         this.cookieManager = cookieManager;
+        this.http2ResponseExecutor = createResponseExecutor(connectorConfiguration.getThreadPoolConfig());
+    }
+
+    /**
+     * Create an executor limited by the maximal pool size of the connector thread pool, its threads are started on demand
+     * and time out when idle as configured.
+     */
+    private static ExecutorService createResponseExecutor(ThreadPoolConfig threadPoolConfig) {
+        ThreadFactory threadFactory = threadPoolConfig.getThreadFactory();
+        if (threadFactory == null) {
+            threadFactory = new TransportFilter.TransportThreadFactory(threadPoolConfig);
+        }
+
+        final int maxPoolSize = threadPoolConfig.getMaxPoolSize();
+        // -1 keeps the idle threads forever
+        final long keepAlive = threadPoolConfig.getKeepAliveTime(TimeUnit.MILLISECONDS);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxPoolSize, maxPoolSize,
+                Math.max(keepAlive, 0), TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(keepAlive > 0);
+        return executor;
     }
 
     void send(HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler) {
@@ -67,7 +97,7 @@ class HttpConnectionPool {
 
                 if (destinationConnectionPool == null) {
                     final DestinationConnectionPool pool = new DestinationConnectionPool(connectorConfiguration, cookieManager,
-                            scheduler);
+                            scheduler, http2ResponseExecutor);
                     pool.setConnectionCloseListener(() -> {
                         /* There is a potential race when there is a request just about to be submitted to the pool
                         we are just removing. Such request will be executed on the removed pool without any problems.
@@ -85,7 +115,15 @@ class HttpConnectionPool {
         destinationConnectionPool.send(httpRequest, completionHandler);
     }
 
+    ConnectionPoolStatistics getStatistics() {
+        final List<DestinationStatistics> destinations = new ArrayList<>(destinationPools.size());
+        destinationPools.forEach((key, pool) -> destinations.add(pool.getStatistics(key)));
+        return new ConnectionPoolStatistics(destinations);
+    }
+
     synchronized void close() {
         destinationPools.values().forEach(DestinationConnectionPool::close);
+        // the responses already handed over are completed
+        http2ResponseExecutor.shutdown();
     }
 }
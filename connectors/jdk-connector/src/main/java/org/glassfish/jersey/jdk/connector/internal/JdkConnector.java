@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,7 @@ import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.jdk.connector.ConnectionPoolStatistics;
 
 /**
  * @author Petr Janouch
@@ -236,6 +237,17 @@ public class JdkConnector implements Connector {
         return responseContext;
     }
 
+    /**
+     * Get a snapshot of the connection pool statistics, i.e. the number of open connections, requests in progress and
+     * requests waiting for a connection, per destination.
+     *
+     * @return connection pool statistics.
+     * @since 2.47
+     */
+    public ConnectionPoolStatistics getConnectionPoolStatistics() {
+        return httpConnectionPool.getStatistics();
+    }
+
     @Override
     public String getName() {
         return "JDK connector";
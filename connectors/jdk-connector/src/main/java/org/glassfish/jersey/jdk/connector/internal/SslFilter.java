@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLEngineResult;
 import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
 
 
 /**
@@ -90,6 +91,26 @@ class SslFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
               String serverHost,
               HostnameVerifier customHostnameVerifier,
               SSLParamConfigurator sniConfig) {
+        this(downstreamFilter, sslContext, serverHost, customHostnameVerifier, sniConfig, null);
+    }
+
+    /**
+     * SSL Filter constructor offering the given application protocols to the server using ALPN.
+     *
+     * @param downstreamFilter       a filter that is positioned under the SSL filter.
+     * @param sslContext             configuration of SSL engine.
+     * @param serverHost             server host (hostname or IP address), which will be used to verify authenticity of
+     *                               the server.
+     * @param customHostnameVerifier hostname verifier that will be used instead of the default one.
+     * @param applicationProtocols   ALPN protocol names in the order of preference, {@code null} to skip ALPN.
+     * @see #getApplicationProtocol()
+     */
+    SslFilter(Filter<ByteBuffer, ByteBuffer, ?, ?> downstreamFilter,
+              SSLContext sslContext,
+              String serverHost,
+              HostnameVerifier customHostnameVerifier,
+              SSLParamConfigurator sniConfig,
+              String[] applicationProtocols) {
         super(downstreamFilter);
         this.serverHost = serverHost;
         sslEngine = sslContext.createSSLEngine(serverHost, -1);
@@ -107,6 +128,16 @@ class SslFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
 
         sniConfig.setSNIServerName(sslEngine);
 
+        if (applicationProtocols != null) {
+            try {
+                SSLParameters sslParameters = sslEngine.getSSLParameters();
+                sslParameters.setApplicationProtocols(applicationProtocols);
+                sslEngine.setSSLParameters(sslParameters);
+            } catch (NoSuchMethodError e) {
+                // ALPN is not supported by this JDK, the server will pick its default protocol
+            }
+        }
+
         applicationInputBuffer = ByteBuffer.allocate(sslEngine.getSession().getApplicationBufferSize());
         networkOutputBuffer = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
     }
@@ -583,6 +614,20 @@ class SslFilter extends Filter<ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer> {
         }
     }
 
+    /**
+     * Get the application protocol negotiated using ALPN.
+     *
+     * @return negotiated protocol name, an empty string if no protocol has been negotiated or {@code null} if ALPN
+     * is not supported or the handshake has not completed yet.
+     */
+    String getApplicationProtocol() {
+        try {
+            return sslEngine.getApplicationProtocol();
+        } catch (NoSuchMethodError | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
     /**
      * Only for test.
      */
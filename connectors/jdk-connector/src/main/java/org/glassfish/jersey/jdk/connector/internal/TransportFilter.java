@@ -297,7 +297,7 @@ class TransportFilter extends Filter<ByteBuffer, ByteBuffer, Void, ByteBuffer> {
      * A default thread factory that gets used if {@link ThreadPoolConfig#getThreadFactory()}
      * is not specified.
      */
-    private static class TransportThreadFactory implements ThreadFactory {
+    static class TransportThreadFactory implements ThreadFactory {
 
         private static final String THREAD_NAME_BASE = "jdk-connector-";
         private static final AtomicInteger threadCounter = new AtomicInteger(0);
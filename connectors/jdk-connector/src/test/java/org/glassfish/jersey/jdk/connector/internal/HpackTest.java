@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersDecoder;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersEncoder;
+import io.netty.handler.codec.http2.Http2Headers;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link HpackEncoder} and {@link HpackDecoder} against the RFC 7541 examples and the Netty HPACK implementation.
+ */
+public class HpackTest {
+
+    @Test
+    public void testRfcRequestExamples() throws Exception {
+        // RFC 7541, C.4 Request Examples with Huffman Coding
+        final HpackEncoder encoder = new HpackEncoder();
+        final HpackDecoder decoder = new HpackDecoder(Hpack.DEFAULT_TABLE_SIZE);
+
+        final List<String[]> first = fields(":method", "GET", ":scheme", "http", ":path", "/",
+                ":authority", "www.example.com");
+        final byte[] firstBlock = encoder.encode(first);
+        assertArrayEquals(hex("828684418cf1e3c2e5f23a6ba0ab90f4ff"), firstBlock);
+        assertFields(first, decode(decoder, firstBlock));
+
+        final List<String[]> second = fields(":method", "GET", ":scheme", "http", ":path", "/",
+                ":authority", "www.example.com", "cache-control", "no-cache");
+        final byte[] secondBlock = encoder.encode(second);
+        assertArrayEquals(hex("828684be5886a8eb10649cbf"), secondBlock);
+        assertFields(second, decode(decoder, secondBlock));
+    }
+
+    @Test
+    public void testRfcResponseExample() throws Exception {
+        // RFC 7541, C.6.1 First Response with Huffman Coding, decoded with a 256 bytes table
+        final HpackDecoder decoder = new HpackDecoder(256);
+        final byte[] block = hex("488264025885aec3771a4b6196d07abe941054d444a8200595040b8166e082a62d1bff6e919d29ad171863"
+                + "c78f0b97c8e9ae82ae43d3");
+
+        assertFields(fields(":status", "302", "cache-control", "private", "date", "Mon, 21 Oct 2013 20:13:21 GMT",
+                "location", "https://www.example.com"), decode(decoder, block));
+    }
+
+    @Test
+    public void testNettyDecodesEncodedHeaders() throws Exception {
+        final HpackEncoder encoder = new HpackEncoder();
+        final DefaultHttp2HeadersDecoder nettyDecoder = new DefaultHttp2HeadersDecoder(false);
+
+        for (int i = 0; i < 3; i++) {
+            final List<String[]> fields = fields(":method", "POST", ":scheme", "https", ":authority", "localhost:8443",
+                    ":path", "/resource/" + i, "content-type", "application/json", "authorization", "Basic dXNlcjpwYXNz",
+                    "x-custom", "value-" + (i % 2), "accept", "application/json");
+            final Http2Headers headers = nettyDecoder.decodeHeaders(1, Unpooled.wrappedBuffer(encoder.encode(fields)));
+
+            assertThat(headers.size(), is(fields.size()));
+            for (final String[] field : fields) {
+                assertThat(String.valueOf(headers.get(field[0])), is(field[1]));
+            }
+        }
+    }
+
+    @Test
+    public void testDecodesNettyEncodedHeaders() throws Exception {
+        final DefaultHttp2HeadersEncoder nettyEncoder = new DefaultHttp2HeadersEncoder();
+        final HpackDecoder decoder = new HpackDecoder(Hpack.DEFAULT_TABLE_SIZE);
+
+        for (int i = 0; i < 3; i++) {
+            final Http2Headers headers = new DefaultHttp2Headers().status("200")
+                    .add("content-type", "text/plain;charset=UTF-8")
+                    .add("set-cookie", "session=" + i)
+                    .add("x-long", String.join("", Collections.nCopies(200, "x")));
+            final ByteBuf buffer = Unpooled.buffer();
+            nettyEncoder.encodeHeaders(1, headers, buffer);
+            final byte[] block = new byte[buffer.readableBytes()];
+            buffer.readBytes(block);
+
+            assertFields(fields(":status", "200", "content-type", "text/plain;charset=UTF-8", "set-cookie", "session=" + i,
+                    "x-long", headers.get("x-long").toString()), decode(decoder, block));
+        }
+    }
+
+    @Test
+    public void testTableSizeUpdate() throws Exception {
+        final HpackEncoder encoder = new HpackEncoder();
+        final HpackDecoder decoder = new HpackDecoder(Hpack.DEFAULT_TABLE_SIZE);
+        final List<String[]> fields = fields("x-custom", "value");
+
+        assertFields(fields, decode(decoder, encoder.encode(fields)));
+
+        // the peer disabled the dynamic table, the encoder signals the change and stops indexing
+        encoder.setMaxTableSize(0);
+        final byte[] block = encoder.encode(fields);
+        assertThat(block[0], is((byte) 0x20));
+        assertFields(fields, decode(decoder, block));
+    }
+
+    @Test
+    public void testInvalidIndex() {
+        final HpackDecoder decoder = new HpackDecoder(Hpack.DEFAULT_TABLE_SIZE);
+        final Http2Exception e = assertThrows(Http2Exception.class, () -> decode(decoder, hex("be")));
+        assertThat(e.getErrorCode(), is(Http2Frames.COMPRESSION_ERROR));
+    }
+
+    private static List<String[]> decode(final HpackDecoder decoder, final byte[] block) throws Http2Exception {
+        final List<String[]> fields = new ArrayList<>();
+        decoder.decode(ByteBuffer.wrap(block), (name, value) -> fields.add(new String[] {name, value}));
+        return fields;
+    }
+
+    private static void assertFields(final List<String[]> expected, final List<String[]> actual) {
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(Arrays.asList(actual.get(i)), is(Arrays.asList(expected.get(i))));
+        }
+    }
+
+    private static List<String[]> fields(final String... namesAndValues) {
+        final List<String[]> fields = new ArrayList<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            fields.add(new String[] {namesAndValues[i], namesAndValues[i + 1]});
+        }
+        return fields;
+    }
+
+    private static byte[] hex(final String hex) {
+        final byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.SslConfigurator;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.jdk.connector.ConnectionPoolStatistics;
+import org.glassfish.jersey.jdk.connector.DestinationStatistics;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProperties;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.util.ReferenceCountUtil;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Tests HTTP/2 support of the JDK connector against a Netty HTTP/2 server.
+ */
+public class Http2ConnectionTest {
+
+    private static final String BLOCK = "block";
+    private static final String LARGE = "large";
+    private static final int LARGE_CHUNK = 16_384;
+    private static final int LARGE_CHUNKS = 192;
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        Collections.reverse(resources);
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        Http2Server server = startServer(100, null);
+        Client client = createClient(10, 100, null);
+
+        Response response = client.target("http://localhost:" + server.getPort()).path("hello")
+                .queryParam("q", "a").request().get();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getHeaderString("x-path"), is("/hello?q=a"));
+        assertThat(response.readEntity(String.class), is("GET /hello?q=a"));
+
+        DestinationStatistics statistics = JdkConnectorProvider.getConnectionPoolStatistics(client).getDestinations().get(0);
+        assertThat(statistics.getProtocol(), is(DestinationStatistics.HTTP_2));
+        assertThat(statistics.getOpenConnections(), is(1));
+        assertThat(statistics.isSecure(), is(false));
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        Http2Server server = startServer(100, null);
+        Client client = createClient(10, 100, null);
+        // larger than the default flow control window
+        String entity = String.join("", Collections.nCopies(20_000, "0123456789"));
+
+        Response response = client.target("http://localhost:" + server.getPort()).path("echo").request()
+                .post(Entity.entity(entity, MediaType.TEXT_PLAIN));
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.readEntity(String.class), is(entity));
+
+        response = client.target("http://localhost:" + server.getPort()).path("echo").request()
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                .post(Entity.entity(entity, MediaType.TEXT_PLAIN));
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.readEntity(String.class), is(entity));
+        assertThat(server.connections.get(), is(1));
+    }
+
+    @Test
+    public void testMaxConcurrentStreams() throws Exception {
+        Http2Server server = startServer(5, null);
+        Client client = createClient(1, 100, null);
+        server.block();
+
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(client.target("http://localhost:" + server.getPort()).path(BLOCK).request().async().get(String.class));
+        }
+
+        awaitStatistics(client, 5, 15);
+        ConnectionPoolStatistics statistics = JdkConnectorProvider.getConnectionPoolStatistics(client);
+        assertThat(statistics.getOpenConnections(), is(1));
+        assertThat(statistics.getActiveStreams(), is(5));
+        assertThat(statistics.getQueuedRequests(), is(15));
+
+        server.release();
+        for (Future<String> response : responses) {
+            assertThat(response.get(10, TimeUnit.SECONDS), is("GET /" + BLOCK));
+        }
+
+        // all the requests have been multiplexed over a single connection
+        assertThat(server.connections.get(), is(1));
+        assertThat(server.maxActiveStreams.get(), is(5));
+        assertThat(JdkConnectorProvider.getConnectionPoolStatistics(client).getQueuedRequests(), is(0));
+    }
+
+    @Test
+    public void testConfiguredMaxConcurrentStreams() throws Exception {
+        Http2Server server = startServer(100, null);
+        Client client = createClient(2, 3, null);
+        server.block();
+
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(client.target("http://localhost:" + server.getPort()).path(BLOCK).request().async().get(String.class));
+        }
+
+        awaitStatistics(client, 6, 4);
+        ConnectionPoolStatistics statistics = JdkConnectorProvider.getConnectionPoolStatistics(client);
+        assertThat(statistics.getOpenConnections(), is(2));
+        assertThat(statistics.getQueuedRequests(), is(4));
+
+        server.release();
+        for (Future<String> response : responses) {
+            assertThat(response.get(10, TimeUnit.SECONDS), is("GET /" + BLOCK));
+        }
+        assertThat(server.maxActiveStreams.get(), lessThanOrEqualTo(6));
+    }
+
+    @Test
+    public void testAlpn() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream stream = new FileInputStream(getClass().getResource("/keystore_server").getPath())) {
+            keyStore.load(stream, "asdfgh".toCharArray());
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, "asdfgh".toCharArray());
+
+        SslContext sslContext = SslContextBuilder.forServer(keyManagerFactory)
+                .sslProvider(SslProvider.JDK)
+                .applicationProtocolConfig(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                        ApplicationProtocolNames.HTTP_2))
+                .build();
+
+        Http2Server server = startServer(100, sslContext);
+        SslConfigurator sslConfig = SslConfigurator.newInstance()
+                .trustStoreFile(getClass().getResource("/truststore_client").getPath())
+                .trustStorePassword("asdfgh");
+        Client client = createClient(10, 100, sslConfig);
+
+        for (int i = 0; i < 3; i++) {
+            Response response = client.target("https://localhost:" + server.getPort()).path("secure").request().get();
+            assertThat(response.getStatus(), is(200));
+            assertThat(response.readEntity(String.class), is("GET /secure"));
+        }
+
+        DestinationStatistics statistics = JdkConnectorProvider.getConnectionPoolStatistics(client).getDestinations().get(0);
+        assertThat(statistics.getProtocol(), is(DestinationStatistics.HTTP_2));
+        assertThat(statistics.isSecure(), is(true));
+        assertThat(server.connections.get(), is(1));
+    }
+
+    @Test
+    public void testReceiveWindowExtendedAsBodyIsRead() throws Exception {
+        Http2Server server = startServer(100, null);
+        Client client = createClient(10, 100, null);
+
+        Response response = client.target("http://localhost:" + server.getPort()).path(LARGE).request().get();
+        assertThat(response.getStatus(), is(200));
+
+        // the body is not read, the server cannot send more than the receive window of the stream
+        long sent = -1;
+        while (sent != server.sentBytes.get()) {
+            sent = server.sentBytes.get();
+            Thread.sleep(200);
+        }
+        assertThat(sent, lessThanOrEqualTo(1L << 20));
+
+        assertThat(response.readEntity(byte[].class).length, is(LARGE_CHUNK * LARGE_CHUNKS));
+        assertThat(server.sentBytes.get(), is((long) LARGE_CHUNK * LARGE_CHUNKS));
+    }
+
+    private void awaitStatistics(Client client, int activeStreams, int queuedRequests) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ConnectionPoolStatistics statistics = JdkConnectorProvider.getConnectionPoolStatistics(client);
+        while ((statistics.getActiveStreams() < activeStreams || statistics.getQueuedRequests() < queuedRequests)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            statistics = JdkConnectorProvider.getConnectionPoolStatistics(client);
+        }
+    }
+
+    private Client createClient(int maxConnections, int maxConcurrentStreams, SslConfigurator sslConfig) {
+        ClientConfig config = new ClientConfig()
+                .connectorProvider(new JdkConnectorProvider())
+                .property(JdkConnectorProperties.HTTP2_ENABLED, true)
+                .property(JdkConnectorProperties.HTTP2_MAX_CONCURRENT_STREAMS, maxConcurrentStreams)
+                .property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, maxConnections);
+
+        ClientBuilder builder = ClientBuilder.newBuilder().withConfig(config);
+        if (sslConfig != null) {
+            builder.sslContext(sslConfig.createSSLContext());
+        }
+
+        Client client = builder.build();
+        resources.add(client::close);
+        return client;
+    }
+
+    private Http2Server startServer(int maxConcurrentStreams, SslContext sslContext) throws InterruptedException {
+        Http2Server server = new Http2Server(maxConcurrentStreams, sslContext);
+        resources.add(server);
+        return server;
+    }
+
+    private static class Http2Server implements AutoCloseable {
+
+        private final EventLoopGroup group = new NioEventLoopGroup(2);
+        private final ExecutorService blockingExecutor = Executors.newCachedThreadPool();
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger activeStreams = new AtomicInteger();
+        private final AtomicInteger maxActiveStreams = new AtomicInteger();
+        // bytes of the large responses written to the connection, within the flow control windows of the client
+        private final AtomicLong sentBytes = new AtomicLong();
+        private final Channel channel;
+
+        private volatile CountDownLatch blockLatch = new CountDownLatch(0);
+
+        Http2Server(int maxConcurrentStreams, SslContext sslContext) throws InterruptedException {
+            channel = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            connections.incrementAndGet();
+                            if (sslContext != null) {
+                                ch.pipeline().addLast(sslContext.newHandler(ch.alloc()));
+                            }
+                            ch.pipeline().addLast(Http2FrameCodecBuilder.forServer()
+                                            .initialSettings(Http2Settings.defaultSettings()
+                                                    .maxConcurrentStreams(maxConcurrentStreams))
+                                            .build(),
+                                    new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                                        @Override
+                                        protected void initChannel(Channel stream) {
+                                            stream.pipeline().addLast(new StreamHandler());
+                                        }
+                                    }));
+                        }
+                    }).bind(0).sync().channel();
+        }
+
+        int getPort() {
+            return ((InetSocketAddress) channel.localAddress()).getPort();
+        }
+
+        void block() {
+            blockLatch = new CountDownLatch(1);
+        }
+
+        void release() {
+            blockLatch.countDown();
+        }
+
+        @Override
+        public void close() throws Exception {
+            release();
+            channel.close().sync();
+            group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+            blockingExecutor.shutdownNow();
+        }
+
+        private class StreamHandler extends ChannelInboundHandlerAdapter {
+
+            private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            private Http2Headers requestHeaders;
+
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                try {
+                    if (msg instanceof Http2HeadersFrame) {
+                        requestHeaders = ((Http2HeadersFrame) msg).headers();
+                        if (((Http2HeadersFrame) msg).isEndStream()) {
+                            respond(ctx);
+                        }
+                    } else if (msg instanceof Http2DataFrame) {
+                        Http2DataFrame data = (Http2DataFrame) msg;
+                        byte[] bytes = new byte[data.content().readableBytes()];
+                        data.content().readBytes(bytes);
+                        body.write(bytes, 0, bytes.length);
+                        if (data.isEndStream()) {
+                            respond(ctx);
+                        }
+                    }
+                } finally {
+                    ReferenceCountUtil.release(msg);
+                }
+            }
+
+            private void respond(ChannelHandlerContext ctx) {
+                String path = requestHeaders.path().toString();
+                int active = activeStreams.incrementAndGet();
+                maxActiveStreams.accumulateAndGet(active, Math::max);
+
+                byte[] content = body.size() > 0
+                        ? body.toByteArray()
+                        : (requestHeaders.method() + " " + path).getBytes(StandardCharsets.UTF_8);
+                Http2Headers headers = new DefaultHttp2Headers().status("200")
+                        .add("content-type", "text/plain")
+                        .add("x-path", path);
+
+                Runnable response = () -> {
+                    activeStreams.decrementAndGet();
+                    ctx.write(new DefaultHttp2HeadersFrame(headers));
+                    ctx.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(content), true));
+                };
+
+                if (path.endsWith(LARGE)) {
+                    activeStreams.decrementAndGet();
+                    ctx.write(new DefaultHttp2HeadersFrame(headers));
+                    for (int i = 1; i <= LARGE_CHUNKS; i++) {
+                        ctx.write(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(new byte[LARGE_CHUNK]), i == LARGE_CHUNKS))
+                                .addListener(future -> {
+                                    if (future.isSuccess()) {
+                                        sentBytes.addAndGet(LARGE_CHUNK);
+                                    }
+                                });
+                    }
+                    ctx.flush();
+                } else if (path.endsWith(BLOCK)) {
+                    CountDownLatch latch = blockLatch;
+                    blockingExecutor.execute(() -> {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        ctx.executor().execute(response);
+                    });
+                } else {
+                    response.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.connector;
+
+/**
+ * Snapshot of the connections kept by the {@link NettyConnectorProvider Netty connector}.
+ * <p/>
+ * An HTTP/1.1 connection is counted while it waits in the pool for the next request, a connection carrying a request
+ * is not counted. An HTTP/2 connection is counted while it is open, no matter the number of the streams it carries.
+ *
+ * @see NettyConnectorProvider#getConnectionPoolStatistics(javax.ws.rs.core.Configurable)
+ * @since 2.47
+ */
+public final class ConnectionPoolStatistics {
+
+    private final int idleConnections;
+    private final int http2Connections;
+    private final int activeStreams;
+
+    /**
+     * Create a new connection pool statistics snapshot.
+     *
+     * @param idleConnections  number of idle pooled HTTP/1.1 connections.
+     * @param http2Connections number of open HTTP/2 connections.
+     * @param activeStreams    number of requests in progress over HTTP/2 connections.
+     */
+    public ConnectionPoolStatistics(final int idleConnections, final int http2Connections, final int activeStreams) {
+        this.idleConnections = idleConnections;
+        this.http2Connections = http2Connections;
+        this.activeStreams = activeStreams;
+    }
+
+    /**
+     * Get the total number of the connections kept open, that is the idle HTTP/1.1 connections and the HTTP/2 connections.
+     *
+     * @return number of open connections.
+     */
+    public int getOpenConnections() {
+        return idleConnections + http2Connections;
+    }
+
+    /**
+     * Get the number of idle HTTP/1.1 connections kept in the pool.
+     *
+     * @return number of idle connections.
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Get the number of open HTTP/2 connections.
+     *
+     * @return number of HTTP/2 connections.
+     */
+    public int getHttp2Connections() {
+        return http2Connections;
+    }
+
+    /**
+     * Get the number of requests in progress over HTTP/2 connections.
+     *
+     * @return number of active streams.
+     */
+    public int getActiveStreams() {
+        return activeStreams;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{"
+                + "idleConnections=" + idleConnections
+                + ", http2Connections=" + http2Connections
+                + ", activeStreams=" + activeStreams
+                + '}';
+    }
+}
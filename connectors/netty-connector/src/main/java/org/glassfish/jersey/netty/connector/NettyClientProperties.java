@@ -64,6 +64,41 @@ public class NettyClientProperties {
      */
     public static final String HTTP_REDIRECT_CONTROLLER = "jersey.config.client.netty.http.redirect.controller";
 
+    /**
+     * <p>
+     *    Negotiate HTTP/2 by ALPN for {@code https} requests when {@code true}. The requests to a destination are then sent as
+     *    concurrent streams of a single HTTP/2 connection rather than over a pool of HTTP/1.1 connections. When the server
+     *    selects HTTP/1.1, the requests to the destination are sent over HTTP/1.1 connections.
+     * </p>
+     * <p>
+     *     The default value is {@code false}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     * @see #HTTP2_PRIOR_KNOWLEDGE
+     */
+    public static final String HTTP2 = "jersey.config.client.netty.http2";
+
+    /**
+     * <p>
+     *    Send {@code http} requests over cleartext HTTP/2 (h2c) without an upgrade when {@code true}, the server is expected
+     *    to support HTTP/2. The requests to a destination share a single HTTP/2 connection.
+     * </p>
+     * <p>
+     *     The default value is {@code false}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     * @see #HTTP2
+     */
+    public static final String HTTP2_PRIOR_KNOWLEDGE = "jersey.config.client.netty.http2.priorKnowledge";
+
     /**
      * <p>
      *    This property determines the number of seconds the idle connections are kept in the pool before pruned.
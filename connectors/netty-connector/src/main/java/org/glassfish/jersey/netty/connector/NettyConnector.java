@@ -33,12 +33,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import javax.net.ssl.SSLContext;
@@ -53,6 +55,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ConnectTimeoutException;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
@@ -69,9 +72,19 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.proxy.ProxyHandler;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
@@ -81,6 +94,7 @@ import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.resolver.NoopAddressResolverGroup;
+import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.GenericFutureListener;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
@@ -107,6 +121,11 @@ class NettyConnector implements Connector {
     final EventLoopGroup group;
     final Client client;
     final HashMap<String, ArrayList<Channel>> connections = new HashMap<>();
+    // HTTP/2 connection shared by the requests to a destination, a request waits for the connection being established
+    private final ConcurrentHashMap<String, CompletableFuture<Channel>> http2Connections = new ConcurrentHashMap<>();
+    private final Set<Channel> http2Channels = ConcurrentHashMap.newKeySet();
+    // destinations that negotiated HTTP/1.1 although HTTP/2 was enabled
+    private final Set<String> http1Destinations = ConcurrentHashMap.newKeySet();
 
     private static final LazyValue<String> NETTY_VERSION = Values.lazy(
         (Value<String>) () -> {
@@ -143,6 +162,15 @@ class NettyConnector implements Connector {
     private static final String REQUEST_HANDLER = "request_handler";
     private static final String EXPECT_100_CONTINUE_HANDLER = "expect_100_continue_handler";
 
+    // number of the streams open on an HTTP/2 connection
+    private static final AttributeKey<AtomicInteger> HTTP2_STREAMS = AttributeKey.valueOf("jersey_http2_streams");
+    private static final ApplicationProtocolConfig HTTP2_PROTOCOL_CONFIG = new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1);
+
     NettyConnector(Client client) {
 
         final Configuration configuration = client.getConfiguration();
@@ -237,6 +265,17 @@ class NettyConnector implements Connector {
             }
 
             Channel chan = null;
+            if (isHttp2(jerseyRequest, requestUri, key)) {
+                try {
+                    // null if the server does not speak HTTP/2, the request then goes over a pooled HTTP/1.1 connection
+                    chan = openHttp2Stream(jerseyRequest, sslConfig, host, port, key);
+                } catch (Exception e) {
+                    responseAvailable.completeExceptionally(e);
+                    return;
+                }
+            }
+            final boolean http2Stream = chan != null;
+
             synchronized (conns) {
                while (chan == null && !conns.isEmpty()) {
                   chan = conns.remove(conns.size() - 1);
@@ -258,87 +297,7 @@ class NettyConnector implements Connector {
 
             if (chan == null) {
                Integer connectTimeout = jerseyRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0);
-               Bootstrap b = new Bootstrap();
-
-               // http proxy
-               Optional<ClientProxy> proxy = ClientProxy.proxyFromRequest(jerseyRequest);
-               if (!proxy.isPresent()) {
-                   proxy = ClientProxy.proxyFromProperties(requestUri);
-               }
-               proxy.ifPresent(clientProxy -> {
-                   b.resolver(NoopAddressResolverGroup.INSTANCE); // request hostname resolved by the HTTP proxy
-               });
-
-               final Optional<ClientProxy> handlerProxy = proxy;
-
-               b.group(group)
-                .channel(NioSocketChannel.class)
-                .handler(new ChannelInitializer<SocketChannel>() {
-                    @Override
-                    protected void initChannel(SocketChannel ch) throws Exception {
-                     ChannelPipeline p = ch.pipeline();
-
-                     Configuration config = jerseyRequest.getConfiguration();
-
-                     // http proxy
-                     handlerProxy.ifPresent(clientProxy -> {
-                         final URI u = clientProxy.uri();
-                         InetSocketAddress proxyAddr = new InetSocketAddress(u.getHost(),
-                                 u.getPort() == -1 ? 8080 : u.getPort());
-                         ProxyHandler proxy1 = createProxyHandler(jerseyRequest, proxyAddr,
-                                 clientProxy.userName(), clientProxy.password(), connectTimeout);
-                         p.addLast(proxy1);
-                     });
-
-                     // Enable HTTPS if necessary.
-                     if ("https".equals(requestUri.getScheme())) {
-                         // making client authentication optional for now; it could be extracted to configurable property
-                         JdkSslContext jdkSslContext = new JdkSslContext(
-                                 getSslContext(client, jerseyRequest),
-                                 true,
-                                 (Iterable) null,
-                                 IdentityCipherSuiteFilter.INSTANCE,
-                                 (ApplicationProtocolConfig) null,
-                                 ClientAuth.NONE,
-                                 (String[]) null, /* enable default protocols */
-                                 false /* true if the first write request shouldn't be encrypted */
-                         );
-
-                         final int port = requestUri.getPort();
-
-                         final SslHandler sslHandler = jdkSslContext.newHandler(
-                                 ch.alloc(), sslConfig.getSNIHostName(), port <= 0 ? 443 : port, executorService
-                         );
-                         if (ClientProperties.getValue(config.getProperties(),
-                                                       NettyClientProperties.ENABLE_SSL_HOSTNAME_VERIFICATION, true)) {
-                             sslConfig.setEndpointIdentificationAlgorithm(sslHandler.engine());
-                         }
-
-                         sslConfig.setSNIServerName(sslHandler.engine());
-
-                         p.addLast(sslHandler);
-                     }
-
-                     final Integer maxHeaderSize = ClientProperties.getValue(config.getProperties(),
-                                NettyClientProperties.MAX_HEADER_SIZE,
-                                NettyClientProperties.DEFAULT_HEADER_SIZE);
-                     final Integer maxChunkSize = ClientProperties.getValue(config.getProperties(),
-                                NettyClientProperties.MAX_CHUNK_SIZE,
-                                NettyClientProperties.DEFAULT_CHUNK_SIZE);
-                     final Integer maxInitialLineLength = ClientProperties.getValue(config.getProperties(),
-                                NettyClientProperties.MAX_INITIAL_LINE_LENGTH,
-                                NettyClientProperties.DEFAULT_INITIAL_LINE_LENGTH);
-
-                     p.addLast(new HttpClientCodec(maxInitialLineLength, maxHeaderSize, maxChunkSize));
-                     p.addLast(new ChunkedWriteHandler());
-                     p.addLast(new HttpContentDecompressor());
-                    }
-                });
-
-               // connect timeout
-               if (connectTimeout > 0) {
-                   b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
-               }
+               Bootstrap b = bootstrap(jerseyRequest, sslConfig, connectTimeout, null);
 
                // Make the connection attempt.
                 try {
@@ -366,6 +325,15 @@ class NettyConnector implements Connector {
             ch.pipeline().addLast(REQUEST_HANDLER, clientHandler);
 
             responseDone.whenComplete((_r, th) -> {
+               if (http2Stream) {
+                  // a stream is never reused, the HTTP/2 connection it belongs to is shared instead
+                  ch.close();
+                  if (th != null) {
+                     responseAvailable.completeExceptionally(th);
+                  }
+                  return;
+               }
+
                ch.pipeline().remove(READ_TIMEOUT_HANDLER);
                ch.pipeline().remove(clientHandler);
 
@@ -414,6 +382,10 @@ class NettyConnector implements Connector {
                                                           pathWithQuery);
             }
 
+            if (http2Stream) {
+                nettyRequest.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), requestUri.getScheme());
+            }
+
             // headers
             if (!jerseyRequest.hasEntity()) {
                 setHeaders(jerseyRequest, nettyRequest.headers(), false);
@@ -511,7 +483,8 @@ class NettyConnector implements Connector {
                     entityWriter.writeAndFlush(nettyRequest);
                 }
 
-                if (HttpUtil.isTransferEncodingChunked(nettyRequest)) {
+                if (http2Stream || HttpUtil.isTransferEncodingChunked(nettyRequest)) {
+                    // an HTTP/2 stream takes HTTP content only, the last content ends the stream
                     entityWriter.write(new HttpChunkedInput(entityWriter.getChunkedInput()));
                 } else {
                     entityWriter.write(entityWriter.getChunkedInput());
@@ -531,10 +504,274 @@ class NettyConnector implements Connector {
         }
     }
 
+    private boolean isHttp2(ClientRequest jerseyRequest, URI requestUri, String key) {
+        if ("https".equals(requestUri.getScheme())) {
+            return jerseyRequest.resolveProperty(NettyClientProperties.HTTP2, Boolean.FALSE)
+                    && !http1Destinations.contains(key);
+        }
+        return jerseyRequest.resolveProperty(NettyClientProperties.HTTP2_PRIOR_KNOWLEDGE, Boolean.FALSE);
+    }
+
+    /**
+     * Open a new stream on the HTTP/2 connection shared by all the requests to the destination, the connection is created
+     * if there is none.
+     *
+     * @return the stream channel or {@code null} when the server does not support HTTP/2.
+     */
+    private Channel openHttp2Stream(ClientRequest jerseyRequest, SSLParamConfigurator sslConfig, String host, int port,
+                                    String key) throws Exception {
+        while (true) {
+            final CompletableFuture<Channel> pending = new CompletableFuture<>();
+            final CompletableFuture<Channel> shared = http2Connections.putIfAbsent(key, pending);
+            final Channel connection;
+            if (shared == null) {
+                connection = connectHttp2(jerseyRequest, sslConfig, host, port, key, pending);
+            } else {
+                try {
+                    connection = shared.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+            if (connection == null) {
+                return null;
+            }
+
+            final AtomicInteger streams = connection.attr(HTTP2_STREAMS).get();
+            if (shared != null) {
+                if (!connection.isActive()) {
+                    http2Connections.remove(key, shared);
+                    continue;
+                }
+                if (streams.incrementAndGet() > maxConcurrentStreams(connection)) {
+                    // the server does not allow more streams, the connection is left to the streams it already carries
+                    streams.decrementAndGet();
+                    http2Connections.remove(key, shared);
+                    continue;
+                }
+            } else {
+                streams.incrementAndGet();
+            }
+
+            try {
+                final Http2StreamChannel stream = new Http2StreamChannelBootstrap(connection)
+                        .handler(new ChannelInitializer<Http2StreamChannel>() {
+                            @Override
+                            protected void initChannel(Http2StreamChannel ch) {
+                                ChannelPipeline p = ch.pipeline();
+                                p.addLast(new Http2StreamFrameToHttpObjectCodec(false));
+                                p.addLast(new ChunkedWriteHandler());
+                                p.addLast(new HttpContentDecompressor());
+                            }
+                        })
+                        .open().sync().getNow();
+                stream.closeFuture().addListener(f -> streams.decrementAndGet());
+                return stream;
+            } catch (Exception e) {
+                streams.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private Channel connectHttp2(ClientRequest jerseyRequest, SSLParamConfigurator sslConfig, String host, int port,
+                                 String key, CompletableFuture<Channel> pending) throws Exception {
+        final Integer connectTimeout = jerseyRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0);
+        final CompletableFuture<Boolean> negotiated = new CompletableFuture<>();
+        try {
+            final Channel connection = bootstrap(jerseyRequest, sslConfig, connectTimeout, negotiated)
+                    .connect(host, port).sync().channel();
+            final boolean http2;
+            try {
+                // the TLS handshake including ALPN is a part of the connection establishment
+                http2 = connectTimeout > 0 ? negotiated.get(connectTimeout, TimeUnit.MILLISECONDS) : negotiated.get();
+            } catch (ExecutionException e) {
+                connection.close();
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            } catch (TimeoutException e) {
+                connection.close();
+                throw new ConnectTimeoutException(
+                        LocalizationMessages.HTTP2_NEGOTIATION_TIMEOUT(host + ":" + port, connectTimeout));
+            }
+            if (!http2) {
+                // the requests to the destination go over HTTP/1.1 connections from now on
+                http1Destinations.add(key);
+                connection.close();
+                http2Connections.remove(key, pending);
+                pending.complete(null);
+                return null;
+            }
+
+            http2Channels.add(connection);
+            connection.closeFuture().addListener(f -> {
+                http2Channels.remove(connection);
+                http2Connections.remove(key, pending);
+            });
+            pending.complete(connection);
+            return connection;
+        } catch (Exception e) {
+            http2Connections.remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static int maxConcurrentStreams(Channel connection) {
+        final Http2FrameCodec codec = connection.pipeline().get(Http2FrameCodec.class);
+        // the limit is the value of SETTINGS_MAX_CONCURRENT_STREAMS sent by the server
+        return codec == null ? 0 : codec.connection().local().maxActiveStreams();
+    }
+
+    private static void addHttp2Handlers(ChannelPipeline p, int maxHeaderSize) {
+        p.addLast(Http2FrameCodecBuilder.forClient()
+                          .initialSettings(Http2Settings.defaultSettings().pushEnabled(false).maxHeaderListSize(maxHeaderSize))
+                          .build());
+        // server push is disabled, a stream initiated by the server is refused
+        p.addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                ch.close();
+            }
+        }));
+    }
+
+    /**
+     * Get a snapshot of the connections kept by this connector.
+     *
+     * @return connection pool statistics.
+     */
+    ConnectionPoolStatistics getConnectionPoolStatistics() {
+        int idle = 0;
+        synchronized (connections) {
+            for (ArrayList<Channel> conns : connections.values()) {
+                synchronized (conns) {
+                    idle += conns.size();
+                }
+            }
+        }
+        int connectionCount = 0;
+        int streams = 0;
+        for (Channel connection : http2Channels) {
+            connectionCount++;
+            streams += connection.attr(HTTP2_STREAMS).get().get();
+        }
+        return new ConnectionPoolStatistics(idle, connectionCount, streams);
+    }
+
     /* package */ NettyEntityWriter nettyEntityWriter(ClientRequest clientRequest, Channel channel) {
         return NettyEntityWriter.getInstance(clientRequest, channel);
     }
 
+    /**
+     * Create a bootstrap of a connection to the host of the request.
+     *
+     * @param jerseyRequest  the request.
+     * @param sslConfig      SSL parameters of the request.
+     * @param connectTimeout connect timeout in milliseconds.
+     * @param http2          {@code null} for an HTTP/1.1 connection, otherwise completed with {@code true} once the connection
+     *                       is set up for HTTP/2 or with {@code false} when the server negotiated HTTP/1.1.
+     * @return the bootstrap.
+     */
+    private Bootstrap bootstrap(ClientRequest jerseyRequest, SSLParamConfigurator sslConfig, Integer connectTimeout,
+                                CompletableFuture<Boolean> http2) {
+        final URI requestUri = jerseyRequest.getUri();
+        final Bootstrap b = new Bootstrap();
+
+        // http proxy
+        Optional<ClientProxy> proxy = ClientProxy.proxyFromRequest(jerseyRequest);
+        if (!proxy.isPresent()) {
+            proxy = ClientProxy.proxyFromProperties(requestUri);
+        }
+        proxy.ifPresent(clientProxy -> {
+            b.resolver(NoopAddressResolverGroup.INSTANCE); // request hostname resolved by the HTTP proxy
+        });
+
+        final Optional<ClientProxy> handlerProxy = proxy;
+
+        b.group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) throws Exception {
+                        ChannelPipeline p = ch.pipeline();
+
+                        Configuration config = jerseyRequest.getConfiguration();
+
+                        // http proxy
+                        handlerProxy.ifPresent(clientProxy -> {
+                            final URI u = clientProxy.uri();
+                            InetSocketAddress proxyAddr = new InetSocketAddress(u.getHost(),
+                                    u.getPort() == -1 ? 8080 : u.getPort());
+                            ProxyHandler proxy1 = createProxyHandler(jerseyRequest, proxyAddr,
+                                    clientProxy.userName(), clientProxy.password(), connectTimeout);
+                            p.addLast(proxy1);
+                        });
+
+                        // Enable HTTPS if necessary.
+                        if ("https".equals(requestUri.getScheme())) {
+                            // making client authentication optional for now; it could be extracted to configurable property
+                            JdkSslContext jdkSslContext = new JdkSslContext(
+                                    getSslContext(client, jerseyRequest),
+                                    true,
+                                    (Iterable) null,
+                                    IdentityCipherSuiteFilter.INSTANCE,
+                                    http2 == null ? (ApplicationProtocolConfig) null : HTTP2_PROTOCOL_CONFIG,
+                                    ClientAuth.NONE,
+                                    (String[]) null, /* enable default protocols */
+                                    false /* true if the first write request shouldn't be encrypted */
+                            );
+
+                            final int port = requestUri.getPort();
+
+                            final SslHandler sslHandler = jdkSslContext.newHandler(
+                                    ch.alloc(), sslConfig.getSNIHostName(), port <= 0 ? 443 : port, executorService
+                            );
+                            if (ClientProperties.getValue(config.getProperties(),
+                                                          NettyClientProperties.ENABLE_SSL_HOSTNAME_VERIFICATION, true)) {
+                                sslConfig.setEndpointIdentificationAlgorithm(sslHandler.engine());
+                            }
+
+                            sslConfig.setSNIServerName(sslHandler.engine());
+
+                            p.addLast(sslHandler);
+                        }
+
+                        final Integer maxHeaderSize = ClientProperties.getValue(config.getProperties(),
+                                   NettyClientProperties.MAX_HEADER_SIZE,
+                                   NettyClientProperties.DEFAULT_HEADER_SIZE);
+                        final Integer maxChunkSize = ClientProperties.getValue(config.getProperties(),
+                                   NettyClientProperties.MAX_CHUNK_SIZE,
+                                   NettyClientProperties.DEFAULT_CHUNK_SIZE);
+                        final Integer maxInitialLineLength = ClientProperties.getValue(config.getProperties(),
+                                   NettyClientProperties.MAX_INITIAL_LINE_LENGTH,
+                                   NettyClientProperties.DEFAULT_INITIAL_LINE_LENGTH);
+
+                        if (http2 == null) {
+                            p.addLast(new HttpClientCodec(maxInitialLineLength, maxHeaderSize, maxChunkSize));
+                            p.addLast(new ChunkedWriteHandler());
+                            p.addLast(new HttpContentDecompressor());
+                        } else {
+                            ch.attr(HTTP2_STREAMS).set(new AtomicInteger());
+                            p.addLast(INACTIVE_POOLED_CONNECTION_HANDLER, new IdleStateHandler(0, 0, maxPoolIdle));
+                            p.addLast(PRUNE_INACTIVE_POOL, new PruneIdleHttp2Connection());
+                            if ("https".equals(requestUri.getScheme())) {
+                                p.addLast(new Http2Negotiation(http2, maxHeaderSize));
+                            } else {
+                                // h2c with prior knowledge
+                                addHttp2Handlers(p, maxHeaderSize);
+                                http2.complete(true);
+                            }
+                        }
+                    }
+                });
+
+        // connect timeout
+        if (connectTimeout > 0) {
+            b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+        }
+        return b;
+    }
+
     private SSLContext getSslContext(Client client, ClientRequest request) {
         Supplier<SSLContext> supplier = request.resolveProperty(ClientProperties.SSL_CONTEXT_SUPPLIER, Supplier.class);
         return supplier == null ? client.getSslContext() : supplier.get();
@@ -590,6 +827,61 @@ class NettyConnector implements Connector {
        }
     }
 
+    /**
+     * Closes an idle HTTP/2 connection that does not carry any stream.
+     */
+    private static class PruneIdleHttp2Connection extends ChannelDuplexHandler {
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                if (((IdleStateEvent) evt).state() == IdleState.ALL_IDLE
+                        && ctx.channel().attr(HTTP2_STREAMS).get().get() == 0) {
+                    ctx.close();
+                }
+            } else {
+                super.userEventTriggered(ctx, evt);
+            }
+        }
+    }
+
+    /**
+     * Sets the connection up for the protocol selected by ALPN.
+     */
+    private static class Http2Negotiation extends ApplicationProtocolNegotiationHandler {
+
+        private final CompletableFuture<Boolean> negotiated;
+        private final int maxHeaderSize;
+
+        private Http2Negotiation(CompletableFuture<Boolean> negotiated, int maxHeaderSize) {
+            super(ApplicationProtocolNames.HTTP_1_1);
+            this.negotiated = negotiated;
+            this.maxHeaderSize = maxHeaderSize;
+        }
+
+        @Override
+        protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+            if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                addHttp2Handlers(ctx.pipeline(), maxHeaderSize);
+                negotiated.complete(true);
+            } else {
+                negotiated.complete(false);
+            }
+        }
+
+        @Override
+        protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            negotiated.completeExceptionally(cause);
+            super.handshakeFailure(ctx, cause);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            negotiated.completeExceptionally(new IOException("Channel closed."));
+            super.channelInactive(ctx);
+        }
+    }
+
     private static ProxyHandler createProxyHandler(ClientRequest jerseyRequest, SocketAddress proxyAddr,
                                                    String userName, String password, long connectTimeout) {
         final Boolean filter = jerseyRequest.resolveProperty(NettyClientProperties.FILTER_HEADERS_FOR_PROXY, Boolean.TRUE);
@@ -17,9 +17,11 @@
 package org.glassfish.jersey.netty.connector;
 
 import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configurable;
 import javax.ws.rs.core.Configuration;
 
 import org.glassfish.jersey.Beta;
+import org.glassfish.jersey.client.Initializable;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
 
@@ -33,9 +35,15 @@ import org.glassfish.jersey.client.spi.ConnectorProvider;
  * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_URI}</li>
  * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_USERNAME}</li>
  * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_PASSWORD}</li>
+ * <li>{@link NettyClientProperties#HTTP2}</li>
+ * <li>{@link NettyClientProperties#HTTP2_PRIOR_KNOWLEDGE}</li>
  * </ul>
  * </p>
  * <p>
+ * With HTTP/2 enabled, the concurrent requests to a destination are multiplexed as streams over a single connection.
+ * The number of the connections and streams can be observed by {@link #getConnectionPoolStatistics(Configurable)}.
+ * </p>
+ * <p>
  * If a {@link org.glassfish.jersey.client.ClientResponse} is obtained and an entity is not read from the response then
  * {@link org.glassfish.jersey.client.ClientResponse#close()} MUST be called after processing the response to release
  * connection-based resources.
@@ -55,4 +63,37 @@ public class NettyConnectorProvider implements ConnectorProvider {
     public Connector getConnector(Client client, Configuration runtimeConfig) {
         return new NettyConnector(client);
     }
+
+    /**
+     * Get a snapshot of the connection pool statistics of the connector used by
+     * {@link org.glassfish.jersey.client.JerseyClient} or {@link org.glassfish.jersey.client.JerseyWebTarget}
+     * configured to use {@code NettyConnectorProvider}.
+     *
+     * @param component {@code JerseyClient} or {@code JerseyWebTarget} instance that is configured to use
+     *                  {@code NettyConnectorProvider}.
+     * @return connection pool statistics.
+     * @throws java.lang.IllegalArgumentException in case the {@code component} is neither {@code JerseyClient}
+     *                                            nor {@code JerseyWebTarget} instance or in case the component
+     *                                            is not configured to use a {@code NettyConnectorProvider}.
+     * @since 2.47
+     */
+    public static ConnectionPoolStatistics getConnectionPoolStatistics(final Configurable<?> component) {
+        if (!(component instanceof Initializable)) {
+            throw new IllegalArgumentException(
+                    LocalizationMessages.INVALID_CONFIGURABLE_COMPONENT_TYPE(component.getClass().getName()));
+        }
+
+        final Initializable<?> initializable = (Initializable<?>) component;
+        Connector connector = initializable.getConfiguration().getConnector();
+        if (connector == null) {
+            initializable.preInitialize();
+            connector = initializable.getConfiguration().getConnector();
+        }
+
+        if (connector instanceof NettyConnector) {
+            return ((NettyConnector) connector).getConnectionPoolStatistics();
+        } else {
+            throw new IllegalArgumentException(LocalizationMessages.EXPECTED_CONNECTOR_PROVIDER_NOT_USED());
+        }
+    }
 }
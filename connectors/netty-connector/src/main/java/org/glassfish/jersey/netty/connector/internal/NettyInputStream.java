@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,16 +22,22 @@ import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 
 import io.netty.buffer.ByteBuf;
+import org.glassfish.jersey.internal.jsr166.Flow;
+import org.glassfish.jersey.message.NonBlockingInput;
+import org.glassfish.jersey.message.internal.EntityInputPublisher;
 
 /**
  * Input stream which servers as Request entity input.
  * <p>
  * Converts Netty NIO buffers to an input streams and stores them in the queue,
  * waiting for Jersey to process it.
+ * <p>
+ * Once the {@link #getPublisher() entity publisher} is requested, the queued buffers
+ * and all the buffers received afterwards are handed over to the publisher instead.
  *
  * @author Pavel Bucek
  */
-public class NettyInputStream extends InputStream {
+public class NettyInputStream extends InputStream implements NonBlockingInput {
 
     private volatile boolean end = false;
     private Throwable cause;
@@ -43,6 +49,8 @@ public class NettyInputStream extends InputStream {
     private byte[] ONE_BYTE;
     private boolean reading;
 
+    private volatile EntityInputPublisher publisher;
+
     public NettyInputStream() {
         this.isList = new ArrayDeque<>();
     }
@@ -125,6 +133,15 @@ public class NettyInputStream extends InputStream {
     public void complete(Throwable cause) {
        this.cause = cause;
        cleanup(cause != null);
+
+       final EntityInputPublisher publisher = this.publisher;
+       if (publisher != null) {
+          if (cause == null) {
+             publisher.complete();
+          } else {
+             publisher.fail(cause);
+          }
+       }
     }
 
     protected synchronized void cleanup(boolean drain) {
@@ -146,16 +163,57 @@ public class NettyInputStream extends InputStream {
         return buffer == null ? 0 : buffer.remaining();
     }
 
-    public synchronized void publish(ByteBuf content) {
-       if (end || content.nioBuffer().remaining() == 0) {
-          content.release();
-          return;
+    public void publish(ByteBuf content) {
+       final EntityInputPublisher publisher;
+       synchronized (this) {
+          if (end || content.nioBuffer().remaining() == 0) {
+             content.release();
+             return;
+          }
+
+          publisher = this.publisher;
+          if (publisher == null) {
+             isList.add(content);
+             if (reading) {
+                notifyAll();
+             }
+             return;
+          }
        }
 
-       isList.add(content);
-       if (reading) {
-          notifyAll();
+       publisher.offer(copy(content));
+    }
+
+    @Override
+    public Flow.Publisher<ByteBuffer> getPublisher() {
+       final EntityInputPublisher publisher;
+       synchronized (this) {
+          if (this.publisher != null) {
+             return this.publisher;
+          }
+
+          publisher = new EntityInputPublisher();
+          while (!isList.isEmpty()) {
+             publisher.offer(copy(isList.poll()));
+          }
+          this.publisher = publisher;
+          if (end) {
+             if (cause == null) {
+                publisher.complete();
+             } else {
+                publisher.fail(cause);
+             }
+          }
        }
+       return publisher;
+    }
+
+    private static ByteBuffer copy(ByteBuf content) {
+       final ByteBuffer buffer = ByteBuffer.allocate(content.readableBytes());
+       content.readBytes(buffer);
+       content.release();
+       buffer.flip();
+       return buffer;
     }
 
     public void clear() {
@@ -165,6 +223,7 @@ public class NettyInputStream extends InputStream {
         cause = null;
         buffer = null;
         current = null;
+        publisher = null;
 
         isList.clear();
     }
@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.connector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.SslConfigurator;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.util.ReferenceCountUtil;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the requests multiplexed over a cleartext HTTP/2 connection and over a TLS connection negotiated using ALPN.
+ */
+public class Http2Test {
+
+    private static final String BLOCK = "block";
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        Collections.reverse(resources);
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        Http2Server server = startServer(100);
+        Client client = createClient();
+
+        Response response = client.target("http://localhost:" + server.getPort()).path("hello")
+                .queryParam("q", "a").request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals("/hello?q=a", response.getHeaderString("x-path"));
+        assertEquals("GET /hello?q=a", response.readEntity(String.class));
+
+        awaitActiveStreams(client, 0);
+        ConnectionPoolStatistics statistics = NettyConnectorProvider.getConnectionPoolStatistics(client);
+        assertEquals(1, statistics.getHttp2Connections());
+        assertEquals(0, statistics.getIdleConnections());
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        Http2Server server = startServer(100);
+        Client client = createClient();
+        // larger than the default flow control window
+        String entity = String.join("", Collections.nCopies(20_000, "0123456789"));
+
+        Response response = client.target("http://localhost:" + server.getPort()).path("echo").request()
+                .post(Entity.entity(entity, MediaType.TEXT_PLAIN));
+        assertEquals(200, response.getStatus());
+        assertEquals(entity, response.readEntity(String.class));
+
+        response = client.target("http://localhost:" + server.getPort()).path("echo").request()
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                .post(Entity.entity(entity, MediaType.TEXT_PLAIN));
+        assertEquals(200, response.getStatus());
+        assertEquals(entity, response.readEntity(String.class));
+        assertEquals(1, server.connections.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareConnection() throws Exception {
+        Http2Server server = startServer(100);
+        Client client = createClient();
+        server.block();
+
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(client.target("http://localhost:" + server.getPort()).path(BLOCK).request().async().get(String.class));
+        }
+
+        awaitActiveStreams(client, 10);
+        ConnectionPoolStatistics statistics = NettyConnectorProvider.getConnectionPoolStatistics(client);
+        assertEquals(1, statistics.getHttp2Connections());
+        assertEquals(10, statistics.getActiveStreams());
+
+        server.release();
+        for (Future<String> response : responses) {
+            assertEquals("GET /" + BLOCK, response.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, server.connections.get());
+        assertEquals(10, server.maxActiveStreams.get());
+        awaitActiveStreams(client, 0);
+    }
+
+    @Test
+    public void testMaxConcurrentStreams() throws Exception {
+        Http2Server server = startServer(5);
+        Client client = createClient();
+        // the connection learns the limit of the server
+        assertEquals("GET /hello", client.target("http://localhost:" + server.getPort()).path("hello").request()
+                .get(String.class));
+        server.block();
+
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(client.target("http://localhost:" + server.getPort()).path(BLOCK).request().async().get(String.class));
+        }
+
+        awaitActiveStreams(client, 8);
+        assertEquals(2, NettyConnectorProvider.getConnectionPoolStatistics(client).getHttp2Connections());
+
+        server.release();
+        for (Future<String> response : responses) {
+            assertEquals("GET /" + BLOCK, response.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(2, server.connections.get());
+        assertEquals(5, server.maxActiveStreams.get());
+    }
+
+    @Test
+    public void testAlpn() throws Exception {
+        Http2Server server = startServer(100, serverSslContext(ApplicationProtocolNames.HTTP_2), false);
+        Client client = createTlsClient(0);
+
+        for (int i = 0; i < 3; i++) {
+            Response response = client.target("https://localhost:" + server.getPort()).path("secure").request().get();
+            assertEquals(200, response.getStatus());
+            assertEquals("GET /secure", response.readEntity(String.class));
+        }
+
+        awaitActiveStreams(client, 0);
+        ConnectionPoolStatistics statistics = NettyConnectorProvider.getConnectionPoolStatistics(client);
+        assertEquals(1, statistics.getHttp2Connections());
+        assertEquals(0, statistics.getIdleConnections());
+        assertEquals(1, server.connections.get());
+    }
+
+    @Test
+    public void testAlpnFallbackToHttp11() throws Exception {
+        Http2Server server = startServer(100, serverSslContext(ApplicationProtocolNames.HTTP_1_1), true);
+        Client client = createTlsClient(0);
+
+        for (int i = 0; i < 3; i++) {
+            Response response = client.target("https://localhost:" + server.getPort()).path("secure").request().get();
+            assertEquals(200, response.getStatus());
+            assertEquals("GET /secure", response.readEntity(String.class));
+            // the connection is returned to the pool once the response has been completed
+            awaitIdleConnections(client, 1);
+        }
+
+        assertEquals(0, NettyConnectorProvider.getConnectionPoolStatistics(client).getHttp2Connections());
+        // the negotiated connection is closed, the destination is remembered and its HTTP/1.1 connection is reused
+        assertEquals(2, server.connections.get());
+    }
+
+    @Test
+    public void testAlpnWithinConnectTimeout() throws Exception {
+        // the connections are established in the backlog of the socket, but the TLS handshake is never answered
+        ServerSocket server = new ServerSocket(0);
+        resources.add(server);
+        Client client = createTlsClient(500);
+
+        long start = System.nanoTime();
+        ProcessingException e = assertThrows(ProcessingException.class,
+                () -> client.target("https://localhost:" + server.getLocalPort()).path("secure").request().get());
+        assertInstanceOf(ConnectTimeoutException.class, e.getCause());
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+    }
+
+    private void awaitActiveStreams(Client client, int activeStreams) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (NettyConnectorProvider.getConnectionPoolStatistics(client).getActiveStreams() != activeStreams
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(activeStreams, NettyConnectorProvider.getConnectionPoolStatistics(client).getActiveStreams());
+    }
+
+    private void awaitIdleConnections(Client client, int idleConnections) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (NettyConnectorProvider.getConnectionPoolStatistics(client).getIdleConnections() != idleConnections
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(idleConnections, NettyConnectorProvider.getConnectionPoolStatistics(client).getIdleConnections());
+    }
+
+    private Client createClient() {
+        ClientConfig config = new ClientConfig()
+                .connectorProvider(new NettyConnectorProvider())
+                .property(NettyClientProperties.HTTP2_PRIOR_KNOWLEDGE, true);
+        Client client = ClientBuilder.newClient(config);
+        resources.add(client::close);
+        return client;
+    }
+
+    private Client createTlsClient(int connectTimeout) {
+        ClientConfig config = new ClientConfig()
+                .connectorProvider(new NettyConnectorProvider())
+                .property(NettyClientProperties.HTTP2, true)
+                .property(NettyClientProperties.ENABLE_SSL_HOSTNAME_VERIFICATION, false)
+                .property(ClientProperties.CONNECT_TIMEOUT, connectTimeout);
+        SslConfigurator sslConfig = SslConfigurator.newInstance()
+                .trustStoreFile(getClass().getResource("/truststore_client").getPath())
+                .trustStorePassword("asdfgh");
+        Client client = ClientBuilder.newBuilder().withConfig(config).sslContext(sslConfig.createSSLContext()).build();
+        resources.add(client::close);
+        return client;
+    }
+
+    private SslContext serverSslContext(String protocol) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream stream = new FileInputStream(getClass().getResource("/keystore_server").getPath())) {
+            keyStore.load(stream, "asdfgh".toCharArray());
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, "asdfgh".toCharArray());
+
+        return SslContextBuilder.forServer(keyManagerFactory)
+                .sslProvider(SslProvider.JDK)
+                .applicationProtocolConfig(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                        protocol))
+                .build();
+    }
+
+    private Http2Server startServer(int maxConcurrentStreams) throws InterruptedException {
+        return startServer(maxConcurrentStreams, null, false);
+    }
+
+    private Http2Server startServer(int maxConcurrentStreams, SslContext sslContext, boolean http1)
+            throws InterruptedException {
+        Http2Server server = new Http2Server(maxConcurrentStreams, sslContext, http1);
+        resources.add(server);
+        return server;
+    }
+
+    private static class Http2Server implements AutoCloseable {
+
+        private final EventLoopGroup group = new NioEventLoopGroup(2);
+        private final ExecutorService blockingExecutor = Executors.newCachedThreadPool();
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger activeStreams = new AtomicInteger();
+        private final AtomicInteger maxActiveStreams = new AtomicInteger();
+        private final Channel channel;
+
+        private volatile CountDownLatch blockLatch = new CountDownLatch(0);
+
+        Http2Server(int maxConcurrentStreams, SslContext sslContext, boolean http1) throws InterruptedException {
+            channel = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            connections.incrementAndGet();
+                            if (sslContext != null) {
+                                ch.pipeline().addLast(sslContext.newHandler(ch.alloc()));
+                            }
+                            if (http1) {
+                                ch.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(1024 * 1024),
+                                        new Http1Handler());
+                                return;
+                            }
+                            ch.pipeline().addLast(Http2FrameCodecBuilder.forServer()
+                                            .initialSettings(Http2Settings.defaultSettings()
+                                                    .maxConcurrentStreams(maxConcurrentStreams))
+                                            .build(),
+                                    new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                                        @Override
+                                        protected void initChannel(Channel stream) {
+                                            stream.pipeline().addLast(new StreamHandler());
+                                        }
+                                    }));
+                        }
+                    }).bind(0).sync().channel();
+        }
+
+        int getPort() {
+            return ((InetSocketAddress) channel.localAddress()).getPort();
+        }
+
+        void block() {
+            blockLatch = new CountDownLatch(1);
+        }
+
+        void release() {
+            blockLatch.countDown();
+        }
+
+        @Override
+        public void close() throws Exception {
+            release();
+            channel.close().sync();
+            group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+            blockingExecutor.shutdownNow();
+        }
+
+        private class Http1Handler extends ChannelInboundHandlerAdapter {
+
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                try {
+                    if (msg instanceof FullHttpRequest) {
+                        FullHttpRequest request = (FullHttpRequest) msg;
+                        byte[] content = (request.method() + " " + request.uri()).getBytes(StandardCharsets.UTF_8);
+                        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                Unpooled.wrappedBuffer(content));
+                        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain")
+                                .setInt(HttpHeaderNames.CONTENT_LENGTH, content.length);
+                        ctx.writeAndFlush(response);
+                    }
+                } finally {
+                    ReferenceCountUtil.release(msg);
+                }
+            }
+        }
+
+        private class StreamHandler extends ChannelInboundHandlerAdapter {
+
+            private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            private Http2Headers requestHeaders;
+
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                try {
+                    if (msg instanceof Http2HeadersFrame) {
+                        requestHeaders = ((Http2HeadersFrame) msg).headers();
+                        if (((Http2HeadersFrame) msg).isEndStream()) {
+                            respond(ctx);
+                        }
+                    } else if (msg instanceof Http2DataFrame) {
+                        Http2DataFrame data = (Http2DataFrame) msg;
+                        byte[] bytes = new byte[data.content().readableBytes()];
+                        data.content().readBytes(bytes);
+                        body.write(bytes, 0, bytes.length);
+                        if (data.isEndStream()) {
+                            respond(ctx);
+                        }
+                    }
+                } finally {
+                    ReferenceCountUtil.release(msg);
+                }
+            }
+
+            private void respond(ChannelHandlerContext ctx) {
+                String path = requestHeaders.path().toString();
+                int active = activeStreams.incrementAndGet();
+                maxActiveStreams.accumulateAndGet(active, Math::max);
+
+                byte[] content = body.size() > 0
+                        ? body.toByteArray()
+                        : (requestHeaders.method() + " " + path).getBytes(StandardCharsets.UTF_8);
+                Http2Headers headers = new DefaultHttp2Headers().status("200")
+                        .add("content-type", "text/plain")
+                        .add("x-path", path);
+
+                Runnable response = () -> {
+                    activeStreams.decrementAndGet();
+                    ctx.write(new DefaultHttp2HeadersFrame(headers));
+                    ctx.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(content), true));
+                };
+
+                if (path.endsWith(BLOCK)) {
+                    CountDownLatch latch = blockLatch;
+                    blockingExecutor.execute(() -> {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        ctx.executor().execute(response);
+                    });
+                } else {
+                    response.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.grizzly2.httpserver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.glassfish.jersey.internal.jsr166.Flow;
+import org.glassfish.jersey.message.NonBlockingInput;
+import org.glassfish.jersey.message.internal.EntityInputPublisher;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.ReadHandler;
+import org.glassfish.grizzly.http.io.NIOInputStream;
+
+/**
+ * Entity input stream of a Grizzly request that can also publish the entity bytes as they are received, using
+ * the Grizzly {@link ReadHandler read handler} notifications instead of blocking the reading thread.
+ * <p>
+ * Grizzly keeps reading the request asynchronously only while the response is suspended, hence the entity publisher
+ * is meant to be used by resource methods that suspend the response (e.g. using
+ * {@link javax.ws.rs.container.AsyncResponse}).
+ * </p>
+ */
+final class GrizzlyEntityInputStream extends InputStream implements NonBlockingInput {
+
+    private final NIOInputStream input;
+    private Publisher publisher;
+
+    /**
+     * Create a new entity input stream.
+     *
+     * @param input Grizzly request input stream.
+     */
+    GrizzlyEntityInputStream(final NIOInputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return input.read();
+    }
+
+    @Override
+    public int read(final byte[] b) throws IOException {
+        return input.read(b);
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        return input.read(b, off, len);
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        return input.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return input.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    @Override
+    public void mark(final int readlimit) {
+        input.mark(readlimit);
+    }
+
+    @Override
+    public void reset() throws IOException {
+        input.reset();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return input.markSupported();
+    }
+
+    @Override
+    public synchronized Flow.Publisher<ByteBuffer> getPublisher() {
+        if (publisher == null) {
+            publisher = new Publisher();
+        }
+        return publisher;
+    }
+
+    private final class Publisher extends EntityInputPublisher implements ReadHandler {
+
+        private boolean waiting;
+
+        @Override
+        protected void onDemand() {
+            read();
+        }
+
+        @Override
+        public void onDataAvailable() {
+            synchronized (this) {
+                waiting = false;
+            }
+            read();
+        }
+
+        @Override
+        public void onAllDataRead() {
+            onDataAvailable();
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            fail(t);
+        }
+
+        private synchronized void read() {
+            if (waiting || isCancelled()) {
+                return;
+            }
+
+            if (input.readyData() > 0) {
+                final Buffer buffer = input.readBuffer();
+                final ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+                buffer.get(copy);
+                buffer.tryDispose();
+                copy.flip();
+                offer(copy);
+            } else if (input.isFinished()) {
+                complete();
+            } else {
+                waiting = true;
+                input.notifyAvailable(this);
+            }
+        }
+    }
+}
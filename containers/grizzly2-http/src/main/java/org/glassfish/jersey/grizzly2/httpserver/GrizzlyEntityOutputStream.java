@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.grizzly2.httpserver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
+
+import org.glassfish.jersey.message.ZeroCopyOutput;
+
+import org.glassfish.grizzly.WriteResult;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.impl.FutureImpl;
+import org.glassfish.grizzly.utils.Futures;
+
+/**
+ * Entity output stream of a Grizzly response that sends files using {@code sendfile} and writes byte buffers without
+ * copying them.
+ * <p>
+ * Grizzly sends a file only as the whole response body, hence a file region is sent using {@code sendfile} only if no
+ * bytes have been written to the response yet. The response is suspended while the file is being transferred and
+ * the stream blocks until the transfer has completed, just like the blocking Grizzly output stream does.
+ * </p>
+ */
+final class GrizzlyEntityOutputStream extends OutputStream implements ZeroCopyOutput {
+
+    private final Response response;
+    private final OutputStream delegate;
+
+    private boolean written;
+
+    /**
+     * Create a new entity output stream.
+     *
+     * @param response Grizzly response.
+     */
+    GrizzlyEntityOutputStream(final Response response) {
+        this.response = response;
+        this.delegate = response.getOutputStream();
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        written = true;
+        delegate.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b) throws IOException {
+        written = true;
+        delegate.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        written = true;
+        delegate.write(b, off, len);
+    }
+
+    @Override
+    public boolean writeFile(final File file, final long position, final long count) throws IOException {
+        // files cannot be sent over TLS using sendfile
+        if (written || !response.isSendFileEnabled() || response.getRequest().isSecure() || response.isCommitted()
+                || response.containsHeader(Header.ContentEncoding)) {
+            return false;
+        }
+        written = true;
+
+        // a response that is not suspended would be finished by Grizzly once the transfer completes,
+        // the response is resumed when the container response writer is committed instead
+        if (!response.isSuspended()) {
+            response.suspend();
+        }
+
+        final FutureImpl<WriteResult> future = Futures.createSafeFuture();
+        response.getOutputBuffer().sendfile(file, position, count, Futures.toCompletionHandler(future));
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean writeBuffer(final ByteBuffer buffer) throws IOException {
+        written = true;
+        // Grizzly consumes the buffer it has been given once the bytes are actually written, which may happen later
+        response.getOutputBuffer().writeByteBuffer(buffer.duplicate());
+        buffer.position(buffer.limit());
+        return true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
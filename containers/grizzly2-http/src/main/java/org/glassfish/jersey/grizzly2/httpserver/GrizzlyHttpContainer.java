@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -247,7 +247,7 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
                     }
                 }
 
-                return grizzlyResponse.getOutputStream();
+                return new GrizzlyEntityOutputStream(grizzlyResponse);
             } finally {
                 logger.debugLog("{0} - writeResponseStatusAndHeaders() called", name);
             }
@@ -343,10 +343,8 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
                     getSecurityContext(request),
                     new GrizzlyRequestPropertiesDelegate(request),
                     appHandler.getConfiguration());
-            requestContext.setEntityStream(request.getInputStream());
-            for (final String headerName : request.getHeaderNames()) {
-                requestContext.headers(headerName, request.getHeaders(headerName));
-            }
+            requestContext.setEntityStream(new GrizzlyEntityInputStream(request.getNIOInputStream()));
+            requestContext.headers(new GrizzlyHeadersSource(request.getRequest().getHeaders()));
             requestContext.setWriter(responseWriter);
 
             requestContext.setRequestScopedInitializer(injectionManager -> {
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.servlet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.glassfish.jersey.internal.util.collection.LazyStringKeyIgnoreCaseMultivaluedMap;
+
+/**
+ * Servlet request headers read lazily by the Jersey container request, without being copied. {@code null} header values
+ * are left out.
+ *
+ * @since 2.47
+ */
+final class ServletHeadersSource implements LazyStringKeyIgnoreCaseMultivaluedMap.Source {
+
+    private final HttpServletRequest request;
+
+    /**
+     * Create a new header source.
+     *
+     * @param request servlet request.
+     */
+    ServletHeadersSource(final HttpServletRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public List<String> get(final String name) {
+        final Enumeration<String> values = request.getHeaders(name);
+        if (values == null || !values.hasMoreElements()) {
+            return null;
+        }
+        final List<String> list = new ArrayList<>(1);
+        while (values.hasMoreElements()) {
+            final String value = values.nextElement();
+            if (value != null) { // filter out null values
+                list.add(value);
+            }
+        }
+        return list.isEmpty() ? null : list;
+    }
+
+    @Override
+    public Iterable<String> names() {
+        final Enumeration<String> names = request.getHeaderNames();
+        return names == null ? Collections.<String>emptyList() : Collections.list(names);
+    }
+}
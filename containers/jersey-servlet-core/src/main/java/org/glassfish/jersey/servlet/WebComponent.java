@@ -556,25 +556,15 @@ public class WebComponent {
     }
 
     /**
-     * Copy request headers present in {@code request} into {@code requestContext} ignoring {@code null} values.
+     * Make request headers present in {@code request} available in {@code requestContext} ignoring {@code null} values.
+     * The headers are read from the servlet request lazily, they are copied into the container request only when
+     * modified or iterated.
      *
-     * @param request        http servlet request to copy headers from.
-     * @param requestContext container request to copy headers to.
+     * @param request        http servlet request to read headers from.
+     * @param requestContext container request to add headers to.
      */
-    @SuppressWarnings("unchecked")
     private void addRequestHeaders(final HttpServletRequest request, final ContainerRequest requestContext) {
-        final Enumeration<String> names = request.getHeaderNames();
-        while (names.hasMoreElements()) {
-            final String name = names.nextElement();
-
-            final Enumeration<String> values = request.getHeaders(name);
-            while (values.hasMoreElements()) {
-                final String value = values.nextElement();
-                if (value != null) { // filter out null values
-                    requestContext.header(name, value);
-                }
-            }
-        }
+        requestContext.headers(new ServletHeadersSource(request));
     }
 
     /**
@@ -17,6 +17,7 @@
 package org.glassfish.jersey.netty.httpserver;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -35,29 +36,52 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.concurrent.BlockingOperationException;
+import io.netty.util.concurrent.EventExecutor;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.internal.ContainerUtils;
+import org.glassfish.jersey.server.internal.InternalServerProperties;
 
 /**
  * {@link io.netty.channel.ChannelInboundHandler} which servers as a bridge
  * between Netty and Jersey. Handles additional validation on the payload size
  * that is controlled by a JVM property {@code max.http.request.entitySizeMb}.
+ * <p>
+ * The requests are processed on the container executor service, unless
+ * {@link NettyServerProperties#EVENT_LOOP_EXECUTION} is enabled; the requests
+ * with no or a small entity are then processed on the event loop once the
+ * entity has been received.
  *
  * @author Pavel Bucek (pavel.bucek at oracle.com)
  */
 class JerseyServerHandler extends ChannelInboundHandlerAdapter {
 
     private final URI baseUri;
-    private final NettyInputStream nettyInputStream = new NettyInputStream();
+    private final NettyInputStream nettyInputStream = new NettyInputStream() {
+        @Override
+        protected synchronized ByteBuffer awaitNext() {
+            final EventExecutor executor = eventLoop;
+            if (!entityReceived && executor != null && executor.inEventLoop()) {
+                // waiting for the rest of the entity would block the very thread that is supposed to receive it
+                throw new BlockingOperationException("Request entity has not been received yet.");
+            }
+            return super.awaitNext();
+        }
+    };
     private final NettyHttpContainer container;
     private final ResourceConfig resourceConfig;
 
     private static final long MAX_REQUEST_ENTITY_BYTES = Long.getLong("jersey.max.http.request.entitySizeMb", new Long(50000))
             .longValue() * 1024 * 1024; //50 MB default limit
 
+    private volatile EventExecutor eventLoop;
+    private volatile boolean entityReceived;
+    // request waiting on the event loop for its entity to be received
+    private ContainerRequest pendingRequest;
+
     /**
      * Constructor.
      *
@@ -77,6 +101,8 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
             final HttpRequest req = (HttpRequest) msg;
 
             nettyInputStream.clear(); // clearing the content - possible leftover from previous request processing.
+            entityReceived = false;
+            eventLoop = ctx.executor();
             final ContainerRequest requestContext = createContainerRequest(ctx, req);
 
             requestContext.setWriter(new NettyResponseWriter(ctx, req, container));
@@ -103,18 +129,28 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
                 }
             }
 
-            // copying headers from netty request to jersey container request context.
-            for (String name : req.headers().names()) {
-                requestContext.headers(name, req.headers().getAll(name));
-            }
+            // netty request headers are read by jersey container request context lazily, without copying.
+            requestContext.headers(new NettyHeadersSource(req.headers()));
 
-            // must be like this, since there is a blocking read from Jersey
-            container.getExecutorService().execute(new Runnable() {
-                @Override
-                public void run() {
+            final long eventLoopMaxEntitySize = container.getEventLoopMaxEntitySize();
+            if (eventLoopMaxEntitySize >= 0 && contentLength <= eventLoopMaxEntitySize
+                    && !HttpUtil.isTransferEncodingChunked(req)) {
+                // the entity, if any, is received before the request is processed, so that reading it does not block
+                requestContext.setProperty(InternalServerProperties.NON_BLOCKING_THREAD, Boolean.TRUE);
+                if (contentLength <= 0) {
                     container.getApplicationHandler().handle(requestContext);
+                } else {
+                    pendingRequest = requestContext;
                 }
-            });
+            } else {
+                // must be like this, since there is a blocking read from Jersey
+                container.getExecutorService().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        container.getApplicationHandler().handle(requestContext);
+                    }
+                });
+            }
         }
 
         if (msg instanceof HttpContent) {
@@ -127,6 +163,13 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
 
           if (msg instanceof LastHttpContent) {
               nettyInputStream.complete(null);
+              entityReceived = true;
+
+              final ContainerRequest requestContext = pendingRequest;
+              if (requestContext != null) {
+                  pendingRequest = null;
+                  container.getApplicationHandler().handle(requestContext);
+              }
           }
       }
     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.glassfish.jersey.message.ZeroCopyOutput;
+import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+
+/**
+ * Entity output stream of a Netty HTTP/1.1 response.
+ * <p>
+ * Bytes written to the stream are sent using {@link JerseyChunkedInput}, which is created when the first byte is written.
+ * Until then, file regions and byte buffers are written directly to the channel as {@link DefaultFileRegion} and
+ * wrapped {@link io.netty.buffer.ByteBuf} respectively, so that they are transferred without copying.
+ * </p>
+ * <p>
+ * Bytes written on the event loop are written directly to the channel as well, since {@link JerseyChunkedInput} is
+ * consumed by the event loop and writing to it on the event loop would block once its queue is full.
+ * </p>
+ */
+class NettyEntityOutputStream extends OutputStream implements ZeroCopyOutput {
+
+    private final ChannelHandlerContext ctx;
+    private final boolean chunked;
+
+    private JerseyChunkedInput chunkedInput;
+
+    /**
+     * Create a new entity output stream.
+     *
+     * @param ctx     channel handler context.
+     * @param chunked {@code true} if the response uses chunked transfer encoding.
+     */
+    NettyEntityOutputStream(ChannelHandlerContext ctx, boolean chunked) {
+        this.ctx = ctx;
+        this.chunked = chunked;
+    }
+
+    private JerseyChunkedInput chunkedInput() {
+        if (chunkedInput == null) {
+            chunkedInput = new JerseyChunkedInput(ctx.channel());
+            if (chunked) {
+                ctx.writeAndFlush(new HttpChunkedInput(chunkedInput));
+            } else {
+                ctx.write(new HttpChunkedInput(chunkedInput)).addListener(NettyResponseWriter.FLUSH_FUTURE);
+            }
+        }
+        return chunkedInput;
+    }
+
+    /**
+     * Check whether the data can be written directly to the channel, i.e. no bytes have been written yet
+     * and the channel does not encrypt the data.
+     */
+    private boolean isDirectWritePossible() {
+        return chunkedInput == null && ctx.pipeline().get(SslHandler.class) == null;
+    }
+
+    /**
+     * Check whether the bytes are written on the event loop before the chunked input has been created.
+     */
+    private boolean isEventLoopWrite() {
+        return chunkedInput == null && ctx.executor().inEventLoop();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (isEventLoopWrite()) {
+            ctx.write(new DefaultHttpContent(Unpooled.buffer(1).writeByte(b)));
+        } else {
+            chunkedInput().write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (isEventLoopWrite()) {
+            ctx.write(new DefaultHttpContent(Unpooled.copiedBuffer(b, off, len)));
+        } else {
+            chunkedInput().write(b, off, len);
+        }
+    }
+
+    @Override
+    public boolean writeFile(File file, long position, long count) throws IOException {
+        if (!isDirectWritePossible()) {
+            return false;
+        }
+
+        final DefaultFileRegion region = new DefaultFileRegion(file, position, count);
+        // open the file now so that the region survives the file being deleted before it is transferred
+        region.open();
+        ctx.write(region);
+        return true;
+    }
+
+    @Override
+    public boolean writeBuffer(ByteBuffer buffer) throws IOException {
+        if (!isDirectWritePossible()) {
+            return false;
+        }
+
+        ctx.write(new DefaultHttpContent(Unpooled.wrappedBuffer(buffer)));
+        // the wrapped buffer is a slice, the bytes are consumed from the buffer of the caller explicitly
+        buffer.position(buffer.limit());
+        return true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (chunkedInput != null) {
+            chunkedInput.flush();
+        } else {
+            ctx.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (chunkedInput != null) {
+            chunkedInput.close();
+        } else {
+            ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.util.List;
+
+import org.glassfish.jersey.internal.util.collection.LazyStringKeyIgnoreCaseMultivaluedMap;
+
+import io.netty.handler.codec.http.HttpHeaders;
+
+/**
+ * Netty request headers read lazily by the Jersey container request, without being copied.
+ *
+ * @since 2.47
+ */
+final class NettyHeadersSource implements LazyStringKeyIgnoreCaseMultivaluedMap.Source {
+
+    private final HttpHeaders headers;
+
+    /**
+     * Create a new header source.
+     *
+     * @param headers Netty request headers.
+     */
+    NettyHeadersSource(final HttpHeaders headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public List<String> get(final String name) {
+        final List<String> values = headers.getAll(name);
+        return values.isEmpty() ? null : values;
+    }
+
+    @Override
+    public Iterable<String> names() {
+        return headers.names();
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -23,6 +24,7 @@ import javax.ws.rs.core.Application;
 
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.spi.ExecutorServiceProvider;
 import org.glassfish.jersey.spi.ScheduledExecutorServiceProvider;
@@ -35,9 +37,11 @@ import org.glassfish.jersey.spi.ScheduledExecutorServiceProvider;
 class NettyHttpContainer implements Container {
 
     private volatile ApplicationHandler appHandler;
+    private volatile long eventLoopMaxEntitySize;
 
     public NettyHttpContainer(Application application) {
         this.appHandler = new ApplicationHandler(application);
+        this.eventLoopMaxEntitySize = eventLoopMaxEntitySize(appHandler.getConfiguration().getProperties());
         this.appHandler.onStartup(this);
     }
 
@@ -61,6 +65,7 @@ class NettyHttpContainer implements Container {
         appHandler.onShutdown(this);
 
         appHandler = new ApplicationHandler(configuration);
+        eventLoopMaxEntitySize = eventLoopMaxEntitySize(appHandler.getConfiguration().getProperties());
         appHandler.onReload(this);
         appHandler.onStartup(this);
     }
@@ -82,4 +87,22 @@ class NettyHttpContainer implements Container {
     ScheduledExecutorService getScheduledExecutorService() {
         return appHandler.getInjectionManager().getInstance(ScheduledExecutorServiceProvider.class).getExecutorService();
     }
+
+    /**
+     * Get the maximal size of a request entity of a request processed on the event loop.
+     *
+     * @return maximal entity size in bytes, {@code -1} if the requests are not processed on the event loop.
+     * @see NettyServerProperties#EVENT_LOOP_EXECUTION
+     */
+    long getEventLoopMaxEntitySize() {
+        return eventLoopMaxEntitySize;
+    }
+
+    private static long eventLoopMaxEntitySize(Map<String, Object> properties) {
+        if (!ServerProperties.getValue(properties, NettyServerProperties.EVENT_LOOP_EXECUTION, Boolean.FALSE, Boolean.class)) {
+            return -1L;
+        }
+        return ServerProperties.getValue(properties, NettyServerProperties.EVENT_LOOP_MAX_ENTITY_SIZE,
+                NettyServerProperties.DEFAULT_EVENT_LOOP_MAX_ENTITY_SIZE, Integer.class);
+    }
 }
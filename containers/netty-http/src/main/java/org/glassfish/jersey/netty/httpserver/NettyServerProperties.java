@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the Netty HTTP container.
+ *
+ * @since 2.47
+ */
+@PropertiesClass
+public final class NettyServerProperties {
+
+    /**
+     * <p>
+     *     Process the requests directly on the Netty event loop when {@code true}, instead of dispatching them to the
+     *     container executor service. A request with an entity is processed once the entity has been received entirely,
+     *     provided the entity is not larger than {@link #EVENT_LOOP_MAX_ENTITY_SIZE}, larger or chunked entities are
+     *     processed on the executor service as usual.
+     * </p>
+     * <p>
+     *     The request filters, the matching of the request including the invocation of sub-resource locators, and any
+     *     other request processing preceding the resource method invocation run on the event loop for every such
+     *     request, regardless of the matched resource method. They must therefore never block when this option is
+     *     enabled.
+     * </p>
+     * <p>
+     *     Only the resource methods of resource classes annotated with {@link org.glassfish.jersey.server.NonBlocking}, or
+     *     annotated themselves, are invoked on the event loop. The invocation of any other resource method, together
+     *     with the processing of its response, is dispatched to the managed async executor service, where the method
+     *     may block. Reading the request entity or writing the response entity never blocks the event loop; an attempt
+     *     to wait for the request entity on the event loop fails with
+     *     {@link io.netty.util.concurrent.BlockingOperationException}.
+     * </p>
+     * <p>
+     *     The default value is {@code false}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String EVENT_LOOP_EXECUTION = "jersey.config.server.netty.eventLoopExecution";
+
+    /**
+     * <p>
+     *     The maximal size in bytes of a request entity that is buffered in order to process the request on the event
+     *     loop when {@link #EVENT_LOOP_EXECUTION} is enabled.
+     * </p>
+     * <p>
+     *     The default value is {@value #DEFAULT_EVENT_LOOP_MAX_ENTITY_SIZE}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String EVENT_LOOP_MAX_ENTITY_SIZE = "jersey.config.server.netty.eventLoopMaxEntitySize";
+
+    /**
+     * Default value of {@link #EVENT_LOOP_MAX_ENTITY_SIZE}.
+     */
+    public static final int DEFAULT_EVENT_LOOP_MAX_ENTITY_SIZE = 64 * 1024;
+
+    private NettyServerProperties() {
+        // prevents instantiation
+    }
+}
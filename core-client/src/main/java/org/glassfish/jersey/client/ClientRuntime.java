@@ -67,6 +67,8 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     private final Stage<ClientResponse> responseProcessingRoot;
 
     private final Connector connector;
+    // connector the requests are sent by, the runtime connector unless requests are coalesced
+    private final Connector requestConnector;
     private final ClientConfig config;
 
     private final RequestScope requestScope;
@@ -118,7 +120,6 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
         this.responseProcessingRoot = responseFilteringStage != null ? responseFilteringStage : Stages.identity();
         this.managedObjectsFinalizer = bootstrapBag.getManagedObjectsFinalizer();
         this.config = config;
-        this.connector = connector;
         this.requestScope = bootstrapBag.getRequestScope();
         this.asyncRequestExecutor = Values.lazy((Value<ExecutorService>) () ->
                 config.getExecutorService() == null
@@ -128,6 +129,11 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
                 config.getScheduledExecutorService() == null
                         ? injectionManager.getInstance(ScheduledExecutorService.class, ClientBackgroundSchedulerLiteral.INSTANCE)
                         : config.getScheduledExecutorService());
+        final Object coalescing = config.getProperty(RequestCoalescingFeature.PROPERTY);
+        this.connector = connector;
+        this.requestConnector = coalescing instanceof RequestCoalescingFeature
+                ? new RequestCoalescingConnector(connector, (RequestCoalescingFeature) coalescing, asyncRequestExecutor::get)
+                : connector;
 
         this.injectionManager = injectionManager;
         this.lifecycleListeners = Providers.getAllProviders(injectionManager, ClientLifecycleListener.class);
@@ -182,7 +188,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
                     }
                 };
 
-                connector.apply(processedRequest, connectorCallback);
+                requestConnector.apply(processedRequest, connectorCallback);
             } catch (final Throwable throwable) {
                 processFailure(request, throwable, callback);
             }
@@ -297,7 +303,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
             preInvocationInterceptorStage.beforeRequest(request);
 
             try {
-                response = connector.apply(addUserAgent(Stages.process(request, requestProcessingRoot), connector.getName()));
+                response = requestConnector.apply(addUserAgent(Stages.process(request, requestProcessingRoot), connector.getName()));
             } catch (final AbortException aborted) {
                 response = aborted.getAbortResponse();
             }
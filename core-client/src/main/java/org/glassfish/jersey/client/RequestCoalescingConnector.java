@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
+/**
+ * Connector that shares a single exchange of the delegate connector among identical concurrent requests.
+ * <p>
+ * Installed by the {@link ClientRuntime client runtime} when {@link RequestCoalescingFeature} is registered. The first
+ * of identical requests becomes the leader of the exchange and is sent by the delegate connector, the requests
+ * arriving while the leader is in flight wait for its response. If there are such waiting requests when the response
+ * arrives, its entity is read into memory once and each request gets a new {@link ClientResponse} with its own copy
+ * of the headers and its own entity stream. The leader gets the original response otherwise. Responses of unknown
+ * length, chunked responses and responses longer than {@link RequestCoalescingFeature#getMaxEntitySize()} are not
+ * shared, the waiting requests are sent by the delegate connector then.
+ * </p>
+ *
+ * @since 2.47
+ */
+final class RequestCoalescingConnector implements Connector {
+
+    private final Connector delegate;
+    private final RequestCoalescingFeature feature;
+    private final Supplier<? extends Executor> executor;
+    private final ConcurrentHashMap<List<Object>, Pending> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new coalescing connector.
+     *
+     * @param delegate delegate connector sending the requests.
+     * @param feature  feature counting the exchanges and the coalesced requests.
+     * @param executor executor reading the entities of asynchronous responses.
+     */
+    RequestCoalescingConnector(final Connector delegate,
+                               final RequestCoalescingFeature feature,
+                               final Supplier<? extends Executor> executor) {
+        this.delegate = delegate;
+        this.feature = feature;
+        this.executor = executor;
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final List<Object> key = key(request);
+        if (key == null) {
+            return delegate.apply(request);
+        }
+        final Pending pending = new Pending();
+        final Pending leader = join(key, pending);
+        if (leader != pending) {
+            final Exchange exchange = await(leader.exchange);
+            if (exchange == null) {
+                // the response of the leader is not shared
+                feature.notCoalesced();
+                return delegate.apply(request);
+            }
+            return exchange.toResponse(request);
+        }
+
+        feature.exchange();
+        final ClientResponse response;
+        try {
+            response = delegate.apply(request);
+        } catch (final RuntimeException | Error e) {
+            inFlight.remove(key, pending);
+            pending.exchange.completeExceptionally(e);
+            throw e;
+        }
+        if (!share(key, pending, response, request)) {
+            return response;
+        }
+        final Exchange result;
+        try {
+            result = Exchange.of(response);
+        } catch (final RuntimeException | Error e) {
+            pending.exchange.completeExceptionally(e);
+            throw e;
+        }
+        pending.exchange.complete(result);
+        return result.toResponse(request);
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        final List<Object> key = key(request);
+        if (key == null) {
+            return delegate.apply(request, callback);
+        }
+        final Pending pending = new Pending();
+        final Pending leader = join(key, pending);
+        if (leader != pending) {
+            // a dependent future is returned, so that cancelling it does not affect the leader
+            return leader.exchange.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    callback.failure(failure);
+                } else if (result == null) {
+                    // the response of the leader is not shared
+                    feature.notCoalesced();
+                    delegate.apply(request, callback);
+                } else {
+                    callback.response(result.toResponse(request));
+                }
+            });
+        }
+
+        feature.exchange();
+        try {
+            return delegate.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    if (!share(key, pending, response, request)) {
+                        callback.response(response);
+                        return;
+                    }
+                    // the entity may be fed by the thread calling the callback, it must be read elsewhere
+                    executor.get().execute(() -> {
+                        final Exchange result;
+                        try {
+                            result = Exchange.of(response);
+                        } catch (final Throwable t) {
+                            pending.exchange.completeExceptionally(t);
+                            callback.failure(t);
+                            return;
+                        }
+                        pending.exchange.complete(result);
+                        callback.response(result.toResponse(request));
+                    });
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    inFlight.remove(key, pending);
+                    pending.exchange.completeExceptionally(failure);
+                    callback.failure(failure);
+                }
+            });
+        } catch (final RuntimeException | Error e) {
+            inFlight.remove(key, pending);
+            pending.exchange.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * Start a new exchange or join the in-flight one.
+     *
+     * @param key     key of the request.
+     * @param pending new exchange.
+     * @return the given exchange if the request leads it, the in-flight exchange otherwise.
+     */
+    private Pending join(final List<Object> key, final Pending pending) {
+        final Pending leader = inFlight.compute(key, (k, current) -> {
+            if (current == null) {
+                return pending;
+            }
+            // counted while the exchange is still in flight, see share()
+            current.followers.incrementAndGet();
+            return current;
+        });
+        if (leader != pending) {
+            feature.coalesced();
+        }
+        return leader;
+    }
+
+    /**
+     * Decide whether the response of the leader is shared with the requests that joined the exchange.
+     *
+     * @return {@code true} if the response should be read into memory and shared, {@code false} if the leader keeps
+     * the response and the joined requests, if any, are sent by the delegate connector.
+     */
+    private boolean share(final List<Object> key,
+                          final Pending pending,
+                          final ClientResponse response,
+                          final ClientRequest request) {
+        // requests arriving from now on start a new exchange, the number of the followers does not change anymore
+        inFlight.remove(key, pending);
+        if (pending.followers.get() > 0 && isShareable(response, request)) {
+            return true;
+        }
+        pending.exchange.complete(null);
+        return false;
+    }
+
+    private boolean isShareable(final ClientResponse response, final ClientRequest request) {
+        final int status = response.getStatus();
+        if (HttpMethod.HEAD.equals(request.getMethod()) || status == 204 || status == 304) {
+            return true;
+        }
+        final String transferEncoding = response.getHeaderString(HttpHeaders.TRANSFER_ENCODING);
+        if (transferEncoding != null && transferEncoding.toLowerCase(Locale.ROOT).contains("chunked")) {
+            return false;
+        }
+        // the length is known before reading the entity, a stream of unknown length may never end
+        final int length = response.getLength();
+        return length >= 0 && length <= feature.getMaxEntitySize();
+    }
+
+    private static Exchange await(final CompletableFuture<Exchange> leader) {
+        try {
+            return leader.get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw new ProcessingException(cause.getMessage(), cause);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        }
+    }
+
+    /**
+     * Get the key identifying identical requests.
+     * <p>
+     * Requests are identical when their method, URI, headers and request properties are equal. The properties may change
+     * the exchange, e.g. the credentials used by a connector. The property values that are not strings, numbers,
+     * booleans, characters, enums or arrays are compared by identity.
+     * </p>
+     *
+     * @param request client request.
+     * @return the key or {@code null} if the request must not be coalesced.
+     */
+    private static List<Object> key(final ClientRequest request) {
+        final String method = request.getMethod();
+        if ((!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) || request.hasEntity()) {
+            return null;
+        }
+        final String accept = request.getHeaderString(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(MediaType.SERVER_SENT_EVENTS)) {
+            return null;
+        }
+        // any header, e.g. Authorization, may make the response different, only requests with equal headers are identical
+        final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.getStringHeaders());
+
+        final Map<String, Object> properties = new TreeMap<>();
+        for (final String name : request.getPropertyNames()) {
+            properties.put(name, propertyKey(request.getProperty(name)));
+        }
+        return Arrays.asList(method + ' ' + request.getUri() + ' ' + headers, properties);
+    }
+
+    private static Object propertyKey(final Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            return value;
+        }
+        if (value instanceof byte[]) {
+            return ByteArrayKey.of((byte[]) value);
+        }
+        if (value instanceof char[]) {
+            return new String((char[]) value);
+        }
+        if (value instanceof Object[]) {
+            final List<Object> elements = new ArrayList<>();
+            for (final Object element : (Object[]) value) {
+                elements.add(propertyKey(element));
+            }
+            return elements;
+        }
+        return new IdentityKey(value);
+    }
+
+    /**
+     * Key of a byte array property, compares the content of the array.
+     */
+    private static final class ByteArrayKey {
+
+        private final byte[] bytes;
+
+        private ByteArrayKey(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private static ByteArrayKey of(final byte[] bytes) {
+            return new ByteArrayKey(bytes.clone());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof ByteArrayKey && Arrays.equals(bytes, ((ByteArrayKey) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bytes);
+        }
+    }
+
+    /**
+     * Key of a property compared by identity.
+     */
+    private static final class IdentityKey {
+
+        private final Object value;
+
+        private IdentityKey(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof IdentityKey && value == ((IdentityKey) o).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+
+    /**
+     * In-flight exchange.
+     */
+    private static final class Pending {
+
+        // completed with null if the response is not shared
+        private final CompletableFuture<Exchange> exchange = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+
+    /**
+     * Response of a shared exchange with the entity read into memory.
+     */
+    private static final class Exchange {
+
+        private final Response.StatusType status;
+        private final URI resolvedUri;
+        private final Map<String, List<String>> headers;
+        private final byte[] entity;
+
+        private Exchange(final Response.StatusType status,
+                         final URI resolvedUri,
+                         final Map<String, List<String>> headers,
+                         final byte[] entity) {
+            this.status = status;
+            this.resolvedUri = resolvedUri;
+            this.headers = headers;
+            this.entity = entity;
+        }
+
+        private static Exchange of(final ClientResponse response) {
+            try {
+                byte[] entity = null;
+                if (response.hasEntity()) {
+                    final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(response.getLength(), 32));
+                    ReaderWriter.writeTo(response.getEntityStream(), out);
+                    entity = out.toByteArray();
+                }
+                return new Exchange(response.getStatusInfo(), response.getResolvedRequestUri(),
+                        new LinkedHashMap<>(response.getHeaders()), entity);
+            } catch (final IOException e) {
+                throw new ProcessingException(e);
+            } finally {
+                response.close();
+            }
+        }
+
+        private ClientResponse toResponse(final ClientRequest request) {
+            final ClientResponse response = new ClientResponse(status, request, resolvedUri);
+            response.headers(headers);
+            if (entity != null) {
+                response.setEntityStream(new ByteArrayInputStream(entity));
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+/**
+ * Feature that coalesces identical concurrent requests of a client into a single connector exchange.
+ * <p>
+ * When a {@code GET} request is sent while another request with the same URI and the same headers is still in flight,
+ * the request does not reach the connector. Instead, it waits for the response of the in-flight request, whose entity
+ * is buffered once and handed to each of the waiting requests as its own {@link ClientResponse}. This protects servers
+ * from bursts of identical requests, e.g. when many threads find an expired cached value at the same time. Requests
+ * are identical when their headers, including {@code Authorization}, and their request properties are equal. Requests
+ * with an entity and requests for event streams ({@code Accept: text/event-stream}) are never coalesced.
+ * </p>
+ * <p>
+ * The entity is buffered only if there are requests waiting for the response. Responses without {@code Content-Length},
+ * chunked responses and responses longer than {@link #getMaxEntitySize()} are never buffered, the waiting requests
+ * are sent by the connector on their own then. The feature works for synchronous and asynchronous invocations, the number
+ * of exchanges and coalesced requests is available from {@link #getExchangeCount()} and {@link #getCoalescedCount()}.
+ * Example:
+ * <pre>
+ * RequestCoalescingFeature coalescing = new RequestCoalescingFeature();
+ * Client client = ClientBuilder.newClient().register(coalescing);
+ * </pre>
+ * </p>
+ *
+ * @since 2.47
+ */
+public class RequestCoalescingFeature implements Feature {
+
+    /**
+     * Name of the configuration property the feature is registered to the client runtime with.
+     */
+    static final String PROPERTY = RequestCoalescingFeature.class.getName();
+
+    /**
+     * Default maximum length of a shared entity in bytes.
+     */
+    public static final int DEFAULT_MAX_ENTITY_SIZE = 1024 * 1024;
+
+    private final int maxEntitySize;
+    private final LongAdder exchanges = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Create a new feature sharing entities up to {@value #DEFAULT_MAX_ENTITY_SIZE} bytes.
+     */
+    public RequestCoalescingFeature() {
+        this(DEFAULT_MAX_ENTITY_SIZE);
+    }
+
+    /**
+     * Create a new feature sharing entities up to the given length.
+     *
+     * @param maxEntitySize maximum length of a shared entity in bytes.
+     * @throws IllegalArgumentException if the length is negative.
+     */
+    public RequestCoalescingFeature(final int maxEntitySize) {
+        if (maxEntitySize < 0) {
+            throw new IllegalArgumentException("maxEntitySize: " + maxEntitySize);
+        }
+        this.maxEntitySize = maxEntitySize;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        // the client runtime wraps its connector when it finds the feature in the configuration
+        context.property(PROPERTY, this);
+        return true;
+    }
+
+    /**
+     * Get the number of coalescable requests that have been sent by the connector.
+     *
+     * @return number of connector exchanges.
+     */
+    public long getExchangeCount() {
+        return exchanges.sum();
+    }
+
+    /**
+     * Get the number of requests that have been answered with the response of an identical in-flight request
+     * instead of being sent by the connector.
+     *
+     * @return number of coalesced requests.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Get the maximum length of an entity buffered for the coalesced requests.
+     *
+     * @return maximum length of a shared entity in bytes.
+     */
+    public int getMaxEntitySize() {
+        return maxEntitySize;
+    }
+
+    void exchange() {
+        exchanges.increment();
+    }
+
+    void coalesced() {
+        coalesced.increment();
+    }
+
+    void notCoalesced() {
+        // the request joined an exchange whose response could not be shared, it has been sent on its own
+        coalesced.decrement();
+        exchanges.increment();
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.glassfish.jersey.message.internal.HttpDateFormat;
+
+/**
+ * Response stored in a {@link HttpCacheStorage}.
+ * <p>
+ * An entry is immutable. Besides the status, headers and entity bytes of the response it keeps the values of the request
+ * headers the response varies on and the times the request was sent and the response was received, so that the age
+ * of the entry can be calculated as described in RFC 7234, section 4.2.3.
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class HttpCacheEntry {
+
+    private static final String AGE = "Age";
+
+    private final int status;
+    private final String reasonPhrase;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final Map<String, List<String>> varyingRequestHeaders;
+    private final long requestTime;
+    private final long responseTime;
+
+    // parsed lazily, the entry is immutable so a race just parses the header twice
+    private Map<String, String> cacheControl;
+
+    /**
+     * Create a new cache entry.
+     *
+     * @param status                status code of the response.
+     * @param reasonPhrase          reason phrase of the response, may be {@code null}.
+     * @param headers               headers of the response.
+     * @param body                  entity bytes of the response, the array is not copied and must not be modified.
+     * @param varyingRequestHeaders values of the request headers named by the {@code Vary} header of the response.
+     * @param requestTime           time in milliseconds when the request was sent.
+     * @param responseTime          time in milliseconds when the response was received.
+     */
+    public HttpCacheEntry(final int status,
+                          final String reasonPhrase,
+                          final Map<String, List<String>> headers,
+                          final byte[] body,
+                          final Map<String, List<String>> varyingRequestHeaders,
+                          final long requestTime,
+                          final long responseTime) {
+        this.status = status;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = copyOf(headers);
+        this.body = body;
+        this.varyingRequestHeaders = copyOf(varyingRequestHeaders);
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+    }
+
+    private static Map<String, List<String>> copyOf(final Map<String, List<String>> map) {
+        final Map<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final Map.Entry<String, List<String>> e : map.entrySet()) {
+            copy.put(e.getKey(), Collections.unmodifiableList(new ArrayList<>(e.getValue())));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Get the status code of the response.
+     *
+     * @return status code.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the reason phrase of the response.
+     *
+     * @return reason phrase or {@code null} if the response has not had one.
+     */
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    /**
+     * Get the headers of the response.
+     *
+     * @return unmodifiable map of the headers with case-insensitive keys.
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the entity bytes of the response. The returned array must not be modified.
+     *
+     * @return entity bytes, an empty array if the response has had no entity.
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Get the values of the request headers named by the {@code Vary} header of the response. A request header missing
+     * in the request is mapped to an empty list.
+     *
+     * @return unmodifiable map of the request headers with case-insensitive keys.
+     */
+    public Map<String, List<String>> getVaryingRequestHeaders() {
+        return varyingRequestHeaders;
+    }
+
+    /**
+     * Get the time when the request was sent.
+     *
+     * @return time in milliseconds since the epoch.
+     */
+    public long getRequestTime() {
+        return requestTime;
+    }
+
+    /**
+     * Get the time when the response was received.
+     *
+     * @return time in milliseconds since the epoch.
+     */
+    public long getResponseTime() {
+        return responseTime;
+    }
+
+    /**
+     * Get the first value of the response header.
+     *
+     * @param name header name.
+     * @return the first header value or {@code null} if the header is missing.
+     */
+    String getHeader(final String name) {
+        final List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Get the {@code Cache-Control} directives of the response.
+     *
+     * @return map of the lower-cased directive names to their values, {@code null} for a directive without a value.
+     */
+    Map<String, String> getCacheControl() {
+        if (cacheControl == null) {
+            cacheControl = parseCacheControl(headers.get(HttpHeaders.CACHE_CONTROL));
+        }
+        return cacheControl;
+    }
+
+    /**
+     * Check that the values of the varying request headers of this entry are equal to those of the given request.
+     *
+     * @param requestHeaders headers of the request.
+     * @return {@code true} if this entry may be used to satisfy the request.
+     */
+    boolean matches(final Map<String, List<String>> requestHeaders) {
+        for (final Map.Entry<String, List<String>> e : varyingRequestHeaders.entrySet()) {
+            final List<String> values = requestHeaders.get(e.getKey());
+            if (!e.getValue().equals(values == null ? Collections.<String>emptyList() : values)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the current age of the entry as defined by RFC 7234, section 4.2.3.
+     *
+     * @param now current time in milliseconds.
+     * @return age of the entry in milliseconds.
+     */
+    long currentAge(final long now) {
+        final long date = dateHeader(HttpHeaders.DATE, responseTime);
+        final long apparentAge = Math.max(0, responseTime - date);
+        final long correctedAgeValue = deltaSeconds(getHeader(AGE), 0) * 1000 + (responseTime - requestTime);
+        final long correctedInitialAge = Math.max(apparentAge, correctedAgeValue);
+        return correctedInitialAge + Math.max(0, now - responseTime);
+    }
+
+    /**
+     * Get the freshness lifetime of the entry as defined by RFC 7234, section 4.2.1. When the response does not specify
+     * an explicit lifetime, ten percent of the time since the last modification is used as the heuristic lifetime.
+     *
+     * @return freshness lifetime in milliseconds.
+     */
+    long freshnessLifetime() {
+        final long maxAge = deltaSeconds(getCacheControl().get("max-age"), -1);
+        if (maxAge >= 0) {
+            return maxAge * 1000;
+        }
+        final long date = dateHeader(HttpHeaders.DATE, responseTime);
+        final String expires = getHeader(HttpHeaders.EXPIRES);
+        if (expires != null) {
+            // an invalid date, e.g. "0", means already expired
+            return Math.max(0, dateHeader(HttpHeaders.EXPIRES, date) - date);
+        }
+        final long lastModified = dateHeader(HttpHeaders.LAST_MODIFIED, date);
+        return Math.max(0, (date - lastModified) / 10);
+    }
+
+    /**
+     * Check whether a conditional request can be made to revalidate the entry.
+     *
+     * @return {@code true} if the response has had an entity tag or a last modification date.
+     */
+    boolean hasValidators() {
+        return getHeader(HttpHeaders.ETAG) != null || getHeader(HttpHeaders.LAST_MODIFIED) != null;
+    }
+
+    /**
+     * Create a new entry with the headers updated by a {@code 304 Not Modified} response, as defined by RFC 7234,
+     * section 4.3.4.
+     *
+     * @param notModifiedHeaders headers of the {@code 304} response.
+     * @param newRequestTime     time in milliseconds when the conditional request was sent.
+     * @param newResponseTime    time in milliseconds when the {@code 304} response was received.
+     * @return updated entry.
+     */
+    HttpCacheEntry update(final Map<String, List<String>> notModifiedHeaders,
+                          final long newRequestTime,
+                          final long newResponseTime) {
+        final Map<String, List<String>> updated = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        updated.putAll(headers);
+        for (final Map.Entry<String, List<String>> e : notModifiedHeaders.entrySet()) {
+            // the length and the encoding describe the entity which a 304 response does not have
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(e.getKey())
+                    && !HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(e.getKey())
+                    && !"Transfer-Encoding".equalsIgnoreCase(e.getKey())) {
+                updated.put(e.getKey(), e.getValue());
+            }
+        }
+        return new HttpCacheEntry(status, reasonPhrase, updated, body, varyingRequestHeaders, newRequestTime, newResponseTime);
+    }
+
+    private long dateHeader(final String name, final long defaultValue) {
+        final String value = getHeader(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return HttpDateFormat.readDate(value).getTime();
+        } catch (final ParseException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Parse the value of a header or directive in delta-seconds.
+     *
+     * @param value        header or directive value.
+     * @param defaultValue value returned when the value is missing or invalid.
+     * @return number of seconds.
+     */
+    static long deltaSeconds(final String value, final long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Parse {@code Cache-Control} header values.
+     *
+     * @param values header values, may be {@code null}.
+     * @return map of the lower-cased directive names to their values, {@code null} for a directive without a value.
+     */
+    static Map<String, String> parseCacheControl(final List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> directives = new HashMap<>();
+        for (final String value : values) {
+            for (final String directive : value.split(",")) {
+                final int eq = directive.indexOf('=');
+                final String name = (eq < 0 ? directive : directive.substring(0, eq)).trim().toLowerCase(Locale.ROOT);
+                if (name.isEmpty()) {
+                    continue;
+                }
+                String argument = eq < 0 ? null : directive.substring(eq + 1).trim();
+                if (argument != null && argument.length() > 1 && argument.startsWith("\"") && argument.endsWith("\"")) {
+                    argument = argument.substring(1, argument.length() - 1);
+                }
+                directives.put(name, argument);
+            }
+        }
+        return directives;
+    }
+}
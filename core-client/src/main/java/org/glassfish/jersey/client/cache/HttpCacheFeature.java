@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.time.Clock;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+/**
+ * Feature enabling a private HTTP response cache on the client, as specified by RFC 7234.
+ * <p>
+ * Responses to {@code GET} requests are stored according to their {@code Cache-Control}, {@code Expires} and
+ * {@code Vary} headers. A request for which a fresh response is cached is answered without contacting the server.
+ * When the cached response is stale and has an entity tag or a last modification date, the request is sent with
+ * the {@code If-None-Match} or {@code If-Modified-Since} header and a {@code 304 Not Modified} answer is replaced with
+ * the cached response. Unsafe requests, e.g. {@code POST} or {@code DELETE}, invalidate the cached response of their
+ * request URI. The request {@code Cache-Control} directives {@code no-cache}, {@code no-store}, {@code max-age},
+ * {@code min-fresh}, {@code max-stale} and {@code only-if-cached} are supported as well. Since the cached responses
+ * are keyed by the request URI and may be shared by all the users of a client, the response to a request with
+ * an {@code Authorization} header is stored and reused only if it allows so by the {@code public},
+ * {@code must-revalidate} or {@code s-maxage} directive, as for a shared cache (RFC 7234, section 3.2).
+ * </p>
+ * <p>
+ * The cache is implemented by client filters and thus works for synchronous, asynchronous and reactive invocations,
+ * e.g. with {@link javax.ws.rs.client.CompletionStageRxInvoker}, alike. Example:
+ * <pre>
+ * HttpCacheFeature cache = HttpCacheFeature.builder().maxEntries(500).maxEntrySize(64 * 1024).build();
+ * Client client = ClientBuilder.newClient().register(cache);
+ * ...
+ * long hits = cache.getStatistics().getHitCount();
+ * </pre>
+ * </p>
+ * <p>
+ * The responses are cached in an {@link InMemoryHttpCacheStorage} unless a different {@link HttpCacheStorage} is set
+ * on the {@link Builder builder}. A feature instance shares its storage and statistics among all the clients it is
+ * registered to.
+ * </p>
+ *
+ * @since 2.47
+ */
+public class HttpCacheFeature implements Feature {
+
+    /**
+     * Default maximal number of cached responses.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * Default maximal total size of the cached entities in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Default maximal size of a single cached entity in bytes.
+     */
+    public static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+    private final HttpCacheStorage storage;
+    private final int maxEntrySize;
+    private final HttpCacheStatistics statistics = new HttpCacheStatistics();
+    private final Clock clock;
+
+    /**
+     * Create a new feature caching the responses in memory with the default limits.
+     */
+    public HttpCacheFeature() {
+        this(new InMemoryHttpCacheStorage(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_SIZE), DEFAULT_MAX_ENTRY_SIZE, Clock.systemUTC());
+    }
+
+    /**
+     * Create a new feature.
+     *
+     * @param storage      storage of the cached responses.
+     * @param maxEntrySize maximal size of a cached entity in bytes.
+     * @param clock        clock used to calculate the age of the cached responses.
+     */
+    HttpCacheFeature(final HttpCacheStorage storage, final int maxEntrySize, final Clock clock) {
+        this.storage = storage;
+        this.maxEntrySize = maxEntrySize;
+        this.clock = clock;
+    }
+
+    /**
+     * Get a builder of the feature.
+     *
+     * @return new feature builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the storage of the cached responses.
+     *
+     * @return cache storage.
+     */
+    public HttpCacheStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Get the statistics of the cache.
+     *
+     * @return live cache statistics.
+     */
+    public HttpCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        context.register(new HttpCacheFilter(storage, maxEntrySize, statistics, clock));
+        return true;
+    }
+
+    /**
+     * Builder of {@link HttpCacheFeature}.
+     */
+    public static final class Builder {
+
+        private HttpCacheStorage storage;
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private long maxSize = DEFAULT_MAX_SIZE;
+        private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximal number of responses kept by the default in-memory storage.
+         *
+         * @param maxEntries maximal number of cached responses.
+         * @return updated builder.
+         */
+        public Builder maxEntries(final int maxEntries) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("maxEntries: " + maxEntries);
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Set the maximal total size of the entities kept by the default in-memory storage.
+         *
+         * @param maxSize maximal total size of the cached entities in bytes.
+         * @return updated builder.
+         */
+        public Builder maxSize(final long maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Set the maximal size of a cached entity. Larger responses are passed to the application without being
+         * buffered or cached.
+         *
+         * @param maxEntrySize maximal size of a cached entity in bytes.
+         * @return updated builder.
+         */
+        public Builder maxEntrySize(final int maxEntrySize) {
+            if (maxEntrySize < 0) {
+                throw new IllegalArgumentException("maxEntrySize: " + maxEntrySize);
+            }
+            this.maxEntrySize = maxEntrySize;
+            return this;
+        }
+
+        /**
+         * Set a custom storage of the cached responses. The {@link #maxEntries(int)} and {@link #maxSize(long)}
+         * limits do not apply to a custom storage.
+         *
+         * @param storage cache storage.
+         * @return updated builder.
+         */
+        public Builder storage(final HttpCacheStorage storage) {
+            if (storage == null) {
+                throw new NullPointerException("storage");
+            }
+            this.storage = storage;
+            return this;
+        }
+
+        /**
+         * Build the feature.
+         *
+         * @return new cache feature.
+         */
+        public HttpCacheFeature build() {
+            final HttpCacheStorage cacheStorage = storage != null ? storage : new InMemoryHttpCacheStorage(maxEntries, maxSize);
+            return new HttpCacheFeature(cacheStorage, maxEntrySize, Clock.systemUTC());
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * Client filter implementing the private HTTP response cache of {@link HttpCacheFeature}.
+ * <p>
+ * The request part of the filter answers a {@code GET} request with a fresh cached response by aborting the request,
+ * or turns the request into a conditional one when the cached response is stale. The response part stores cacheable
+ * responses, replaces a {@code 304 Not Modified} response with the validated cached response and invalidates the cached
+ * response of a resource modified by an unsafe request. Since both parts run on the common client request processing
+ * path, the cache works the same for synchronous, asynchronous and reactive invocations.
+ * </p>
+ *
+ * @since 2.47
+ */
+final class HttpCacheFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final String LOOKUP_PROPERTY = HttpCacheFilter.class.getName() + ".lookup";
+    private static final String INVALIDATE_PROPERTY = HttpCacheFilter.class.getName() + ".invalidate";
+
+    private static final int GATEWAY_TIMEOUT = 504;
+    private static final int NOT_MODIFIED = 304;
+
+    private final HttpCacheStorage storage;
+    private final int maxEntrySize;
+    private final HttpCacheStatistics statistics;
+    private final Clock clock;
+
+    /**
+     * Create a new cache filter.
+     *
+     * @param storage      storage of the cached responses.
+     * @param maxEntrySize maximal size of a cached entity in bytes.
+     * @param statistics   statistics to be updated by the filter.
+     * @param clock        clock used to calculate the age of the cached responses.
+     */
+    HttpCacheFilter(final HttpCacheStorage storage,
+                    final int maxEntrySize,
+                    final HttpCacheStatistics statistics,
+                    final Clock clock) {
+        this.storage = storage;
+        this.maxEntrySize = maxEntrySize;
+        this.statistics = statistics;
+        this.clock = clock;
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request) throws IOException {
+        final String method = request.getMethod();
+        if (!HttpMethod.GET.equals(method)) {
+            if (!HttpMethod.HEAD.equals(method) && !HttpMethod.OPTIONS.equals(method) && !"TRACE".equals(method)) {
+                request.setProperty(INVALIDATE_PROPERTY, key(request));
+            }
+            return;
+        }
+
+        final Map<String, List<String>> requestHeaders = request.getStringHeaders();
+        final Map<String, String> directives = requestDirectives(requestHeaders);
+        if (directives.containsKey("no-store")
+                || requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH)
+                || requestHeaders.containsKey(HttpHeaders.IF_MODIFIED_SINCE)) {
+            // the response must not be stored, or the application validates a response it has cached on its own
+            return;
+        }
+
+        final String key = key(request);
+        final long now = clock.millis();
+        HttpCacheEntry entry = storage.get(key);
+        if (entry != null && (!entry.matches(requestHeaders)
+                || isAuthorized(requestHeaders) && !isReusableWithAuthorization(entry.getCacheControl()))) {
+            entry = null;
+        }
+
+        if (entry != null && isFresh(entry, directives, now)) {
+            statistics.hit();
+            request.setProperty(LOOKUP_PROPERTY, Lookup.ANSWERED);
+            request.abortWith(toResponse(entry, now));
+            return;
+        }
+
+        if (directives.containsKey("only-if-cached")) {
+            statistics.miss();
+            request.setProperty(LOOKUP_PROPERTY, Lookup.ANSWERED);
+            request.abortWith(Response.status(GATEWAY_TIMEOUT).build());
+            return;
+        }
+
+        if (entry != null && entry.hasValidators()) {
+            statistics.revalidation();
+            final String etag = entry.getHeader(HttpHeaders.ETAG);
+            if (etag != null) {
+                request.getHeaders().putSingle(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            final String lastModified = entry.getHeader(HttpHeaders.LAST_MODIFIED);
+            if (lastModified != null) {
+                request.getHeaders().putSingle(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+            request.setProperty(LOOKUP_PROPERTY, new Lookup(key, entry, now));
+        } else {
+            statistics.miss();
+            request.setProperty(LOOKUP_PROPERTY, new Lookup(key, null, now));
+        }
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request, final ClientResponseContext response) throws IOException {
+        final Object invalidated = request.getProperty(INVALIDATE_PROPERTY);
+        if (invalidated != null) {
+            if (response.getStatus() < 400) {
+                storage.remove((String) invalidated);
+            }
+            return;
+        }
+
+        final Lookup lookup = (Lookup) request.getProperty(LOOKUP_PROPERTY);
+        if (lookup == null || lookup == Lookup.ANSWERED) {
+            return;
+        }
+        request.removeProperty(LOOKUP_PROPERTY);
+        final long now = clock.millis();
+
+        if (lookup.entry != null && response.getStatus() == NOT_MODIFIED) {
+            statistics.notModified();
+            final HttpCacheEntry entry = lookup.entry.update(response.getHeaders(), lookup.requestTime, now);
+            if (isStorable(entry.getCacheControl(), request.getStringHeaders())) {
+                storage.put(lookup.key, entry);
+            } else {
+                storage.remove(lookup.key);
+            }
+            response.setStatusInfo(Statuses.from(entry.getStatus(), entry.getReasonPhrase()));
+            response.getHeaders().clear();
+            for (final Map.Entry<String, List<String>> header : entry.getHeaders().entrySet()) {
+                response.getHeaders().put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+            response.setEntityStream(new ByteArrayInputStream(entry.getBody()));
+            return;
+        }
+
+        if (!isCacheableStatus(response.getStatus())) {
+            if (lookup.entry != null) {
+                storage.remove(lookup.key);
+            }
+            return;
+        }
+
+        final Map<String, String> directives =
+                HttpCacheEntry.parseCacheControl(response.getHeaders().get(HttpHeaders.CACHE_CONTROL));
+        final Map<String, List<String>> varying = varyingRequestHeaders(request, response);
+        if (varying == null || !isStorable(directives, request.getStringHeaders())) {
+            storage.remove(lookup.key);
+            return;
+        }
+
+        final byte[] body = readBody(response);
+        if (body == null) {
+            storage.remove(lookup.key);
+            return;
+        }
+        final HttpCacheEntry entry = new HttpCacheEntry(response.getStatus(), response.getStatusInfo().getReasonPhrase(),
+                response.getHeaders(), body, varying, lookup.requestTime, now);
+        if (entry.freshnessLifetime() > 0 || entry.hasValidators()) {
+            storage.put(lookup.key, entry);
+        } else {
+            storage.remove(lookup.key);
+        }
+    }
+
+    private static String key(final ClientRequestContext request) {
+        return request.getUri().toString();
+    }
+
+    private static Map<String, String> requestDirectives(final Map<String, List<String>> requestHeaders) {
+        final List<String> cacheControl = requestHeaders.get(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl == null) {
+            final List<String> pragma = requestHeaders.get("Pragma");
+            if (pragma != null && pragma.contains("no-cache")) {
+                return Collections.singletonMap("no-cache", null);
+            }
+        }
+        return HttpCacheEntry.parseCacheControl(cacheControl);
+    }
+
+    private static boolean isFresh(final HttpCacheEntry entry, final Map<String, String> requestDirectives, final long now) {
+        final Map<String, String> responseDirectives = entry.getCacheControl();
+        if (requestDirectives.containsKey("no-cache") || responseDirectives.containsKey("no-cache")) {
+            return false;
+        }
+        final long age = entry.currentAge(now);
+        final long maxAge = HttpCacheEntry.deltaSeconds(requestDirectives.get("max-age"), Long.MAX_VALUE / 1000);
+        if (age > maxAge * 1000) {
+            return false;
+        }
+        final long lifetime = entry.freshnessLifetime();
+        final long minFresh = HttpCacheEntry.deltaSeconds(requestDirectives.get("min-fresh"), 0) * 1000;
+        if (age + minFresh < lifetime) {
+            return true;
+        }
+        if (requestDirectives.containsKey("max-stale")
+                && !responseDirectives.containsKey("must-revalidate")
+                && !responseDirectives.containsKey("proxy-revalidate")) {
+            // max-stale without a value accepts a response of any staleness
+            final long maxStale = HttpCacheEntry.deltaSeconds(requestDirectives.get("max-stale"), Long.MAX_VALUE / 1000);
+            return age - lifetime <= maxStale * 1000;
+        }
+        return false;
+    }
+
+    private static boolean isStorable(final Map<String, String> responseDirectives,
+                                      final Map<String, List<String>> requestHeaders) {
+        return !responseDirectives.containsKey("no-store")
+                && !requestDirectives(requestHeaders).containsKey("no-store")
+                && (!isAuthorized(requestHeaders) || isReusableWithAuthorization(responseDirectives));
+    }
+
+    private static boolean isAuthorized(final Map<String, List<String>> requestHeaders) {
+        return requestHeaders.containsKey(HttpHeaders.AUTHORIZATION);
+    }
+
+    /**
+     * Check whether a response may be stored for, and reused to answer, a request with an {@code Authorization} header.
+     * The cache is keyed by the URI only and may serve other users, it behaves as a shared cache, RFC 7234, section 3.2.
+     */
+    private static boolean isReusableWithAuthorization(final Map<String, String> responseDirectives) {
+        return responseDirectives.containsKey("public")
+                || responseDirectives.containsKey("must-revalidate")
+                || responseDirectives.containsKey("s-maxage");
+    }
+
+    private static boolean isCacheableStatus(final int status) {
+        // the status codes defined as cacheable by default, RFC 7231, section 6.1
+        switch (status) {
+            case 200:
+            case 203:
+            case 204:
+            case 300:
+            case 301:
+            case 404:
+            case 405:
+            case 410:
+            case 414:
+            case 501:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Collect the values of the request headers named by the {@code Vary} header of the response.
+     *
+     * @return the varying request headers or {@code null} if the response varies on anything ({@code Vary: *}).
+     */
+    private static Map<String, List<String>> varyingRequestHeaders(final ClientRequestContext request,
+                                                                   final ClientResponseContext response) {
+        final List<String> vary = response.getHeaders().get(HttpHeaders.VARY);
+        if (vary == null || vary.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, List<String>> requestHeaders = request.getStringHeaders();
+        final Map<String, List<String>> varying = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final String value : vary) {
+            for (final String name : value.split(",")) {
+                final String header = name.trim().toLowerCase(Locale.ROOT);
+                if ("*".equals(header)) {
+                    return null;
+                }
+                if (!header.isEmpty()) {
+                    final List<String> values = requestHeaders.get(header);
+                    varying.put(header, values == null ? Collections.<String>emptyList() : new ArrayList<>(values));
+                }
+            }
+        }
+        return varying;
+    }
+
+    /**
+     * Buffer the response entity so that it can be both stored and read by the application.
+     *
+     * @return the entity bytes or {@code null} if the entity is larger than the maximal entry size.
+     */
+    private byte[] readBody(final ClientResponseContext response) throws IOException {
+        if (!response.hasEntity()) {
+            return new byte[0];
+        }
+        final InputStream in = response.getEntityStream();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(Math.max(response.getLength(), 256), maxEntrySize));
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            if (out.size() > maxEntrySize) {
+                // too large to be cached, hand the rest of the entity over to the application unbuffered
+                response.setEntityStream(new SequenceInputStream(new ByteArrayInputStream(out.toByteArray()), in));
+                return null;
+            }
+        }
+        in.close();
+        final byte[] body = out.toByteArray();
+        response.setEntityStream(new ByteArrayInputStream(body));
+        return body;
+    }
+
+    private static Response toResponse(final HttpCacheEntry entry, final long now) {
+        final Response.ResponseBuilder builder = Response.status(Statuses.from(entry.getStatus(), entry.getReasonPhrase()));
+        for (final Map.Entry<String, List<String>> header : entry.getHeaders().entrySet()) {
+            for (final String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        builder.header("Age", null).header("Age", entry.currentAge(now) / 1000);
+        if (entry.getBody().length > 0) {
+            builder.entity(entry.getBody());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Cache lookup of a request, passed from the request filter to the response filter as a request property.
+     */
+    private static final class Lookup {
+
+        /**
+         * Lookup of a request answered by the cache.
+         */
+        private static final Lookup ANSWERED = new Lookup(null, null, 0);
+
+        private final String key;
+        private final HttpCacheEntry entry;
+        private final long requestTime;
+
+        private Lookup(final String key, final HttpCacheEntry entry, final long requestTime) {
+            this.key = key;
+            this.entry = entry;
+            this.requestTime = requestTime;
+        }
+    }
+}
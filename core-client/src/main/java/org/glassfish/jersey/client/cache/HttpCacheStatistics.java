@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a client response cache enabled by {@link HttpCacheFeature}.
+ * <p>
+ * Every cacheable request counts either as a hit, when it is answered from the cache without contacting the server, as
+ * a revalidation, when a conditional request is sent to the server to validate a stale response, or as a miss. A
+ * revalidation answered with {@code 304 Not Modified} also counts as not modified. The counters are updated
+ * concurrently, the values returned by the getters are not an atomic snapshot of the statistics.
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class HttpCacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    /**
+     * Create new statistics with all counters set to zero.
+     */
+    HttpCacheStatistics() {
+    }
+
+    /**
+     * Get the number of requests answered from the cache without contacting the server.
+     *
+     * @return number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of cacheable requests sent to the server unconditionally.
+     *
+     * @return number of cache misses.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of conditional requests sent to the server to validate a stale cached response.
+     *
+     * @return number of revalidations.
+     */
+    public long getRevalidationCount() {
+        return revalidations.sum();
+    }
+
+    /**
+     * Get the number of revalidations answered with {@code 304 Not Modified} and thus with the cached entity.
+     *
+     * @return number of validated cached responses.
+     */
+    public long getNotModifiedCount() {
+        return notModified.sum();
+    }
+
+    /**
+     * Get the ratio of the requests answered with a cached entity to all the cacheable requests.
+     *
+     * @return hit ratio between {@code 0} and {@code 1}, {@code 0} if there were no cacheable requests.
+     */
+    public double getHitRatio() {
+        final long served = hits.sum() + notModified.sum();
+        final long total = hits.sum() + misses.sum() + revalidations.sum();
+        return total == 0 ? 0 : Math.min(1, (double) served / total);
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void revalidation() {
+        revalidations.increment();
+    }
+
+    void notModified() {
+        notModified.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "HttpCacheStatistics{hits=" + getHitCount()
+                + ", misses=" + getMissCount()
+                + ", revalidations=" + getRevalidationCount()
+                + ", notModified=" + getNotModifiedCount() + '}';
+    }
+}
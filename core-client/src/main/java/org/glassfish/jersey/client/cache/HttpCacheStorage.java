@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+/**
+ * Storage of the responses cached by {@link HttpCacheFeature}.
+ * <p>
+ * The storage decides by itself which entries to keep and which to evict, it may as well keep the entries outside
+ * of the heap, e.g. on disk. Implementations must be thread-safe, the storage is accessed by all the threads that
+ * invoke requests of the client.
+ * </p>
+ *
+ * @since 2.47
+ */
+public interface HttpCacheStorage {
+
+    /**
+     * Get the entry stored with the given key.
+     *
+     * @param key cache key of the entry.
+     * @return the stored entry or {@code null} if there is no entry stored with the key.
+     */
+    HttpCacheEntry get(String key);
+
+    /**
+     * Store the entry with the given key, replacing the entry previously stored with the key. The storage may
+     * refuse to store the entry, e.g. when the entry is too large.
+     *
+     * @param key   cache key of the entry.
+     * @param entry entry to be stored.
+     */
+    void put(String key, HttpCacheEntry entry);
+
+    /**
+     * Remove the entry stored with the given key, if any.
+     *
+     * @param key cache key of the entry.
+     */
+    void remove(String key);
+}
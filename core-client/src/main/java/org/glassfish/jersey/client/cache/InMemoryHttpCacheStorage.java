@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * {@link HttpCacheStorage} keeping the entries on the heap.
+ * <p>
+ * The storage is bounded both by the number of the entries and by the total size of the entity bytes of the entries.
+ * When one of the bounds is exceeded, the least recently used entries are evicted.
+ * </p>
+ *
+ * @since 2.47
+ */
+public class InMemoryHttpCacheStorage implements HttpCacheStorage {
+
+    private final int maxEntries;
+    private final long maxSize;
+    private final LinkedHashMap<String, HttpCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Create a new in-memory storage.
+     *
+     * @param maxEntries maximal number of stored entries.
+     * @param maxSize    maximal total size of the entity bytes of the stored entries in bytes.
+     */
+    public InMemoryHttpCacheStorage(final int maxEntries, final long maxSize) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries: " + maxEntries);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize: " + maxSize);
+        }
+        this.maxEntries = maxEntries;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public synchronized HttpCacheEntry get(final String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(final String key, final HttpCacheEntry entry) {
+        final long entrySize = entry.getBody().length;
+        if (entrySize > maxSize) {
+            remove(key);
+            return;
+        }
+        final HttpCacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            size -= previous.getBody().length;
+        }
+        size += entrySize;
+
+        final Iterator<HttpCacheEntry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || size > maxSize) {
+            size -= eldest.next().getBody().length;
+            eldest.remove();
+        }
+    }
+
+    @Override
+    public synchronized void remove(final String key) {
+        final HttpCacheEntry removed = entries.remove(key);
+        if (removed != null) {
+            size -= removed.getBody().length;
+        }
+    }
+
+    /**
+     * Get the number of stored entries.
+     *
+     * @return number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all the stored entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "InMemoryHttpCacheStorage{entries=" + entries.size() + ", size=" + size + '}';
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+/**
+ * Client-side HTTP response cache following the caching rules of RFC 7234.
+ * <p>
+ * The cache is enabled by registering {@link org.glassfish.jersey.client.cache.HttpCacheFeature} into the client
+ * configuration. Cached responses are kept in a {@link org.glassfish.jersey.client.cache.HttpCacheStorage}, the
+ * bounded {@link org.glassfish.jersey.client.cache.InMemoryHttpCacheStorage} is used by default.
+ * </p>
+ *
+ * @since 2.47
+ */
+package org.glassfish.jersey.client.cache;
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests {@link RequestCoalescingFeature}.
+ */
+public class RequestCoalescingTest {
+
+    private static final int CALLERS = 5;
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final TestConnector connector = new TestConnector();
+    // number of callers the connector waits for to join an exchange
+    private volatile int callers = 1;
+    // whether the connector sends the length of the entity
+    private volatile boolean lengthKnown = true;
+    private volatile ByteArrayInputStream lastEntity;
+    private RequestCoalescingFeature feature;
+    private JerseyClient client;
+    private WebTarget target;
+
+    @BeforeEach
+    public void setUp() {
+        feature = new RequestCoalescingFeature();
+        client = JerseyClientBuilder.createClient(new ClientConfig(feature).connectorProvider(connector));
+        target = client.target("http://localhost/resource");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentGetsShareExchange() throws Exception {
+        callers = CALLERS;
+        final List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> target.request().get(String.class)));
+        }
+        for (final Future<String> result : results) {
+            assertEquals("response 1", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, exchanges.get());
+        assertEquals(1, feature.getExchangeCount());
+        assertEquals(CALLERS - 1, feature.getCoalescedCount());
+    }
+
+    @Test
+    public void testConcurrentAsyncGetsShareExchange() throws Exception {
+        callers = CALLERS;
+        final List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(target.request().async().get(String.class));
+        }
+        for (final Future<String> result : results) {
+            assertEquals("response 1", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, exchanges.get());
+        assertEquals(CALLERS - 1, feature.getCoalescedCount());
+    }
+
+    @Test
+    public void testSequentialGetsAreNotCoalesced() {
+        assertEquals("response 1", target.request().get(String.class));
+        assertEquals("response 2", target.request().get(String.class));
+        assertEquals(0, feature.getCoalescedCount());
+    }
+
+    @Test
+    public void testUnknownLengthIsNotShared() throws Exception {
+        lengthKnown = false;
+        callers = CALLERS;
+        final List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> target.request().get(String.class)));
+        }
+        final Set<String> entities = new HashSet<>();
+        for (final Future<String> result : results) {
+            entities.add(result.get(10, TimeUnit.SECONDS));
+        }
+        // each caller got the response of its own exchange
+        assertEquals(CALLERS, entities.size());
+        assertEquals(CALLERS, exchanges.get());
+        assertEquals(CALLERS, feature.getExchangeCount());
+        assertEquals(0, feature.getCoalescedCount());
+    }
+
+    @Test
+    public void testEntityWithoutFollowersIsNotBuffered() {
+        final Response response = target.request().get();
+        try {
+            assertEquals("response 1".length(), lastEntity.available());
+            assertEquals("response 1", response.readEntity(String.class));
+        } finally {
+            response.close();
+        }
+    }
+
+    @Test
+    public void testDifferentAuthorizationIsNotCoalesced() throws Exception {
+        callers = 2;
+        final Future<String> first = executor.submit(
+                () -> target.request().header(HttpHeaders.AUTHORIZATION, "Basic Zmlyc3Q6").get(String.class));
+        final Future<String> second = executor.submit(
+                () -> target.request().header(HttpHeaders.AUTHORIZATION, "Basic c2Vjb25kOg==").get(String.class));
+        assertDistinct(first, second);
+    }
+
+    @Test
+    public void testDifferentPropertiesAreNotCoalesced() throws Exception {
+        callers = 2;
+        final Future<String> first = executor.submit(() -> target.request().property("credentials", "first").get(String.class));
+        final Future<String> second = executor.submit(
+                () -> target.request().property("credentials", "second").get(String.class));
+        assertDistinct(first, second);
+    }
+
+    @Test
+    public void testConfigurationExposesConnector() {
+        assertEquals("response 1", target.request().get(String.class));
+        assertSame(connector, client.getConfiguration().getConnector());
+    }
+
+    @Test
+    public void testPostIsNotCoalesced() {
+        final Response response = target.request().post(Entity.text("entity"));
+        assertEquals("response 1", response.readEntity(String.class));
+        assertEquals(0, feature.getExchangeCount());
+    }
+
+    private void assertDistinct(final Future<String> first, final Future<String> second) throws Exception {
+        final Set<String> entities = new HashSet<>();
+        entities.add(first.get(10, TimeUnit.SECONDS));
+        entities.add(second.get(10, TimeUnit.SECONDS));
+        assertEquals(2, entities.size());
+        assertEquals(2, exchanges.get());
+        assertEquals(0, feature.getCoalescedCount());
+    }
+
+    private class TestConnector implements Connector, ConnectorProvider {
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final int exchange = exchanges.incrementAndGet();
+            if (HttpMethod.GET.equals(request.getMethod())) {
+                // keep the exchange in flight until the other callers join it
+                final long deadline = System.currentTimeMillis() + 5000;
+                while (feature.getExchangeCount() + feature.getCoalescedCount() < callers
+                        && System.currentTimeMillis() < deadline) {
+                    Thread.yield();
+                }
+            }
+            final byte[] entity = ("response " + exchange).getBytes(StandardCharsets.UTF_8);
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.header("Content-Type", "text/plain");
+            if (lengthKnown) {
+                response.header("Content-Length", entity.length);
+            }
+            lastEntity = new ByteArrayInputStream(entity);
+            response.setEntityStream(lastEntity);
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            return CompletableFuture.runAsync(() -> callback.response(apply(request)), executor);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.message.internal.HttpDateFormat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Client HTTP response cache test.
+ */
+public class HttpCacheFeatureTest {
+
+    private final TestClock clock = new TestClock();
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private Function<ClientRequest, ClientResponse> server;
+    private HttpCacheFeature feature;
+    private WebTarget target;
+
+    @BeforeEach
+    public void setUp() {
+        feature = new HttpCacheFeature(new InMemoryHttpCacheStorage(10, 1024), 16, clock);
+        final Client client = ClientBuilder.newClient(new ClientConfig(feature).connectorProvider(new TestConnector()));
+        target = client.target("http://localhost/resource");
+    }
+
+    @Test
+    public void testFreshResponseIsServedFromCache() {
+        server = request -> response(request, 200, "v1").header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertEquals("v1", target.request().get(String.class));
+        clock.advance(30);
+        final Response response = target.request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals("v1", response.readEntity(String.class));
+        assertEquals("30", response.getHeaderString("Age"));
+
+        assertEquals(1, requests.size());
+        assertEquals(1, feature.getStatistics().getHitCount());
+        assertEquals(1, feature.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void testStaleResponseIsRevalidated() {
+        server = request -> {
+            if ("\"1\"".equals(request.getHeaderString(HttpHeaders.IF_NONE_MATCH))) {
+                return response(request, 304, null).header(HttpHeaders.CACHE_CONTROL, "max-age=10");
+            }
+            return response(request, 200, "v1").header(HttpHeaders.CACHE_CONTROL, "max-age=10").header(HttpHeaders.ETAG, "\"1\"");
+        };
+
+        assertEquals("v1", target.request().get(String.class));
+        clock.advance(20);
+        final Response response = target.request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals("v1", response.readEntity(String.class));
+        assertEquals("\"1\"", requests.get(1).getHeaderString(HttpHeaders.IF_NONE_MATCH));
+
+        // the 304 response has made the cached response fresh again
+        clock.advance(5);
+        assertEquals("v1", target.request().get(String.class));
+
+        assertEquals(2, requests.size());
+        assertEquals(1, feature.getStatistics().getRevalidationCount());
+        assertEquals(1, feature.getStatistics().getNotModifiedCount());
+        assertEquals(1, feature.getStatistics().getHitCount());
+    }
+
+    @Test
+    public void testRevalidationWithLastModified() {
+        final String lastModified = HttpDateFormat.getPreferredDateFormat().format(new Date(clock.millis() - 3600_000));
+        server = request -> request.getHeaderString(HttpHeaders.IF_MODIFIED_SINCE) != null
+                ? response(request, 304, null)
+                : response(request, 200, "v1").header(HttpHeaders.LAST_MODIFIED, lastModified)
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        assertEquals("v1", target.request().get(String.class));
+        assertEquals("v1", target.request().get(String.class));
+        assertEquals(lastModified, requests.get(1).getHeaderString(HttpHeaders.IF_MODIFIED_SINCE));
+        assertEquals(1, feature.getStatistics().getNotModifiedCount());
+    }
+
+    @Test
+    public void testNoStore() {
+        server = request -> response(request, 200, "v1").header(HttpHeaders.CACHE_CONTROL, "no-store, max-age=60");
+
+        target.request().get(String.class);
+        target.request().get(String.class);
+        assertEquals(2, requests.size());
+        assertEquals(2, feature.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void testRequestNoCache() {
+        server = request -> response(request, 200, "v1").header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        target.request().get(String.class);
+        target.request().header(HttpHeaders.CACHE_CONTROL, "no-cache").get(String.class);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void testOnlyIfCached() {
+        server = request -> response(request, 200, "v1").header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertEquals(504, target.request().header(HttpHeaders.CACHE_CONTROL, "only-if-cached").get().getStatus());
+        target.request().get(String.class);
+        assertEquals(200, target.request().header(HttpHeaders.CACHE_CONTROL, "only-if-cached").get().getStatus());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void testUnsafeMethodInvalidates() {
+        server = request -> response(request, 200, "v" + requests.size()).header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertEquals("v1", target.request().get(String.class));
+        target.request().post(Entity.text("update"));
+        assertEquals("v3", target.request().get(String.class));
+    }
+
+    @Test
+    public void testVary() {
+        server = request -> response(request, 200, request.getHeaderString(HttpHeaders.ACCEPT_LANGUAGE))
+                .header(HttpHeaders.CACHE_CONTROL, "max-age=60").header(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+
+        assertEquals("en", target.request().acceptLanguage("en").get(String.class));
+        assertEquals("de", target.request().acceptLanguage("de").get(String.class));
+        assertEquals("de", target.request().acceptLanguage("de").get(String.class));
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void testAuthorizedResponseIsNotCached() {
+        server = request -> response(request, 200, "v" + requests.size()).header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertEquals("v1", target.request().header(HttpHeaders.AUTHORIZATION, "Basic YWxpY2U6").get(String.class));
+        assertEquals("v2", target.request().header(HttpHeaders.AUTHORIZATION, "Basic Ym9iOg==").get(String.class));
+        // the response to the request with credentials has not been stored for the requests without credentials either
+        assertEquals("v3", target.request().get(String.class));
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    public void testAuthorizedRequestIsNotAnsweredFromCache() {
+        server = request -> response(request, 200, "v" + requests.size()).header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertEquals("v1", target.request().get(String.class));
+        assertEquals("v2", target.request().header(HttpHeaders.AUTHORIZATION, "Basic YWxpY2U6").get(String.class));
+        assertEquals(2, requests.size());
+        assertEquals(0, feature.getStatistics().getHitCount());
+    }
+
+    @Test
+    public void testAuthorizedPublicResponseIsCached() {
+        server = request -> response(request, 200, "v" + requests.size())
+                .header(HttpHeaders.CACHE_CONTROL, "public, max-age=60");
+
+        assertEquals("v1", target.request().header(HttpHeaders.AUTHORIZATION, "Basic YWxpY2U6").get(String.class));
+        assertEquals("v1", target.request().header(HttpHeaders.AUTHORIZATION, "Basic Ym9iOg==").get(String.class));
+        assertEquals(1, requests.size());
+        assertEquals(1, feature.getStatistics().getHitCount());
+    }
+
+    @Test
+    public void testLargeEntityIsNotCached() {
+        final String large = "0123456789abcdefghij";
+        server = request -> response(request, 200, large).header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertEquals(large, target.request().get(String.class));
+        assertEquals(large, target.request().get(String.class));
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void testRxInvocation() throws Exception {
+        server = request -> response(request, 200, "v1").header(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        assertEquals("v1", target.request().rx().get(String.class).toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals("v1", target.request().rx().get(String.class).toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(1, requests.size());
+        assertEquals(1, feature.getStatistics().getHitCount());
+    }
+
+    @Test
+    public void testStorageEviction() {
+        final InMemoryHttpCacheStorage storage = new InMemoryHttpCacheStorage(2, 10);
+        storage.put("a", entry("12345"));
+        storage.put("b", entry("12345"));
+        storage.get("a");
+        storage.put("c", entry("1"));
+        // b is the least recently used entry
+        assertNull(storage.get("b"));
+        assertEquals(2, storage.size());
+        storage.put("d", entry("123456789"));
+        // the total size limit evicts a as well
+        assertNull(storage.get("a"));
+        assertEquals(2, storage.size());
+    }
+
+    private HttpCacheEntry entry(final String body) {
+        return new HttpCacheEntry(200, "OK", new HashMap<>(), body.getBytes(StandardCharsets.UTF_8),
+                new HashMap<>(), 0, 0);
+    }
+
+    private ClientResponse response(final ClientRequest request, final int status, final String entity) {
+        final ClientResponse response = new ClientResponse(Response.Status.fromStatusCode(status), request);
+        response.header(HttpHeaders.DATE, HttpDateFormat.getPreferredDateFormat().format(new Date(clock.millis())));
+        if (entity != null) {
+            response.header(HttpHeaders.CONTENT_TYPE, "text/plain");
+            response.setEntityStream(new ByteArrayInputStream(entity.getBytes(StandardCharsets.UTF_8)));
+        }
+        return response;
+    }
+
+    private static final class TestClock extends Clock {
+
+        private long millis = 1_000_000_000_000L;
+
+        void advance(final long seconds) {
+            millis += seconds * 1000;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+
+    private class TestConnector implements Connector, ConnectorProvider {
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            requests.add(request);
+            return server.apply(request);
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            try {
+                callback.response(apply(request));
+            } catch (final Throwable t) {
+                callback.failure(t);
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+    }
+}
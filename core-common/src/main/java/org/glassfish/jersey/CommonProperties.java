@@ -389,6 +389,23 @@ public final class CommonProperties {
      */
     public static String USE_VIRTUAL_THREADS = "jersey.config.threads.use.virtual";
 
+    /**
+     * <p>
+     *     If {@code true}, the service providers listed in the {@code META-INF/jersey/services.idx} indexes generated at
+     *     build time by the {@code jersey-index-processor} annotation processor are taken from the indexes, instead of
+     *     parsing the {@code META-INF/services} files of the indexed class path roots. The {@code META-INF/services} files
+     *     of the class path roots without an index are still parsed.
+     * </p>
+     * <p>
+     *     The value is read from the system properties only, once. The default is {@code false}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 2.47
+     */
+    public static final String SERVICES_INDEX = "jersey.config.services.index";
+
     /**
      * Prevent instantiation.
      */
@@ -300,6 +300,46 @@ public class Errors {
         throw caught;
     }
 
+    /**
+     * Invoke given task in a new error context that is separate from the error context of the current thread, if any,
+     * and return the gathered messages instead of logging them.
+     * <p/>
+     * This allows a task to be invoked on another thread and its messages to be {@link #report(List) reported}
+     * in the error context of the thread that waits for the task.
+     *
+     * @param task task to be invoked, must not throw any exception.
+     * @return messages gathered during the task invocation.
+     * @since 2.47
+     */
+    public static List<ErrorMessage> collect(final Runnable task) {
+        final Errors outer = errors.get();
+        final Errors instance = new Errors();
+        errors.set(instance);
+        instance.preProcess();
+        try {
+            task.run();
+            return Collections.unmodifiableList(new ArrayList<ErrorMessage>(instance.issues));
+        } finally {
+            if (outer != null) {
+                errors.set(outer);
+            } else {
+                errors.remove();
+            }
+        }
+    }
+
+    /**
+     * Add the messages {@link #collect(Runnable) collected} in another error context to the list of messages.
+     *
+     * @param messages messages to be added.
+     * @since 2.47
+     */
+    public static void report(final List<ErrorMessage> messages) {
+        if (!messages.isEmpty()) {
+            getInstance().issues.addAll(messages);
+        }
+    }
+
     private static Errors getInstance() {
         final Errors instance = errors.get();
         // No error processing in scope
@@ -27,6 +27,7 @@ import java.net.URLConnection;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
@@ -509,6 +510,9 @@ public final class ServiceFinder<T> implements Iterable<T> {
         final ClassLoader loader;
         final boolean ignoreOnClassNotFound;
         Enumeration<URL> configs = null;
+        ServiceIndex index = null;
+        // providers of the indexed provider-configuration files, null once a file has been parsed
+        List<String> indexedNames = new ArrayList<String>();
         Iterator<String> pending = null;
         Set<String> returned = new TreeSet<String>();
         String nextName = null;
@@ -527,6 +531,16 @@ public final class ServiceFinder<T> implements Iterable<T> {
         protected final void setConfigs() {
             if (configs == null) {
                 try {
+                    index = ServiceIndex.get(loader);
+                    final List<String> indexed = index == null ? null : index.getProviders(serviceName);
+                    if (indexed != null) {
+                        // all the provider-configuration files of the service have been indexed, the class loader
+                        // is not asked for them again
+                        configs = Collections.emptyEnumeration();
+                        pending = notReturned(indexed);
+                        indexedNames = null;
+                        return;
+                    }
                     final String fullName = PREFIX + serviceName;
                     configs = getResources(loader, fullName);
                 } catch (final IOException x) {
@@ -535,6 +549,39 @@ public final class ServiceFinder<T> implements Iterable<T> {
             }
         }
 
+        protected final Iterator<String> nextConfig() {
+            final URL config = configs.nextElement();
+            final List<String> indexed = index == null ? null : index.getProviders(serviceName, config);
+            if (indexed == null) {
+                indexedNames = null;
+                return parse(serviceName, config, returned);
+            }
+
+            // the providers of the class path root have been indexed at build time, the file is not parsed
+            if (indexedNames != null) {
+                indexedNames.addAll(indexed);
+            }
+            return notReturned(indexed);
+        }
+
+        private Iterator<String> notReturned(final List<String> indexed) {
+            final List<String> names = new ArrayList<String>(indexed.size());
+            for (final String name : indexed) {
+                if (returned.add(name)) {
+                    names.add(name);
+                }
+            }
+            return names.iterator();
+        }
+
+        protected final void configsRead() {
+            if (indexedNames != null && !indexedNames.isEmpty()) {
+                // remember the providers of a service listed in indexed class path roots only
+                index.putProviders(serviceName, indexedNames);
+            }
+            indexedNames = null;
+        }
+
         public boolean hasNext() throws ServiceConfigurationError {
             if (nextName != null) {
                 return true;
@@ -544,9 +591,10 @@ public final class ServiceFinder<T> implements Iterable<T> {
             while (nextName == null) {
                 while ((pending == null) || !pending.hasNext()) {
                     if (!configs.hasMoreElements()) {
+                        configsRead();
                         return false;
                     }
-                    pending = parse(serviceName, configs.nextElement(), returned);
+                    pending = nextConfig();
                 }
                 nextName = pending.next();
                 if (ignoreOnClassNotFound) {
@@ -681,9 +729,10 @@ public final class ServiceFinder<T> implements Iterable<T> {
             while (nextName == null) {
                 while ((pending == null) || !pending.hasNext()) {
                     if (!configs.hasMoreElements()) {
+                        configsRead();
                         return false;
                     }
-                    pending = parse(serviceName, configs.nextElement(), returned);
+                    pending = nextConfig();
                 }
                 nextName = pending.next();
                 try {
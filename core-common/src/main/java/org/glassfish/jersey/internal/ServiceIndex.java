@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.internal;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+
+/**
+ * Service providers of class path roots indexed at build time.
+ * <p>
+ * Each class path root built with the {@code jersey-index-processor} annotation processor contains a
+ * {@value #INDEX} file with a {@code service=provider} line for every provider listed in its
+ * {@code META-INF/services} files. When enabled by the {@link CommonProperties#SERVICES_INDEX} system property,
+ * {@link ServiceFinder} takes the providers of an indexed root from the index instead of parsing the
+ * {@code META-INF/services} file of the root. The indexes of a class loader are read once.
+ * </p>
+ * <p>
+ * The processor writes the index only when classes are compiled, a build changing just the resources of a root leaves
+ * the index behind. A {@code META-INF/services} file modified after the index of its root is therefore parsed, which
+ * costs a file or jar entry time stamp look up per file instead of reading it.
+ * </p>
+ * <p>
+ * Once all the {@code META-INF/services} files of a service have been found in the indexed roots, the providers of the
+ * service are remembered, so the subsequent look ups of the service neither ask the class loader for the files nor
+ * look up their time stamps.
+ * </p>
+ *
+ * @since 2.47
+ */
+final class ServiceIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ServiceIndex.class.getName());
+
+    /**
+     * Location of the service index in a class path root.
+     */
+    static final String INDEX = "META-INF/jersey/services.idx";
+
+    private static final String SERVICES = "META-INF/services/";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            AccessController.doPrivileged(PropertiesHelper.getSystemProperty(CommonProperties.SERVICES_INDEX)));
+
+    private static final Map<ClassLoader, ServiceIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // class path root -> index of the root
+    private final Map<String, Root> roots;
+    // service name -> providers of a service whose provider-configuration files are all indexed
+    private final Map<String, List<String>> services = new ConcurrentHashMap<>();
+
+    private ServiceIndex(final Map<String, Root> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * Get the service index of a class loader.
+     *
+     * @param loader class loader, {@code null} for the system class loader.
+     * @return service index or {@code null} if the service index is not enabled.
+     */
+    static ServiceIndex get(final ClassLoader loader) {
+        return ENABLED ? INDEXES.computeIfAbsent(loader, ServiceIndex::load) : null;
+    }
+
+    /**
+     * Get the indexed providers listed in a provider-configuration file.
+     *
+     * @param serviceName name of the service.
+     * @param config      URL of the {@code META-INF/services} provider-configuration file of the service.
+     * @return provider class names or {@code null} if the providers of the class path root have not been indexed
+     * or the provider-configuration file has been modified after the index.
+     */
+    List<String> getProviders(final String serviceName, final URL config) {
+        final String url = config.toExternalForm();
+        final String suffix = SERVICES + serviceName;
+        if (!url.endsWith(suffix)) {
+            return null;
+        }
+        final Root root = roots.get(url.substring(0, url.length() - suffix.length()));
+        final List<String> providers = root == null ? null : root.services.get(serviceName);
+        if (providers == null || lastModified(config) > root.modified) {
+            return null;
+        }
+        return providers;
+    }
+
+    /**
+     * Get the remembered providers of a service whose provider-configuration files have all been indexed.
+     *
+     * @param serviceName name of the service.
+     * @return provider class names or {@code null} if the providers of the service have not been remembered.
+     */
+    List<String> getProviders(final String serviceName) {
+        return services.get(serviceName);
+    }
+
+    /**
+     * Remember the providers of a service whose provider-configuration files have all been
+     * {@link #getProviders(String, URL) taken from the index}.
+     *
+     * @param serviceName name of the service.
+     * @param providers   provider class names listed in the provider-configuration files of the service.
+     */
+    void putProviders(final String serviceName, final List<String> providers) {
+        services.putIfAbsent(serviceName, Collections.unmodifiableList(new ArrayList<>(providers)));
+    }
+
+    private static ServiceIndex load(final ClassLoader loader) {
+        final Map<String, Root> roots = new HashMap<>();
+        try {
+            final Enumeration<URL> indexes = loader == null
+                    ? ClassLoader.getSystemResources(INDEX) : loader.getResources(INDEX);
+            while (indexes.hasMoreElements()) {
+                final URL index = indexes.nextElement();
+                final String url = index.toExternalForm();
+                try {
+                    roots.put(url.substring(0, url.length() - INDEX.length()), new Root(read(index), lastModified(index)));
+                } catch (final IOException e) {
+                    // the root is not indexed, its provider-configuration files are parsed instead
+                    LOGGER.log(Level.CONFIG, LocalizationMessages.SERVICE_INDEX_READ_FAILED(url), e);
+                }
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.CONFIG, LocalizationMessages.SERVICE_INDEX_LOOKUP_FAILED(), e);
+        }
+        return new ServiceIndex(roots);
+    }
+
+    /**
+     * Get the modification time of a file or a jar entry.
+     *
+     * @param url URL of the file.
+     * @return modification time, {@code 0} if unknown.
+     */
+    private static long lastModified(final URL url) {
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return new File(url.toURI()).lastModified();
+            }
+            final URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection) {
+                // the time of the entry, the connection headers describe the jar file
+                return ((JarURLConnection) connection).getJarEntry().getTime();
+            }
+        } catch (final IOException | URISyntaxException | IllegalArgumentException e) {
+            LOGGER.log(Level.FINEST, e.getMessage(), e);
+        }
+        return 0;
+    }
+
+    private static Map<String, List<String>> read(final URL index) throws IOException {
+        final Map<String, List<String>> services = new HashMap<>();
+        final URLConnection connection = index.openConnection();
+        connection.setUseCaches(false);
+        try (InputStream in = connection.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int comment = line.indexOf('#');
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+                final int separator = line.indexOf('=');
+                if (separator > 0) {
+                    services.computeIfAbsent(line.substring(0, separator).trim(), service -> new ArrayList<>())
+                            .add(line.substring(separator + 1).trim());
+                }
+            }
+        }
+        return services;
+    }
+
+    /**
+     * Service index of a class path root.
+     */
+    private static final class Root {
+
+        // service name -> provider class names
+        private final Map<String, List<String>> services;
+        private final long modified;
+
+        private Root(final Map<String, List<String>> services, final long modified) {
+            this.services = services;
+            this.modified = modified;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.internal.util.collection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Multivalued map with String keys compared using the case insensitive method that reads its entries lazily from
+ * a {@link Source}, typically the headers of a request of the underlying container.
+ * <p>
+ * As long as the map is only queried for single keys, the values are read from the source on demand and the source is
+ * never copied. The first modification of the map, or the first access to a view of all its entries, such as
+ * {@link #keySet()} or {@link #entrySet()}, copies all the entries of the source into the map; from then on the map
+ * behaves as a {@link StringKeyIgnoreCaseMultivaluedMap}. A map without a source is a plain
+ * {@code StringKeyIgnoreCaseMultivaluedMap}.
+ * </p>
+ * <p>
+ * The lists returned by {@link #get(Object)} are mutable copies of the source values that become the values
+ * of the map when the entries are copied, so modifications of the lists are not lost.
+ * </p>
+ *
+ * @since 2.47
+ */
+public class LazyStringKeyIgnoreCaseMultivaluedMap implements MultivaluedMap<String, String> {
+
+    /**
+     * Read-only source of the entries of the map, e.g. an adapter of native container headers.
+     * <p>
+     * Header names are looked up using the case insensitive method. The source must not change while it is used
+     * by the map.
+     * </p>
+     */
+    public interface Source {
+
+        /**
+         * Get the values of a header.
+         *
+         * @param name header name.
+         * @return header values or {@code null} if the header is not present.
+         */
+        List<String> get(String name);
+
+        /**
+         * Get the names of all the headers.
+         *
+         * @return distinct header names.
+         */
+        Iterable<String> names();
+    }
+
+    private final MultivaluedMap<String, String> store = new StringKeyIgnoreCaseMultivaluedMap<>();
+    private Source source;
+    // lists handed out by get(...) before the source has been copied
+    private MultivaluedMap<String, String> read;
+
+    /**
+     * Set the source of the entries of the map. The source can only be set on an empty map.
+     *
+     * @param source source of the entries.
+     * @return {@code true} if the source has been set, {@code false} if the map is not empty.
+     */
+    public boolean setSource(final Source source) {
+        if (this.source != null || !store.isEmpty()) {
+            return false;
+        }
+        this.source = source;
+        return true;
+    }
+
+    /**
+     * Check whether the entries of the map are still read from a source.
+     *
+     * @return {@code true} if the map has a source that has not been copied yet.
+     */
+    public boolean isLazy() {
+        return source != null;
+    }
+
+    /**
+     * Copy all the entries of the source into the map and release the source. Does nothing if the map has no source.
+     */
+    public void materialize() {
+        if (source == null) {
+            return;
+        }
+        final Source copied = source;
+        source = null;
+        for (final String name : copied.names()) {
+            List<String> values = read == null ? null : read.get(name);
+            if (values == null) {
+                final List<String> sourceValues = copied.get(name);
+                if (sourceValues == null) {
+                    continue;
+                }
+                values = new ArrayList<>(sourceValues);
+            }
+            store.put(name, values);
+        }
+        read = null;
+    }
+
+    @Override
+    public List<String> get(final Object key) {
+        if (source == null) {
+            return store.get(key);
+        }
+        if (!(key instanceof String)) {
+            return null;
+        }
+        List<String> values = read == null ? null : read.get(key);
+        if (values == null) {
+            final List<String> sourceValues = source.get((String) key);
+            if (sourceValues == null) {
+                return null;
+            }
+            values = new ArrayList<>(sourceValues);
+            if (read == null) {
+                read = new StringKeyIgnoreCaseMultivaluedMap<>();
+            }
+            read.put((String) key, values);
+        }
+        return values;
+    }
+
+    @Override
+    public String getFirst(final String key) {
+        if (source == null) {
+            return store.getFirst(key);
+        }
+        final List<String> values = read == null ? null : read.get(key);
+        if (values != null) {
+            return values.isEmpty() ? null : values.get(0);
+        }
+        final List<String> sourceValues = source.get(key);
+        return sourceValues == null || sourceValues.isEmpty() ? null : sourceValues.get(0);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (source == null) {
+            return store.containsKey(key);
+        }
+        return key instanceof String
+                && ((read != null && read.containsKey(key)) || source.get((String) key) != null);
+    }
+
+    @Override
+    public void putSingle(final String key, final String value) {
+        materialize();
+        store.putSingle(key, value);
+    }
+
+    @Override
+    public void add(final String key, final String value) {
+        materialize();
+        store.add(key, value);
+    }
+
+    @Override
+    public void addAll(final String key, final String... newValues) {
+        materialize();
+        store.addAll(key, newValues);
+    }
+
+    @Override
+    public void addAll(final String key, final List<String> valueList) {
+        materialize();
+        store.addAll(key, valueList);
+    }
+
+    @Override
+    public void addFirst(final String key, final String value) {
+        materialize();
+        store.addFirst(key, value);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(final MultivaluedMap<String, String> otherMap) {
+        materialize();
+        return store.equalsIgnoreValueOrder(otherMap);
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return store.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        materialize();
+        return store.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        materialize();
+        return store.containsValue(value);
+    }
+
+    @Override
+    public List<String> put(final String key, final List<String> value) {
+        materialize();
+        return store.put(key, value);
+    }
+
+    @Override
+    public List<String> remove(final Object key) {
+        materialize();
+        return store.remove(key);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends List<String>> m) {
+        materialize();
+        store.putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        source = null;
+        read = null;
+        store.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return store.keySet();
+    }
+
+    @Override
+    public Collection<List<String>> values() {
+        materialize();
+        return store.values();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        materialize();
+        return store.entrySet();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        materialize();
+        return store.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return store.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        materialize();
+        return store.toString();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.internal.util.collection;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free, multi-producer single-consumer queue backed by a ring buffer.
+ * <p>
+ * Producers claim a slot of the ring by advancing the producer index and store the element to the claimed slot
+ * afterwards; the consumer frees the slot by clearing it before advancing the consumer index. {@link #offer(Object)}
+ * never waits for free space, it returns {@code false} when the queue is full.
+ * </p>
+ * <p>
+ * Any number of threads may offer elements concurrently, but the elements must be consumed (i.e. {@link #poll()},
+ * {@link #peek()} and {@link #clear()} invoked) by a single thread at a time. The queue does not support iteration.
+ * </p>
+ *
+ * @param <E> the type of elements held in the queue.
+ * @since 2.47
+ */
+public final class MpscArrayQueue<E> extends AbstractQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private volatile long consumerIndex;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity minimal capacity of the queue, rounded up to the next power of two.
+     */
+    public MpscArrayQueue(final int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the capacity of the queue.
+     *
+     * @return maximal number of elements the queue can hold.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(final E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        final int capacity = mask + 1;
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+
+        buffer.lazySet((int) index & mask, e);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        final long index = consumerIndex;
+        final int offset = (int) index & mask;
+
+        E e = buffer.get(offset);
+        if (e == null) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // the slot has been claimed, wait for the producer to store the element
+            while ((e = buffer.get(offset)) == null) {
+                Thread.yield();
+            }
+        }
+
+        buffer.lazySet(offset, null);
+        consumerIndex = index + 1;
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        final long index = consumerIndex;
+        final int offset = (int) index & mask;
+
+        E e = buffer.get(offset);
+        if (e == null && index != producerIndex.get()) {
+            while ((e = buffer.get(offset)) == null) {
+                Thread.yield();
+            }
+        }
+        return e;
+    }
+
+    @Override
+    public int size() {
+        // read the consumer index first so that the size is never negative
+        final long consumer = consumerIndex;
+        final long size = producerIndex.get() - consumer;
+        return (int) Math.min(size, mask + 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex.get();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.message;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Pool of I/O buffers used by Jersey when copying, buffering and writing entity streams.
+ * <p>
+ * All buffers handed out by a pool have the same {@link #getBufferSize() size}. A buffer obtained from the pool
+ * should be returned to the pool once it is not used anymore; the buffer must not be accessed after it has been
+ * returned. A buffer that is not returned is simply garbage collected.
+ * </p>
+ * <p>
+ * Pooling is enabled by setting the {@value MessageProperties#IO_BUFFER_POOL_ENABLED} system property to {@code true}.
+ * A custom pool implementation can then be registered using the {@code META-INF/services} mechanism, otherwise
+ * Jersey uses a bounded pool striped by threads. Implementations must be thread-safe.
+ * </p>
+ *
+ * @since 2.47
+ */
+public interface BufferPool {
+
+    /**
+     * Get the size of the buffers provided by this pool.
+     *
+     * @return size of the pooled buffers in bytes.
+     */
+    int getBufferSize();
+
+    /**
+     * Get a heap buffer of the {@link #getBufferSize() pool buffer size}.
+     *
+     * @return pooled or newly allocated byte array.
+     */
+    byte[] acquire();
+
+    /**
+     * Return a heap buffer obtained by {@link #acquire()} to the pool.
+     *
+     * @param buffer buffer to be returned, ignored if {@code null}.
+     */
+    void release(byte[] buffer);
+
+    /**
+     * Get a cleared direct buffer with the capacity of the {@link #getBufferSize() pool buffer size}.
+     *
+     * @return pooled or newly allocated direct byte buffer.
+     */
+    ByteBuffer acquireDirect();
+
+    /**
+     * Return a direct buffer obtained by {@link #acquireDirect()} to the pool.
+     *
+     * @param buffer buffer to be returned, ignored if {@code null}.
+     */
+    void releaseDirect(ByteBuffer buffer);
+
+    /**
+     * Get the pool usage statistics.
+     *
+     * @return pool statistics.
+     */
+    Statistics getStatistics();
+
+    /**
+     * Buffer pool usage statistics.
+     */
+    interface Statistics {
+
+        /**
+         * Get the number of buffers requested from the pool.
+         *
+         * @return number of acquired buffers.
+         */
+        long getAcquiredCount();
+
+        /**
+         * Get the number of buffers that had to be newly allocated because no pooled buffer was available.
+         *
+         * @return number of allocated buffers.
+         */
+        long getAllocatedCount();
+
+        /**
+         * Get the total size of the newly allocated buffers.
+         *
+         * @return number of allocated bytes.
+         */
+        long getAllocatedBytes();
+
+        /**
+         * Get the number of buffers returned to the pool.
+         *
+         * @return number of released buffers.
+         */
+        long getReleasedCount();
+
+        /**
+         * Get the number of returned buffers that have been dropped because the pool was full.
+         *
+         * @return number of discarded buffers.
+         */
+        long getDiscardedCount();
+    }
+}
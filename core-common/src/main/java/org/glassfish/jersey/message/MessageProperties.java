@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -91,6 +91,32 @@ public final class MessageProperties {
      */
     public static final int IO_DEFAULT_BUFFER_SIZE = 8192;
 
+    /**
+     * If set to {@code true}, the byte buffers used for I/O operations on entity streams are taken from
+     * a {@link BufferPool} and returned to it after use instead of being allocated for each operation.
+     * The size of the pooled buffers is the {@link #IO_BUFFER_SIZE I/O buffer size}.
+     * <p />
+     * The property is read from the system properties. The default value is {@code false}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.47
+     */
+    public static final String IO_BUFFER_POOL_ENABLED = "jersey.config.io.bufferPool.enabled";
+
+    /**
+     * Value of the property indicates the maximum number of heap (and, separately, direct) buffers retained by
+     * the default {@link BufferPool}. The property value is expected to be a positive integer otherwise it will be
+     * ignored.
+     * <p />
+     * The property is read from the system properties. The default value is 16 buffers per available processor.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.47
+     */
+    public static final String IO_BUFFER_POOL_CAPACITY = "jersey.config.io.bufferPool.capacity";
+
     /**
      * <p>
      *     Integer value used to override maximum number of string length during the JSON processing the JSON provider accepts.
@@ -123,6 +149,49 @@ public final class MessageProperties {
      */
     public static final String LEGACY_WORKERS_ORDERING = "jersey.config.workers.legacyOrdering";
 
+    /**
+     * Value of the property indicates the maximum number of entries retained by the lookup cache of
+     * {@link javax.ws.rs.ext.MessageBodyReader MessageBodyReaders} and {@link javax.ws.rs.ext.MessageBodyWriter
+     * MessageBodyWriters} suitable for an entity type and media type. The value is rounded up to the nearest power
+     * of two. The property value is expected to be a positive integer otherwise it will be ignored.
+     * <p />
+     * The default value is <code>{@value #WORKERS_DEFAULT_LOOKUP_CACHE_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.47
+     */
+    public static final String WORKERS_LOOKUP_CACHE_SIZE = "jersey.config.workers.lookupCache.size";
+
+    /**
+     * The default maximum number ({@value}) of entries retained by the message body workers lookup cache.
+     *
+     * @since 2.47
+     */
+    public static final int WORKERS_DEFAULT_LOOKUP_CACHE_SIZE = 1024;
+
+    /**
+     * If set to {@code true}, the {@link javax.ws.rs.ext.MessageBodyReader MessageBodyReader} or
+     * {@link javax.ws.rs.ext.MessageBodyWriter MessageBodyWriter} selected for a combination of entity type, generic
+     * type, annotations and media type is cached and the subsequent lookups for the same combination return
+     * the cached worker without consulting {@code isReadable} / {@code isWriteable} of the workers again. The cache is
+     * bypassed when tracing of the worker selection is enabled.
+     * <p />
+     * On the server side, each resource method additionally remembers the worker selected for its last request and
+     * response entity, which reduces the worker resolution for a repeated request to a comparison with the remembered
+     * entity type and media type.
+     * <p />
+     * The setting may only be enabled if the result of {@code isReadable} / {@code isWriteable} of all the registered
+     * workers depends solely on their arguments.
+     * <p />
+     * The default value is {@code false}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.47
+     */
+    public static final String WORKERS_SELECTION_CACHE_ENABLED = "jersey.config.workers.selectionCache.enabled";
+
     /**
      * Prevents instantiation.
      */
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message;
+
+import java.nio.ByteBuffer;
+
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+/**
+ * Entity input stream that can also deliver the entity bytes without blocking the reading thread.
+ * <p>
+ * Containers implement this interface on the entity input stream of a request when the underlying transport is able
+ * to notify about newly received data. Instead of reading the stream, the entity can then be consumed by subscribing
+ * to the {@link #getPublisher() entity publisher}, which signals the data as they arrive from the network.
+ * </p>
+ * <p>
+ * The entity is consumed either as a stream or via the publisher, never both. Once a subscriber has subscribed to
+ * the publisher, the input stream must not be read anymore.
+ * </p>
+ *
+ * @since 2.47
+ */
+public interface NonBlockingInput {
+
+    /**
+     * Get the publisher of the entity bytes.
+     * <p>
+     * The publisher accepts a single subscriber, any other subscriber is signalled an {@link IllegalStateException}.
+     * The buffers passed to the subscriber are owned by the subscriber. The subscriber is notified on the thread that
+     * requested more data or on the thread of the I/O container that received the data, hence it must not block.
+     * </p>
+     *
+     * @return entity publisher.
+     */
+    Flow.Publisher<ByteBuffer> getPublisher();
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+/**
+ * {@link MessageBodyReader Message body reader} that can also parse an entity incrementally, as the entity bytes are
+ * signalled by a {@link NonBlockingInput#getPublisher() publisher}, without blocking the thread waiting for the data.
+ * <p>
+ * The reader is selected the same way as any other message body reader. Jersey uses the non-blocking variant when
+ * the entity is read asynchronously (e.g. by {@code ContainerRequest.readEntityAsync(...)}) and no
+ * {@link javax.ws.rs.ext.ReaderInterceptor reader interceptor} needs to see the entity stream. Otherwise the entity is
+ * buffered and read by the blocking {@link #readFrom(Class, Type, Annotation[], MediaType, MultivaluedMap,
+ * java.io.InputStream) readFrom} method.
+ * </p>
+ *
+ * @param <T> Java type supported by the reader.
+ * @since 2.47
+ */
+public interface NonBlockingMessageBodyReader<T> extends MessageBodyReader<T> {
+
+    /**
+     * Read a type from the entity publisher.
+     * <p>
+     * The reader subscribes to the entity publisher and completes the returned stage once the entity has been read, or
+     * completes it exceptionally in case the entity cannot be read.
+     * </p>
+     *
+     * @param type        the type that is to be read from the entity.
+     * @param genericType the type of instance to be produced.
+     * @param annotations an array of the annotations on the declaration of the artifact that will be initialized with
+     *                    the produced instance.
+     * @param mediaType   the media type of the HTTP entity.
+     * @param httpHeaders the read-only HTTP headers associated with the HTTP entity.
+     * @param entity      publisher of the entity bytes.
+     * @return completion stage of the type that was read from the entity.
+     */
+    CompletionStage<T> readFrom(Class<T> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                                MultivaluedMap<String, String> httpHeaders, Flow.Publisher<ByteBuffer> entity);
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Entity output stream capable of writing file regions and byte buffers to the underlying transport without copying
+ * them through intermediate heap arrays.
+ * <p>
+ * An output stream passed to a {@link javax.ws.rs.ext.MessageBodyWriter message body writer} implements this interface
+ * when the entity is written directly to an I/O container that supports it, i.e. when no
+ * {@link javax.ws.rs.ext.WriterInterceptor writer interceptor} has replaced the entity stream. This applies to the output
+ * stream passed to {@link javax.ws.rs.core.StreamingOutput#write(java.io.OutputStream)} as well. The container decides
+ * whether a particular write can be performed without copying; if it cannot, the methods return {@code false} and the
+ * caller is expected to write the data to the output stream as usual.
+ * </p>
+ * <p>
+ * Server containers implement this interface on the output stream returned from
+ * {@code ContainerResponseWriter.writeResponseStatusAndHeaders(...)}.
+ * </p>
+ *
+ * @since 2.47
+ */
+public interface ZeroCopyOutput {
+
+    /**
+     * Write a region of a file as the rest of the entity.
+     * <p>
+     * The region completes the entity: once the method returned {@code true}, no more data may be written to the output.
+     * The file is opened before the method returns, the data may however be transferred asynchronously.
+     * </p>
+     *
+     * @param file     file to be written.
+     * @param position position of the first byte of the region within the file.
+     * @param count    number of bytes to be written.
+     * @return {@code true} if the region has been written, {@code false} if the output cannot write the region without
+     * copying and the data has to be written to the output stream by the caller.
+     * @throws IOException in case of an I/O error.
+     */
+    boolean writeFile(File file, long position, long count) throws IOException;
+
+    /**
+     * Write the remaining bytes of a (direct) byte buffer.
+     * <p>
+     * Once the method returned {@code true}, the position of the buffer has been advanced to its limit. The content of
+     * the buffer is owned by the output and may be transferred asynchronously; the caller must not modify it anymore.
+     * </p>
+     *
+     * @param buffer buffer to be written.
+     * @return {@code true} if the buffer has been written, {@code false} if the output cannot write the buffer without
+     * copying and the data has to be written to the output stream by the caller.
+     * @throws IOException in case of an I/O error.
+     */
+    boolean writeBuffer(ByteBuffer buffer) throws IOException;
+}
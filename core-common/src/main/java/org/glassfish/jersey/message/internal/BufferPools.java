@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.message.internal;
+
+import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.internal.ServiceFinder;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.BufferPool;
+import org.glassfish.jersey.message.MessageProperties;
+
+/**
+ * Access to the {@link BufferPool buffer pool} used by Jersey for entity I/O.
+ * <p>
+ * Unless enabled by the {@value MessageProperties#IO_BUFFER_POOL_ENABLED} system property, the returned pool
+ * does not retain any buffers and allocates a new buffer for every request; it still collects the
+ * {@link BufferPool.Statistics statistics}.
+ * </p>
+ */
+public final class BufferPools {
+
+    private static final Logger LOGGER = Logger.getLogger(BufferPools.class.getName());
+
+    private static final BufferPool POOL = createPool();
+
+    private BufferPools() {
+        throw new AssertionError("No instances allowed.");
+    }
+
+    /**
+     * Get the buffer pool used for entity I/O.
+     *
+     * @return buffer pool.
+     */
+    public static BufferPool get() {
+        return POOL;
+    }
+
+    private static BufferPool createPool() {
+        final int bufferSize = ReaderWriter.BUFFER_SIZE;
+        if (!Boolean.parseBoolean(
+                AccessController.doPrivileged(PropertiesHelper.getSystemProperty(MessageProperties.IO_BUFFER_POOL_ENABLED)))) {
+            return new UnpooledBufferPool(bufferSize);
+        }
+
+        final Iterator<BufferPool> pools = ServiceFinder.find(BufferPool.class).iterator();
+        if (pools.hasNext()) {
+            return pools.next();
+        }
+
+        return new StripedBufferPool(bufferSize, getCapacity());
+    }
+
+    private static int getCapacity() {
+        final int defaultCapacity = 16 * Runtime.getRuntime().availableProcessors();
+        final String value = AccessController.doPrivileged(
+                PropertiesHelper.getSystemProperty(MessageProperties.IO_BUFFER_POOL_CAPACITY));
+        if (value != null) {
+            try {
+                final int i = Integer.parseInt(value);
+                if (i <= 0) {
+                    throw new NumberFormatException("Value not positive.");
+                }
+                return i;
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.CONFIG,
+                        "Value of " + MessageProperties.IO_BUFFER_POOL_CAPACITY
+                                + " property is not a valid positive integer [" + value + "]."
+                                + " Reverting to default [" + defaultCapacity + "].",
+                        e);
+            }
+        }
+        return defaultCapacity;
+    }
+
+    /**
+     * Buffer pool statistics backed by {@link LongAdder adders} to avoid contention between threads.
+     */
+    static final class PoolStatistics implements BufferPool.Statistics {
+
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder allocated = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder released = new LongAdder();
+        private final LongAdder discarded = new LongAdder();
+
+        void acquired() {
+            acquired.increment();
+        }
+
+        void allocated(final int bytes) {
+            allocated.increment();
+            allocatedBytes.add(bytes);
+        }
+
+        void released() {
+            released.increment();
+        }
+
+        void discarded() {
+            discarded.increment();
+        }
+
+        @Override
+        public long getAcquiredCount() {
+            return acquired.sum();
+        }
+
+        @Override
+        public long getAllocatedCount() {
+            return allocated.sum();
+        }
+
+        @Override
+        public long getAllocatedBytes() {
+            return allocatedBytes.sum();
+        }
+
+        @Override
+        public long getReleasedCount() {
+            return released.sum();
+        }
+
+        @Override
+        public long getDiscardedCount() {
+            return discarded.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "acquired=" + getAcquiredCount()
+                    + ", allocated=" + getAllocatedCount()
+                    + ", allocatedBytes=" + getAllocatedBytes()
+                    + ", released=" + getReleasedCount()
+                    + ", discarded=" + getDiscardedCount();
+        }
+    }
+
+    /**
+     * Buffer pool that allocates a new buffer for each request and drops all returned buffers.
+     */
+    static final class UnpooledBufferPool implements BufferPool {
+
+        private final int bufferSize;
+        private final PoolStatistics statistics = new PoolStatistics();
+
+        UnpooledBufferPool(final int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        @Override
+        public byte[] acquire() {
+            statistics.acquired();
+            statistics.allocated(bufferSize);
+            return new byte[bufferSize];
+        }
+
+        @Override
+        public void release(final byte[] buffer) {
+            if (buffer != null) {
+                statistics.released();
+                statistics.discarded();
+            }
+        }
+
+        @Override
+        public ByteBuffer acquireDirect() {
+            statistics.acquired();
+            statistics.allocated(bufferSize);
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        @Override
+        public void releaseDirect(final ByteBuffer buffer) {
+            if (buffer != null) {
+                statistics.released();
+                statistics.discarded();
+            }
+        }
+
+        @Override
+        public BufferPool.Statistics getStatistics() {
+            return statistics;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,16 +16,18 @@
 
 package org.glassfish.jersey.message.internal;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.glassfish.jersey.innate.VirtualThreadSupport;
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.message.BufferPool;
+import org.glassfish.jersey.message.ZeroCopyOutput;
 
 /**
  * A committing output stream with optional serialized entity buffering functionality
@@ -51,15 +53,19 @@ import org.glassfish.jersey.internal.guava.Preconditions;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * File regions and byte buffers written using the {@link ZeroCopyOutput} methods are passed to the adapted output stream
+ * without copying if the adapted stream supports it. As a file region completes the entity, the entity size passed
+ * to the callback includes the size of the region.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
  * @author Miroslav Fuksa
  */
-public final class CommittingOutputStream extends OutputStream {
+public final class CommittingOutputStream extends OutputStream implements ZeroCopyOutput {
 
     private static final Logger LOGGER = Logger.getLogger(CommittingOutputStream.class.getName());
-    private final boolean isVirtualThread = VirtualThreadSupport.isVirtualThread();
 
     /**
      * Null stream provider.
@@ -83,9 +89,17 @@ public final class CommittingOutputStream extends OutputStream {
      */
     private int bufferSize = 0;
     /**
-     * Entity buffer.
+     * Entity buffer, allocated lazily when the first byte is buffered.
      */
-    private ByteArrayOutputStream buffer;
+    private byte[] buffer;
+    /**
+     * Number of bytes in the entity buffer.
+     */
+    private int count;
+    /**
+     * When {@code true}, the entity buffer has been obtained from the buffer pool.
+     */
+    private boolean pooledBuffer;
     /**
      * When {@code true}, the data are written directly to output stream and not to the buffer.
      */
@@ -136,18 +150,35 @@ public final class CommittingOutputStream extends OutputStream {
      *                   {@link org.glassfish.jersey.message.internal.OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
      */
     public void enableBuffering(int bufferSize) {
-        Preconditions.checkState(!isCommitted && (this.buffer == null || this.buffer.size() == 0),
-                                 COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        Preconditions.checkState(!isCommitted && count == 0, COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
         this.bufferSize = bufferSize;
         if (bufferSize <= 0) {
             this.directWrite = true;
-            this.buffer = null;
+            releaseBuffer();
         } else {
             directWrite = false;
-            buffer = new ByteArrayOutputStream(bufferSize);
+            if (buffer != null && buffer.length < bufferSize) {
+                releaseBuffer();
+            }
         }
     }
 
+    private void ensureBuffer() {
+        if (buffer == null) {
+            final BufferPool pool = BufferPools.get();
+            pooledBuffer = bufferSize <= pool.getBufferSize();
+            buffer = pooledBuffer ? pool.acquire() : new byte[bufferSize];
+        }
+    }
+
+    private void releaseBuffer() {
+        if (buffer != null && pooledBuffer) {
+            BufferPools.get().release(buffer);
+        }
+        buffer = null;
+        count = 0;
+    }
+
     /**
      * Enable buffering of the serialized entity with the {@link #DEFAULT_BUFFER_SIZE default buffer size }.
      */
@@ -187,12 +218,7 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (b.length + buffer.size() > bufferSize) {
-                flushBuffer(false);
-                adaptedOutput.write(b);
-            } else {
-                buffer.write(b);
-            }
+            write(b, 0, b.length);
         }
     }
 
@@ -202,11 +228,13 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b, off, len);
         } else {
-            if (len + buffer.size() > bufferSize) {
+            if (len + count > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b, off, len);
             } else {
-                buffer.write(b, off, len);
+                ensureBuffer();
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
             }
         }
     }
@@ -217,15 +245,44 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (buffer.size() + 1 > bufferSize) {
+            if (count + 1 > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                ensureBuffer();
+                buffer[count++] = (byte) b;
             }
         }
     }
 
+    @Override
+    public boolean writeFile(final File file, final long position, final long count) throws IOException {
+        if (!isCommitted) {
+            // the file region is the rest of the entity, hence the entity size is known
+            final long size = this.count + count;
+            final int currentSize = size <= Integer.MAX_VALUE ? (int) size : -1;
+            flushBuffer(currentSize);
+            commitStream(currentSize);
+        }
+        return adaptedOutput instanceof ZeroCopyOutput && ((ZeroCopyOutput) adaptedOutput).writeFile(file, position, count);
+    }
+
+    @Override
+    public boolean writeBuffer(final ByteBuffer buffer) throws IOException {
+        if (!directWrite && count + buffer.remaining() <= bufferSize) {
+            // small enough to be buffered, the entity size might still be measured
+            ensureBuffer();
+            final int length = buffer.remaining();
+            buffer.get(this.buffer, count, length);
+            count += length;
+            return true;
+        }
+
+        flushBuffer(-1);
+        commitStream();
+        return adaptedOutput instanceof ZeroCopyOutput && ((ZeroCopyOutput) adaptedOutput).writeBuffer(buffer);
+    }
+
     /**
      * Commit the output stream.
      *
@@ -268,23 +325,18 @@ public final class CommittingOutputStream extends OutputStream {
     }
 
     private void flushBuffer(boolean endOfStream) throws IOException {
-        if (!directWrite) {
-            int currentSize;
-            if (endOfStream) {
-                currentSize = buffer == null ? 0 : buffer.size();
-            } else {
-                currentSize = -1;
-            }
+        flushBuffer(endOfStream ? count : -1);
+    }
 
+    private void flushBuffer(int currentSize) throws IOException {
+        if (!directWrite) {
             commitStream(currentSize);
-            if (buffer != null) {
-                if (isVirtualThread && adaptedOutput != null) {
-                    adaptedOutput.write(buffer.toByteArray());
-                } else {
-                    // Virtual thread in JDK 21 are blocked by synchronized writeTo
-                    // but about 10% faster than ^ without virtual threads.
-                    buffer.writeTo(adaptedOutput);
+            try {
+                if (count > 0) {
+                    adaptedOutput.write(buffer, 0, count);
                 }
+            } finally {
+                releaseBuffer();
             }
         }
     }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+/**
+ * Single-subscriber publisher of entity bytes.
+ * <p>
+ * The source of the entity {@link #offer(ByteBuffer) offers} the buffers as they become available and finally
+ * {@link #complete() completes} or {@link #fail(Throwable) fails} the publisher. The buffers are queued until the
+ * subscriber requests them. Whenever the subscriber requests more data than is queued, the {@link #onDemand()} method
+ * is invoked so that sources that pull the data (rather than push them) can read more.
+ * </p>
+ * <p>
+ * The methods may be invoked from any thread, the subscriber is always signalled serially.
+ * </p>
+ *
+ * @since 2.47
+ */
+public class EntityInputPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final AtomicReference<Flow.Subscriber<? super ByteBuffer>> subscriber = new AtomicReference<>();
+    private final Queue<ByteBuffer> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+
+    // accessed only while draining
+    private boolean terminated;
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (!this.subscriber.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(LocalizationMessages.ENTITY_PUBLISHER_ALREADY_SUBSCRIBED()));
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(final long n) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException(LocalizationMessages.ENTITY_PUBLISHER_REQUEST_NONPOSITIVE(n)));
+                    return;
+                }
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+        });
+        drain();
+    }
+
+    /**
+     * Offer next entity buffer to the subscriber.
+     *
+     * @param buffer entity buffer, owned by the publisher from now on.
+     */
+    public void offer(final ByteBuffer buffer) {
+        if (!done && !cancelled && buffer.hasRemaining()) {
+            queue.add(buffer);
+            drain();
+        }
+    }
+
+    /**
+     * Signal that the whole entity has been offered.
+     */
+    public void complete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Signal that the entity cannot be read to the end.
+     *
+     * @param cause cause of the failure.
+     */
+    public void fail(final Throwable cause) {
+        if (!done) {
+            error = cause;
+            done = true;
+        }
+        drain();
+    }
+
+    /**
+     * Check whether the subscriber has cancelled the subscription.
+     *
+     * @return {@code true} if the subscription has been cancelled.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Invoked when the subscriber requested more data than has been offered. Sources pulling the data should read
+     * more of them and {@link #offer(ByteBuffer) offer} them (possibly later, when they become available).
+     * <p>
+     * The method is never invoked concurrently and does nothing by default.
+     * </p>
+     */
+    protected void onDemand() {
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            final Flow.Subscriber<? super ByteBuffer> s = subscriber.get();
+            if (s != null && !terminated) {
+                drain(s);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drain(final Flow.Subscriber<? super ByteBuffer> s) {
+        while (true) {
+            if (cancelled) {
+                terminated = true;
+                queue.clear();
+                return;
+            }
+
+            final boolean d = done;
+            if (demand.get() > 0) {
+                final ByteBuffer buffer = queue.poll();
+                if (buffer != null) {
+                    demand.decrementAndGet();
+                    s.onNext(buffer);
+                    continue;
+                }
+            }
+
+            if (d && (error != null || queue.isEmpty())) {
+                terminated = true;
+                queue.clear();
+                if (error != null) {
+                    s.onError(error);
+                } else {
+                    s.onComplete();
+                }
+                return;
+            }
+
+            if (demand.get() > 0 && !d) {
+                onDemand();
+            }
+            return;
+        }
+    }
+}
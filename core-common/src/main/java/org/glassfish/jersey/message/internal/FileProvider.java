@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,6 +32,8 @@ import javax.ws.rs.core.MultivaluedMap;
 
 import javax.inject.Singleton;
 
+import org.glassfish.jersey.message.ZeroCopyOutput;
+
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link File} instance.
@@ -82,6 +84,11 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
                         final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders,
                         final OutputStream entityStream) throws IOException {
+        // let the container send the file without copying it through the heap if it can
+        if (entityStream instanceof ZeroCopyOutput && t.isFile()
+                && ((ZeroCopyOutput) entityStream).writeFile(t, 0, t.length())) {
+            return;
+        }
         Files.copy(t.toPath(), entityStream);
     }
 
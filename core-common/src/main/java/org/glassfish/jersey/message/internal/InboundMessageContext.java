@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -49,6 +49,7 @@ import org.glassfish.jersey.innate.io.SafelyClosable;
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.util.collection.GuardianStringKeyMultivaluedMap;
+import org.glassfish.jersey.internal.util.collection.LazyStringKeyIgnoreCaseMultivaluedMap;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
@@ -87,6 +88,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
     private static final List<AcceptableMediaType> WILDCARD_ACCEPTABLE_TYPE_SINGLETON_LIST =
             Collections.singletonList(MediaTypes.WILDCARD_ACCEPTABLE_TYPE);
 
+    private final LazyStringKeyIgnoreCaseMultivaluedMap rawHeaders;
     private final GuardianStringKeyMultivaluedMap<String> headers;
     private final EntityContent entityContent;
     private final boolean translateNce;
@@ -158,7 +160,8 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
      */
     public InboundMessageContext(Configuration configuration, boolean translateNce) {
         super(configuration);
-        this.headers = new GuardianStringKeyMultivaluedMap<>(HeaderUtils.createInbound());
+        this.rawHeaders = new LazyStringKeyIgnoreCaseMultivaluedMap();
+        this.headers = new GuardianStringKeyMultivaluedMap<>(rawHeaders);
         this.entityContent = new EntityContent();
         this.translateNce = translateNce;
         this.configuration = configuration;
@@ -255,6 +258,42 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
         return this;
     }
 
+    /**
+     * Add new headers read lazily from the given source.
+     * <p/>
+     * If the context has no headers yet, the headers are not copied; they are read from the source when queried
+     * and copied into the context only when the headers are modified or iterated. The source must therefore stay
+     * valid until the processing of the message is finished or until {@link #detachHeaders()} is called. If the
+     * context already has headers, the headers of the source are added to them right away.
+     *
+     * @param source source of the new headers, e.g. an adapter of the headers of a container request.
+     * @return updated context.
+     */
+    public InboundMessageContext headers(LazyStringKeyIgnoreCaseMultivaluedMap.Source source) {
+        if (rawHeaders.setSource(source)) {
+            // the caches may have been initialized before any header was set
+            contentTypeCache = contentTypeCache();
+            acceptTypeCache = acceptTypeCache();
+        } else {
+            for (String name : source.names()) {
+                final List<String> values = source.get(name);
+                if (values != null) {
+                    headers.addAll(name, values);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Copy the headers read lazily from a {@link #headers(LazyStringKeyIgnoreCaseMultivaluedMap.Source) source} into
+     * the context, so that they remain available when the source is no longer valid. Does nothing if the headers
+     * have already been copied.
+     */
+    public void detachHeaders() {
+        rawHeaders.materialize();
+    }
+
     /**
      * Remove a header.
      *
@@ -697,7 +736,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
             }
 
             final InputStream entityStream = entityContent.getWrappedStream();
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final BufferedEntityOutputStream baos = new BufferedEntityOutputStream();
             try {
                 ReaderWriter.writeTo(entityStream, baos);
             } finally {
@@ -708,7 +747,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
                 ReaderWriter.safelyClose(entityStream);
             }
 
-            entityContent.setContent(new ByteArrayInputStream(baos.toByteArray()), true);
+            entityContent.setContent(baos.toInputStream(), true);
 
             return true;
         } catch (IOException ex) {
@@ -744,4 +783,14 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
     public Configuration getConfiguration() {
         return configuration;
     }
+
+    /**
+     * Byte array output stream that exposes the buffered bytes as an input stream without copying them.
+     */
+    private static final class BufferedEntityOutputStream extends ByteArrayOutputStream {
+
+        private ByteArrayInputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
 }
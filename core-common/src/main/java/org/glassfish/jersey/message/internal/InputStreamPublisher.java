@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Entity publisher that reads the entity from a blocking input stream.
+ * <p>
+ * Used for the entity streams that do not implement {@link org.glassfish.jersey.message.NonBlockingInput}. The stream
+ * is read by the thread that requests the data, hence the publisher blocks when the data are not available yet.
+ * </p>
+ *
+ * @since 2.47
+ */
+public class InputStreamPublisher extends EntityInputPublisher {
+
+    private final InputStream input;
+
+    /**
+     * Create a new publisher of the entity read from the given stream.
+     *
+     * @param input entity input stream.
+     */
+    public InputStreamPublisher(final InputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    protected void onDemand() {
+        try {
+            final byte[] buffer = new byte[ReaderWriter.BUFFER_SIZE];
+            final int read = input.read(buffer);
+            if (read < 0) {
+                complete();
+            } else {
+                offer(ByteBuffer.wrap(buffer, 0, read));
+            }
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+}
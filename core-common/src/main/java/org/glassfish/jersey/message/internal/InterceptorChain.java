@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Precomputed, immutable chain of entity interceptors of a single endpoint (e.g. a resource method) that also
+ * remembers the {@link javax.ws.rs.ext.MessageBodyReader message body reader} or
+ * {@link javax.ws.rs.ext.MessageBodyWriter writer} selected for the last entity processed by the chain.
+ * <p>
+ * When the chain is passed to the {@link ReaderInterceptorExecutor reader} or
+ * {@link WriterInterceptorExecutor writer interceptor executor}, the remembered worker is reused as long as the
+ * entity type, generic type, annotations and media type seen by the terminal interceptor stay the same, sparing
+ * the lookup in {@link MessageBodyFactory}. The remembered worker is replaced whenever any of them differs.
+ * </p>
+ *
+ * @param <I> interceptor type.
+ * @param <W> message body worker type.
+ * @since 2.47
+ */
+public final class InterceptorChain<I, W> implements Iterable<I> {
+
+    private final List<I> interceptors;
+    private volatile Selection<W> selection;
+
+    /**
+     * Create a new interceptor chain.
+     *
+     * @param interceptors interceptors in the order of their execution.
+     */
+    public InterceptorChain(final Iterable<I> interceptors) {
+        final List<I> list = new ArrayList<>();
+        interceptors.forEach(list::add);
+        this.interceptors = Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public Iterator<I> iterator() {
+        return interceptors.iterator();
+    }
+
+    /**
+     * Get the worker selected for the last entity with the same type, generic type, annotations and media type.
+     *
+     * @param rawType     entity type.
+     * @param genericType entity generic type.
+     * @param annotations entity annotations.
+     * @param mediaType   entity media type.
+     * @return remembered worker or {@code null} if no worker has been selected for the given entity yet.
+     */
+    W getWorker(final Class<?> rawType, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+        final Selection<W> current = selection;
+        return current != null && current.matches(rawType, genericType, annotations, mediaType) ? current.worker : null;
+    }
+
+    /**
+     * Remember the worker selected for the entity with the given type, generic type, annotations and media type.
+     *
+     * @param rawType     entity type.
+     * @param genericType entity generic type.
+     * @param annotations entity annotations.
+     * @param mediaType   entity media type.
+     * @param worker      selected worker.
+     */
+    void setWorker(final Class<?> rawType, final Type genericType, final Annotation[] annotations, final MediaType mediaType,
+                   final W worker) {
+        selection = new Selection<>(rawType, genericType, annotations, mediaType, worker);
+    }
+
+    private static final class Selection<W> {
+
+        private final Class<?> rawType;
+        private final Type genericType;
+        private final Annotation[] annotations;
+        private final MediaType mediaType;
+        private final W worker;
+
+        private Selection(final Class<?> rawType, final Type genericType, final Annotation[] annotations,
+                          final MediaType mediaType, final W worker) {
+            this.rawType = rawType;
+            this.genericType = genericType;
+            this.annotations = annotations;
+            this.mediaType = mediaType;
+            this.worker = worker;
+        }
+
+        private boolean matches(final Class<?> rawType, final Type genericType, final Annotation[] annotations,
+                                final MediaType mediaType) {
+            return this.rawType == rawType
+                    && (this.mediaType == mediaType || this.mediaType != null && this.mediaType.equals(mediaType))
+                    && (this.genericType == genericType || this.genericType != null && this.genericType.equals(genericType))
+                    && (this.annotations == annotations || Arrays.equals(this.annotations, annotations));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded, lock-free lookup cache.
+ * <p>
+ * The cache is a set-associative table with a fixed number of slots: every key maps to a set of four adjacent slots,
+ * so a lookup probes at most four slots and keys whose hashes collide do not evict each other until the set is full.
+ * Storing a value in a full set replaces a randomly chosen entry of the set, hence the memory used by the cache never
+ * grows beyond its capacity, no matter how many distinct keys are looked up. Values must therefore be re-computable
+ * at any time from their keys.
+ * </p>
+ *
+ * @param <K> key type.
+ * @param <V> value type.
+ */
+final class LookupCache<K, V> {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 20;
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry<K, V>> table;
+    private final int ways;
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new lookup cache.
+     *
+     * @param capacity maximum number of cached entries, rounded up to the nearest power of two.
+     */
+    LookupCache(final int capacity) {
+        final int size = capacity <= 1 ? 1 : Integer.highestOneBit(Math.min(capacity, MAXIMUM_CAPACITY) - 1) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.ways = Math.min(WAYS, size);
+        this.setMask = size / ways - 1;
+    }
+
+    /**
+     * Get the value cached for the key.
+     *
+     * @param key lookup key.
+     * @return cached value or {@code null} if no value is cached for the key.
+     */
+    V get(final K key) {
+        final int set = set(key);
+        for (int i = set; i < set + ways; i++) {
+            final Entry<K, V> entry = table.get(i);
+            if (entry != null && entry.key.equals(key)) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache the value for the key. The entry of the key or an empty slot of the key's set is used if there is one,
+     * a random entry of the set is replaced otherwise.
+     *
+     * @param key   lookup key.
+     * @param value value to be cached, must not be {@code null}.
+     */
+    void put(final K key, final V value) {
+        final int set = set(key);
+        int slot = -1;
+        for (int i = set; i < set + ways; i++) {
+            final Entry<K, V> entry = table.get(i);
+            if (entry == null) {
+                if (slot < 0) {
+                    slot = i;
+                }
+            } else if (entry.key.equals(key)) {
+                slot = i;
+                break;
+            }
+        }
+        if (slot < 0) {
+            slot = set + ThreadLocalRandom.current().nextInt(ways);
+        }
+        // racing puts may store the same key twice in a set, which only wastes a slot until one of them is replaced
+        table.set(slot, new Entry<>(key, value));
+    }
+
+    /**
+     * Get the maximum number of cached entries.
+     *
+     * @return cache capacity.
+     */
+    int capacity() {
+        return table.length();
+    }
+
+    /**
+     * Get the number of lookups that found a cached value.
+     *
+     * @return cache hit count.
+     */
+    long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that did not find a cached value.
+     *
+     * @return cache miss count.
+     */
+    long missCount() {
+        return misses.sum();
+    }
+
+    private int set(final K key) {
+        final int hash = key.hashCode();
+        return ((hash ^ (hash >>> 16)) & setMask) * ways;
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final V value;
+
+        private Entry(final K key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -36,8 +36,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -69,7 +69,6 @@ import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
 import org.glassfish.jersey.internal.util.ReflectionHelper.DeclaringClassInterfacePair;
-import org.glassfish.jersey.internal.util.collection.DataStructures;
 import org.glassfish.jersey.internal.util.collection.KeyComparator;
 import org.glassfish.jersey.internal.util.collection.KeyComparatorHashMap;
 import org.glassfish.jersey.internal.util.collection.KeyComparatorLinkedHashMap;
@@ -180,22 +179,13 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     private final Map<MediaType, List<MessageBodyReader>> readersCache = new KeyComparatorHashMap<>(MEDIA_TYPE_KEY_COMPARATOR);
     private final Map<MediaType, List<MessageBodyWriter>> writersCache = new KeyComparatorHashMap<>(MEDIA_TYPE_KEY_COMPARATOR);
 
-    private static final int LOOKUP_CACHE_INITIAL_CAPACITY = 32;
-    private static final float LOOKUP_CACHE_LOAD_FACTOR = 0.75f;
-    private final Map<Class<?>, List<ReaderModel>> mbrTypeLookupCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
-    private final Map<Class<?>, List<WriterModel>> mbwTypeLookupCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
-
-    private final Map<Class<?>, List<MediaType>> typeToMediaTypeReadersCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
-    private final Map<Class<?>, List<MediaType>> typeToMediaTypeWritersCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
+    /**
+     * Marker cached for a selection lookup that did not find any suitable worker.
+     */
+    private static final Object NO_WORKER = new Object();
 
-    private final Map<ModelLookupKey, List<ReaderModel>> mbrLookupCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
-    private final Map<ModelLookupKey, List<WriterModel>> mbwLookupCache = new ConcurrentHashMap<>(
-            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
+    private final LookupCache<Object, Object> lookupCache;
+    private final boolean selectionCacheEnabled;
 
     /**
      * Create a new message body factory.
@@ -205,6 +195,15 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     public MessageBodyFactory(Configuration configuration) {
         this.legacyProviderOrdering = configuration != null
                 && PropertiesHelper.isProperty(configuration.getProperty(MessageProperties.LEGACY_WORKERS_ORDERING));
+        this.selectionCacheEnabled = configuration != null
+                && PropertiesHelper.isProperty(configuration.getProperty(MessageProperties.WORKERS_SELECTION_CACHE_ENABLED));
+
+        final int lookupCacheSize = configuration == null
+                ? MessageProperties.WORKERS_DEFAULT_LOOKUP_CACHE_SIZE
+                : PropertiesHelper.getValue(configuration.getProperties(), MessageProperties.WORKERS_LOOKUP_CACHE_SIZE,
+                        MessageProperties.WORKERS_DEFAULT_LOOKUP_CACHE_SIZE, Integer.class, null);
+        this.lookupCache = new LookupCache<>(lookupCacheSize > 0
+                ? lookupCacheSize : MessageProperties.WORKERS_DEFAULT_LOOKUP_CACHE_SIZE);
     }
 
     /**
@@ -479,12 +478,17 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         }
     }
 
+    /**
+     * Key of the list of workers compatible with an entity class and a media type.
+     */
     private static class ModelLookupKey {
 
+        final Class<?> worker;
         final Class<?> clazz;
         final MediaType mediaType;
 
-        private ModelLookupKey(final Class<?> clazz, final MediaType mediaType) {
+        private ModelLookupKey(final Class<?> worker, final Class<?> clazz, final MediaType mediaType) {
+            this.worker = worker;
             this.clazz = clazz;
             this.mediaType = mediaType;
         }
@@ -500,18 +504,122 @@ public class MessageBodyFactory implements MessageBodyWorkers {
 
             final ModelLookupKey that = (ModelLookupKey) o;
 
-            return !(clazz != null ? !clazz.equals(that.clazz) : that.clazz != null)
-                    && !(mediaType != null ? !mediaType.equals(that.mediaType) : that.mediaType != null);
+            return worker == that.worker
+                    && Objects.equals(clazz, that.clazz)
+                    && Objects.equals(mediaType, that.mediaType);
         }
 
         @Override
         public int hashCode() {
-            int result = clazz != null ? clazz.hashCode() : 0;
+            int result = worker.hashCode();
+            result = 31 * result + (clazz != null ? clazz.hashCode() : 0);
             result = 31 * result + (mediaType != null ? mediaType.hashCode() : 0);
             return result;
         }
     }
 
+    /**
+     * Key of the {@link TypeLookup workers suitable for an entity class}.
+     */
+    private static class TypeLookupKey {
+
+        final Class<?> worker;
+        final Class<?> clazz;
+
+        private TypeLookupKey(final Class<?> worker, final Class<?> clazz) {
+            this.worker = worker;
+            this.clazz = clazz;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final TypeLookupKey that = (TypeLookupKey) o;
+
+            return worker == that.worker && clazz == that.clazz;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * worker.hashCode() + clazz.hashCode();
+        }
+    }
+
+    /**
+     * Workers suitable for an entity class together with the media types declared by the workers.
+     */
+    private static class TypeLookup<M extends AbstractEntityProviderModel<?>> {
+
+        final List<M> models;
+        final List<MediaType> mediaTypes;
+
+        private TypeLookup(final List<M> models, final List<MediaType> mediaTypes) {
+            this.models = models;
+            this.mediaTypes = mediaTypes;
+        }
+    }
+
+    /**
+     * Key of the worker selected for an entity class, generic type, annotations and media type.
+     * <p>
+     * Annotations do not contribute to the hash code as computing the hash code of an annotation is expensive.
+     * </p>
+     */
+    private static class SelectionKey {
+
+        final Class<?> worker;
+        final Class<?> clazz;
+        final Type type;
+        final Annotation[] annotations;
+        final MediaType mediaType;
+        final int hash;
+
+        private SelectionKey(final Class<?> worker, final Class<?> clazz, final Type type,
+                             final Annotation[] annotations, final MediaType mediaType) {
+            this.worker = worker;
+            this.clazz = clazz;
+            this.type = type;
+            this.annotations = annotations;
+            this.mediaType = mediaType;
+
+            int result = worker.hashCode();
+            result = 31 * result + Objects.hashCode(clazz);
+            result = 31 * result + Objects.hashCode(type);
+            result = 31 * result + Objects.hashCode(mediaType);
+            this.hash = 31 * result + (annotations != null ? annotations.length : -1);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final SelectionKey that = (SelectionKey) o;
+
+            return hash == that.hash
+                    && worker == that.worker
+                    && clazz == that.clazz
+                    && Objects.equals(type, that.type)
+                    && Objects.equals(mediaType, that.mediaType)
+                    && (annotations == that.annotations || Arrays.equals(annotations, that.annotations));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     private static void addReaders(final List<ReaderModel> models, final Set<MessageBodyReader> readers, final boolean custom) {
         for (final MessageBodyReader provider : readers) {
             final List<MediaType> values = MediaTypes.createFrom(provider.getClass().getAnnotation(Consumes.class));
@@ -526,6 +634,38 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         }
     }
 
+    /**
+     * Get the number of message body worker lookups served from the lookup cache.
+     *
+     * @return lookup cache hit count.
+     * @since 2.47
+     */
+    public long getLookupCacheHitCount() {
+        return lookupCache.hitCount();
+    }
+
+    /**
+     * Get the number of message body worker lookups that had to be computed because the result
+     * was not found in the lookup cache.
+     *
+     * @return lookup cache miss count.
+     * @since 2.47
+     */
+    public long getLookupCacheMissCount() {
+        return lookupCache.missCount();
+    }
+
+    /**
+     * Get the maximum number of entries retained by the lookup cache.
+     *
+     * @return lookup cache capacity.
+     * @see MessageProperties#WORKERS_LOOKUP_CACHE_SIZE
+     * @since 2.47
+     */
+    public int getLookupCacheCapacity() {
+        return lookupCache.capacity();
+    }
+
     // MessageBodyWorkers
     @Override
     public Map<MediaType, List<MessageBodyReader>> getReaders(final MediaType mediaType) {
@@ -572,11 +712,31 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> MessageBodyReader<T> getMessageBodyReader(final Class<T> c, final Type t,
                                                          final Annotation[] as,
                                                          final MediaType mediaType,
                                                          final PropertiesDelegate propertiesDelegate) {
+        if (!selectionCacheEnabled
+                || TracingLogger.getInstance(propertiesDelegate).isLogEnabled(MsgTraceEvent.MBR_SELECTED)) {
+            return selectMessageBodyReader(c, t, as, mediaType, propertiesDelegate);
+        }
+
+        final SelectionKey key = new SelectionKey(MessageBodyReader.class, c, t, as, mediaType);
+        final Object cached = lookupCache.get(key);
+        if (cached != null) {
+            return cached == NO_WORKER ? null : (MessageBodyReader<T>) cached;
+        }
 
+        final MessageBodyReader<T> p = selectMessageBodyReader(c, t, as, mediaType, propertiesDelegate);
+        lookupCache.put(key, p == null ? NO_WORKER : p);
+        return p;
+    }
+
+    private <T> MessageBodyReader<T> selectMessageBodyReader(final Class<T> c, final Type t,
+                                                             final Annotation[] as,
+                                                             final MediaType mediaType,
+                                                             final PropertiesDelegate propertiesDelegate) {
         MessageBodyReader<T> p = null;
         if (legacyProviderOrdering) {
             if (mediaType != null) {
@@ -657,8 +817,8 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                 ? mediaType
                 : new MediaType(mediaType.getType(), mediaType.getSubtype());
 
-        final ModelLookupKey lookupKey = new ModelLookupKey(c, lookupType);
-        List<ReaderModel> readers = mbrLookupCache.get(lookupKey);
+        final ModelLookupKey lookupKey = new ModelLookupKey(MessageBodyReader.class, c, lookupType);
+        List<ReaderModel> readers = (List<ReaderModel>) lookupCache.get(lookupKey);
         if (readers == null) {
             readers = new ArrayList<>();
 
@@ -668,7 +828,7 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                 }
             }
             readers.sort(new WorkerComparator<>(c, mediaType));
-            mbrLookupCache.put(lookupKey, readers);
+            lookupCache.put(lookupKey, readers);
         }
 
         if (readers.isEmpty()) {
@@ -741,10 +901,31 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> MessageBodyWriter<T> getMessageBodyWriter(final Class<T> c, final Type t,
                                                          final Annotation[] as,
                                                          final MediaType mediaType,
                                                          final PropertiesDelegate propertiesDelegate) {
+        if (!selectionCacheEnabled
+                || TracingLogger.getInstance(propertiesDelegate).isLogEnabled(MsgTraceEvent.MBW_SELECTED)) {
+            return selectMessageBodyWriter(c, t, as, mediaType, propertiesDelegate);
+        }
+
+        final SelectionKey key = new SelectionKey(MessageBodyWriter.class, c, t, as, mediaType);
+        final Object cached = lookupCache.get(key);
+        if (cached != null) {
+            return cached == NO_WORKER ? null : (MessageBodyWriter<T>) cached;
+        }
+
+        final MessageBodyWriter<T> p = selectMessageBodyWriter(c, t, as, mediaType, propertiesDelegate);
+        lookupCache.put(key, p == null ? NO_WORKER : p);
+        return p;
+    }
+
+    private <T> MessageBodyWriter<T> selectMessageBodyWriter(final Class<T> c, final Type t,
+                                                             final Annotation[] as,
+                                                             final MediaType mediaType,
+                                                             final PropertiesDelegate propertiesDelegate) {
         MessageBodyWriter<T> p = null;
 
         if (legacyProviderOrdering) {
@@ -776,10 +957,9 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                 ? mediaType
                 : new MediaType(mediaType.getType(), mediaType.getSubtype());
 
-        final ModelLookupKey lookupKey = new ModelLookupKey(c, lookupType);
-        List<WriterModel> writers = mbwLookupCache.get(lookupKey);
+        final ModelLookupKey lookupKey = new ModelLookupKey(MessageBodyWriter.class, c, lookupType);
+        List<WriterModel> writers = (List<WriterModel>) lookupCache.get(lookupKey);
         if (writers == null) {
-
             writers = new ArrayList<>();
 
             for (final WriterModel model : models) {
@@ -788,7 +968,7 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                 }
             }
             writers.sort(new WorkerComparator<>(c, mediaType));
-            mbwLookupCache.put(lookupKey, writers);
+            lookupCache.put(lookupKey, writers);
         }
 
         if (writers.isEmpty()) {
@@ -922,14 +1102,21 @@ public class MessageBodyFactory implements MessageBodyWorkers {
 
     @Override
     public List<WriterModel> getWritersModelsForType(final Class<?> type) {
-        final List<WriterModel> writerModels = mbwTypeLookupCache.get(type);
-        if (writerModels != null) {
-            return writerModels;
+        return getWritersForType(type).models;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypeLookup<WriterModel> getWritersForType(final Class<?> type) {
+        final TypeLookupKey key = new TypeLookupKey(MessageBodyWriter.class, type);
+        TypeLookup<WriterModel> lookup = (TypeLookup<WriterModel>) lookupCache.get(key);
+        if (lookup == null) {
+            lookup = processMessageBodyWritersForType(type);
+            lookupCache.put(key, lookup);
         }
-        return processMessageBodyWritersForType(type);
+        return lookup;
     }
 
-    private List<WriterModel> processMessageBodyWritersForType(final Class<?> clazz) {
+    private TypeLookup<WriterModel> processMessageBodyWritersForType(final Class<?> clazz) {
         final List<WriterModel> suitableWriters = new ArrayList<>();
 
         if (Response.class.isAssignableFrom(clazz)) {
@@ -948,28 +1135,19 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         }
         // Type -> Writer.
         suitableWriters.sort(WORKER_BY_TYPE_COMPARATOR);
-        mbwTypeLookupCache.put(clazz, suitableWriters);
 
         // Type -> MediaType.
-        typeToMediaTypeWritersCache.put(clazz, getMessageBodyWorkersMediaTypesByType(suitableWriters));
-
-        return suitableWriters;
+        return new TypeLookup<>(suitableWriters, getMessageBodyWorkersMediaTypesByType(suitableWriters));
     }
 
     @Override
     public List<MediaType> getMessageBodyWriterMediaTypesByType(final Class<?> type) {
-        if (!typeToMediaTypeWritersCache.containsKey(type)) {
-            processMessageBodyWritersForType(type);
-        }
-        return typeToMediaTypeWritersCache.get(type);
+        return getWritersForType(type).mediaTypes;
     }
 
     @Override
     public List<MediaType> getMessageBodyReaderMediaTypesByType(final Class<?> type) {
-        if (!typeToMediaTypeReadersCache.containsKey(type)) {
-            processMessageBodyReadersForType(type);
-        }
-        return typeToMediaTypeReadersCache.get(type);
+        return getReadersForType(type).mediaTypes;
     }
 
     @SuppressWarnings("unchecked")
@@ -995,14 +1173,21 @@ public class MessageBodyFactory implements MessageBodyWorkers {
 
     @Override
     public List<ReaderModel> getReaderModelsForType(final Class<?> type) {
-        if (!mbrTypeLookupCache.containsKey(type)) {
-            processMessageBodyReadersForType(type);
-        }
+        return getReadersForType(type).models;
+    }
 
-        return mbrTypeLookupCache.get(type);
+    @SuppressWarnings("unchecked")
+    private TypeLookup<ReaderModel> getReadersForType(final Class<?> type) {
+        final TypeLookupKey key = new TypeLookupKey(MessageBodyReader.class, type);
+        TypeLookup<ReaderModel> lookup = (TypeLookup<ReaderModel>) lookupCache.get(key);
+        if (lookup == null) {
+            lookup = processMessageBodyReadersForType(type);
+            lookupCache.put(key, lookup);
+        }
+        return lookup;
     }
 
-    private List<ReaderModel> processMessageBodyReadersForType(final Class<?> clazz) {
+    private TypeLookup<ReaderModel> processMessageBodyReadersForType(final Class<?> clazz) {
         final List<ReaderModel> suitableReaders = new ArrayList<>();
 
         final Class<?> wrapped = Primitives.wrap(clazz);
@@ -1016,12 +1201,9 @@ public class MessageBodyFactory implements MessageBodyWorkers {
 
         // Type -> Writer.
         suitableReaders.sort(WORKER_BY_TYPE_COMPARATOR);
-        mbrTypeLookupCache.put(clazz, suitableReaders);
 
         // Type -> MediaType.
-        typeToMediaTypeReadersCache.put(clazz, getMessageBodyWorkersMediaTypesByType(suitableReaders));
-
-        return suitableReaders;
+        return new TypeLookup<>(suitableReaders, getMessageBodyWorkersMediaTypesByType(suitableReaders));
     }
 
     @Override
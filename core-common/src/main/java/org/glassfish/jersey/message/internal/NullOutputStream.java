@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,10 +16,13 @@
 
 package org.glassfish.jersey.message.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.message.ZeroCopyOutput;
 
 /**
  * A {@code "dev/null"} output stream - an output stream implementation that discards all the
@@ -31,7 +34,7 @@ import org.glassfish.jersey.internal.LocalizationMessages;
  * @author Miroslav Fuksa
  * @author Marek Potociar
  */
-public class NullOutputStream extends OutputStream {
+public class NullOutputStream extends OutputStream implements ZeroCopyOutput {
 
     private boolean isClosed;
 
@@ -55,6 +58,19 @@ public class NullOutputStream extends OutputStream {
         checkClosed();
     }
 
+    @Override
+    public boolean writeFile(File file, long position, long count) throws IOException {
+        checkClosed();
+        return true;
+    }
+
+    @Override
+    public boolean writeBuffer(ByteBuffer buffer) throws IOException {
+        checkClosed();
+        buffer.position(buffer.limit());
+        return true;
+    }
+
     private void checkClosed() throws IOException {
         if (isClosed) {
             throw new IOException(LocalizationMessages.OUTPUT_STREAM_CLOSED());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,11 +21,8 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Iterator;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.ProcessingException;
@@ -61,6 +58,7 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
 
     private final MultivaluedMap<String, String> headers;
     private final Iterator<ReaderInterceptor> interceptors;
+    private final InterceptorChain<ReaderInterceptor, MessageBodyReader> chain;
     private final MessageBodyWorkers workers;
     private final boolean translateNce;
 
@@ -68,6 +66,7 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
 
     private InputStream inputStream;
     private int processedCount;
+    private boolean terminalProcessed;
 
     /**
      * Constructs a new executor to read given type from provided {@link InputStream entityStream}.
@@ -85,11 +84,14 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
      * @param workers            {@link org.glassfish.jersey.message.MessageBodyWorkers Message body workers}.
      * @param readerInterceptors Reader interceptor that are to be used to intercept the reading of an entity.
      *                           The interceptors will be executed in the same order as given in this parameter.
+     *                           If the interceptors are an {@link InterceptorChain}, the message body reader
+     *                           remembered by the chain is reused.
      * @param translateNce       if {@code true}, the {@link javax.ws.rs.core.NoContentException} thrown by a selected message
      *                           body
      *                           reader will be translated into a {@link javax.ws.rs.BadRequestException} as required by
      * @param injectionManager   injection manager.
      */
+    @SuppressWarnings("unchecked")
     ReaderInterceptorExecutor(final Class<?> rawType, final Type type,
                               final Annotation[] annotations,
                               final MediaType mediaType,
@@ -108,11 +110,9 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
         this.translateNce = translateNce;
         this.injectionManager = injectionManager;
 
-        final List<ReaderInterceptor> effectiveInterceptors = StreamSupport.stream(readerInterceptors.spliterator(), false)
-                                                                           .collect(Collectors.toList());
-        effectiveInterceptors.add(new TerminalReaderInterceptor());
-
-        this.interceptors = effectiveInterceptors.iterator();
+        this.interceptors = readerInterceptors.iterator();
+        this.chain = readerInterceptors instanceof InterceptorChain
+                ? (InterceptorChain<ReaderInterceptor, MessageBodyReader>) readerInterceptors : null;
         this.processedCount = 0;
     }
 
@@ -124,10 +124,10 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
     @Override
     @SuppressWarnings("unchecked")
     public Object proceed() throws IOException {
-        if (!interceptors.hasNext()) {
+        final ReaderInterceptor interceptor = getNextInterceptor();
+        if (interceptor == null) {
             throw new ProcessingException(LocalizationMessages.ERROR_INTERCEPTOR_READER_PROCEED());
         }
-        final ReaderInterceptor interceptor = interceptors.next();
         traceBefore(interceptor, MsgTraceEvent.RI_BEFORE);
         try {
             return interceptor.aroundReadFrom(this);
@@ -137,6 +137,23 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
         }
     }
 
+    /**
+     * Returns next {@link ReaderInterceptor interceptor} in the chain, the terminal interceptor being the last one.
+     * Stateful method.
+     *
+     * @return Next interceptor or {@code null} if the whole chain has already been processed.
+     */
+    private ReaderInterceptor getNextInterceptor() {
+        if (interceptors.hasNext()) {
+            return interceptors.next();
+        }
+        if (terminalProcessed) {
+            return null;
+        }
+        terminalProcessed = true;
+        return new TerminalReaderInterceptor();
+    }
+
     @Override
     public InputStream getInputStream() {
         return this.inputStream;
@@ -191,12 +208,7 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
                             String.valueOf(context.getMediaType()), java.util.Arrays.toString(context.getAnnotations()));
                 }
 
-                final MessageBodyReader bodyReader = workers.getMessageBodyReader(
-                        context.getType(),
-                        context.getGenericType(),
-                        context.getAnnotations(),
-                        context.getMediaType(),
-                        ReaderInterceptorExecutor.this);
+                final MessageBodyReader bodyReader = getMessageBodyReader(context, tracingLogger);
 
                 final EntityInputStream input = new EntityInputStream(context.getInputStream());
 
@@ -222,6 +234,26 @@ public final class ReaderInterceptorExecutor extends InterceptorExecutor<ReaderI
             }
         }
 
+        private MessageBodyReader getMessageBodyReader(final ReaderInterceptorContext context,
+                                                       final TracingLogger tracingLogger) {
+            final boolean useChain = chain != null && !tracingLogger.isLogEnabled(MsgTraceEvent.MBR_SELECTED);
+            if (useChain) {
+                final MessageBodyReader reader = chain.getWorker(context.getType(), context.getGenericType(),
+                        context.getAnnotations(), context.getMediaType());
+                if (reader != null) {
+                    return reader;
+                }
+            }
+
+            final MessageBodyReader reader = workers.getMessageBodyReader(context.getType(), context.getGenericType(),
+                    context.getAnnotations(), context.getMediaType(), ReaderInterceptorExecutor.this);
+            if (useChain && reader != null) {
+                chain.setWorker(context.getType(), context.getGenericType(), context.getAnnotations(),
+                        context.getMediaType(), reader);
+            }
+            return reader;
+        }
+
         @SuppressWarnings("unchecked")
         private Object invokeReadFrom(final ReaderInterceptorContext context, final MessageBodyReader reader,
                                       final EntityInputStream input) throws WebApplicationException, IOException {
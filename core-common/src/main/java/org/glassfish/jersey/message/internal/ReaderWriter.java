@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,7 @@ import javax.ws.rs.core.MediaType;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.BufferPool;
 import org.glassfish.jersey.message.MessageProperties;
 
 /**
@@ -46,6 +47,7 @@ import org.glassfish.jersey.message.MessageProperties;
  * is by default the value of {@value org.glassfish.jersey.message.MessageProperties#IO_DEFAULT_BUFFER_SIZE}.
  * This value can be set using the system property
  * {@value org.glassfish.jersey.message.MessageProperties#IO_BUFFER_SIZE}.
+ * Byte arrays used for copying streams are obtained from the {@link BufferPools#get() buffer pool}.
  *
  * @author Paul Sandoz
  */
@@ -94,9 +96,14 @@ public final class ReaderWriter {
      */
     public static void writeTo(InputStream in, OutputStream out) throws IOException {
         int read;
-        final byte[] data = new byte[BUFFER_SIZE];
-        while ((read = in.read(data)) != -1) {
-            out.write(data, 0, read);
+        final BufferPool pool = BufferPools.get();
+        final byte[] data = pool.acquire();
+        try {
+            while ((read = in.read(data)) != -1) {
+                out.write(data, 0, read);
+            }
+        } finally {
+            pool.release(data);
         }
     }
 
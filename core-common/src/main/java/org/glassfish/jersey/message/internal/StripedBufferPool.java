@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.message.internal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.glassfish.jersey.message.BufferPool;
+
+/**
+ * Bounded, lock-free {@link BufferPool buffer pool}.
+ * <p>
+ * The pooled buffers are kept in a fixed number of stripes. A thread always starts looking for a free buffer (or
+ * a free slot when returning a buffer) in the stripe selected by its id, so that threads seldom compete for the
+ * same slots, and then continues with the neighbouring stripe. Unlike thread-local caching, buffers do not stay
+ * bound to a thread, which keeps the pool usable with large numbers of (virtual) threads.
+ * </p>
+ */
+final class StripedBufferPool implements BufferPool {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final int bufferSize;
+    private final int stripeMask;
+    private final int slotsPerStripe;
+    private final int scanLength;
+    private final AtomicReferenceArray<byte[]> heapSlots;
+    private final AtomicReferenceArray<ByteBuffer> directSlots;
+    private final BufferPools.PoolStatistics statistics = new BufferPools.PoolStatistics();
+
+    /**
+     * Create a new striped buffer pool.
+     *
+     * @param bufferSize size of the pooled buffers.
+     * @param capacity   maximum number of retained heap buffers (and direct buffers).
+     */
+    StripedBufferPool(final int bufferSize, final int capacity) {
+        this.bufferSize = bufferSize;
+
+        int stripes = 1;
+        while (stripes < Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES)) {
+            stripes <<= 1;
+        }
+        this.stripeMask = stripes - 1;
+        this.slotsPerStripe = Math.max(1, capacity / stripes);
+        this.scanLength = Math.min(stripes, 2) * slotsPerStripe;
+        this.heapSlots = new AtomicReferenceArray<>(stripes * slotsPerStripe);
+        this.directSlots = new AtomicReferenceArray<>(stripes * slotsPerStripe);
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public byte[] acquire() {
+        statistics.acquired();
+        final byte[] buffer = take(heapSlots);
+        if (buffer != null) {
+            return buffer;
+        }
+        statistics.allocated(bufferSize);
+        return new byte[bufferSize];
+    }
+
+    @Override
+    public void release(final byte[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+        statistics.released();
+        if (buffer.length != bufferSize || !offer(heapSlots, buffer)) {
+            statistics.discarded();
+        }
+    }
+
+    @Override
+    public ByteBuffer acquireDirect() {
+        statistics.acquired();
+        final ByteBuffer buffer = take(directSlots);
+        if (buffer != null) {
+            buffer.clear();
+            return buffer;
+        }
+        statistics.allocated(bufferSize);
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    @Override
+    public void releaseDirect(final ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        statistics.released();
+        if (!buffer.isDirect() || buffer.capacity() != bufferSize || !offer(directSlots, buffer)) {
+            statistics.discarded();
+        }
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    private int firstSlot() {
+        return ((int) Thread.currentThread().getId() & stripeMask) * slotsPerStripe;
+    }
+
+    private <T> T take(final AtomicReferenceArray<T> slots) {
+        final int length = slots.length();
+        final int first = firstSlot();
+        for (int i = 0; i < scanLength; i++) {
+            final int slot = (first + i) % length;
+            if (slots.get(slot) != null) {
+                final T buffer = slots.getAndSet(slot, null);
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+        }
+        return null;
+    }
+
+    private <T> boolean offer(final AtomicReferenceArray<T> slots, final T buffer) {
+        final int length = slots.length();
+        final int first = firstSlot();
+        for (int i = 0; i < scanLength; i++) {
+            final int slot = (first + i) % length;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, buffer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
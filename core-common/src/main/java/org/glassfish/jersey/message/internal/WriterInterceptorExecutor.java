@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,17 +16,16 @@
 
 package org.glassfish.jersey.message.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.WebApplicationException;
@@ -41,6 +40,7 @@ import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InjectionManagerSupplier;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.ZeroCopyOutput;
 
 /**
  * Represents writer interceptor chain executor for both client and server side.
@@ -61,7 +61,10 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
     private Object entity;
 
     private final Iterator<WriterInterceptor> iterator;
+    private final InterceptorChain<WriterInterceptor, MessageBodyWriter> chain;
+    private final MessageBodyWorkers workers;
     private int processedCount;
+    private boolean terminalProcessed;
 
     private final InjectionManager injectionManager;
 
@@ -85,8 +88,11 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
      *            closed after reading the entity.
      * @param workers {@link org.glassfish.jersey.message.MessageBodyWorkers Message body workers}.
      * @param writerInterceptors Writer interceptors that are to be used to intercept writing of an entity.
+     *                           If the interceptors are an {@link InterceptorChain}, the message body writer
+     *                           remembered by the chain is reused.
      * @param injectionManager injection manager.
      */
+    @SuppressWarnings("unchecked")
     public WriterInterceptorExecutor(final Object entity, final Class<?> rawType,
                                      final Type type,
                                      final Annotation[] annotations,
@@ -104,24 +110,28 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
         this.outputStream = entityStream;
         this.injectionManager = injectionManager;
 
-        final List<WriterInterceptor> effectiveInterceptors = StreamSupport.stream(writerInterceptors.spliterator(), false)
-                                                                           .collect(Collectors.toList());
-        effectiveInterceptors.add(new TerminalWriterInterceptor(workers));
-
-        this.iterator = effectiveInterceptors.iterator();
+        this.workers = workers;
+        this.iterator = writerInterceptors.iterator();
+        this.chain = writerInterceptors instanceof InterceptorChain
+                ? (InterceptorChain<WriterInterceptor, MessageBodyWriter>) writerInterceptors : null;
         this.processedCount = 0;
     }
 
     /**
-     * Returns next {@link WriterInterceptor interceptor} in the chain. Stateful method.
+     * Returns next {@link WriterInterceptor interceptor} in the chain, the terminal interceptor being the last one.
+     * Stateful method.
      *
-     * @return Next interceptor.
+     * @return Next interceptor or {@code null} if the whole chain has already been processed.
      */
     private WriterInterceptor getNextInterceptor() {
-        if (!iterator.hasNext()) {
+        if (iterator.hasNext()) {
+            return iterator.next();
+        }
+        if (terminalProcessed) {
             return null;
         }
-        return iterator.next();
+        terminalProcessed = true;
+        return new TerminalWriterInterceptor(workers);
     }
 
     /**
@@ -215,8 +225,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
                             context.getMediaType(), java.util.Arrays.toString(context.getAnnotations()));
                 }
 
-                final MessageBodyWriter writer = workers.getMessageBodyWriter(context.getType(), context.getGenericType(),
-                        context.getAnnotations(), context.getMediaType(), WriterInterceptorExecutor.this);
+                final MessageBodyWriter writer = getMessageBodyWriter(context, tracingLogger);
 
                 if (writer == null) {
                     LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_NOTFOUND_MESSAGEBODYWRITER(
@@ -231,6 +240,26 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             }
         }
 
+        private MessageBodyWriter getMessageBodyWriter(final WriterInterceptorContext context,
+                                                       final TracingLogger tracingLogger) {
+            final boolean useChain = chain != null && !tracingLogger.isLogEnabled(MsgTraceEvent.MBW_SELECTED);
+            if (useChain) {
+                final MessageBodyWriter writer = chain.getWorker(context.getType(), context.getGenericType(),
+                        context.getAnnotations(), context.getMediaType());
+                if (writer != null) {
+                    return writer;
+                }
+            }
+
+            final MessageBodyWriter writer = workers.getMessageBodyWriter(context.getType(), context.getGenericType(),
+                    context.getAnnotations(), context.getMediaType(), WriterInterceptorExecutor.this);
+            if (useChain && writer != null) {
+                chain.setWorker(context.getType(), context.getGenericType(), context.getAnnotations(),
+                        context.getMediaType(), writer);
+            }
+            return writer;
+        }
+
         @SuppressWarnings("unchecked")
         private void invokeWriteTo(final WriterInterceptorContext context, final MessageBodyWriter writer)
                 throws WebApplicationException, IOException {
@@ -251,7 +280,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
      * {@link javax.ws.rs.ext.MessageBodyWriter}s should not close the given {@link java.io.OutputStream stream}. This output
      * stream makes sure that the stream is not closed even if MBW tries to do it.
      */
-    private static class UnCloseableOutputStream extends OutputStream {
+    private static class UnCloseableOutputStream extends OutputStream implements ZeroCopyOutput {
 
         private final OutputStream original;
         private final MessageBodyWriter writer;
@@ -281,6 +310,16 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             original.flush();
         }
 
+        @Override
+        public boolean writeFile(final File file, final long position, final long count) throws IOException {
+            return original instanceof ZeroCopyOutput && ((ZeroCopyOutput) original).writeFile(file, position, count);
+        }
+
+        @Override
+        public boolean writeBuffer(final ByteBuffer buffer) throws IOException {
+            return original instanceof ZeroCopyOutput && ((ZeroCopyOutput) original).writeBuffer(buffer);
+        }
+
         @Override
         public void close() throws IOException {
             if (LOGGER.isLoggable(Level.FINE)) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.internal.util.collection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link LazyStringKeyIgnoreCaseMultivaluedMap} unit tests.
+ */
+public class LazyStringKeyIgnoreCaseMultivaluedMapTest {
+
+    private final Map<String, List<String>> nativeHeaders = new LinkedHashMap<>();
+    private final AtomicInteger namesCalls = new AtomicInteger();
+
+    private final LazyStringKeyIgnoreCaseMultivaluedMap.Source source = new LazyStringKeyIgnoreCaseMultivaluedMap.Source() {
+        @Override
+        public List<String> get(final String name) {
+            return nativeHeaders.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        public Iterable<String> names() {
+            namesCalls.incrementAndGet();
+            return nativeHeaders.keySet();
+        }
+    };
+
+    private LazyStringKeyIgnoreCaseMultivaluedMap createMap() {
+        nativeHeaders.put("accept", Collections.singletonList("text/plain"));
+        nativeHeaders.put("x-multi", Arrays.asList("a", "b"));
+        final LazyStringKeyIgnoreCaseMultivaluedMap map = new LazyStringKeyIgnoreCaseMultivaluedMap();
+        assertTrue(map.setSource(source));
+        return map;
+    }
+
+    @Test
+    public void testReadsDoNotCopy() {
+        final LazyStringKeyIgnoreCaseMultivaluedMap map = createMap();
+
+        assertEquals("text/plain", map.getFirst("Accept"));
+        assertEquals(Arrays.asList("a", "b"), map.get("X-Multi"));
+        assertTrue(map.containsKey("ACCEPT"));
+        assertFalse(map.containsKey("Content-Type"));
+        assertNull(map.get("Content-Type"));
+        assertNull(map.getFirst("Content-Type"));
+
+        assertTrue(map.isLazy());
+        assertEquals(0, namesCalls.get());
+    }
+
+    @Test
+    public void testMutationMaterializes() {
+        final LazyStringKeyIgnoreCaseMultivaluedMap map = createMap();
+
+        map.add("Accept", "text/html");
+        assertFalse(map.isLazy());
+        assertEquals(Arrays.asList("text/plain", "text/html"), map.get("accept"));
+        assertEquals(2, map.size());
+
+        // the source is no longer read
+        nativeHeaders.clear();
+        assertEquals(Arrays.asList("a", "b"), map.get("x-multi"));
+    }
+
+    @Test
+    public void testReadListModificationIsKept() {
+        final LazyStringKeyIgnoreCaseMultivaluedMap map = createMap();
+
+        map.get("x-multi").add("c");
+        assertEquals(Arrays.asList("a", "b", "c"), map.get("X-MULTI"));
+
+        assertEquals(2, map.keySet().size());
+        assertFalse(map.isLazy());
+        assertEquals(Arrays.asList("a", "b", "c"), map.get("x-multi"));
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        final LazyStringKeyIgnoreCaseMultivaluedMap map = createMap();
+
+        map.remove("Accept");
+        assertNull(map.get("accept"));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertTrue(map.setSource(source));
+        assertEquals("text/plain", map.getFirst("accept"));
+    }
+
+    @Test
+    public void testSourceOnlyOnEmptyMap() {
+        final LazyStringKeyIgnoreCaseMultivaluedMap map = new LazyStringKeyIgnoreCaseMultivaluedMap();
+        map.add("Accept", "text/plain");
+        assertFalse(map.setSource(source));
+        map.materialize();
+        assertEquals(1, map.size());
+    }
+}
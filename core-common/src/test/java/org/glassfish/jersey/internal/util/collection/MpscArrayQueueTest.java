@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.internal.util.collection;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MpscArrayQueue} unit tests.
+ */
+public class MpscArrayQueueTest {
+
+    @Test
+    public void testCapacityRoundedUp() {
+        assertEquals(1, new MpscArrayQueue<>(1).capacity());
+        assertEquals(4, new MpscArrayQueue<>(3).capacity());
+        assertEquals(8, new MpscArrayQueue<>(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MpscArrayQueue<>(0));
+    }
+
+    @Test
+    public void testOfferPollFifo() {
+        final MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.peek());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+
+        // wrap around the ring
+        assertTrue(queue.offer(5));
+        assertTrue(queue.offer(6));
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.offer(7));
+        assertEquals(7, queue.poll());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final int producers = 4;
+        final int perProducer = 100_000;
+        final MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!queue.offer(producer * perProducer + i)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            // elements of each producer must be received in the order they were offered
+            final int[] last = new int[producers];
+            Arrays.fill(last, -1);
+            for (int received = 0; received < producers * perProducer; ) {
+                final Integer e = queue.poll();
+                if (e == null) {
+                    Thread.yield();
+                    continue;
+                }
+                final int producer = e / perProducer;
+                assertTrue(e % perProducer > last[producer]);
+                last[producer] = e % perProducer;
+                received++;
+            }
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityInputPublisherTest {
+
+    @Test
+    public void testBuffersAreDeliveredOnDemand() {
+        final EntityInputPublisher publisher = new EntityInputPublisher();
+        publisher.offer(buffer("a"));
+        publisher.offer(buffer("b"));
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertEquals("", subscriber.content());
+
+        subscriber.subscription.request(1);
+        assertEquals("a", subscriber.content());
+
+        publisher.offer(buffer("c"));
+        publisher.complete();
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+        assertEquals("abc", subscriber.content());
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testFailureIsDelivered() {
+        final EntityInputPublisher publisher = new EntityInputPublisher();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        final IOException failure = new IOException();
+        publisher.fail(failure);
+        assertEquals(failure, subscriber.error);
+
+        publisher.offer(buffer("a"));
+        subscriber.subscription.request(1);
+        assertEquals("", subscriber.content());
+    }
+
+    @Test
+    public void testSingleSubscriber() {
+        final EntityInputPublisher publisher = new EntityInputPublisher();
+        publisher.subscribe(new RecordingSubscriber());
+
+        final RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testNonPositiveRequest() {
+        final EntityInputPublisher publisher = new EntityInputPublisher();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testCancel() {
+        final EntityInputPublisher publisher = new EntityInputPublisher();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        assertTrue(publisher.isCancelled());
+
+        publisher.offer(buffer("a"));
+        publisher.complete();
+        subscriber.subscription.request(1);
+        assertEquals("", subscriber.content());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testInputStreamPublisher() {
+        final byte[] entity = new byte[3 * ReaderWriter.BUFFER_SIZE + 1];
+        final InputStream input = new ByteArrayInputStream(entity);
+        final EntityInputPublisher publisher = new InputStreamPublisher(input);
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(ReaderWriter.BUFFER_SIZE, subscriber.content().length());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(entity.length, subscriber.content().length());
+        assertTrue(subscriber.completed);
+    }
+
+    private static ByteBuffer buffer(final String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final ByteBuffer item) {
+            buffers.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private String content() {
+            final StringBuilder sb = new StringBuilder();
+            buffers.forEach(buffer -> sb.append(StandardCharsets.US_ASCII.decode(buffer.duplicate())));
+            return sb.toString();
+        }
+    }
+}
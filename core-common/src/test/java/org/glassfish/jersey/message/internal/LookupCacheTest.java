@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Tests {@link LookupCache}.
+ */
+public class LookupCacheTest {
+
+    @Test
+    public void testCapacity() {
+        assertThat(new LookupCache<>(0).capacity(), is(1));
+        assertThat(new LookupCache<>(1).capacity(), is(1));
+        assertThat(new LookupCache<>(2).capacity(), is(2));
+        assertThat(new LookupCache<>(1000).capacity(), is(1024));
+        assertThat(new LookupCache<>(1024).capacity(), is(1024));
+        assertThat(new LookupCache<>(Integer.MAX_VALUE).capacity(), is(1 << 20));
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        final LookupCache<String, String> cache = new LookupCache<>(16);
+
+        assertThat(cache.get("a"), nullValue());
+        cache.put("a", "A");
+        assertThat(cache.get("a"), is("A"));
+        assertThat(cache.get("a"), is("A"));
+
+        assertThat(cache.hitCount(), is(2L));
+        assertThat(cache.missCount(), is(1L));
+    }
+
+    @Test
+    public void testCollidingKeys() {
+        final LookupCache<CollidingKey, String> cache = new LookupCache<>(16);
+        for (int i = 0; i < 4; i++) {
+            cache.put(new CollidingKey(i), Integer.toString(i));
+        }
+        for (int i = 0; i < 4; i++) {
+            assertThat(cache.get(new CollidingKey(i)), is(Integer.toString(i)));
+        }
+
+        // the set of the colliding keys is full, one of them is replaced
+        cache.put(new CollidingKey(4), "4");
+        assertThat(cache.get(new CollidingKey(4)), is("4"));
+        int cached = 0;
+        for (int i = 0; i < 4; i++) {
+            if (cache.get(new CollidingKey(i)) != null) {
+                cached++;
+            }
+        }
+        assertThat(cached, is(3));
+    }
+
+    @Test
+    public void testReplace() {
+        final LookupCache<CollidingKey, String> cache = new LookupCache<>(4);
+        for (int i = 0; i < 4; i++) {
+            cache.put(new CollidingKey(i), Integer.toString(i));
+        }
+        cache.put(new CollidingKey(2), "two");
+        for (int i = 0; i < 4; i++) {
+            assertThat(cache.get(new CollidingKey(i)), is(i == 2 ? "two" : Integer.toString(i)));
+        }
+    }
+
+    @Test
+    public void testBounded() {
+        final LookupCache<Integer, Integer> cache = new LookupCache<>(8);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 1000; i++) {
+            final Integer value = cache.get(i);
+            if (value != null) {
+                assertThat(value, is(i));
+                cached++;
+            }
+        }
+        assertThat(cached, lessThanOrEqualTo(8));
+        assertThat(cache.get(999), is(999));
+    }
+
+    private static final class CollidingKey {
+
+        private final int id;
+
+        private CollidingKey(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof CollidingKey && ((CollidingKey) obj).id == id;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import org.glassfish.jersey.message.BufferPool;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedBufferPoolTest {
+
+    @Test
+    public void testHeapBuffersAreReused() {
+        final BufferPool pool = new StripedBufferPool(16, 4);
+
+        final byte[] first = pool.acquire();
+        assertEquals(16, first.length);
+        pool.release(first);
+
+        assertSame(first, pool.acquire());
+        assertNotSame(first, pool.acquire());
+
+        final BufferPool.Statistics statistics = pool.getStatistics();
+        assertEquals(3, statistics.getAcquiredCount());
+        assertEquals(2, statistics.getAllocatedCount());
+        assertEquals(32, statistics.getAllocatedBytes());
+        assertEquals(1, statistics.getReleasedCount());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        final BufferPool pool = new StripedBufferPool(16, 1);
+
+        final byte[][] buffers = new byte[8][];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = pool.acquire();
+        }
+        for (final byte[] buffer : buffers) {
+            pool.release(buffer);
+        }
+        // foreign buffers are never pooled
+        pool.release(new byte[15]);
+
+        final BufferPool.Statistics statistics = pool.getStatistics();
+        assertEquals(9, statistics.getReleasedCount());
+        // a thread only looks at two stripes, each having a single slot
+        assertTrue(statistics.getDiscardedCount() >= 7);
+    }
+
+    @Test
+    public void testDirectBuffersAreCleared() {
+        final BufferPool pool = new StripedBufferPool(16, 4);
+
+        final ByteBuffer buffer = pool.acquireDirect();
+        assertTrue(buffer.isDirect());
+        buffer.put((byte) 1).flip();
+        pool.releaseDirect(buffer);
+
+        final ByteBuffer reused = pool.acquireDirect();
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(16, reused.limit());
+    }
+
+    @Test
+    public void testCommittingOutputStreamUsesBuffer() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int[] size = new int[1];
+
+        final CommittingOutputStream stream = new CommittingOutputStream();
+        stream.setStreamProvider(contentLength -> {
+            size[0] = contentLength;
+            return out;
+        });
+        stream.enableBuffering(8);
+        stream.write(new byte[] {1, 2, 3});
+        stream.write(4);
+        stream.close();
+
+        assertEquals(4, size[0]);
+        assertEquals(4, out.size());
+    }
+}
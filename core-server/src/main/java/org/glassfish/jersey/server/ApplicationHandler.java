@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -17,6 +17,7 @@
 
 package org.glassfish.jersey.server;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.security.Principal;
@@ -88,11 +89,13 @@ import org.glassfish.jersey.server.internal.process.ReferencesInitializer;
 import org.glassfish.jersey.server.internal.process.RequestProcessingConfigurator;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContextReference;
+import org.glassfish.jersey.server.internal.routing.NegotiationStatistics;
 import org.glassfish.jersey.server.internal.routing.Routing;
 import org.glassfish.jersey.server.model.ComponentModelValidator;
 import org.glassfish.jersey.server.model.ModelProcessor;
 import org.glassfish.jersey.server.model.ModelValidationException;
 import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModelSnapshot;
 import org.glassfish.jersey.server.model.internal.ModelErrors;
 import org.glassfish.jersey.server.model.internal.ResourceMethodInvokerConfigurator;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
@@ -364,9 +367,12 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                         resourceBag.classes, resourceBag.instances, null));
             }
 
-            if (!disableValidation()) {
+            // a model restored from a snapshot has been validated when the snapshot was stored
+            final ResourceModelSnapshot snapshot = bootstrapBag.getResourceModelSnapshot();
+            final boolean restored = snapshot != null && snapshot.isRestored() && runtimeConfig.getResources().isEmpty();
+            if (!disableValidation() && !restored) {
                 ComponentModelValidator validator = new ComponentModelValidator(
-                        bootstrapBag.getValueParamProviders(), bootstrapBag.getMessageBodyWorkers());
+                        bootstrapBag.getValueParamProviders(), bootstrapBag.getMessageBodyWorkers(), parallelism());
                     validator.validate(bootstrapBag.getResourceModel());
             }
 
@@ -374,6 +380,14 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                 throw new ModelValidationException(LocalizationMessages.RESOURCE_MODEL_VALIDATION_FAILED_AT_INIT(),
                         ModelErrors.getErrorsAsResourceModelIssues(true));
             }
+
+            if (snapshot != null && !snapshot.isRestored() && !disableValidation() && !Errors.fatalIssuesFound()) {
+                try {
+                    snapshot.store();
+                } catch (final IOException e) {
+                    LOGGER.log(Level.WARNING, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_WRITE_FAILED(snapshot.getFile()), e);
+                }
+            }
         } finally {
             if (ignoreValidationError()) {
                 Errors.logErrors(true);
@@ -400,6 +414,7 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                     .createService(serviceType -> Injections.getOrCreate(injectionManager, serviceType))
                     .processingProviders(processingProviders)
                     .resourceMethodInvokerBuilder(bootstrapBag.getResourceMethodInvokerBuilder())
+                    .negotiationStatistics(injectionManager.getInstance(NegotiationStatistics.class))
                     .buildStage();
         /*
          *  Root linear request acceptor. This is the main entry point for the whole request processing.
@@ -453,6 +468,13 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                 Boolean.class);
     }
 
+    private int parallelism() {
+        return ServerProperties.getValue(runtimeConfig.getProperties(),
+                ServerProperties.RESOURCE_MODEL_PARALLELISM,
+                1,
+                Integer.class);
+    }
+
     private boolean disableValidation() {
         return ServerProperties.getValue(runtimeConfig.getProperties(),
                 ServerProperties.RESOURCE_VALIDATION_DISABLE,
@@ -18,6 +18,8 @@ package org.glassfish.jersey.server;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
@@ -27,6 +29,11 @@ import org.glassfish.jersey.server.internal.LocalizationMessages;
 
 /**
  * Used for broadcasting response chunks to multiple {@link ChunkedOutput} instances.
+ * <p>
+ * Chunked outputs {@link #add(ChunkedOutput, SlowConsumerPolicy) registered with a slow consumer policy} share each
+ * broadcast chunk, which is then serialized once rather than once per chunked output, and do not hold up the broadcast
+ * when their clients read slower than the chunks are broadcast.
+ * </p>
  *
  * @param <T> broadcast type.
  * @author Pavel Bucek
@@ -40,6 +47,9 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
     private final ConcurrentLinkedQueue<ChunkedOutput<T>> chunkedOutputs =
             new ConcurrentLinkedQueue<ChunkedOutput<T>>();
 
+    // chunked outputs receiving the shared chunks
+    private final Map<ChunkedOutput<T>, SlowConsumerPolicy> policies = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance.
      * If this constructor is called by a subclass, it assumes the the reason for the subclass to exist is to implement
@@ -76,6 +86,28 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         return chunkedOutputs.offer(chunkedOutput);
     }
 
+    /**
+     * Register {@link ChunkedOutput} to this {@code Broadcaster} instance.
+     * <p>
+     * The broadcast chunks are {@link ChunkedOutput#write(SharedChunk, SlowConsumerPolicy) written} to the chunked output
+     * as {@link SharedChunk shared chunks}, i.e. a chunk is serialized just once for all the chunked outputs registered this
+     * way that have the same chunk type and media type. The policy decides what happens with a broadcast chunk when the
+     * chunked output has not written the previous chunks yet.
+     * </p>
+     *
+     * @param chunkedOutput {@link ChunkedOutput} to register.
+     * @param policy        policy applied to the broadcast chunks the chunked output is not able to write in time.
+     * @return {@code true} if the instance was successfully registered, {@code false} otherwise.
+     * @since 2.47
+     */
+    public <OUT extends ChunkedOutput<T>> boolean add(final OUT chunkedOutput, final SlowConsumerPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("policy");
+        }
+        policies.put(chunkedOutput, policy);
+        return chunkedOutputs.offer(chunkedOutput);
+    }
+
     /**
      * Un-register {@link ChunkedOutput} from this {@code Broadcaster} instance.
      *
@@ -85,6 +117,7 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @return {@code true} if the instance was unregistered, {@code false} otherwise.
      */
     public <OUT extends ChunkedOutput<T>> boolean remove(final OUT chunkedOutput) {
+        policies.remove(chunkedOutput);
         return chunkedOutputs.remove(chunkedOutput);
     }
 
@@ -124,10 +157,16 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @param chunk chunk to be sent.
      */
     public void broadcast(final T chunk) {
+        final SharedChunk<T> sharedChunk = chunk == null || policies.isEmpty() ? null : new SharedChunk<>(chunk);
         forEachOutput(new Task<ChunkedOutput<T>>() {
             @Override
             public void run(final ChunkedOutput<T> cr) throws IOException {
-                cr.write(chunk);
+                final SlowConsumerPolicy policy = sharedChunk == null ? null : policies.get(cr);
+                if (policy == null) {
+                    cr.write(chunk);
+                } else {
+                    cr.write(sharedChunk, policy);
+                }
             }
         });
     }
@@ -184,6 +223,7 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
             }
             if (chunkedOutput.isClosed()) {
                 iterator.remove();
+                policies.remove(chunkedOutput);
                 fireOnClose(chunkedOutput);
             }
         }
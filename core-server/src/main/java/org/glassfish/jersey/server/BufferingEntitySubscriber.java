@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+/**
+ * Subscriber of an entity publisher that buffers the whole entity in memory.
+ *
+ * @since 2.47
+ */
+final class BufferingEntitySubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private final CompletableFuture<InputStream> entity = new CompletableFuture<>();
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private int size;
+
+    /**
+     * Get the buffered entity.
+     *
+     * @return completion stage of the input stream of the buffered entity.
+     */
+    CompletionStage<InputStream> getEntity() {
+        return entity;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(final ByteBuffer item) {
+        buffers.add(item);
+        size += item.remaining();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        buffers.clear();
+        entity.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        final byte[] bytes = new byte[size];
+        int offset = 0;
+        for (final ByteBuffer buffer : buffers) {
+            final int length = buffer.remaining();
+            buffer.get(bytes, offset, length);
+            offset += length;
+        }
+        buffers.clear();
+        entity.complete(new ByteArrayInputStream(bytes));
+    }
+}
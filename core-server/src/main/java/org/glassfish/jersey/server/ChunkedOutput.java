@@ -18,20 +18,33 @@ package org.glassfish.jersey.server;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.util.Collections;
-import java.util.concurrent.BlockingDeque;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.inject.Provider;
 import javax.ws.rs.container.ConnectionCallback;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.ext.WriterInterceptor;
 
+import org.glassfish.jersey.internal.util.collection.MpscArrayQueue;
 import org.glassfish.jersey.process.internal.RequestContext;
 import org.glassfish.jersey.process.internal.RequestScope;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
@@ -40,6 +53,19 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 /**
  * Used for sending messages in "typed" chunks. Useful for long running processes,
  * which needs to produce partial responses.
+ * <p>
+ * By default, the chunks are queued in an unbounded lock-free linked queue, which takes little memory while idle, and
+ * the entity stream is flushed after every chunk.
+ * A streaming endpoint emitting a lot of small chunks can use the {@link #builder() builder} to queue the chunks in
+ * a bounded lock-free ring buffer and to flush the entity stream only once a batch of chunks has been written.
+ * The batched chunks are written by a task on the {@link ManagedAsyncExecutor managed async executor}, the producer
+ * just queues them. Producers may also {@link #offer(Object) offer} the chunks, which never waits for room in a bounded
+ * queue.
+ * </p>
+ * <p>
+ * A chunk written to many chunked outputs can be {@link #write(SharedChunk, SlowConsumerPolicy) shared} so that it is
+ * serialized only once.
+ * </p>
  *
  * @param <T> chunk type.
  * @author Pavel Bucek
@@ -48,9 +74,23 @@ import org.glassfish.jersey.server.internal.process.MappableException;
  */
 // TODO:  something like prequel/sequel - usable for EventChannelWriter and XML related writers
 public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(ChunkedOutput.class.getName());
     private static final byte[] ZERO_LENGTH_DELIMITER = new byte[0];
-
-    private final BlockingDeque<T> queue;
+    private static final long FULL_QUEUE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    // queued in place of the chunk held by the latest reference, so that the producer can replace the chunk
+    private static final Object LATEST_CHUNK = new Object();
+
+    // states of the flush task
+    private static final int FLUSH_IDLE = 0;
+    private static final int FLUSH_DELAYED = 1;
+    private static final int FLUSH_SUBMITTED = 2;
+
+    // holds the chunks of type T and the shared chunks
+    private final Queue<Object> queue;
+    // number of the chunks in the queue, the size of a linked queue is not known without traversing it
+    private final AtomicInteger queued = new AtomicInteger();
+    // the chunk written with the drop policy that has not been taken by the flushing thread yet
+    private final AtomicReference<Object> latest = new AtomicReference<>();
     private final byte[] chunkDelimiter;
     private final AtomicBoolean resumed = new AtomicBoolean(false);
     private final Object lock = new Object();
@@ -60,6 +100,23 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private boolean touchingEntityStream = false;
 
     private volatile boolean closed = false;
+    // set when closed by the slow consumer policy, the flushing thread discards the queued chunks instead of writing them
+    private volatile boolean discarding = false;
+
+    // flush batching configuration, by default the entity stream is flushed after every chunk
+    private int flushChunks = 1;
+    private int flushBytes = 0;
+    private long flushDelayNanos = 0;
+
+    // the following variables are used by the thread flushing the queue exclusively
+    private int unflushedChunks;
+    private CountingOutputStream countingStream;
+
+    // the batched chunks are flushed by a task submitted to the executor rather than by the producer
+    private final AtomicInteger flushState = new AtomicInteger(FLUSH_IDLE);
+    private volatile ScheduledExecutorService flushScheduler;
+    private volatile Provider<ExecutorService> flushExecutorProvider;
+    private volatile ExecutorService flushExecutor;
 
     private volatile AsyncContext asyncContext;
 
@@ -74,7 +131,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      */
     protected ChunkedOutput() {
         this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -84,11 +141,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      */
     protected ChunkedOutput(Builder<T> builder) {
         super();
-        if (builder.queueCapacity > 0) {
-            queue = new LinkedBlockingDeque<>(builder.queueCapacity);
-        } else {
-            queue = new LinkedBlockingDeque<>();
-        }
+        queue = createQueue(builder);
+        flushChunks = builder.flushChunks;
+        flushBytes = builder.flushBytes;
+        flushDelayNanos = builder.flushDelayNanos;
         if (builder.chunkDelimiter != null) {
             this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
             System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
@@ -108,11 +164,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private ChunkedOutput(TypedBuilder<T> builder) {
         super(builder.chunkType);
 
-        if (builder.queueCapacity > 0) {
-            queue = new LinkedBlockingDeque<>(builder.queueCapacity);
-        } else {
-            queue = new LinkedBlockingDeque<>();
-        }
+        queue = createQueue(builder);
+        flushChunks = builder.flushChunks;
+        flushBytes = builder.flushBytes;
+        flushDelayNanos = builder.flushDelayNanos;
         if (builder.chunkDelimiter != null) {
             this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
             System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
@@ -132,7 +187,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     public ChunkedOutput(final Type chunkType) {
         super(chunkType);
         this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -148,7 +203,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -166,7 +221,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
 
         this.asyncContext = asyncContextProvider == null ? null : asyncContextProvider.get();
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -184,7 +239,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -199,7 +254,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = chunkDelimiter.getBytes();
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -216,7 +271,14 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = chunkDelimiter.getBytes();
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+    }
+
+    private static Queue<Object> createQueue(final Builder<?> builder) {
+        if (builder.ringBufferCapacity > 0) {
+            return new MpscArrayQueue<>(builder.ringBufferCapacity);
+        }
+        return builder.queueCapacity > 0 ? new LinkedBlockingDeque<>(builder.queueCapacity) : new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -240,6 +302,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
 
     /**
      * Write a chunk.
+     * <p>
+     * If this chunked output {@link Builder#flushAfterChunks(int) batches} the chunks, the chunk is just queued and written
+     * later by the flush task. A failure to write it then closes this chunked output.
+     * </p>
      *
      * @param chunk a chunk instance to be written.
      * @throws IOException if this response is closed or when encountered any problem during serializing or writing a chunk.
@@ -250,15 +316,260 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
 
         if (chunk != null) {
+            enqueue(chunk);
+        }
+
+        flush();
+    }
+
+    /**
+     * Offer a chunk without waiting for room in the queue.
+     * <p>
+     * Unlike {@link #write(Object)}, this method does not block the producer when the chunk queue is bounded and full.
+     * Instead it reports the back-pressure to the producer, which is expected to slow down and offer the chunk again
+     * later.
+     * </p>
+     *
+     * @param chunk a chunk instance to be written.
+     * @return {@code true} if the chunk has been queued for writing, {@code false} if the queue is full.
+     * @throws IOException if this response is closed or when encountered any problem during serializing or writing a chunk.
+     * @since 2.47
+     */
+    public boolean offer(final T chunk) throws IOException {
+        if (closed) {
+            throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED());
+        }
+
+        final boolean offered = chunk == null || offerChunk(chunk);
+        flush();
+        return offered;
+    }
+
+    /**
+     * Write a chunk shared with other chunked outputs.
+     * <p>
+     * The shared chunk is serialized only once for all the chunked outputs of the same chunk type and media type it is
+     * written to. The chunk is just queued, it is written by a task submitted to the
+     * {@link ManagedAsyncExecutor managed async executor}, so that a slow client does not hold up the thread writing
+     * the chunk to many chunked outputs. The given {@link SlowConsumerPolicy policy} decides what happens when
+     * the chunk is queued while this chunked output has not written the previous chunks yet. A chunked output closed by
+     * the policy discards the chunks it has not written yet.
+     * </p>
+     *
+     * @param chunk  a shared chunk to be written.
+     * @param policy policy applied when the previous chunks have not been written yet.
+     * @return {@code true} if the chunk has been queued for writing, {@code false} if the chunk has been dropped or this
+     * chunked output has been closed by the policy.
+     * @throws IOException if this response is closed or when encountered any problem during serializing or writing a chunk.
+     * @since 2.47
+     */
+    public boolean write(final SharedChunk<T> chunk, final SlowConsumerPolicy policy) throws IOException {
+        if (closed) {
+            throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED());
+        }
+
+        if (policy.blocks()) {
+            enqueue(chunk, true);
+        } else if (policy.replaces()) {
+            if (!replaceLatest(chunk)) {
+                return false;
+            }
+        } else if (!policy.accepts(queued.get()) || !offerChunk(chunk)) {
+            if (policy.disconnects()) {
+                disconnect();
+            }
+            return false;
+        }
+        scheduleFlush();
+        return true;
+    }
+
+    /**
+     * Replace the chunk waiting to be written by the chunk. The queue holds a placeholder of the latest chunk, which is
+     * taken by the flushing thread once it polls the placeholder, so the chunk may be replaced until then.
+     *
+     * @return {@code false} if the queue is full, i.e. the chunk has been dropped.
+     */
+    private boolean replaceLatest(final Object chunk) {
+        if (latest.getAndSet(chunk) != null) {
+            // the placeholder is still queued
+            return true;
+        }
+        if (offerChunk(LATEST_CHUNK)) {
+            return true;
+        }
+        latest.set(null);
+        return false;
+    }
+
+    /**
+     * Close this chunked output without writing the queued chunks. The queue is drained by the flushing thread, which
+     * is the only consumer of the queue, and the response is closed by the flushing thread or by the flush executor,
+     * never by the thread writing the chunk, which would be blocked by the slow client otherwise.
+     */
+    private void disconnect() throws IOException {
+        discarding = true;
+        closed = true;
+
+        synchronized (lock) {
+            if (flushing) {
+                // the flushing thread closes the response once it has written the current chunk
+                return;
+            }
+        }
+        final ExecutorService executor = flushExecutor();
+        if (executor == null) {
+            flushQueue();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    flushQueue();
+                } catch (final IOException | RuntimeException e) {
+                    LOGGER.log(Level.FINE, LocalizationMessages.CHUNKED_OUTPUT_FLUSH_FAILED(), e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            flushQueue();
+        }
+    }
+
+    private void enqueue(final Object chunk) throws IOException {
+        enqueue(chunk, false);
+    }
+
+    private void enqueue(final Object chunk, final boolean async) throws IOException {
+        if (queue instanceof BlockingQueue) {
             try {
-                queue.put(chunk);
+                ((BlockingQueue<Object>) queue).put(chunk);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IOException(e);
             }
+            queued.incrementAndGet();
+            return;
+        }
+
+        while (!offerChunk(chunk)) {
+            if (closed) {
+                throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED());
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException();
+            }
+            // drain the queue unless another thread is already doing so, then give the flushing thread time to make room
+            if (async) {
+                scheduleFlush();
+            } else {
+                flush();
+            }
+            LockSupport.parkNanos(FULL_QUEUE_WAIT_NANOS);
         }
+    }
 
-        flushQueue();
+    private boolean offerChunk(final Object chunk) {
+        if (queue.offer(chunk)) {
+            queued.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Poll the next chunk to be written. Called by the thread flushing the queue only, which is the single consumer of
+     * the queue.
+     *
+     * @return next chunk or {@code null} if there is no chunk to be written.
+     */
+    private Object pollChunk() {
+        Object chunk;
+        while ((chunk = queue.poll()) != null) {
+            queued.decrementAndGet();
+            if (chunk == LATEST_CHUNK) {
+                chunk = latest.getAndSet(null);
+            }
+            if (chunk != null && !discarding) {
+                return chunk;
+            }
+        }
+        return null;
+    }
+
+    private boolean batching() {
+        return flushChunks > 1 || flushBytes > 0 || flushDelayNanos > 0;
+    }
+
+    /**
+     * Write the queued chunks, in the calling thread unless the chunks are batched.
+     */
+    private void flush() throws IOException {
+        if (batching()) {
+            scheduleFlush();
+        } else {
+            flushQueue();
+        }
+    }
+
+    /**
+     * Submit a task writing the queued chunks to the flush executor. The task is delayed by the
+     * {@link Builder#flushDelay(long, TimeUnit) flush delay}, unless a complete batch of chunks is queued already.
+     */
+    private void scheduleFlush() throws IOException {
+        final ExecutorService executor = flushExecutor();
+        if (executor == null) {
+            // not bound to a response yet, the queue is flushed once it is
+            flushQueue();
+            return;
+        }
+
+        final boolean now = flushDelayNanos <= 0 || flushChunks > 1 && queued.get() >= flushChunks;
+        int state;
+        do {
+            state = flushState.get();
+            if (state == FLUSH_SUBMITTED || state == FLUSH_DELAYED && !now) {
+                // the queued chunk is written by the pending task
+                return;
+            }
+        } while (!flushState.compareAndSet(state, now ? FLUSH_SUBMITTED : FLUSH_DELAYED));
+
+        try {
+            if (now) {
+                executor.execute(this::flushScheduled);
+            } else {
+                flushScheduler.schedule(() -> {
+                    if (flushState.compareAndSet(FLUSH_DELAYED, FLUSH_SUBMITTED)) {
+                        executor.execute(this::flushScheduled);
+                    }
+                }, flushDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (final RejectedExecutionException e) {
+            // the application is being shut down
+            flushState.set(FLUSH_IDLE);
+            flushQueue();
+        }
+    }
+
+    private ExecutorService flushExecutor() {
+        ExecutorService executor = flushExecutor;
+        if (executor == null && flushExecutorProvider != null) {
+            executor = flushExecutor = flushExecutorProvider.get();
+        }
+        return executor;
+    }
+
+    private void flushScheduled() {
+        flushState.set(FLUSH_IDLE);
+        if (closed) {
+            // the remaining chunks are written by the thread closing this chunked output
+            return;
+        }
+        try {
+            flushQueue();
+        } catch (final IOException | RuntimeException e) {
+            // this chunked output is closed now, the producer learns about it when writing the next chunk
+            LOGGER.log(Level.FINE, LocalizationMessages.CHUNKED_OUTPUT_FLUSH_FAILED(), e);
+        }
     }
 
     protected void flushQueue() throws IOException {
@@ -276,7 +587,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                 @Override
                 public Void call() throws IOException {
                     boolean shouldClose;
-                    T t;
+                    Object t;
 
                     synchronized (lock) {
                         if (flushing) {
@@ -289,7 +600,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                         // but before we check if we should close - so we would close the stream leaving the last chunk
                         // undelivered)
                         shouldClose = closed;
-                        t = queue.poll();
+                        t = pollChunk();
                         if (t != null || shouldClose) {
                             // no other thread is flushing this queue at the moment and it is not empty and/or we should close ->
                             // set the flushing flag so that other threads know it is already being taken care of
@@ -304,33 +615,12 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                                 touchingEntityStream = true;
                             }
 
-                            final OutputStream origStream = responseContext.getEntityStream();
-                            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
-                                    t,
-                                    t.getClass(),
-                                    getType(),
-                                    responseContext.getEntityAnnotations(),
-                                    responseContext.getMediaType(),
-                                    responseContext.getHeaders(),
-                                    requestContext.getPropertiesDelegate(),
-                                    origStream,
-                                    // The output stream stored in the response context for this chunked output
-                                    // is already intercepted as a whole (if there are any interceptors);
-                                    // no need to intercept the individual chunks.
-                                    Collections.<WriterInterceptor>emptyList());
-
-                            //noinspection ArrayEquality
-                            if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
-                                // if the chunked output is configured with a custom delimiter, use it
-                                writtenStream.write(chunkDelimiter);
-                            }
+                            writeChunk(t);
 
-                            // flush the chunk (some writers do it, but some don't)
-                            writtenStream.flush();
-
-                            if (origStream != writtenStream) {
-                                // if MBW replaced the stream, let's make sure to set it in the response context.
-                                responseContext.setEntityStream(writtenStream);
+                            t = pollChunk();
+                            if (t == null && unflushedChunks > 0) {
+                                // no more chunks queued, flush the rest of the batch
+                                flushChunks(responseContext.getEntityStream());
                             }
                         } catch (final IOException | UncheckedIOException ioe) {
                             connectionCallback.onDisconnect(asyncContext);
@@ -346,7 +636,6 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                             }
                         }
 
-                        t = queue.poll();
                         if (t == null) {
                             synchronized (lock) {
                                 // queue seems empty
@@ -354,7 +643,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                                 // first remember the closed flag (this has to be before polling the queue,
                                 // otherwise we could miss the last chunk)
                                 shouldClose = closed;
-                                t = queue.poll();
+                                t = pollChunk();
                                 if (t == null) {
                                     // ok, it is really empty - if anyone adds a chunk while we are here,
                                     // other thread will take care of it -> flush the stream and unset
@@ -405,6 +694,63 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    private void writeChunk(final Object t) throws IOException {
+        if (flushBytes > 0 && countingStream == null) {
+            countingStream = new CountingOutputStream(responseContext.getEntityStream());
+            responseContext.setEntityStream(countingStream);
+        }
+
+        final OutputStream origStream = responseContext.getEntityStream();
+        final OutputStream writtenStream;
+        if (t instanceof SharedChunk) {
+            // the chunk is serialized just once for all the chunked outputs it is written to
+            origStream.write(((SharedChunk<?>) t).serialize(getType(), responseContext.getMediaType(), this::serialize));
+            writtenStream = origStream;
+        } else {
+            writtenStream = serialize(t, origStream);
+        }
+
+        //noinspection ArrayEquality
+        if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
+            // if the chunked output is configured with a custom delimiter, use it
+            writtenStream.write(chunkDelimiter);
+        }
+
+        if (++unflushedChunks >= flushChunks || countingStream != null && countingStream.count >= flushBytes) {
+            // flush the batch of chunks (some writers do it, but some don't)
+            flushChunks(writtenStream);
+        }
+
+        if (origStream != writtenStream) {
+            // if MBW replaced the stream, let's make sure to set it in the response context.
+            responseContext.setEntityStream(writtenStream);
+        }
+    }
+
+    private OutputStream serialize(final Object t, final OutputStream stream) throws IOException {
+        return requestContext.getWorkers().writeTo(
+                t,
+                t.getClass(),
+                getType(),
+                responseContext.getEntityAnnotations(),
+                responseContext.getMediaType(),
+                responseContext.getHeaders(),
+                requestContext.getPropertiesDelegate(),
+                stream,
+                // The output stream stored in the response context for this chunked output
+                // is already intercepted as a whole (if there are any interceptors);
+                // no need to intercept the individual chunks.
+                Collections.<WriterInterceptor>emptyList());
+    }
+
+    private void flushChunks(final OutputStream stream) throws IOException {
+        stream.flush();
+        unflushedChunks = 0;
+        if (countingStream != null) {
+            countingStream.count = 0;
+        }
+    }
+
     /**
      * Close this response - it will be finalized and underlying connections will be closed
      * or made available for another response.
@@ -432,8 +778,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param e Exception causing the close
      */
     protected void onClose(Exception e) {
-        // drain queue when an exception occurs to prevent deadlocks
-        queue.clear();
+        // drain queue when an exception occurs to prevent deadlocks, the flushing thread is the only consumer of the queue
+        discarding = true;
+        pollChunk();
     }
 
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
@@ -462,13 +809,19 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param requestContext           request context.
      * @param responseContext          response context.
      * @param connectionCallbackRunner connection callback.
+     * @param flushScheduler           scheduler of the delayed flushes of the batched chunks.
+     * @param flushExecutorProvider    provider of the executor writing the batched chunks.
      * @throws IOException when encountered any problem during serializing or writing a chunk.
      */
     void setContext(final RequestScope requestScope,
                     final RequestContext requestScopeContext,
                     final ContainerRequest requestContext,
                     final ContainerResponse responseContext,
-                    final ConnectionCallback connectionCallbackRunner) throws IOException {
+                    final ConnectionCallback connectionCallbackRunner,
+                    final ScheduledExecutorService flushScheduler,
+                    final Provider<ExecutorService> flushExecutorProvider) throws IOException {
+        this.flushScheduler = flushScheduler;
+        this.flushExecutorProvider = flushExecutorProvider;
         this.requestScope = requestScope;
         this.requestScopeContext = requestScopeContext;
         this.requestContext = requestContext;
@@ -477,6 +830,41 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         flushQueue();
     }
 
+    /**
+     * Output stream counting the bytes written since the last flush of a batch of chunks.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(final OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
     /**
      * Builder that allows to create a new ChunkedOutput based on the given configuration options.
      *
@@ -485,6 +873,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     public static class Builder<Y> {
         byte[] chunkDelimiter;
         int queueCapacity = -1;
+        int ringBufferCapacity = -1;
+        int flushChunks = 1;
+        int flushBytes = 0;
+        long flushDelayNanos = 0;
         Provider<AsyncContext> asyncContextProvider;
 
         private Builder() {
@@ -511,6 +903,69 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
             return this;
         }
 
+        /**
+         * Queue the chunks in a bounded lock-free ring buffer instead of a linked queue. When the ring buffer
+         * is full, {@link ChunkedOutput#write(Object)} waits for room while {@link ChunkedOutput#offer(Object)} returns
+         * {@code false}. The capacity is rounded up to the next power of two and takes precedence over
+         * {@link #queueCapacity(int)}.
+         *
+         * @param ringBufferCapacity the ring buffer capacity
+         * @return builder
+         * @since 2.47
+         */
+        public Builder<Y> ringBufferCapacity(int ringBufferCapacity) {
+            this.ringBufferCapacity = ringBufferCapacity;
+            return this;
+        }
+
+        /**
+         * Flush the entity stream once the given number of chunks has been written since the last flush. The entity
+         * stream is also flushed whenever there are no more chunks queued (see {@link #flushDelay(long, TimeUnit)}).
+         * Defaults to {@code 1}, i.e. every chunk is flushed.
+         * <p>
+         * A chunked output flushing less often than after every chunk writes the chunks in a task submitted to the
+         * {@link ManagedAsyncExecutor managed async executor}, so that the chunks queued while the task writes the previous
+         * ones are flushed together.
+         * </p>
+         *
+         * @param flushChunks the number of chunks written between two flushes
+         * @return builder
+         * @since 2.47
+         */
+        public Builder<Y> flushAfterChunks(int flushChunks) {
+            this.flushChunks = Math.max(1, flushChunks);
+            return this;
+        }
+
+        /**
+         * Flush the entity stream once at least the given number of bytes has been written since the last flush.
+         * A value less than or equal to 0 (default) disables the limit.
+         *
+         * @param flushBytes the number of bytes written between two flushes
+         * @return builder
+         * @since 2.47
+         */
+        public Builder<Y> flushAfterBytes(int flushBytes) {
+            this.flushBytes = flushBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximal time a queued chunk waits for more chunks to be queued before the queued chunks are written and
+         * the entity stream is flushed. The chunks are written earlier once the number of the queued chunks reaches
+         * the {@link #flushAfterChunks(int) number of chunks between two flushes}. By default the chunks are written as soon
+         * as they are queued.
+         *
+         * @param flushDelay the maximal delay of a flush
+         * @param unit       the time unit of the delay
+         * @return builder
+         * @since 2.47
+         */
+        public Builder<Y> flushDelay(long flushDelay, TimeUnit unit) {
+            this.flushDelayNanos = unit.toNanos(flushDelay);
+            return this;
+        }
+
         /**
          * Set the async context provider.
          * @param asyncContextProvider the async context provider
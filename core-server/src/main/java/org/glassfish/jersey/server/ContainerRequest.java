@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,9 +29,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.RuntimeType;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
@@ -40,10 +45,12 @@ import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.NoContentException;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.Variant;
+import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.ReaderInterceptor;
 import javax.ws.rs.ext.WriterInterceptor;
 
@@ -51,14 +58,18 @@ import org.glassfish.jersey.http.HttpHeaders;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.guava.Preconditions;
 import org.glassfish.jersey.internal.PropertiesResolver;
+import org.glassfish.jersey.internal.jsr166.Flow;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.internal.util.collection.Refs;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
+import org.glassfish.jersey.message.NonBlockingInput;
+import org.glassfish.jersey.message.NonBlockingMessageBodyReader;
 import org.glassfish.jersey.message.internal.AcceptableMediaType;
 import org.glassfish.jersey.message.internal.HttpHeaderReader;
 import org.glassfish.jersey.message.internal.InboundMessageContext;
+import org.glassfish.jersey.message.internal.InputStreamPublisher;
 import org.glassfish.jersey.message.internal.LanguageTag;
 import org.glassfish.jersey.message.internal.MatchingEntityTag;
 import org.glassfish.jersey.message.internal.OutboundJaxrsResponse;
@@ -69,12 +80,14 @@ import org.glassfish.jersey.model.internal.ComponentBag;
 import org.glassfish.jersey.model.internal.RankedProvider;
 import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.internal.MappableExceptionWrapperInterceptor;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.internal.routing.UriRoutingContext;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 import org.glassfish.jersey.server.spi.RequestScopedInitializer;
+import org.glassfish.jersey.spi.ContentEncoder;
 import org.glassfish.jersey.uri.UriComponent;
 import org.glassfish.jersey.uri.internal.JerseyUriBuilder;
 
@@ -290,6 +303,117 @@ public class ContainerRequest extends InboundMessageContext
         return super.readEntity(rawType, type, annotations, propertiesDelegate);
     }
 
+    /**
+     * Get the publisher of the context entity bytes.
+     * <p>
+     * If the container is able to read the request entity without blocking (i.e. the entity input stream implements
+     * {@link NonBlockingInput}), the entity bytes are signalled as they are received from the network. Otherwise the
+     * entity input stream is read by the thread requesting the data.
+     * </p>
+     * <p>
+     * The entity is consumed either using the publisher or by reading the entity input stream, never both.
+     * </p>
+     *
+     * @return entity publisher.
+     * @since 2.47
+     */
+    public Flow.Publisher<ByteBuffer> getEntityPublisher() {
+        final InputStream entityStream = getEntityStream();
+        return entityStream instanceof NonBlockingInput
+                ? ((NonBlockingInput) entityStream).getPublisher()
+                : new InputStreamPublisher(entityStream);
+    }
+
+    /**
+     * Read entity from the {@link #getEntityPublisher() context entity publisher} without blocking the calling thread.
+     *
+     * @param <T>     entity Java object type.
+     * @param rawType raw Java entity type.
+     * @return completion stage of the entity read from the context entity publisher.
+     * @see #readEntityAsync(Class, Type, Annotation[])
+     * @since 2.47
+     */
+    public <T> CompletionStage<T> readEntityAsync(final Class<T> rawType) {
+        return readEntityAsync(rawType, rawType, new Annotation[0]);
+    }
+
+    /**
+     * Read entity from the {@link #getEntityPublisher() context entity publisher} without blocking the calling thread.
+     * <p>
+     * If the selected message body reader is a {@link NonBlockingMessageBodyReader}, the entity is parsed incrementally
+     * as it is received. Otherwise, and also whenever a {@link ReaderInterceptor reader interceptor} may need to see
+     * the entity stream, the entity is buffered in memory first and read using the regular message body reader once
+     * received completely.
+     * </p>
+     * <p>
+     * The returned stage may be completed in an I/O container thread, the dependent actions should not block.
+     * </p>
+     *
+     * @param <T>         entity Java object type.
+     * @param rawType     raw Java entity type.
+     * @param type        generic Java entity type.
+     * @param annotations entity annotations.
+     * @return completion stage of the entity read from the context entity publisher.
+     * @since 2.47
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> readEntityAsync(final Class<T> rawType, final Type type, final Annotation[] annotations) {
+        try {
+            final MediaType mediaType = getMediaType() == null ? MediaType.APPLICATION_OCTET_STREAM_TYPE : getMediaType();
+            final MessageBodyReader<T> reader = getWorkers() == null
+                    ? null : getWorkers().getMessageBodyReader(rawType, type, annotations, mediaType, propertiesDelegate);
+
+            final CompletionStage<T> entity;
+            if (reader instanceof NonBlockingMessageBodyReader && isEntityInterceptionNeutral()) {
+                entity = ((NonBlockingMessageBodyReader<T>) reader)
+                        .readFrom(rawType, type, annotations, mediaType, getHeaders(), getEntityPublisher());
+            } else {
+                final BufferingEntitySubscriber subscriber = new BufferingEntitySubscriber();
+                getEntityPublisher().subscribe(subscriber);
+                entity = subscriber.getEntity().thenApply(buffered -> {
+                    setEntityStream(buffered);
+                    return readEntity(rawType, type, annotations);
+                });
+            }
+
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            entity.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    result.complete(value);
+                } else {
+                    final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure;
+                    // same as the blocking reading, a missing entity is a client error
+                    result.completeExceptionally(cause instanceof NoContentException ? new BadRequestException(cause) : cause);
+                }
+            });
+            return result;
+        } catch (final RuntimeException e) {
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Check whether the reader interceptors applicable to this request leave the entity stream untouched, so that
+     * the entity may be read without them.
+     *
+     * @return {@code true} if the entity can be read bypassing the reader interceptors.
+     */
+    private boolean isEntityInterceptionNeutral() {
+        if (getHeaderString(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        for (final ReaderInterceptor interceptor : getReaderInterceptors()) {
+            // content encoders only decode encoded entities, the wrapper interceptor just wraps the reader exceptions
+            if (!(interceptor instanceof ContentEncoder) && !(interceptor instanceof MappableExceptionWrapperInterceptor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public <T> T resolveProperty(final String name, final Class<T> type) {
         return propertiesResolver.get().resolveProperty(name, type);
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the resource method to which the annotation has been applied, or all the resource methods of the
+ * annotated resource class, never block the invoking thread and can therefore be executed directly on an I/O thread
+ * of a container that supports such an execution (e.g. the event loop of the Netty container).
+ * <p/>
+ * A non-blocking resource method must not wait for I/O, locks or other resources. It typically returns a value
+ * computed from the request, a {@link java.util.concurrent.CompletionStage} or resumes an injected
+ * {@link javax.ws.rs.container.AsyncResponse} later on another thread. When a request is processed on an I/O thread,
+ * resource methods that are not annotated are executed on a separate thread managed by the Jersey
+ * {@link ManagedAsyncExecutor managed async executor service}, the same as methods annotated with {@link ManagedAsync}.
+ *
+ * @since 2.47
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface NonBlocking {
+}
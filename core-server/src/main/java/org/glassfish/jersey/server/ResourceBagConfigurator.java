@@ -16,12 +16,20 @@
 
 package org.glassfish.jersey.server;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.BootstrapConfigurator;
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.internal.util.Producer;
 import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModelSnapshot;
+import org.glassfish.jersey.server.model.internal.ModelErrors;
 
 /**
  * Configurator which initializes and register {@link ResourceBag} instance into {@link BootstrapBag}.
@@ -42,6 +50,9 @@ class ResourceBagConfigurator implements BootstrapConfigurator {
                 Boolean.FALSE,
                 Boolean.class);
 
+        final ResourceModelSnapshot snapshot = createSnapshot(runtimeConfig);
+        serverBag.setResourceModelSnapshot(snapshot);
+
         final ResourceBag.Builder resourceBagBuilder = new ResourceBag.Builder();
 
         // Adding programmatic resource models
@@ -49,23 +60,36 @@ class ResourceBagConfigurator implements BootstrapConfigurator {
             resourceBagBuilder.registerProgrammaticResource(programmaticResource);
         }
 
-        // Introspecting classes & instances
-        for (final Class<?> c : runtimeConfig.getClasses()) {
+        // Introspecting classes & instances, possibly in parallel
+        final int parallelism = ServerProperties.getValue(runtimeConfig.getProperties(),
+                ServerProperties.RESOURCE_MODEL_PARALLELISM, 1, Integer.class);
+        final List<Class<?>> classes = new ArrayList<>(runtimeConfig.getClasses());
+        final List<Object> singletons = new ArrayList<>(runtimeConfig.getSingletons());
+        final List<Producer<Producer<Resource>>> tasks = new ArrayList<>(classes.size() + singletons.size());
+        for (final Class<?> c : classes) {
+            tasks.add(() -> introspect(snapshot, c, disableValidation));
+        }
+        for (final Object o : singletons) {
+            tasks.add(() -> introspect(snapshot, o.getClass(), disableValidation));
+        }
+        final List<Producer<Resource>> introspected = ModelErrors.invokeAll(parallelism, tasks);
+
+        for (int i = 0; i < classes.size(); i++) {
             try {
-                final Resource resource = Resource.from(c, disableValidation);
+                final Resource resource = introspected.get(i).call();
                 if (resource != null) {
-                    resourceBagBuilder.registerResource(c, resource);
+                    resourceBagBuilder.registerResource(classes.get(i), resource);
                 }
             } catch (final IllegalArgumentException ex) {
                 LOGGER.warning(ex.getMessage());
             }
         }
 
-        for (final Object o : runtimeConfig.getSingletons()) {
+        for (int i = 0; i < singletons.size(); i++) {
             try {
-                final Resource resource = Resource.from(o.getClass(), disableValidation);
+                final Resource resource = introspected.get(classes.size() + i).call();
                 if (resource != null) {
-                    resourceBagBuilder.registerResource(o, resource);
+                    resourceBagBuilder.registerResource(singletons.get(i), resource);
                 }
             } catch (final IllegalArgumentException ex) {
                 LOGGER.warning(ex.getMessage());
@@ -74,4 +98,42 @@ class ResourceBagConfigurator implements BootstrapConfigurator {
 
         serverBag.setResourceBag(resourceBagBuilder.build());
     }
+
+    /**
+     * Introspect a class and return a producer of its resource model that re-throws the introspection failure, if any,
+     * on the thread that registers the model.
+     */
+    private static Producer<Resource> introspect(ResourceModelSnapshot snapshot, Class<?> c, boolean disableValidation) {
+        try {
+            final Resource resource = snapshot != null
+                    ? snapshot.from(c, disableValidation)
+                    : Resource.from(c, disableValidation);
+            return () -> resource;
+        } catch (final IllegalArgumentException ex) {
+            return () -> {
+                throw ex;
+            };
+        }
+    }
+
+    private static ResourceModelSnapshot createSnapshot(ResourceConfig runtimeConfig) {
+        final String file = ServerProperties.getValue(runtimeConfig.getProperties(),
+                ServerProperties.RESOURCE_MODEL_SNAPSHOT, String.class);
+        if (file == null) {
+            return null;
+        }
+
+        final Set<Class<?>> components = new LinkedHashSet<>(runtimeConfig.getClasses());
+        for (final Object o : runtimeConfig.getSingletons()) {
+            components.add(o.getClass());
+        }
+        final String fingerprint = ResourceModelSnapshot.fingerprint(
+                runtimeConfig.getApplication().getClass(), components, runtimeConfig.getProperties());
+        if (fingerprint == null) {
+            return null;
+        }
+
+        final ResourceModelSnapshot snapshot = ResourceModelSnapshot.load(Paths.get(file), fingerprint);
+        return snapshot != null ? snapshot : ResourceModelSnapshot.create(Paths.get(file), fingerprint);
+    }
 }
@@ -55,6 +55,7 @@ import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.scanning.AnnotationAcceptingListener;
+import org.glassfish.jersey.server.internal.scanning.ComponentIndex;
 import org.glassfish.jersey.server.internal.scanning.FilesScanner;
 import org.glassfish.jersey.server.internal.scanning.PackageNamesScanner;
 import org.glassfish.jersey.server.model.Resource;
@@ -888,11 +889,24 @@ public class ResourceConfig extends Application implements Configurable<Resource
             }
         }
 
+        final boolean indexed = PropertiesHelper.isProperty(getProperty(ServerProperties.PROVIDER_SCANNING_INDEX));
+        final ComponentIndex index = indexed ? ComponentIndex.load(_state.getClassLoader()) : null;
+        if (indexed && index == null) {
+            LOGGER.log(Level.CONFIG, LocalizationMessages.RESOURCE_CONFIG_COMPONENT_INDEX_NOT_FOUND());
+        }
+
         final String[] packageNames = parsePropertyValue(ServerProperties.PROVIDER_PACKAGES);
         if (packageNames != null) {
             final Object p = getProperty(ServerProperties.PROVIDER_SCANNING_RECURSIVE);
             final boolean recursive = p == null || PropertiesHelper.isProperty(p);
-            rfs.add(new PackageNamesScanner(packageNames, recursive));
+            if (index != null) {
+                // the classes of the indexed class path roots are loaded directly, only the other roots are scanned
+                final String[] packages = Tokenizer.tokenize(packageNames, Tokenizer.COMMON_DELIMITERS);
+                result.addAll(index.getClasses(packages, recursive));
+                rfs.add(new PackageNamesScanner(_state.getClassLoader(), packages, recursive, index));
+            } else {
+                rfs.add(new PackageNamesScanner(packageNames, recursive));
+            }
         }
 
         final String[] classPathElements = parsePropertyValue(ServerProperties.PROVIDER_CLASSPATH);
@@ -903,11 +917,23 @@ public class ResourceConfig extends Application implements Configurable<Resource
         final AnnotationAcceptingListener parentAfl =
                 AnnotationAcceptingListener.newJaxrsResourceAndProviderListener(_state.getClassLoader());
 
-        for (final ResourceFinder resourceFinder : rfs) {
+        for (final ResourceFinder finder : rfs) {
             AnnotationAcceptingListener afl = parentAfl;
+            ResourceFinder resourceFinder = finder;
 
             if (resourceFinder instanceof PackageNamesScanner) {
-                final ClassLoader classLoader = ((PackageNamesScanner) resourceFinder).getClassloader();
+                final PackageNamesScanner scanner = (PackageNamesScanner) resourceFinder;
+                final ClassLoader classLoader = scanner.getClassloader();
+                if (indexed && !scanner.isIndexed()) {
+                    final ComponentIndex finderIndex = getClassLoader().equals(classLoader)
+                            ? index : ComponentIndex.load(classLoader);
+                    if (finderIndex != null) {
+                        // the classes of the indexed class path roots are loaded directly, only the other roots are scanned
+                        result.addAll(finderIndex.getClasses(scanner.getPackages(), scanner.isRecursive()));
+                        resourceFinder = new PackageNamesScanner(
+                                classLoader, scanner.getPackages(), scanner.isRecursive(), finderIndex);
+                    }
+                }
                 if (!getClassLoader().equals(classLoader)) {
                     afl = AnnotationAcceptingListener.newJaxrsResourceAndProviderListener(classLoader);
                 }
@@ -31,6 +31,7 @@ import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.model.ModelProcessor;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
 import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.model.ResourceModelSnapshot;
 import org.glassfish.jersey.server.spi.ComponentProvider;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 
@@ -53,6 +54,7 @@ public class ServerBootstrapBag extends BootstrapBag {
     private ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
     private ResourceBag resourceBag;
     private ResourceModel resourceModel;
+    private ResourceModelSnapshot resourceModelSnapshot;
     private Collection<ModelProcessor> modelProcessors;
 
     public Collection<ModelProcessor> getModelProcessors() {
@@ -156,4 +158,12 @@ public class ServerBootstrapBag extends BootstrapBag {
     public void setResourceModel(ResourceModel resourceModel) {
         this.resourceModel = resourceModel;
     }
+
+    public ResourceModelSnapshot getResourceModelSnapshot() {
+        return resourceModelSnapshot;
+    }
+
+    public void setResourceModelSnapshot(ResourceModelSnapshot resourceModelSnapshot) {
+        this.resourceModelSnapshot = resourceModelSnapshot;
+    }
 }
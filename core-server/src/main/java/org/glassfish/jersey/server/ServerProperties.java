@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -83,6 +83,31 @@ public final class ServerProperties {
      */
     public static final String PROVIDER_SCANNING_RECURSIVE = "jersey.config.server.provider.scanning.recursive";
 
+    /**
+     * Enables the look up of the resource and provider classes of the scanned packages in the
+     * {@code META-INF/jersey/components.idx} indexes generated at build time by the {@code jersey-index-processor}
+     * annotation processor.
+     *
+     * The value of {@code true} indicates that the classes of the {@link #PROVIDER_PACKAGES scanned packages} and of the
+     * packages registered by {@link ResourceConfig#packages(String...)} are taken from the indexes instead of parsing
+     * every class file of the packages. The index is used per class path root, the packages of the roots without
+     * an index are scanned as before.
+     * <p>
+     * The property value MUST be an instance of {@code Boolean} type or a {@code String} convertible
+     * to {@code Boolean} type.
+     * </p>
+     * <p>
+     * A default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #PROVIDER_PACKAGES
+     * @since 2.47
+     */
+    public static final String PROVIDER_SCANNING_INDEX = "jersey.config.server.provider.scanning.index";
+
     /**
      * Defines class-path that contains application-specific resources and
      * providers.
@@ -461,6 +486,60 @@ public final class ServerProperties {
     public static final String RESOURCE_VALIDATION_IGNORE_ERRORS =
             "jersey.config.server.resource.validation.ignoreErrors";
 
+    /**
+     * Path of the file of the {@link org.glassfish.jersey.server.model.ResourceModelSnapshot resource model snapshot}
+     * of the application.
+     *
+     * If set, the resource model created from the registered resource classes is stored to the file once it has been
+     * successfully validated. The subsequent starts of the application restore the model from the file, provided that
+     * neither the class files of the application nor the Jersey version nor the application properties have changed,
+     * and skip the introspection of the methods of the resource classes that are not resource methods, sub-resource
+     * methods, sub-resource locators or property setters. The resource model validation is skipped as well unless
+     * resources are registered programmatically. The routing of the requests is built on every start.
+     * <p>
+     * The file may be created at build time by starting the application once, e.g. in a test. It is not written when
+     * the resource validation is {@link #RESOURCE_VALIDATION_DISABLE disabled}.
+     * </p>
+     * <p>
+     * The fingerprint that binds the snapshot to the application is computed from the class files of the registered
+     * classes on every start, so whether the start of an application is faster with the snapshot depends on the
+     * application and should be measured before the property is used.
+     * </p>
+     * <p>
+     * There is no default value, the snapshot is not used unless the property is set.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    public static final String RESOURCE_MODEL_SNAPSHOT = "jersey.config.server.resource.model.snapshot";
+
+    /**
+     * Maximal number of threads used to build the resource model, validate it and build the routers of its resource
+     * methods during the application initialization.
+     *
+     * If the value is greater than {@code 1}, the introspection of the registered classes, the validation of the root
+     * resources and the creation of the resource method invokers are distributed over a fork-join pool with the given
+     * parallelism, which is shut down once the application is initialized. The model validation issues are reported in
+     * the same order as by the sequential initialization. {@link javax.ws.rs.container.DynamicFeature Dynamic features}
+     * are then configured concurrently for different resource methods and must be thread-safe.
+     * <p>
+     * The property value MUST be an instance of {@code Integer} type or a {@code String} convertible
+     * to {@code Integer} type.
+     * </p>
+     * <p>
+     * The default value is {@code 1}, i.e. the application is initialized sequentially on the initializing thread.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    public static final String RESOURCE_MODEL_PARALLELISM = "jersey.config.server.resource.model.parallelism";
+
     /**
      * If {@code true} then application monitoring will be enabled.
      *
@@ -760,11 +839,73 @@ public final class ServerProperties {
     public static final String UNWRAP_COMPLETION_STAGE_IN_WRITER_ENABLE =
             "jersey.config.server.unwrap.completion.stage.writer.enable";
 
+    /**
+     * If {@code true} then Jersey will index the literal prefixes of all path patterns of a routing level in a prefix trie
+     * when building the routing model. During request matching only the routes whose literal prefix matches the request
+     * path are then evaluated using their regular expressions, instead of trying the regular expressions of all the routes.
+     * <p>
+     * The JAX-RS matching order is preserved. The option is useful for applications with a large number of resources.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    public static final String ROUTING_PREFIX_INDEX_ENABLED = "jersey.config.server.routing.prefixIndex.enabled";
+
+    /**
+     * If {@code true} then Jersey will invoke Java resource methods using {@link java.lang.invoke.MethodHandle method handles}
+     * bound to the resource methods when the runtime model is built, instead of using {@link java.lang.reflect.Method#invoke
+     * reflection}. Resource methods that cannot be accessed via method handles are still invoked reflectively.
+     * <p>
+     * Custom {@link org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider invocation handler
+     * providers} take precedence over this setting.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    public static final String METHOD_HANDLE_DISPATCH_ENABLED = "jersey.config.server.resource.methodHandleDispatch.enabled";
+
+    /**
+     * An integer value that defines the maximum number of content negotiation decisions cached by each resource method
+     * selecting router. When the value is positive, the resource method selected for a request, together with the
+     * acceptable response media types, is cached under the request method and the values of the {@code Content-Type}
+     * and {@code Accept} request headers, so that subsequent requests with the same headers skip the content negotiation.
+     * Requests that do not match any resource method are never cached.
+     * <p>
+     * Cache hits and misses are counted in {@link org.glassfish.jersey.server.internal.routing.NegotiationStatistics} and
+     * exposed in the {@code ContentNegotiation} MBean when JMX monitoring is enabled.
+     * </p>
+     * <p>
+     * The default value is {@code 0}, i.e. content negotiation decisions are not cached.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    public static final String ROUTING_NEGOTIATION_CACHE_SIZE = "jersey.config.server.routing.negotiationCache.size";
+
     /**
      * JVM argument to define the value of
      * {@link org.glassfish.jersey.server.internal.monitoring.core.ReservoirConstants#COLLISION_BUFFER_POWER}.
      * Lower values reduce the memory footprint.
+     *
+     * @deprecated The execution statistics are recorded in histograms of a constant size which do not use a collision
+     * buffer, the argument has no effect.
      */
+    @Deprecated
     public static final String COLLISION_BUFFER_POWER_JVM_ARG =
             "jersey.config.server.monitoring.collision.buffer.power";
 
@@ -700,7 +700,9 @@ public class ServerRuntime {
                                     runtime.requestScope.referenceCurrent(),
                                     request,
                                     response,
-                                    connectionCallbackRunner);
+                                    connectionCallbackRunner,
+                                    runtime.backgroundScheduler,
+                                    runtime.managedAsyncExecutor);
                         } catch (final IOException ex) {
                             LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_WRITING_RESPONSE_ENTITY_CHUNK(), ex);
                             close = true;
@@ -708,9 +710,12 @@ public class ServerRuntime {
                         // suspend the writer indefinitely (passing null timeout handler is ok in such case) if the output is not
                         // already closed.
                         // TODO what to do if we detect that the writer has already been suspended? override the timeout value?
-                        if (!chunked.isClosed()
-                                && !writer.suspend(AsyncResponder.NO_TIMEOUT, TimeUnit.SECONDS, null)) {
-                            LOGGER.fine(LocalizationMessages.ERROR_SUSPENDING_CHUNKED_OUTPUT_RESPONSE());
+                        if (!chunked.isClosed()) {
+                            // the chunks may be written after the container has released the request
+                            request.detachHeaders();
+                            if (!writer.suspend(AsyncResponder.NO_TIMEOUT, TimeUnit.SECONDS, null)) {
+                                LOGGER.fine(LocalizationMessages.ERROR_SUSPENDING_CHUNKED_OUTPUT_RESPONSE());
+                            }
                         }
                     }
 
@@ -844,8 +849,11 @@ public class ServerRuntime {
         public boolean suspend() {
             synchronized (stateLock) {
                 if (state == RUNNING) {
-                    if (responder.processingContext.request().getResponseWriter().suspend(
-                            AsyncResponse.NO_TIMEOUT, TimeUnit.SECONDS, this)) {
+                    final ContainerRequest request = responder.processingContext.request();
+                    // the request outlives the container call once suspended, detach its headers before the writer
+                    // suspends so that a resume on another thread never reads them from the container
+                    request.detachHeaders();
+                    if (request.getResponseWriter().suspend(AsyncResponse.NO_TIMEOUT, TimeUnit.SECONDS, this)) {
                         state = SUSPENDED;
                         return true;
                     }
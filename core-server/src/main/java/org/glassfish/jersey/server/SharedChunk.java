@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A chunk written to many {@link ChunkedOutput chunked outputs}, e.g. by a {@link Broadcaster}.
+ * <p>
+ * The chunk is serialized by the first chunked output that writes it. The other chunked outputs of the same chunk type and
+ * media type write the serialized bytes without invoking the message body writer again, so that the chunk is serialized
+ * once per a distinct chunk type and media type rather than once per chunked output. The chunk must not be modified once
+ * it has been written to a chunked output.
+ * </p>
+ *
+ * @param <T> chunk type.
+ * @since 2.47
+ */
+public final class SharedChunk<T> {
+
+    private final T chunk;
+    // in most of the cases all the outputs share the same chunk type and media type, i.e. there is just one entry
+    private final Map<List<Object>, byte[]> serialized = new ConcurrentHashMap<>(2);
+
+    /**
+     * Create a new shared chunk.
+     *
+     * @param chunk chunk to be written, must not be {@code null}.
+     */
+    public SharedChunk(final T chunk) {
+        if (chunk == null) {
+            throw new NullPointerException("chunk");
+        }
+        this.chunk = chunk;
+    }
+
+    /**
+     * Get the chunk.
+     *
+     * @return shared chunk.
+     */
+    public T getChunk() {
+        return chunk;
+    }
+
+    /**
+     * Get the chunk serialized for the given chunk type and media type, serialize the chunk if it has not been
+     * serialized yet.
+     *
+     * @param chunkType  generic chunk type of the chunked output.
+     * @param mediaType  media type of the chunked output.
+     * @param serializer serializer of the chunk.
+     * @return serialized chunk, must not be modified.
+     * @throws IOException if the chunk could not be serialized.
+     */
+    byte[] serialize(final Type chunkType, final MediaType mediaType, final Serializer serializer) throws IOException {
+        final List<Object> key = Arrays.asList(chunkType, mediaType);
+        final byte[] bytes = serialized.get(key);
+        if (bytes != null) {
+            return bytes;
+        }
+        try {
+            // concurrent writers of the same chunk wait for the one serializing it
+            return serialized.computeIfAbsent(key, k -> {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try {
+                    final OutputStream written = serializer.serialize(chunk, out);
+                    if (written != out) {
+                        // the message body writer wrapped the stream, make sure the bytes reach the buffer
+                        written.flush();
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return out.toByteArray();
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Serializer of a chunk.
+     */
+    interface Serializer {
+
+        /**
+         * Serialize the chunk.
+         *
+         * @param chunk chunk to be serialized.
+         * @param out   stream the chunk is serialized to.
+         * @return stream the chunk has been written to, possibly wrapping the given stream.
+         * @throws IOException if the chunk could not be serialized.
+         */
+        OutputStream serialize(Object chunk, OutputStream out) throws IOException;
+    }
+}
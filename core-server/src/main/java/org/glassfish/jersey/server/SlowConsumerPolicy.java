@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+/**
+ * Policy applied when a chunk is {@link ChunkedOutput#write(SharedChunk, SlowConsumerPolicy) written} to a chunked output
+ * that has not written the previous chunks yet, e.g. because the client reads the response slower than the chunks are
+ * produced.
+ * <p>
+ * The policy is usually set per chunked output {@link Broadcaster#add(ChunkedOutput, SlowConsumerPolicy) registered}
+ * with a {@link Broadcaster}, so that a single slow client does not hold up the delivery of the broadcast chunks to the
+ * other clients.
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class SlowConsumerPolicy {
+
+    /**
+     * Queue the chunk regardless of the number of the chunks waiting to be written. A chunked output with a bounded queue
+     * blocks the writing thread until there is room in the queue.
+     */
+    public static final SlowConsumerPolicy BLOCK = new SlowConsumerPolicy(Integer.MAX_VALUE, false);
+
+    private static final SlowConsumerPolicy DROP = new SlowConsumerPolicy(1, false);
+
+    private final int maxQueued;
+    private final boolean disconnect;
+
+    private SlowConsumerPolicy(final int maxQueued, final boolean disconnect) {
+        this.maxQueued = maxQueued;
+        this.disconnect = disconnect;
+    }
+
+    /**
+     * Replace the chunk that is still waiting to be written with the new chunk, i.e. a slow client skips the chunks it is
+     * not able to receive and always receives the latest chunk. Unlike {@link #buffer(int) buffer(1)}, which drops
+     * the new chunk, the stale chunk is dropped.
+     *
+     * @return policy dropping the stale chunks a slow client is not able to receive.
+     */
+    public static SlowConsumerPolicy drop() {
+        return DROP;
+    }
+
+    /**
+     * Queue at most {@code maxQueued} chunks waiting to be written, drop the chunk if the queue is already full.
+     *
+     * @param maxQueued maximal number of the chunks waiting to be written, must be positive.
+     * @return policy buffering the given number of chunks and dropping the other ones.
+     */
+    public static SlowConsumerPolicy buffer(final int maxQueued) {
+        return new SlowConsumerPolicy(checkMaxQueued(maxQueued), false);
+    }
+
+    /**
+     * Queue at most {@code maxQueued} chunks waiting to be written, close the chunked output if the queue is already full.
+     *
+     * @param maxQueued maximal number of the chunks waiting to be written, must be positive.
+     * @return policy disconnecting a client that does not keep up with the given number of chunks.
+     */
+    public static SlowConsumerPolicy disconnect(final int maxQueued) {
+        return new SlowConsumerPolicy(checkMaxQueued(maxQueued), true);
+    }
+
+    private static int checkMaxQueued(final int maxQueued) {
+        if (maxQueued <= 0) {
+            throw new IllegalArgumentException("maxQueued: " + maxQueued);
+        }
+        return maxQueued;
+    }
+
+    /**
+     * Check whether a chunk can be queued.
+     *
+     * @param queued number of the chunks waiting to be written.
+     * @return {@code true} if the chunk can be queued, {@code false} if the chunk is refused.
+     */
+    boolean accepts(final int queued) {
+        return queued < maxQueued;
+    }
+
+    /**
+     * Check whether the chunked output is closed when a chunk is refused.
+     *
+     * @return {@code true} if a refused chunk closes the chunked output, {@code false} if the chunk is just dropped.
+     */
+    boolean disconnects() {
+        return disconnect;
+    }
+
+    /**
+     * Check whether the chunk is queued even if it has to wait for room in a bounded queue.
+     *
+     * @return {@code true} for the {@link #BLOCK} policy.
+     */
+    boolean blocks() {
+        return this == BLOCK;
+    }
+
+    /**
+     * Check whether the chunk replaces the chunk waiting to be written rather than being queued after it.
+     *
+     * @return {@code true} for the {@link #drop()} policy.
+     */
+    boolean replaces() {
+        return this == DROP;
+    }
+
+    @Override
+    public String toString() {
+        if (this == BLOCK) {
+            return "SlowConsumerPolicy[block]";
+        } else if (this == DROP) {
+            return "SlowConsumerPolicy[drop]";
+        }
+        return "SlowConsumerPolicy[" + (disconnect ? "disconnect" : "buffer") + "=" + maxQueued + "]";
+    }
+}
@@ -39,6 +39,15 @@ public final class InternalServerProperties {
      */
     public static final String FORM_DECODED_PROPERTY = "jersey.config.server.representation.decoded.form";
 
+    /**
+     * Set by a container in {@link org.glassfish.jersey.server.ContainerRequest} properties when the request is processed
+     * on a container I/O thread that must not be blocked. Resource methods that are not annotated with
+     * {@link org.glassfish.jersey.server.NonBlocking} are then invoked on the managed async executor instead.
+     *
+     * @since 2.47
+     */
+    public static final String NON_BLOCKING_THREAD = "jersey.config.server.internal.nonBlockingThread";
+
     private InternalServerProperties() {
         // prevents instantiation
     }
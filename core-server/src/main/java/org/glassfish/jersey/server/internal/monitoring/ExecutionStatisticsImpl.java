@@ -16,15 +16,16 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeReservoir;
+import org.glassfish.jersey.server.internal.monitoring.core.HistogramTimeReservoir;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
@@ -48,54 +49,48 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
      */
     static class Builder {
 
-        private volatile long lastStartTime;
+        private final AtomicLong lastStartTime = new AtomicLong();
         private final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatistics;
         private final Collection<TimeWindowStatisticsImpl.Builder<Long>> updatableIntervalStatistics;
 
         /**
          * Create a new builder.
+         * <p/>
+         * The execution times are recorded into {@link HistogramTimeReservoir histogram reservoirs}, so the memory taken by
+         * the builder does not depend on the number of executions.
          */
         @SuppressWarnings("MagicNumber")
         public Builder() {
             final long nowMillis = System.currentTimeMillis();
-            final AggregatingTrimmer trimmer = new AggregatingTrimmer(nowMillis, TimeUnit.MILLISECONDS, 1, TimeUnit.SECONDS);
-            final TimeWindowStatisticsImpl.Builder<Long> oneSecondIntervalWindowBuilder =
-                    new TimeWindowStatisticsImpl.Builder<>(
-                            new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS, trimmer));
-            final TimeWindowStatisticsImpl.Builder<Long> infiniteIntervalWindowBuilder =
-                    new TimeWindowStatisticsImpl.Builder<>(new UniformTimeReservoir(nowMillis, TimeUnit.MILLISECONDS));
-
-            this.updatableIntervalStatistics =
-                    Arrays.asList(infiniteIntervalWindowBuilder, oneSecondIntervalWindowBuilder);
 
             // create unmodifiable map to ensure that an iteration in the build() won't have multi-threading issues
-            final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(6);
-            // Add approximate infinite time window builder
-            tmpIntervalStatistics.put(0L, infiniteIntervalWindowBuilder);
-            // Add precise 1 second time window builder
-            tmpIntervalStatistics.put(TimeUnit.SECONDS.toMillis(1), oneSecondIntervalWindowBuilder);
-            // Add aggregated 15 seconds time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS, trimmer);
-            // Add aggregated 1 minute time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 15 minutes time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 1 hour time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.HOURS, trimmer);
+            final HashMap<Long, TimeWindowStatisticsImpl.Builder<Long>> tmpIntervalStatistics = new HashMap<>(6);
+            // Add infinite time window builder
+            tmpIntervalStatistics.put(0L, new TimeWindowStatisticsImpl.Builder<>(
+                    new HistogramTimeReservoir(nowMillis, TimeUnit.MILLISECONDS)));
+            // Add 1 second time window builder
+            addInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.SECONDS);
+            // Add 15 seconds time window builder
+            addInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS);
+            // Add 1 minute time window builder
+            addInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES);
+            // Add 15 minutes time window builder
+            addInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES);
+            // Add 1 hour time window builder
+            addInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.HOURS);
 
             this.intervalStatistics = Collections.unmodifiableMap(tmpIntervalStatistics);
+            this.updatableIntervalStatistics = new ArrayList<>(tmpIntervalStatistics.values());
         }
 
-        private static void addAggregatedInterval(
-                final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatisticsMap,
+        private static void addInterval(
+                final Map<Long, TimeWindowStatisticsImpl.Builder<Long>> intervalStatisticsMap,
                 final long nowMillis,
                 final long interval,
-                final TimeUnit timeUnit,
-                final AggregatingTrimmer notifier) {
+                final TimeUnit timeUnit) {
             final long intervalInMillis = timeUnit.toMillis(interval);
             intervalStatisticsMap.put(intervalInMillis, new TimeWindowStatisticsImpl.Builder<>(
-                    new AggregatedSlidingWindowTimeReservoir(intervalInMillis, TimeUnit.MILLISECONDS, nowMillis,
-                            TimeUnit.MILLISECONDS, notifier)));
+                    new HistogramTimeReservoir(intervalInMillis, TimeUnit.MILLISECONDS, nowMillis, TimeUnit.MILLISECONDS)));
         }
 
         /**
@@ -109,7 +104,8 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
                 statBuilder.addRequest(startTime, duration);
             }
 
-            this.lastStartTime = startTime;
+            // executions are added concurrently, the latest start time is kept
+            lastStartTime.accumulateAndGet(startTime, Math::max);
         }
 
         /**
@@ -125,7 +121,7 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
 
             // cache when request rate is 0
 
-            return new ExecutionStatisticsImpl(lastStartTime, newIntervalStatistics);
+            return new ExecutionStatisticsImpl(lastStartTime.get(), newIntervalStatistics);
         }
     }
 
@@ -18,9 +18,9 @@ package org.glassfish.jersey.server.internal.monitoring;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -51,6 +51,13 @@ import org.glassfish.jersey.uri.UriTemplate;
  * This event listener must be registered as a standard provider when monitoring statistics are required
  * in the runtime.
  * </p>
+ * <p>
+ * The events are recorded by the request threads themselves, no event is dropped and request threads do not contend
+ * on a single lock: the execution times are recorded into the thread-safe statistics builder of the processor, whose
+ * {@link org.glassfish.jersey.server.internal.monitoring.core.HistogramTimeReservoir reservoirs} are striped, and
+ * response status codes and exception mappings are counted in {@link LongAdder striped counters} which the processor
+ * collects periodically.
+ * </p>
  *
  * @author Miroslav Fuksa
  * @see MonitoringStatisticsProcessor
@@ -59,114 +66,16 @@ import org.glassfish.jersey.uri.UriTemplate;
 public final class MonitoringEventListener implements ApplicationEventListener {
 
     private static final Logger LOGGER = Logger.getLogger(MonitoringEventListener.class.getName());
-    private static final int EVENT_QUEUE_SIZE = 500_000;
 
     @Inject
     private InjectionManager injectionManager;
 
-    private final Queue<RequestStats> requestQueuedItems = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
-    private final Queue<Integer> responseStatuses = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
-    private final Queue<RequestEvent> exceptionMapperEvents = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
+    private final Map<Integer, LongAdder> responseStatuses = new ConcurrentHashMap<>();
+    private volatile int lastResponseStatus = -1;
+    private final Map<Class<?>, LongAdder> exceptionMapperExecutions = new ConcurrentHashMap<>();
+    private final LongAdder successfulMappings = new LongAdder();
+    private final LongAdder unsuccessfulMappings = new LongAdder();
     private volatile MonitoringStatisticsProcessor monitoringStatisticsProcessor;
-    // By default new events can arrive before MonitoringStatisticsProcessor is running.
-    private final AtomicBoolean processorFailed = new AtomicBoolean(false);
-
-    /**
-     * Time statistics.
-     */
-    static class TimeStats {
-
-        private final long duration;
-        private final long startTime;
-
-        private TimeStats(final long startTime, final long requestDuration) {
-            this.duration = requestDuration;
-            this.startTime = startTime;
-        }
-
-        /**
-         * Get duration.
-         *
-         * @return Duration in milliseconds.
-         */
-        long getDuration() {
-            return duration;
-        }
-
-        /**
-         * Get start time.
-         *
-         * @return Start time (Unix timestamp format).
-         */
-        long getStartTime() {
-            return startTime;
-        }
-    }
-
-    /**
-     * Method statistics.
-     */
-    static class MethodStats extends TimeStats {
-
-        private final ResourceMethod method;
-
-        private MethodStats(final ResourceMethod method, final long startTime, final long requestDuration) {
-            super(startTime, requestDuration);
-            this.method = method;
-        }
-
-        /**
-         * Get the resource method executed.
-         *
-         * @return resource method.
-         */
-        ResourceMethod getMethod() {
-            return method;
-        }
-    }
-
-    /**
-     * Request statistics.
-     */
-    static class RequestStats {
-
-        private final TimeStats requestStats;
-        private final MethodStats methodStats; // might be null if a method was not executed during a request
-        private final String requestUri;
-
-        private RequestStats(final TimeStats requestStats, final MethodStats methodStats, final String requestUri) {
-            this.requestStats = requestStats;
-            this.methodStats = methodStats;
-            this.requestUri = requestUri;
-        }
-
-        /**
-         * Get request statistics.
-         *
-         * @return request statistics.
-         */
-        TimeStats getRequestStats() {
-            return requestStats;
-        }
-
-        /**
-         * Get method statistics.
-         *
-         * @return method statistics.
-         */
-        MethodStats getMethodStats() {
-            return methodStats;
-        }
-
-        /**
-         * Get the request uri.
-         *
-         * @return request uri.
-         */
-        String getRequestUri() {
-            return requestUri;
-        }
-    }
 
     @Override
     public ReqEventListener onRequest(final RequestEvent requestEvent) {
@@ -187,7 +96,6 @@ public final class MonitoringEventListener implements ApplicationEventListener {
             case RELOAD_FINISHED:
             case INITIALIZATION_FINISHED:
                 this.monitoringStatisticsProcessor = new MonitoringStatisticsProcessor(injectionManager, this);
-                processorFailed.set(false);
                 this.monitoringStatisticsProcessor.startMonitoringWorker();
                 break;
             case DESTROY_FINISHED:
@@ -222,7 +130,8 @@ public final class MonitoringEventListener implements ApplicationEventListener {
 
         private final long requestTimeStart;
         private volatile long methodTimeStart;
-        private volatile MethodStats methodStats;
+        private volatile long methodDuration;
+        private volatile ResourceMethod method; // might be null if a method was not executed during a request
 
         public ReqEventListener() {
             this.requestTimeStart = System.currentTimeMillis();
@@ -237,19 +146,15 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                     this.methodTimeStart = now;
                     break;
                 case RESOURCE_METHOD_FINISHED:
-                    final ResourceMethod method = event.getUriInfo().getMatchedResourceMethod();
-                    methodStats = new MethodStats(method, methodTimeStart, now - methodTimeStart);
+                    this.methodDuration = now - methodTimeStart;
+                    this.method = event.getUriInfo().getMatchedResourceMethod();
                     break;
                 case EXCEPTION_MAPPING_FINISHED:
-                    if (!offer(exceptionMapperEvents, event)) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_MAPPER());
-                    }
+                    countExceptionMapping(event);
                     break;
                 case FINISHED:
                     if (event.isResponseWritten()) {
-                        if (!offer(responseStatuses, event.getContainerResponse().getStatus())) {
-                            LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
-                        }
+                        countResponseStatus(event.getContainerResponse().getStatus());
                     }
                     final StringBuilder sb = new StringBuilder();
                     final List<UriTemplate> orderedTemplates =
@@ -267,54 +172,100 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                         }
                         sb.setLength(sb.length() - 1);
                     }
-                    if (!offer(requestQueuedItems, new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
-                            methodStats, sb.toString()))) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_REQUEST());
+
+                    final MonitoringStatisticsProcessor processor = monitoringStatisticsProcessor;
+                    if (processor != null) {
+                        final MonitoringStatisticsImpl.Builder statisticsBuilder = processor.getStatisticsBuilder();
+                        final long requestDuration = now - requestTimeStart;
+                        statisticsBuilder.addRequestExecution(requestTimeStart, requestDuration);
+                        final ResourceMethod executedMethod = method;
+                        if (executedMethod != null) {
+                            statisticsBuilder.addExecution(sb.toString(), executedMethod, methodTimeStart, methodDuration,
+                                    requestTimeStart, requestDuration);
+                        }
                     }
 
             }
         }
     }
 
-    private <T> boolean offer(Queue<T> queue, T event) {
-        if (!processorFailed.get()) {
-            return queue.offer(event);
+    private void countExceptionMapping(final RequestEvent event) {
+        if (event.getExceptionMapper() != null) {
+            counter(exceptionMapperExecutions, event.getExceptionMapper().getClass()).increment();
+        }
+        if (event.isResponseSuccessfullyMapped()) {
+            successfulMappings.increment();
+        } else {
+            unsuccessfulMappings.increment();
+        }
+    }
+
+    private void countResponseStatus(final int status) {
+        counter(responseStatuses, status).increment();
+        // avoid writing the shared field when the status does not change
+        if (lastResponseStatus != status) {
+            lastResponseStatus = status;
+        }
+    }
+
+    private static <K> LongAdder counter(final Map<K, LongAdder> counters, final K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            final LongAdder newCounter = new LongAdder();
+            counter = counters.putIfAbsent(key, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
         }
-        // Don't need to warn that the event was not queued because an Exception was thrown by MonitoringStatisticsProcessor
-        return true;
+        return counter;
     }
 
     /**
-     * Invoked by {@link MonitoringStatisticsProcessor} when there is one exception consuming from queues.
+     * Get the counters of exception mapper executions. The counters are reset by the consumer once their counts
+     * are processed.
+     *
+     * @return exception mapper execution counters.
      */
-    void processorFailed() {
-        processorFailed.set(true);
+    Map<Class<?>, LongAdder> getExceptionMapperExecutions() {
+        return exceptionMapperExecutions;
     }
 
     /**
-     * Get the exception mapper event queue.
+     * Get the counter of successful exception mappings. The counter is reset by the consumer once its count
+     * is processed.
      *
-     * @return Exception mapper event queue.
+     * @return successful exception mapping counter.
      */
-    Queue<RequestEvent> getExceptionMapperEvents() {
-        return exceptionMapperEvents;
+    LongAdder getSuccessfulMappings() {
+        return successfulMappings;
     }
 
     /**
-     * Get the request event queue.
+     * Get the counter of unsuccessful exception mappings. The counter is reset by the consumer once its count
+     * is processed.
      *
-     * @return Request event queue.
+     * @return unsuccessful exception mapping counter.
      */
-    Queue<RequestStats> getRequestQueuedItems() {
-        return requestQueuedItems;
+    LongAdder getUnsuccessfulMappings() {
+        return unsuccessfulMappings;
     }
 
     /**
-     * Get the queue with response status codes.
+     * Get the counters of response status codes. The counters are reset by the consumer once their counts
+     * are processed.
      *
-     * @return response status queue.
+     * @return response status counters.
      */
-    Queue<Integer> getResponseStatuses() {
+    Map<Integer, LongAdder> getResponseStatuses() {
         return responseStatuses;
     }
+
+    /**
+     * Get the last counted response status code.
+     *
+     * @return last response status code or {@code -1} if no response status has been counted yet.
+     */
+    int getLastResponseStatus() {
+        return lastResponseStatus;
+    }
 }
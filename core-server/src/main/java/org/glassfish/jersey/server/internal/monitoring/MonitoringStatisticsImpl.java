@@ -19,7 +19,8 @@ package org.glassfish.jersey.server.internal.monitoring;
 import java.util.Collections;
 import java.util.Map;
 import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.glassfish.jersey.internal.util.collection.Views;
@@ -45,9 +46,10 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
     /**
      * Builder of monitoring statistics.
      * <p/>
-     * This builder does not need to be threadsafe as it's only accessed by jersey-background-task-scheduler. However, {@link
-     * #BUILDING_FUNCTION} is triggered when it is accessed (e.g., by servlet-container thread-pool threads) which adds threadsafe
-     * constraint on some of the sub-builders.
+     * The executions are added by the request threads (e.g., servlet-container thread-pool threads) concurrently, the
+     * statistics are built by jersey-background-task-scheduler and {@link #BUILDING_FUNCTION} is triggered when the built
+     * statistics are accessed. The execution part of this builder is therefore thread-safe, and so are the sub-builders
+     * it uses.
      * <p/>
      * Sub-Builders that require thread-safety
      * <pre><ul>
@@ -56,7 +58,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
      *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResourceMethodStatisticsImpl.Builder}</li>
      *     <li>{@link org.glassfish.jersey.server.internal.monitoring.TimeWindowStatisticsImpl.Builder}</li>
      * </ul>
-     * The rest does not need to be thread-safe
+     * The rest does not need to be thread-safe, it is only accessed by jersey-background-task-scheduler
      * <ul>
      *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ExceptionMapperStatisticsImpl.Builder}</li>
      *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResponseStatisticsImpl.Builder}</li>
@@ -71,11 +73,11 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         private final ExceptionMapperStatisticsImpl.Builder exceptionMapperStatisticsBuilder;
 
         private final ResourceMethodStatisticsImpl.Factory methodFactory = new ResourceMethodStatisticsImpl.Factory();
-        private final SortedMap<String, ResourceStatisticsImpl.Builder> uriStatistics = new TreeMap<>();
+        private final SortedMap<String, ResourceStatisticsImpl.Builder> uriStatistics = new ConcurrentSkipListMap<>();
         private final SortedMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
-                = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
+                = new ConcurrentSkipListMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
 
-        private ExecutionStatisticsImpl.Builder executionStatisticsBuilder;
+        private final AtomicReference<ExecutionStatisticsImpl.Builder> executionStatisticsBuilder = new AtomicReference<>();
 
         /**
          * Create a new builder.
@@ -119,12 +121,11 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
 
         private ResourceStatisticsImpl.Builder getOrCreateResourceBuilder(final ResourceMethod resourceMethod) {
             final Class<?> clazz = resourceMethod.getInvocable().getHandler().getHandlerClass();
-            ResourceStatisticsImpl.Builder builder = resourceClassStatistics.get(clazz);
-            if (builder == null) {
-                builder = new ResourceStatisticsImpl.Builder(methodFactory);
-                resourceClassStatistics.put(clazz, builder);
+            final ResourceStatisticsImpl.Builder builder = resourceClassStatistics.get(clazz);
+            if (builder != null) {
+                return builder;
             }
-            return builder;
+            return resourceClassStatistics.computeIfAbsent(clazz, c -> new ResourceStatisticsImpl.Builder(methodFactory));
         }
 
         /**
@@ -143,10 +144,10 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * @param duration  duration of the execution.
          */
         void addRequestExecution(final long startTime, final long duration) {
-            if (executionStatisticsBuilder == null) {
-                executionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+            if (executionStatisticsBuilder.get() == null) {
+                executionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
             }
-            executionStatisticsBuilder.addExecution(startTime, duration);
+            executionStatisticsBuilder.get().addExecution(startTime, duration);
         }
 
         /**
@@ -166,8 +167,8 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             // Uri resource stats.
             ResourceStatisticsImpl.Builder uriStatsBuilder = uriStatistics.get(uri);
             if (uriStatsBuilder == null) {
-                uriStatsBuilder = new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory);
-                uriStatistics.put(uri, uriStatsBuilder);
+                uriStatsBuilder = uriStatistics.computeIfAbsent(uri,
+                        u -> new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory));
             }
             uriStatsBuilder.addExecution(resourceMethod, methodTime, methodDuration, requestTime, requestDuration);
 
@@ -189,6 +190,25 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             responseStatisticsBuilder.addResponseCode(responseCode);
         }
 
+        /**
+         * Add a number of responses with the given status code produced by Jersey.
+         *
+         * @param responseCode Response status code.
+         * @param count        Number of responses.
+         */
+        void addResponseCode(final int responseCode, final long count) {
+            responseStatisticsBuilder.addResponseCode(responseCode, count);
+        }
+
+        /**
+         * Set the last response status code produced by Jersey.
+         *
+         * @param responseCode Response status code.
+         */
+        void setLastResponseCode(final int responseCode) {
+            responseStatisticsBuilder.setLastResponseCode(responseCode);
+        }
+
         /**
          * Build a new instance of monitoring statistics.
          *
@@ -200,8 +220,9 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             final Map<Class<?>, ResourceStatistics> classStats = Collections.unmodifiableMap(
                     Views.mapView(resourceClassStatistics, BUILDING_FUNCTION));
 
-            final ExecutionStatistics requestStats = executionStatisticsBuilder == null
-                    ? ExecutionStatisticsImpl.EMPTY : executionStatisticsBuilder.build();
+            final ExecutionStatisticsImpl.Builder requestStatsBuilder = executionStatisticsBuilder.get();
+            final ExecutionStatistics requestStats = requestStatsBuilder == null
+                    ? ExecutionStatisticsImpl.EMPTY : requestStatsBuilder.build();
 
             return new MonitoringStatisticsImpl(
                     uriStats, classStats, requestStats,
@@ -16,13 +16,13 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -35,18 +35,16 @@ import org.glassfish.jersey.server.BackgroundSchedulerLiteral;
 import org.glassfish.jersey.server.ExtendedResourceContext;
 import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
-import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener.RequestStats;
-import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
-import org.glassfish.jersey.server.monitoring.RequestEvent;
 
 /**
  * Process events of application and request processing into
  * {@link org.glassfish.jersey.server.monitoring.MonitoringStatistics monitoring statistics}.
- * The {@code MonitoringStatisticsProcessor} starts a new thread which process events in regular intervals
- * and for each new monitoring statistics it calls registered
- * {@link MonitoringStatisticsListener monitoring statistics event listeners}.
+ * The {@code MonitoringStatisticsProcessor} starts a new thread which collects the counters of
+ * {@link MonitoringEventListener} in regular intervals and for each new monitoring statistics it calls registered
+ * {@link MonitoringStatisticsListener monitoring statistics event listeners}. The execution times are recorded
+ * directly into the {@link #getStatisticsBuilder() statistics builder} by the request threads.
  *
  * @author Miroslav Fuksa
  */
@@ -91,11 +89,9 @@ final class MonitoringStatisticsProcessor {
             @Override
             public void run() {
                 try {
-                    processRequestItems();
                     processResponseCodeEvents();
                     processExceptionMapperEvents();
                 } catch (final Throwable t) {
-                    monitoringEventListener.processorFailed();
                     LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_MONITORING_STATISTICS_GENERATION(), t);
                     // rethrowing exception stops further task execution
                     throw new ProcessingException(LocalizationMessages.ERROR_MONITORING_STATISTICS_GENERATION(), t);
@@ -119,50 +115,46 @@ final class MonitoringStatisticsProcessor {
         }, 0, interval, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Get the builder of the statistics, request threads record the executions into it.
+     *
+     * @return thread-safe statistics builder.
+     */
+    MonitoringStatisticsImpl.Builder getStatisticsBuilder() {
+        return statisticsBuilder;
+    }
+
     private void processExceptionMapperEvents() {
-        final Queue<RequestEvent> eventQueue = monitoringEventListener.getExceptionMapperEvents();
-        final FloodingLogger floodingLogger = new FloodingLogger(eventQueue);
-        RequestEvent event = null;
-        while ((event = eventQueue.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
-            final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
-
-            if (event.getExceptionMapper() != null) {
-                mapperStats.addExceptionMapperExecution(event.getExceptionMapper().getClass(), 1);
+        final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
+        for (final Map.Entry<Class<?>, LongAdder> entry : monitoringEventListener.getExceptionMapperExecutions().entrySet()) {
+            final long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                mapperStats.addExceptionMapperExecution(entry.getKey(), count);
             }
-
-            mapperStats.addMapping(event.isResponseSuccessfullyMapped(), 1);
         }
-    }
 
-    private void processRequestItems() {
-        final Queue<MonitoringEventListener.RequestStats> requestQueuedItems = monitoringEventListener.getRequestQueuedItems();
-        final FloodingLogger floodingLogger = new FloodingLogger(requestQueuedItems);
-        RequestStats event = null;
-        while ((event = requestQueuedItems.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
-            final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
-            statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
-
-            final MonitoringEventListener.MethodStats methodStat = event.getMethodStats();
-            if (methodStat != null) {
-                final ResourceMethod method = methodStat.getMethod();
-                statisticsBuilder.addExecution(event.getRequestUri(), method,
-                        methodStat.getStartTime(), methodStat.getDuration(),
-                        requestStats.getStartTime(), requestStats.getDuration());
-            }
+        final long successful = monitoringEventListener.getSuccessfulMappings().sumThenReset();
+        if (successful > 0) {
+            mapperStats.addMapping(true, successful);
+        }
+        final long unsuccessful = monitoringEventListener.getUnsuccessfulMappings().sumThenReset();
+        if (unsuccessful > 0) {
+            mapperStats.addMapping(false, unsuccessful);
         }
     }
 
     private void processResponseCodeEvents() {
-        final Queue<Integer> responseEvents = monitoringEventListener.getResponseStatuses();
-        final FloodingLogger floodingLogger = new FloodingLogger(responseEvents);
-        Integer code = null;
-        while ((code = responseEvents.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
-            statisticsBuilder.addResponseCode(code);
+        boolean counted = false;
+        for (final Map.Entry<Integer, LongAdder> entry : monitoringEventListener.getResponseStatuses().entrySet()) {
+            final long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                statisticsBuilder.addResponseCode(entry.getKey(), count);
+                counted = true;
+            }
+        }
+        if (counted) {
+            statisticsBuilder.setLastResponseCode(monitoringEventListener.getLastResponseStatus());
         }
-
     }
 
     /**
@@ -181,54 +173,4 @@ final class MonitoringStatisticsProcessor {
             LOGGER.warning(LocalizationMessages.ERROR_MONITORING_SCHEDULER_DESTROY_TIMEOUT());
         }
     }
-
-    /**
-     * Upon calling of {@link #conditionallyLogFlooding()}, flooding logger conditionally checks for the size of the associated
-     * collection and if its size increases a warning about flooding is logged.
-     * <p/>
-     * The purpose of this flooding logger facility is to warn about disability to decrease the size of given collection which
-     * leads to never ending looping while trying to empty that collection in a loop.
-     *
-     * @author Stepan Vavra
-     */
-    private static class FloodingLogger {
-
-        /** The frequency of logging a warning about the request queue being flooded. */
-        private static final int FLOODING_WARNING_LOG_INTERVAL_MILLIS = 5_000;
-
-        private final Collection<?> collection;
-        private final long startTime = System.nanoTime();
-
-        private int i = 0;
-        private int lastSize;
-
-        /**
-         * Constructs Flooding Logger and associate it with given collection.
-         *
-         * @param collection The collection to associate this flooding logger with.
-         */
-        public FloodingLogger(final Collection<?> collection) {
-            this.collection = collection;
-            this.lastSize = collection.size();
-        }
-
-        /**
-         * With a frequency of {@link #FLOODING_WARNING_LOG_INTERVAL_MILLIS}, a warning about flooding is logged if the size of
-         * the associated collection is increasing.
-         */
-        public void conditionallyLogFlooding() {
-            // this condition prevents the log warning from being logged more frequently than
-            // 'FLOODING_WARNING_LOG_INTERVAL_MILLIS' - counted from the initialization of this class
-            if ((System.nanoTime() - startTime) / TimeUnit.NANOSECONDS.convert(FLOODING_WARNING_LOG_INTERVAL_MILLIS,
-                    TimeUnit.MILLISECONDS) <= i) {
-                return;
-            }
-
-            if (collection.size() > lastSize) {
-                LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_FLOODED(collection.size()));
-            }
-            i++;
-            lastSize = collection.size();
-        }
-    }
 }
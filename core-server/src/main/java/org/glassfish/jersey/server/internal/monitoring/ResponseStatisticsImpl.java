@@ -53,6 +53,30 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
             responseCodesMap.put(responseCode, currentValue + 1);
         }
 
+        /**
+         * Add the given number of responses with the given code without changing the last response code.
+         *
+         * @param responseCode response code.
+         * @param count        number of responses.
+         */
+        void addResponseCode(final int responseCode, final long count) {
+            cached = null;
+
+            responseCodesMap.merge(responseCode, count, Long::sum);
+        }
+
+        /**
+         * Set the last response code.
+         *
+         * @param responseCode last response code.
+         */
+        void setLastResponseCode(final int responseCode) {
+            if (lastResponseCode == null || lastResponseCode != responseCode) {
+                cached = null;
+                lastResponseCode = responseCode;
+            }
+        }
+
         ResponseStatisticsImpl build() {
             if (cached == null) {
                 cached = new ResponseStatisticsImpl(lastResponseCode, new HashMap<>(this.responseCodesMap));
@@ -24,8 +24,9 @@ import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
 import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
 /**
- * Immutable {@link TimeWindowStatistics Time window statistics} that uses backing {@link SlidingWindowTimeReservoir} for its
- * {@code Builder} implementation.
+ * Immutable {@link TimeWindowStatistics Time window statistics} that uses a backing {@link TimeReservoir} for its
+ * {@code Builder} implementation. The duration percentiles are calculated from the snapshot of the reservoir, see
+ * {@link UniformTimeSnapshot#getValue(double)}.
  *
  * @author Miroslav Fuksa
  * @author Stepan Vavra
@@ -94,7 +95,7 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
 
         private TimeWindowStatisticsImpl getOrCreateEmptyStats(final long interval) {
             if (!EMPTY.containsKey(interval)) {
-                EMPTY.putIfAbsent(interval, new TimeWindowStatisticsImpl(interval, 0, -1, -1, -1, 0));
+                EMPTY.putIfAbsent(interval, new TimeWindowStatisticsImpl(interval, 0, -1, -1, -1, 0, null));
             }
             return EMPTY.get(interval);
         }
@@ -107,7 +108,7 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
     private static final ConcurrentHashMap<Long, TimeWindowStatisticsImpl> EMPTY = new ConcurrentHashMap<>(6);
 
     static {
-        EMPTY.putIfAbsent(0L, new TimeWindowStatisticsImpl(0, 0, 0, 0, 0, 0));
+        EMPTY.putIfAbsent(0L, new TimeWindowStatisticsImpl(0, 0, 0, 0, 0, 0, null));
     }
 
     private final long interval;
@@ -119,19 +120,24 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
     private final long totalCount;
     private final double requestsPerSecond;
 
+    // immutable snapshot the percentiles are calculated from, null if no request has been processed
+    private final UniformTimeSnapshot snapshot;
+
     private TimeWindowStatisticsImpl(final long interval, final double requestsPerSecond, final long minimumDuration,
-                                     final long maximumDuration, final long averageDuration, final long totalCount) {
+                                     final long maximumDuration, final long averageDuration, final long totalCount,
+                                     final UniformTimeSnapshot snapshot) {
         this.interval = interval;
         this.requestsPerSecond = requestsPerSecond;
         this.minimumDuration = minimumDuration;
         this.maximumDuration = maximumDuration;
         this.averageDuration = averageDuration;
         this.totalCount = totalCount;
+        this.snapshot = snapshot;
     }
 
     private TimeWindowStatisticsImpl(final long interval, final UniformTimeSnapshot snapshot) {
         this(interval, snapshot.getRate(TimeUnit.SECONDS), snapshot.getMin(), snapshot.getMax(), (long) snapshot.getMean(),
-                snapshot.size());
+                snapshot.size(), snapshot);
     }
 
     @Override
@@ -159,6 +165,18 @@ final class TimeWindowStatisticsImpl implements TimeWindowStatistics {
         return totalCount;
     }
 
+    @Override
+    public long getDurationPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException(percentile + " is not in [0..100] range");
+        }
+        if (snapshot == null) {
+            return -1;
+        }
+        final double value = snapshot.getValue(percentile / 100);
+        return value < 0 ? -1 : Math.round(value);
+    }
+
     @Override
     public TimeWindowStatistics snapshot() {
         // TimeWindowStatisticsImpl is immutable; the Builder is mutable
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link TimeReservoir} that counts the values in log-linear histogram buckets and thus occupies a constant amount of
+ * memory regardless of the number of recorded values.
+ * <p/>
+ * Values lower than {@value #SUB_BUCKETS} get a bucket each, greater values are split into power of two ranges which are
+ * further divided into {@value #SUB_BUCKETS} linear sub-buckets. The value at a quantile is therefore reported with
+ * a relative error lower than {@code 1/}{@value #SUB_BUCKETS}. The count, minimum, maximum and mean of the values are
+ * exact.
+ * <p/>
+ * A reservoir created with a time window keeps the histograms in a ring of {@value #SLOTS} slots of time which together
+ * cover the window; a snapshot merges the slots within the window. The window hence slides in steps of one slot. Values
+ * that are older than the window when they are recorded are thrown away. A reservoir created without a time window keeps
+ * all the recorded values in a single histogram.
+ * <p/>
+ * The values are recorded without locking. Each recording thread updates one of up to {@value #MAX_STRIPES} stripes of
+ * the reservoir, each stripe has its own ring of slots, and the stripes are merged when a snapshot is taken. A snapshot
+ * taken while values are being recorded may miss some of them, but it never blocks the recording threads.
+ *
+ * @since 2.47
+ */
+public class HistogramTimeReservoir implements TimeReservoir<Long> {
+
+    /**
+     * Number of the slots of the ring of a sliding window reservoir.
+     */
+    static final int SLOTS = 10;
+
+    /**
+     * Maximal number of the stripes of a reservoir.
+     */
+    static final int MAX_STRIPES = 4;
+    private static final int STRIPES = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 30;
+    /**
+     * Maximal value that is distinguished by the histogram; greater values are counted as this value.
+     */
+    static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long window;
+    private final long slotSize;
+    private final TimeUnit windowUnit;
+    private final long interval;
+    private final int slotCount;
+    private final Stripe[] stripes;
+    private final long startTick;
+
+    /**
+     * Creates a new histogram reservoir that keeps all the values recorded since the start time.
+     *
+     * @param startTime     The start time from which this reservoir calculates measurements
+     * @param startTimeUnit The start time unit
+     */
+    public HistogramTimeReservoir(final long startTime, final TimeUnit startTimeUnit) {
+        this(0, TimeUnit.NANOSECONDS, startTime, startTimeUnit);
+    }
+
+    /**
+     * Creates a new histogram reservoir that keeps the values recorded in the last {@code window}.
+     *
+     * @param window        The window of time, {@code 0} to keep all the recorded values
+     * @param windowUnit    The unit of {@code window}
+     * @param startTime     The start time from which this reservoir calculates measurements
+     * @param startTimeUnit The start time unit
+     */
+    public HistogramTimeReservoir(final long window,
+                                  final TimeUnit windowUnit,
+                                  final long startTime,
+                                  final TimeUnit startTimeUnit) {
+        this.interval = window;
+        this.windowUnit = windowUnit;
+        this.window = windowUnit.toNanos(window);
+        this.slotSize = Math.max(1, this.window / SLOTS);
+        this.slotCount = this.window == 0 ? 1 : SLOTS;
+        this.startTick = startTimeUnit.toNanos(startTime);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public int size(final long time, final TimeUnit timeUnit) {
+        final long current = epoch(advance(timeUnit.toNanos(time)));
+        long size = 0;
+        for (final Stripe stripe : stripes) {
+            for (int i = 0; i < slotCount; i++) {
+                final Slot slot = stripe.slots.get(i);
+                if (inWindow(slot, current)) {
+                    size += slot.count.get();
+                }
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void update(final Long value, final long time, final TimeUnit timeUnit) {
+        // threads are spread over the stripes, so that they rarely update the same counters
+        stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)].update(value, timeUnit.toNanos(time));
+    }
+
+    @Override
+    public UniformTimeSnapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long greatestTick = advance(timeUnit.toNanos(time));
+        final long current = epoch(greatestTick);
+
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        final long[] buckets = new long[BUCKETS];
+        for (final Stripe stripe : stripes) {
+            for (int i = 0; i < slotCount; i++) {
+                final Slot slot = stripe.slots.get(i);
+                // the count is read first, the buckets counted before it are all read then
+                final long counted = inWindow(slot, current) ? slot.count.get() : 0;
+                if (counted > 0) {
+                    count += counted;
+                    sum += slot.sum.get();
+                    min = Math.min(min, slot.min.get());
+                    max = Math.max(max, slot.max.get());
+                    for (int j = 0; j < BUCKETS; j++) {
+                        buckets[j] += slot.buckets.get(j);
+                    }
+                }
+            }
+        }
+
+        // the measured interval starts at the beginning of the oldest slot of the window or at the start time
+        final long windowStart = window == 0 ? startTick : startTick + (current - slotCount + 1) * slotSize;
+        final long measuredInterval = greatestTick - Math.max(startTick, windowStart);
+        return new HistogramTimeSnapshot(count, sum, min, max, buckets, measuredInterval, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        // returns 0 for infinity
+        return timeUnit.convert(interval, windowUnit);
+    }
+
+    /**
+     * Advance the greatest time seen by all the stripes to the time of a snapshot; a snapshot in past is not supported,
+     * the greatest time seen so far is used instead.
+     *
+     * @param tick time of the snapshot.
+     * @return greatest time seen so far.
+     */
+    private long advance(final long tick) {
+        long greatest = tick;
+        for (final Stripe stripe : stripes) {
+            greatest = Math.max(greatest, max(stripe.greatestTick, tick));
+        }
+        return greatest;
+    }
+
+    private long epoch(final long tick) {
+        return window == 0 ? 0 : Math.floorDiv(tick - startTick, slotSize);
+    }
+
+    private boolean inWindow(final Slot slot, final long current) {
+        return slot != null && slot.epoch <= current && slot.epoch > current - slotCount;
+    }
+
+    private static long max(final AtomicLong target, final long value) {
+        long current = target.get();
+        // the value changes rarely, it is not written when it does not grow
+        while (value > current && !target.compareAndSet(current, value)) {
+            current = target.get();
+        }
+        return Math.max(current, value);
+    }
+
+    private static void min(final AtomicLong target, final long value) {
+        long current = target.get();
+        while (value < current && !target.compareAndSet(current, value)) {
+            current = target.get();
+        }
+    }
+
+    /**
+     * Get the index of the histogram bucket of the given value.
+     *
+     * @param value The value
+     * @return The bucket index
+     */
+    static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        final long v = Math.min(value, MAX_VALUE);
+        final int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((v >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Get the highest value counted in the histogram bucket of the given index.
+     *
+     * @param bucket The bucket index
+     * @return The highest value of the bucket
+     */
+    static long highestValue(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowest = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Ring of the slots of time updated by a part of the recording threads.
+     */
+    private final class Stripe {
+
+        private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(slotCount);
+        private final AtomicLong greatestTick = new AtomicLong(startTick);
+
+        private void update(final long value, final long tick) {
+            final long epoch = epoch(tick);
+            if (epoch <= epoch(max(greatestTick, tick)) - slotCount) {
+                // the value is older than the window
+                return;
+            }
+
+            final int index = (int) Math.floorMod(epoch, (long) slotCount);
+            Slot slot = slots.get(index);
+            while (slot == null || slot.epoch < epoch) {
+                // the slot is reused for a newer slot of time, values still being added to the replaced slot are
+                // older than the window
+                final Slot newer = new Slot(epoch);
+                if (slots.compareAndSet(index, slot, newer)) {
+                    slot = newer;
+                } else {
+                    slot = slots.get(index);
+                }
+            }
+            if (slot.epoch == epoch) {
+                slot.add(value);
+            }
+            // otherwise the slot has been reused for a newer slot of time, the value is older than the window
+        }
+    }
+
+    /**
+     * Histogram of the values recorded in one slot of time. The slots are allocated lazily, slots of an idle reservoir
+     * don't take any memory.
+     */
+    private static final class Slot {
+
+        private final long epoch;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        private Slot(final long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void add(final long value) {
+            buckets.incrementAndGet(bucket(value));
+            sum.addAndGet(value);
+            min(min, value);
+            max(max, value);
+            // counted last, a snapshot reading the count finds the value in the buckets, the sum, minimum and maximum
+            count.incrementAndGet();
+        }
+    }
+}
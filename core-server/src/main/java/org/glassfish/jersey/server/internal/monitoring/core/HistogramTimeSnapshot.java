@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A statistical snapshot of a {@link HistogramTimeReservoir}.
+ *
+ * @since 2.47
+ */
+class HistogramTimeSnapshot extends AbstractTimeSnapshot {
+
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+    private final long[] buckets;
+
+    /**
+     * Create a new snapshot of the merged histogram.
+     *
+     * @param count            The number of values
+     * @param sum              The sum of the values
+     * @param min              The lowest value
+     * @param max              The highest value
+     * @param buckets          The counts of the values in histogram buckets
+     * @param timeInterval     The time interval this snapshot relates to
+     * @param timeIntervalUnit The time unit of the time interval
+     */
+    HistogramTimeSnapshot(final long count, final long sum, final long min, final long max, final long[] buckets,
+                          final long timeInterval, final TimeUnit timeIntervalUnit) {
+        super(timeInterval, timeIntervalUnit);
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.buckets = buckets;
+    }
+
+    @Override
+    public long size() {
+        return count;
+    }
+
+    @Override
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    @Override
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    @Override
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the highest value of the histogram bucket the value at the given quantile falls to, limited by the lowest
+     * and the highest recorded value.
+     *
+     * @param quantile a given quantile, in {@code [0..1]}
+     * @return the value in the distribution at {@code quantile}
+     */
+    @Override
+    public double getValue(final double quantile) {
+        if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1] range");
+        }
+
+        if (count == 0) {
+            return 0.0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, HistogramTimeReservoir.highestValue(i)));
+            }
+        }
+        return max;
+    }
+}
@@ -50,6 +50,18 @@ public interface UniformTimeSnapshot {
      */
     double getMean();
 
+    /**
+     * Returns the value at the given quantile.
+     *
+     * @param quantile a given quantile, in {@code [0..1]}
+     * @return the value in the distribution at {@code quantile} or {@code -1} if the snapshot does not keep the distribution
+     * of the values
+     * @since 2.47
+     */
+    default double getValue(double quantile) {
+        return -1;
+    }
+
     /**
      * The time interval for which this snapshot was created.
      *
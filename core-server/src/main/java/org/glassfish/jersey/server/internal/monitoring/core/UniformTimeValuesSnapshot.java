@@ -1,147 +0,0 @@
-/*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
- * Copyright 2010, 2013 Coda Hale and Yammer, Inc.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package org.glassfish.jersey.server.internal.monitoring.core;
-
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.concurrent.TimeUnit;
-
-import static java.lang.Math.floor;
-
-/**
- * A statistical snapshot of a {@link UniformTimeValuesSnapshot}.
- *
- * @author Stepan Vavra
- * @author Dropwizard Team
- * @see <a href="https://github.com/dropwizard/metrics">https://github.com/dropwizard/metrics</a>
- */
-public class UniformTimeValuesSnapshot extends AbstractTimeSnapshot {
-
-    private final long[] values;
-
-    /**
-     * Create a new snapshot with the given values.
-     *
-     * @param values           an unordered set of values in the reservoir
-     * @param timeInterval     The time interval this snapshot relates to
-     * @param timeIntervalUnit The time unit of the time interval
-     */
-    public UniformTimeValuesSnapshot(Collection<Long> values, final long timeInterval, final TimeUnit timeIntervalUnit) {
-        super(timeInterval, timeIntervalUnit);
-        final Object[] copy = values.toArray();
-        this.values = new long[copy.length];
-        for (int i = 0; i < copy.length; i++) {
-            this.values[i] = (Long) copy[i];
-        }
-        Arrays.sort(this.values);
-    }
-
-    /**
-     * Returns the value at the given quantile.
-     *
-     * @param quantile a given quantile, in {@code [0..1]}
-     * @return the value in the distribution at {@code quantile}
-     */
-    public double getValue(double quantile) {
-        if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
-            throw new IllegalArgumentException(quantile + " is not in [0..1] range");
-        }
-
-        if (values.length == 0) {
-            return 0.0;
-        }
-
-        final double pos = quantile * (values.length + 1);
-        final int index = (int) pos;
-
-        if (index < 1) {
-            return values[0];
-        }
-
-        if (index >= values.length) {
-            return values[values.length - 1];
-        }
-
-        final double lower = values[index - 1];
-        final double upper = values[index];
-        return lower + (pos - floor(pos)) * (upper - lower);
-    }
-
-    /**
-     * Returns the number of values in the snapshot.
-     *
-     * @return the number of values
-     */
-    @Override
-    public long size() {
-        return values.length;
-    }
-
-    /**
-     * Returns the entire set of values in the snapshot.
-     *
-     * @return the entire set of values
-     */
-    public long[] getValues() {
-        return Arrays.copyOf(values, values.length);
-    }
-
-    /**
-     * Returns the highest value in the snapshot.
-     *
-     * @return the highest value
-     */
-    @Override
-    public long getMax() {
-        if (values.length == 0) {
-            return 0;
-        }
-        return values[values.length - 1];
-    }
-
-    /**
-     * Returns the lowest value in the snapshot.
-     *
-     * @return the lowest value
-     */
-    @Override
-    public long getMin() {
-        if (values.length == 0) {
-            return 0;
-        }
-        return values[0];
-    }
-
-    /**
-     * Returns the arithmetic mean of the values in the snapshot.
-     *
-     * @return the arithmetic mean
-     */
-    @Override
-    public double getMean() {
-        if (values.length == 0) {
-            return 0;
-        }
-
-        double sum = 0;
-        for (long value : values) {
-            sum += value;
-        }
-        return sum / values.length;
-    }
-}
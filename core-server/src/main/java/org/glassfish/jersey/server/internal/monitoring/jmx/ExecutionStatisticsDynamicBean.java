@@ -41,6 +41,11 @@ import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
  */
 public class ExecutionStatisticsDynamicBean implements DynamicMBean {
 
+    /**
+     * Percentiles of the request processing times exposed for each time window.
+     */
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
     private volatile ExecutionStatistics executionStatistics;
     private final Map<String, Value<Object>> attributeValues = new HashMap<>();
 
@@ -48,7 +53,7 @@ public class ExecutionStatisticsDynamicBean implements DynamicMBean {
 
     private MBeanInfo initMBeanInfo(final ExecutionStatistics initialStatistics) {
         final Map<Long, TimeWindowStatistics> statsMap = initialStatistics.getTimeWindowStatistics();
-        MBeanAttributeInfo[] attrs = new MBeanAttributeInfo[statsMap.size() * 5];
+        MBeanAttributeInfo[] attrs = new MBeanAttributeInfo[statsMap.size() * (5 + PERCENTILES.length)];
         int i = 0;
         for (final TimeWindowStatistics stats : statsMap.values()) {
             final long interval = stats.getTimeWindow();
@@ -87,6 +92,22 @@ public class ExecutionStatisticsDynamicBean implements DynamicMBean {
                 }
             });
 
+            for (final double percentile : PERCENTILES) {
+                final String percentileName = percentile == Math.rint(percentile)
+                        ? Long.toString((long) percentile) : Double.toString(percentile);
+                name = "Percentile" + percentileName + "Time[ms]_" + postfix;
+                attrs[i++] = new MBeanAttributeInfo(name, "long", percentileName
+                        + "th percentile of request processing time in milliseconds in last " + postfix + ".",
+                        true, false, false);
+
+                attributeValues.put(name, new Value<Object>() {
+                    @Override
+                    public Object get() {
+                        return executionStatistics.getTimeWindowStatistics().get(interval).getDurationPercentile(percentile);
+                    }
+                });
+            }
+
             name = "RequestRate[requestsPerSeconds]_" + postfix;
             attrs[i++] = new MBeanAttributeInfo(name, "double", "Average requests per second in last "
                     + postfix + ".", true, false, false);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,7 +32,10 @@ import javax.management.JMException;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.internal.routing.NegotiationStatistics;
 import org.glassfish.jersey.server.monitoring.ApplicationInfo;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
 import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
@@ -72,6 +75,12 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
     @Inject
     private Provider<ApplicationInfo> applicationInfoProvider;
 
+    @Inject
+    private Provider<MessageBodyWorkers> messageBodyWorkersProvider;
+
+    @Inject
+    private Provider<NegotiationStatistics> negotiationStatisticsProvider;
+
 
     private Map<String, ResourceStatistics> transformToStringKeys(Map<Class<?>, ResourceStatistics> stats) {
         Map<String, ResourceStatistics> newMap = new HashMap<>();
@@ -180,6 +189,13 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
                     globalSubType);
 
             new ApplicationMXBeanImpl(appStats, this, globalSubType);
+
+            final MessageBodyWorkers messageBodyWorkers = messageBodyWorkersProvider.get();
+            if (messageBodyWorkers instanceof MessageBodyFactory) {
+                new MessageBodyWorkersMXBeanImpl((MessageBodyFactory) messageBodyWorkers, this, globalSubType);
+            }
+
+            new ContentNegotiationMXBeanImpl(negotiationStatisticsProvider.get(), this, globalSubType);
         }
 
         requestMBean.updateExecutionStatistics(statistics.getRequestStatistics());
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.jmx;
+
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
+import org.glassfish.jersey.server.monitoring.MessageBodyWorkersMXBean;
+
+/**
+ * MXBean implementing the {@link org.glassfish.jersey.server.monitoring.MessageBodyWorkersMXBean} MXBean interface.
+ * The values are read directly from the {@link MessageBodyFactory} and are therefore always up to date.
+ */
+public class MessageBodyWorkersMXBeanImpl implements MessageBodyWorkersMXBean {
+
+    private final MessageBodyFactory messageBodyFactory;
+
+    /**
+     * Create a new message body workers MXBean and register it to the mbean server using {@code mBeanExposer}.
+     *
+     * @param messageBodyFactory Message body factory whose lookup cache statistics should be exposed.
+     * @param mBeanExposer MBean exposer.
+     * @param parentName {@link javax.management.ObjectName Object name} prefix of parent mbeans.
+     */
+    public MessageBodyWorkersMXBeanImpl(final MessageBodyFactory messageBodyFactory, final MBeanExposer mBeanExposer,
+                                        final String parentName) {
+        this.messageBodyFactory = messageBodyFactory;
+
+        mBeanExposer.registerMBean(this, parentName + ",global=MessageBodyWorkers");
+    }
+
+    @Override
+    public long getLookupCacheHitCount() {
+        return messageBodyFactory.getLookupCacheHitCount();
+    }
+
+    @Override
+    public long getLookupCacheMissCount() {
+        return messageBodyFactory.getLookupCacheMissCount();
+    }
+
+    @Override
+    public int getLookupCacheCapacity() {
+        return messageBodyFactory.getLookupCacheCapacity();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,6 +27,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -38,10 +39,13 @@ import javax.ws.rs.NotAllowedException;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
 import org.glassfish.jersey.internal.guava.Primitives;
 import org.glassfish.jersey.internal.routing.ContentTypeDeterminer;
 import org.glassfish.jersey.internal.routing.CombinedMediaType;
@@ -114,6 +118,8 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
 
     private final Map<String, List<ConsumesProducesAcceptor>> consumesProducesAcceptors;
     private final Router router;
+    private final Cache<NegotiationKey, Negotiation> negotiationCache;
+    private final NegotiationStatistics negotiationStatistics;
 
     /**
      * Create a new {@code MethodSelectingRouter} for all the methods on the same path.
@@ -125,8 +131,29 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
      * @param methodRoutings [method model, method methodAcceptorPair] pairs.
      */
     MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings) {
+        this(workers, methodRoutings, 0, null);
+    }
+
+    /**
+     * Create a new {@code MethodSelectingRouter} for all the methods on the same path, caching the content
+     * negotiation decisions.
+     *
+     * @param workers               message body workers.
+     * @param methodRoutings        [method model, method methodAcceptorPair] pairs.
+     * @param negotiationCacheSize  maximum number of cached content negotiation decisions, {@code 0} to disable
+     *                              the caching.
+     * @param negotiationStatistics counters of the negotiation decision cache hits and misses. May be {@code null}
+     *                              if the caching is disabled.
+     */
+    MethodSelectingRouter(MessageBodyWorkers workers, List<MethodRouting> methodRoutings, int negotiationCacheSize,
+                          NegotiationStatistics negotiationStatistics) {
         super(workers);
 
+        this.negotiationCache = negotiationCacheSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(negotiationCacheSize).<NegotiationKey, Negotiation>build()
+                : null;
+        this.negotiationStatistics = negotiationStatistics != null ? negotiationStatistics : new NegotiationStatistics();
+
         this.consumesProducesAcceptors = new HashMap<>();
 
         final Set<String> httpMethods = new HashSet<>();
@@ -289,6 +316,60 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
         }
     }
 
+    /**
+     * Content negotiation decision - the selected resource method together with the media types acceptable
+     * by the client the decision was based on.
+     */
+    private static final class Negotiation {
+
+        final MethodSelector methodSelector;
+        final List<AcceptableMediaType> acceptableMediaTypes;
+
+        private Negotiation(final MethodSelector methodSelector, final List<AcceptableMediaType> acceptableMediaTypes) {
+            this.methodSelector = methodSelector;
+            this.acceptableMediaTypes = acceptableMediaTypes;
+        }
+    }
+
+    /**
+     * Key of a cached {@link Negotiation content negotiation decision}.
+     */
+    private static final class NegotiationKey {
+
+        private final String httpMethod;
+        private final String contentType;
+        private final String accept;
+
+        private NegotiationKey(final String httpMethod, final String contentType, final String accept) {
+            this.httpMethod = httpMethod;
+            this.contentType = contentType;
+            this.accept = accept;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NegotiationKey)) {
+                return false;
+            }
+
+            final NegotiationKey that = (NegotiationKey) o;
+            return httpMethod.equals(that.httpMethod)
+                    && Objects.equals(contentType, that.contentType)
+                    && Objects.equals(accept, that.accept);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = httpMethod.hashCode();
+            result = 31 * result + Objects.hashCode(contentType);
+            result = 31 * result + Objects.hashCode(accept);
+            return result;
+        }
+    }
+
     private Router createInternalRouter() {
         return new Router() {
 
@@ -402,6 +483,74 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
 
     private List<Router> getMethodRouter(final RequestProcessingContext context) {
         final ContainerRequest request = context.request();
+        final Negotiation negotiation = negotiationCache == null ? negotiate(request) : getNegotiation(request);
+        final MethodSelector methodSelector = negotiation.methodSelector;
+        final List<AcceptableMediaType> acceptableMediaTypes = negotiation.acceptableMediaTypes;
+
+        context.push(new Function<ContainerResponse, ContainerResponse>() {
+            @Override
+            public ContainerResponse apply(final ContainerResponse responseContext) {
+                // we only need to compute and set the effective media type if:
+                // - it hasn't been set already, and
+                // - either there is an entity, or we are responding to a HEAD request
+                if (responseContext.getMediaType() == null
+                        && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
+
+                    MediaType effectiveResponseType = determineResponseMediaType(
+                            responseContext.getEntityClass(),
+                            responseContext.getEntityType(),
+                            methodSelector.selected,
+                            acceptableMediaTypes);
+
+                    if (MediaTypes.isWildcard(effectiveResponseType)) {
+                        if (effectiveResponseType.isWildcardType()
+                                || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
+                            effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+                        } else {
+                            throw new NotAcceptableException();
+                        }
+                    }
+                    responseContext.setMediaType(effectiveResponseType);
+                }
+
+                return responseContext;
+            }
+        });
+        return methodSelector.selected.getMethodRouting().routers;
+    }
+
+    /**
+     * Get the content negotiation decision for the request from the decision cache, negotiating and caching it
+     * if no decision for the same HTTP method, {@code Content-Type} and {@code Accept} headers is cached.
+     *
+     * @param request request to be routed.
+     * @return content negotiation decision.
+     */
+    private Negotiation getNegotiation(final ContainerRequest request) {
+        final NegotiationKey key = new NegotiationKey(request.getMethod(),
+                request.getHeaderString(HttpHeaders.CONTENT_TYPE),
+                request.getHeaderString(HttpHeaders.ACCEPT));
+
+        Negotiation negotiation = negotiationCache.getIfPresent(key);
+        if (negotiation != null) {
+            negotiationStatistics.hit();
+            return negotiation;
+        }
+
+        negotiationStatistics.miss();
+        negotiation = negotiate(request);
+        negotiationCache.put(key, negotiation);
+        return negotiation;
+    }
+
+    /**
+     * Select the resource method for the request based on its HTTP method, entity media type and acceptable
+     * response media types.
+     *
+     * @param request request to be routed.
+     * @return content negotiation decision.
+     */
+    private Negotiation negotiate(final ContainerRequest request) {
         final List<ConsumesProducesAcceptor> acceptors = consumesProducesAcceptors.get(request.getMethod());
         if (acceptors == null) {
             throw new NotAllowedException(
@@ -428,47 +577,16 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
         final MethodSelector methodSelector = selectMethod(acceptableMediaTypes, satisfyingAcceptors, effectiveContentType,
                 differentInvokableMethods.size() == 1);
 
-        if (methodSelector.selected != null) {
-            final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected = methodSelector.selected;
-
-            if (methodSelector.sameFitnessAcceptors != null) {
-                reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
-                        methodSelector.sameFitnessAcceptors);
-            }
-
-            context.push(new Function<ContainerResponse, ContainerResponse>() {
-                @Override
-                public ContainerResponse apply(final ContainerResponse responseContext) {
-                    // we only need to compute and set the effective media type if:
-                    // - it hasn't been set already, and
-                    // - either there is an entity, or we are responding to a HEAD request
-                    if (responseContext.getMediaType() == null
-                            && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
-
-                        MediaType effectiveResponseType = determineResponseMediaType(
-                                responseContext.getEntityClass(),
-                                responseContext.getEntityType(),
-                                methodSelector.selected,
-                                acceptableMediaTypes);
-
-                        if (MediaTypes.isWildcard(effectiveResponseType)) {
-                            if (effectiveResponseType.isWildcardType()
-                                    || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
-                                effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-                            } else {
-                                throw new NotAcceptableException();
-                            }
-                        }
-                        responseContext.setMediaType(effectiveResponseType);
-                    }
+        if (methodSelector.selected == null) {
+            throw new NotAcceptableException();
+        }
 
-                    return responseContext;
-                }
-            });
-            return selected.getMethodRouting().routers;
+        if (methodSelector.sameFitnessAcceptors != null) {
+            reportMethodSelectionAmbiguity(acceptableMediaTypes, methodSelector.selected,
+                    methodSelector.sameFitnessAcceptors);
         }
 
-        throw new NotAcceptableException();
+        return new Negotiation(methodSelector, acceptableMediaTypes);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,8 @@
 
 package org.glassfish.jersey.server.internal.routing;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.regex.MatchResult;
@@ -34,6 +36,7 @@ import org.glassfish.jersey.uri.PathPattern;
 final class PathMatchingRouter implements Router {
 
     private final List<Route> acceptedRoutes;
+    private final PathPrefixIndex prefixIndex;
 
     /**
      * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
@@ -43,7 +46,21 @@ final class PathMatchingRouter implements Router {
      *                 the built router is successful.
      */
     PathMatchingRouter(final List<Route> routes) {
+        this(routes, null);
+    }
+
+    /**
+     * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
+     * patch matching and (optionally) a prefix index of the routes to reduce the number of
+     * evaluated patterns.
+     *
+     * @param routes      next-level request routers to be returned in case the router matching
+     *                    the built router is successful.
+     * @param prefixIndex literal prefix index of the {@code routes}, may be {@code null}.
+     */
+    PathMatchingRouter(final List<Route> routes, final PathPrefixIndex prefixIndex) {
         this.acceptedRoutes = routes;
+        this.prefixIndex = prefixIndex;
     }
 
     @Override
@@ -59,7 +76,7 @@ final class PathMatchingRouter implements Router {
         MatchResult matchResultCandidate = null;
         Route acceptedRouteCandidate = null;
 
-        final Iterator<Route> iterator = acceptedRoutes.iterator();
+        final Iterator<Route> iterator = candidateRoutes(path, tracingLogger).iterator();
         while (iterator.hasNext()) {
             final Route acceptedRoute = iterator.next();
             final PathPattern routePattern = acceptedRoute.routingPattern();
@@ -105,6 +122,20 @@ final class PathMatchingRouter implements Router {
         return result;
     }
 
+    private List<Route> candidateRoutes(final String path, final TracingLogger tracingLogger) {
+        // verbose tracing reports every route that has not been matched, so all of them need to be evaluated
+        if (prefixIndex == null || path == null || tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_NOT_MATCHED)) {
+            return acceptedRoutes;
+        }
+
+        final BitSet candidates = prefixIndex.candidates(path);
+        final List<Route> routes = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            routes.add(acceptedRoutes.get(i));
+        }
+        return routes;
+    }
+
     private Router.Continuation matchPathSelected(final RequestProcessingContext context, final Route acceptedRoute,
                                                   final MatchResult matchResult, final TracingLogger tracingLogger) {
         // Push match result information and rest of path to match
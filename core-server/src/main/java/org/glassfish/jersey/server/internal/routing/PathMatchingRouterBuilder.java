@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.server.internal.routing;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -91,6 +92,21 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
      * @return hierarchical request path matching processor (i.e. router).
      */
     public PathMatchingRouter build() {
+        return build(false);
+    }
+
+    /**
+     * Build a {@link org.glassfish.jersey.server.internal.routing.Router hierarchical request path matching processor}.
+     *
+     * @param prefixIndexed if {@code true}, the literal prefixes of the routing patterns are indexed in a prefix trie
+     *                      so that only the relevant routes are matched against a request path.
+     * @return hierarchical request path matching processor (i.e. router).
+     */
+    public PathMatchingRouter build(final boolean prefixIndexed) {
+        if (prefixIndexed) {
+            final List<Route> routes = new ArrayList<>(acceptedRoutes());
+            return new PathMatchingRouter(routes, PathPrefixIndex.of(routes));
+        }
         return new PathMatchingRouter(acceptedRoutes());
     }
 
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.glassfish.jersey.uri.PathPattern;
+
+/**
+ * Prefix trie over the literal prefixes of the routing patterns of a single routing level.
+ * <p>
+ * Each route is stored at the trie node that corresponds to the longest literal (i.e. non-regular) prefix
+ * of its {@link PathPattern#getRegex() routing pattern regular expression}. A request path can only be matched
+ * by a route whose literal prefix is a prefix of the path, hence only routes found along the walk of the request
+ * path through the trie need to be evaluated using their regular expressions.
+ * </p>
+ */
+final class PathPrefixIndex {
+
+    private final Node root;
+    private final int size;
+
+    private PathPrefixIndex(final Node root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Build a prefix index of the given routes.
+     *
+     * @param routes routes to be indexed, in the matching order.
+     * @return new prefix index.
+     */
+    static PathPrefixIndex of(final List<Route> routes) {
+        final MutableNode root = new MutableNode();
+        for (int i = 0; i < routes.size(); i++) {
+            final String prefix = literalPrefix(routes.get(i).routingPattern().getRegex());
+
+            MutableNode node = root;
+            for (int j = 0; j < prefix.length(); j++) {
+                node = node.children.computeIfAbsent(prefix.charAt(j), c -> new MutableNode());
+            }
+            node.routes.add(i);
+        }
+        return new PathPrefixIndex(root.freeze(), routes.size());
+    }
+
+    /**
+     * Get indexes of the routes that may possibly match the given path.
+     * <p>
+     * The returned set is a superset of the routes that actually match the path; the routes still need to be
+     * matched using their patterns.
+     * </p>
+     *
+     * @param path request path to be matched.
+     * @return candidate route indexes.
+     */
+    BitSet candidates(final CharSequence path) {
+        final BitSet candidates = new BitSet(size);
+
+        Node node = root;
+        node.addRoutes(candidates);
+        for (int i = 0; i < path.length(); i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            node.addRoutes(candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Extract the literal prefix of a regular expression, i.e. the longest prefix that every string matching
+     * the regular expression must start with.
+     *
+     * @param regex regular expression.
+     * @return literal prefix of the regular expression, possibly empty.
+     */
+    static String literalPrefix(final String regex) {
+        if (regex == null) {
+            return "";
+        }
+
+        final StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            final int length = prefix.length();
+
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // character class or back reference
+                    break;
+                }
+                prefix.append(regex.charAt(++i));
+            } else if ("()[]{}.^$|*+?".indexOf(c) >= 0) {
+                break;
+            } else {
+                prefix.append(c);
+            }
+
+            if (i + 1 < regex.length() && "*?{".indexOf(regex.charAt(i + 1)) >= 0) {
+                // the literal character is optional or repeated
+                prefix.setLength(length);
+                break;
+            }
+        }
+        return prefix.toString();
+    }
+
+    private static final class Node {
+
+        private static final int[] NO_ROUTES = new int[0];
+
+        private final char[] keys;
+        private final Node[] children;
+        private final int[] routes;
+
+        private Node(final char[] keys, final Node[] children, final int[] routes) {
+            this.keys = keys;
+            this.children = children;
+            this.routes = routes.length == 0 ? NO_ROUTES : routes;
+        }
+
+        private Node child(final char c) {
+            final int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+        private void addRoutes(final BitSet candidates) {
+            for (final int route : routes) {
+                candidates.set(route);
+            }
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final Map<Character, MutableNode> children = new TreeMap<>();
+        private final List<Integer> routes = new ArrayList<>();
+
+        private Node freeze() {
+            final char[] keys = new char[children.size()];
+            final Node[] frozen = new Node[children.size()];
+
+            int i = 0;
+            for (final Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i++] = entry.getValue().freeze();
+            }
+            return new Node(keys, frozen, routes.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -81,6 +81,7 @@ public final class Routing {
         private Function<Class<?>, ?> createServiceFunction;
         private ProcessingProviders processingProviders;
         private ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
+        private NegotiationStatistics negotiationStatistics;
 
         private Builder(RuntimeResourceModel resourceModel) {
             if (resourceModel == null) {
@@ -178,6 +179,18 @@ public final class Routing {
             return this;
         }
 
+        /**
+         * Set content negotiation decision cache statistics. If not set, the statistics are not shared outside of
+         * the routing stage.
+         *
+         * @param negotiationStatistics content negotiation decision cache statistics.
+         * @return updated routing builder.
+         */
+        public Builder negotiationStatistics(NegotiationStatistics negotiationStatistics) {
+            this.negotiationStatistics = negotiationStatistics;
+            return this;
+        }
+
         /**
          * Build routing stage.
          *
@@ -218,7 +231,8 @@ public final class Routing {
                     processingProviders,
                     resourceMethodInvokerBuilder,
                     modelProcessors,
-                    createServiceFunction);
+                    createServiceFunction,
+                    negotiationStatistics != null ? negotiationStatistics : new NegotiationStatistics());
 
             return new RoutingStage(runtimeModelBuilder.buildModel(resourceModel, false));
         }
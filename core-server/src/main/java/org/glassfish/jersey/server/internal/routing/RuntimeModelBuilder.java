@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,14 +19,18 @@ package org.glassfish.jersey.server.internal.routing;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import javax.ws.rs.core.Configuration;
 
+import org.glassfish.jersey.internal.util.Producer;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.JerseyResourceContext;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.process.Endpoint;
@@ -36,6 +40,7 @@ import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
 import org.glassfish.jersey.server.model.RuntimeResource;
 import org.glassfish.jersey.server.model.RuntimeResourceModel;
+import org.glassfish.jersey.server.model.internal.ModelErrors;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 import org.glassfish.jersey.uri.PathPattern;
 import org.glassfish.jersey.uri.UriTemplate;
@@ -52,6 +57,10 @@ final class RuntimeModelBuilder {
     private final ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
     private final MessageBodyWorkers messageBodyWorkers;
     private final ProcessingProviders processingProviders;
+    private final boolean prefixIndexEnabled;
+    private final int negotiationCacheSize;
+    private final int parallelism;
+    private final NegotiationStatistics negotiationStatistics;
 
     // SubResourceLocator Model Builder.
     private final Value<RuntimeLocatorModelBuilder> locatorBuilder;
@@ -66,6 +75,7 @@ final class RuntimeModelBuilder {
      * @param resourceMethodInvokerBuilder method invoker builder.
      * @param modelProcessors              all registered model processors.
      * @param createServiceFunction        function that is able to create and initialize new service.
+     * @param negotiationStatistics        content negotiation decision cache statistics.
      */
     public RuntimeModelBuilder(
             final JerseyResourceContext resourceContext,
@@ -75,22 +85,37 @@ final class RuntimeModelBuilder {
             final ProcessingProviders processingProviders,
             final ResourceMethodInvoker.Builder resourceMethodInvokerBuilder,
             final Iterable<ModelProcessor> modelProcessors,
-            final Function<Class<?>, ?> createServiceFunction) {
+            final Function<Class<?>, ?> createServiceFunction,
+            final NegotiationStatistics negotiationStatistics) {
 
         this.resourceMethodInvokerBuilder = resourceMethodInvokerBuilder;
         this.messageBodyWorkers = messageBodyWorkers;
         this.processingProviders = processingProviders;
+        this.prefixIndexEnabled = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.ROUTING_PREFIX_INDEX_ENABLED,
+                Boolean.FALSE,
+                Boolean.class);
+        this.negotiationCacheSize = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.ROUTING_NEGOTIATION_CACHE_SIZE,
+                0,
+                Integer.class);
+        this.parallelism = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.RESOURCE_MODEL_PARALLELISM,
+                1,
+                Integer.class);
+        this.negotiationStatistics = negotiationStatistics;
         this.locatorBuilder = Values.lazy((Value<RuntimeLocatorModelBuilder>)
                 () -> new RuntimeLocatorModelBuilder(config, messageBodyWorkers, valueSuppliers, resourceContext,
                         RuntimeModelBuilder.this, modelProcessors, createServiceFunction));
     }
 
-    private Router createMethodRouter(final ResourceMethod resourceMethod) {
+    private Router createMethodRouter(final ResourceMethod resourceMethod, final Map<ResourceMethod, Endpoint> endpoints) {
         Router methodAcceptor = null;
         switch (resourceMethod.getType()) {
             case RESOURCE_METHOD:
             case SUB_RESOURCE_METHOD:
-                methodAcceptor = Routers.endpoint(createInflector(resourceMethod));
+                final Endpoint endpoint = endpoints.get(resourceMethod);
+                methodAcceptor = Routers.endpoint(endpoint != null ? endpoint : createInflector(resourceMethod));
                 break;
             case SUB_RESOURCE_LOCATOR:
                 methodAcceptor = locatorBuilder.get().getRouter(resourceMethod);
@@ -112,7 +137,7 @@ final class RuntimeModelBuilder {
     private Router createRootRouter(final PathMatchingRouterBuilder lastRoutedBuilder, final boolean subResourceMode) {
         final Router routingRoot;
         if (lastRoutedBuilder != null) {
-            routingRoot = lastRoutedBuilder.build();
+            routingRoot = lastRoutedBuilder.build(prefixIndexEnabled);
         } else {
             /*
              * Create an empty routing root that accepts any request, does not do
@@ -139,6 +164,10 @@ final class RuntimeModelBuilder {
     public Router buildModel(final RuntimeResourceModel resourceModel, final boolean subResourceMode) {
         final List<RuntimeResource> runtimeResources = resourceModel.getRuntimeResources();
 
+        final Map<ResourceMethod, Endpoint> endpoints = subResourceMode || parallelism <= 1
+                ? Collections.emptyMap()
+                : createEndpoints(runtimeResources);
+
         final PushMatchedUriRouter uriPushingRouter = new PushMatchedUriRouter();
         PathMatchingRouterBuilder currentRouterBuilder = null;
 
@@ -148,8 +177,9 @@ final class RuntimeModelBuilder {
 
             // resource methods
             if (!resource.getResourceMethods().isEmpty()) {
-                final List<MethodRouting> methodRoutings = createResourceMethodRouters(resource, subResourceMode);
-                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings);
+                final List<MethodRouting> methodRoutings = createResourceMethodRouters(resource, subResourceMode, endpoints);
+                final Router methodSelectingRouter = new MethodSelectingRouter(messageBodyWorkers, methodRoutings,
+                        negotiationCacheSize, negotiationStatistics);
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.END_OF_PATH_PATTERN)
                             .to(resourcePushingRouter)
@@ -173,12 +203,13 @@ final class RuntimeModelBuilder {
                     // sub resource methods
                     if (!childResource.getResourceMethods().isEmpty()) {
                         final List<MethodRouting> childMethodRoutings =
-                                createResourceMethodRouters(childResource, subResourceMode);
+                                createResourceMethodRouters(childResource, subResourceMode, endpoints);
 
                         srRoutedBuilder = startNextRoute(srRoutedBuilder, childClosedPattern)
                                 .to(uriPushingRouter)
                                 .to(childResourcePushingRouter)
-                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings));
+                                .to(new MethodSelectingRouter(messageBodyWorkers, childMethodRoutings,
+                                        negotiationCacheSize, negotiationStatistics));
                     }
 
                     // sub resource locator
@@ -191,7 +222,7 @@ final class RuntimeModelBuilder {
                                 .to(locTemplateRouter)
                                 .to(childResourcePushingRouter)
                                 .to(new PushMatchedMethodRouter(childResource.getResourceLocator()))
-                                .to(createMethodRouter(childResource.getResourceLocator()));
+                                .to(createMethodRouter(childResource.getResourceLocator(), endpoints));
                     }
                 }
             }
@@ -206,11 +237,11 @@ final class RuntimeModelBuilder {
                         .to(uriPushingRouter)
                         .to(resourceTemplateRouter)
                         .to(new PushMatchedMethodRouter(resource.getResourceLocator()))
-                        .to(createMethodRouter(resource.getResourceLocator()));
+                        .to(createMethodRouter(resource.getResourceLocator(), endpoints));
             }
 
             if (srRoutedBuilder != null) {
-                final Router methodRouter = srRoutedBuilder.build();
+                final Router methodRouter = srRoutedBuilder.build(prefixIndexEnabled);
 
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.OPEN_ROOT_PATH_PATTERN)
@@ -227,6 +258,38 @@ final class RuntimeModelBuilder {
         return createRootRouter(currentRouterBuilder, subResourceMode);
     }
 
+    /**
+     * Create the invokers of the resource methods and sub-resource methods of the runtime resources and of their child
+     * runtime resources in parallel.
+     */
+    private Map<ResourceMethod, Endpoint> createEndpoints(final List<RuntimeResource> runtimeResources) {
+        final List<ResourceMethod> methods = new ArrayList<>();
+        for (final RuntimeResource resource : runtimeResources) {
+            addResourceMethods(resource, methods);
+            for (final RuntimeResource childResource : resource.getChildRuntimeResources()) {
+                addResourceMethods(childResource, methods);
+            }
+        }
+
+        final List<Producer<Endpoint>> tasks = new ArrayList<>(methods.size());
+        for (final ResourceMethod method : methods) {
+            tasks.add(() -> createInflector(method));
+        }
+        final List<Endpoint> created = ModelErrors.invokeAll(parallelism, tasks);
+
+        final Map<ResourceMethod, Endpoint> endpoints = new IdentityHashMap<>(methods.size());
+        for (int i = 0; i < methods.size(); i++) {
+            endpoints.put(methods.get(i), created.get(i));
+        }
+        return endpoints;
+    }
+
+    private static void addResourceMethods(final RuntimeResource runtimeResource, final List<ResourceMethod> methods) {
+        for (final Resource resource : runtimeResource.getResources()) {
+            methods.addAll(resource.getResourceMethods());
+        }
+    }
+
     private PushMatchedTemplateRouter getTemplateRouterForChildLocator(final boolean subResourceMode,
                                                                        final RuntimeResource child) {
         int i = 0;
@@ -265,7 +328,9 @@ final class RuntimeModelBuilder {
     }
 
     private List<MethodRouting> createResourceMethodRouters(
-            final RuntimeResource runtimeResource, final boolean subResourceMode) {
+            final RuntimeResource runtimeResource,
+            final boolean subResourceMode,
+            final Map<ResourceMethod, Endpoint> endpoints) {
 
         final List<MethodRouting> methodRoutings = new ArrayList<>();
         int i = 0;
@@ -284,7 +349,7 @@ final class RuntimeModelBuilder {
                 methodRoutings.add(new MethodRouting(resourceMethod,
                         templateRouter,
                         new PushMatchedMethodRouter(resourceMethod),
-                        createMethodRouter(resourceMethod)));
+                        createMethodRouter(resourceMethod, endpoints)));
             }
         }
         return methodRoutings.isEmpty() ? Collections.emptyList() : methodRoutings;
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+
+/**
+ * Resource and provider classes indexed at build time.
+ * <p>
+ * Each class path root built with the {@code jersey-index-processor} annotation processor contains a {@value #INDEX}
+ * file listing the binary names of its public classes annotated with {@link javax.ws.rs.Path} or
+ * {@link javax.ws.rs.ext.Provider}, one per line. These are the classes {@link PackageNamesScanner} and
+ * {@link AnnotationAcceptingListener} would find, the index lets the classes of a package be loaded directly instead
+ * of walking the class path and parsing every class file of the package. The index covers only the class path roots
+ * that contain an index file, the packages of the other roots still need to be scanned, see
+ * {@link PackageNamesScanner#PackageNamesScanner(ClassLoader, String[], boolean, ComponentIndex)}.
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class ComponentIndex {
+
+    /**
+     * Location of the component index in a class path root.
+     */
+    public static final String INDEX = "META-INF/jersey/components.idx";
+
+    private final ClassLoader classLoader;
+    // class path root -> indexed class names
+    private final Map<String, List<String>> roots;
+
+    private ComponentIndex(final ClassLoader classLoader, final Map<String, List<String>> roots) {
+        this.classLoader = classLoader;
+        this.roots = roots;
+    }
+
+    /**
+     * Load the component indexes of the class path roots of a class loader.
+     *
+     * @param classLoader class loader.
+     * @return component index of the indexed roots or {@code null} if there is no index and the packages need to be scanned.
+     * @throws ResourceFinderException in case an index cannot be read.
+     */
+    public static ComponentIndex load(final ClassLoader classLoader) {
+        if (ReflectionHelper.getOsgiRegistryInstance() != null) {
+            // bundles are not looked up by the class loader resources
+            return null;
+        }
+
+        final Map<String, List<String>> roots = new LinkedHashMap<>();
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(INDEX);
+            while (indexes.hasMoreElements()) {
+                final URL index = indexes.nextElement();
+                final String url = index.toExternalForm();
+                roots.put(url.substring(0, url.length() - INDEX.length()), read(index));
+            }
+        } catch (final IOException e) {
+            throw new ResourceFinderException(e);
+        }
+        return roots.isEmpty() ? null : new ComponentIndex(classLoader, roots);
+    }
+
+    private static List<String> read(final URL index) throws IOException {
+        final List<String> classNames = new ArrayList<>();
+        final URLConnection connection = index.openConnection();
+        connection.setUseCaches(false);
+        try (InputStream in = connection.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int comment = line.indexOf('#');
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    classNames.add(line);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Check whether a package of a class path root is covered by the index.
+     *
+     * @param packagePath resource name of the package, e.g. {@code org/example}.
+     * @param url         URL of the package in a class path root, as returned by {@link ClassLoader#getResources(String)}.
+     * @return {@code true} if the class path root of the package contains an index, {@code false} if the package needs
+     * to be scanned.
+     */
+    public boolean isIndexed(final String packagePath, final URL url) {
+        String path = url.toExternalForm();
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path.endsWith(packagePath) && roots.containsKey(path.substring(0, path.length() - packagePath.length()));
+    }
+
+    /**
+     * Get the indexed classes of the given packages, the classes of the roots without an index are not included.
+     *
+     * @param packages  package names.
+     * @param recursive if {@code true} the classes of the nested packages are returned as well.
+     * @return indexed classes of the packages.
+     */
+    public Set<Class<?>> getClasses(final String[] packages, final boolean recursive) {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (final List<String> classNames : roots.values()) {
+            for (final String className : classNames) {
+                final int dot = className.lastIndexOf('.');
+                final String classPackage = dot < 0 ? "" : className.substring(0, dot);
+                for (final String p : packages) {
+                    if (classPackage.equals(p) || recursive
+                            && (p.isEmpty() || classPackage.startsWith(p) && classPackage.charAt(p.length()) == '.')) {
+                        classes.add(getClassForName(className));
+                        break;
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    private Class<?> getClassForName(final String className) {
+        try {
+            return AccessController.doPrivileged(ReflectionHelper.classForNameWithExceptionPEA(className, classLoader));
+        } catch (final PrivilegedActionException pae) {
+            final Throwable cause = pae.getCause();
+            if (cause instanceof ClassNotFoundException) {
+                throw new RuntimeException(LocalizationMessages.ERROR_SCANNING_CLASS_NOT_FOUND(className), cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+}
@@ -68,6 +68,7 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
     private final boolean recursive;
     private final String[] packages;
     private final ClassLoader classloader;
+    private final ComponentIndex index;
     private final Map<String, UriSchemeResourceFinderFactory> finderFactories;
 
     private CompositeResourceFinder compositeResourceFinder;
@@ -103,9 +104,31 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
      *                    will be scanned.
      */
     public PackageNamesScanner(final ClassLoader classLoader, final String[] packages, final boolean recursive) {
+        this(classLoader, packages, recursive, null);
+    }
+
+    /**
+     * Scan a set of packages of the class path roots not covered by a component index.
+     *
+     * The classes of the class path roots containing a {@link ComponentIndex#INDEX component index} are not scanned,
+     * they are expected to be taken from the {@link ComponentIndex#getClasses(String[], boolean) index} instead.
+     *
+     * @param classLoader the {@link ClassLoader} to load classes from.
+     * @param packages    an array of package names.
+     * @param recursive   if ({@code true} the packages will be scanned recursively together with
+     *                    any nested packages, if {@code false} only the explicitly listed packages
+     *                    will be scanned.
+     * @param index       component index of the class loader, {@code null} if all class path roots are scanned.
+     * @since 2.47
+     */
+    public PackageNamesScanner(final ClassLoader classLoader,
+                               final String[] packages,
+                               final boolean recursive,
+                               final ComponentIndex index) {
         this.recursive = recursive;
         this.packages = packages.clone();
         this.classloader = classLoader;
+        this.index = index;
 
         this.finderFactories = new HashMap<>();
         add(new JarZipSchemeResourceFinderFactory());
@@ -168,16 +191,51 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
         return classloader;
     }
 
+    /**
+     * Get the names of the scanned packages.
+     *
+     * @return package names.
+     * @since 2.47
+     */
+    public String[] getPackages() {
+        return packages.clone();
+    }
+
+    /**
+     * Check whether the nested packages are scanned as well.
+     *
+     * @return {@code true} if the packages are scanned recursively.
+     * @since 2.47
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Check whether the class path roots covered by a component index are skipped.
+     *
+     * @return {@code true} if the scanner has been created with a component index.
+     * @since 2.47
+     */
+    public boolean isIndexed() {
+        return index != null;
+    }
+
     private void init() {
         compositeResourceFinder = new CompositeResourceFinder();
 
         for (final String p : packages) {
             try {
-                final Enumeration<URL> urls =
-                        ResourcesProvider.getInstance().getResources(p.replace('.', '/'), classloader);
+                final String packagePath = p.replace('.', '/');
+                final Enumeration<URL> urls = ResourcesProvider.getInstance().getResources(packagePath, classloader);
                 while (urls.hasMoreElements()) {
+                    final URL url = urls.nextElement();
+                    if (index != null && index.isIndexed(packagePath, url)) {
+                        // the classes of the root are taken from its index
+                        continue;
+                    }
                     try {
-                        addResourceFinder(toURI(urls.nextElement()));
+                        addResourceFinder(toURI(url));
                     } catch (final URISyntaxException e) {
                         throw new ResourceFinderException("Error when converting a URL to a URI", e);
                     }
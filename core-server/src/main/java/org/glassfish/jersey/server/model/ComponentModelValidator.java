@@ -17,11 +17,14 @@ package org.glassfish.jersey.server.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.glassfish.jersey.Severity;
 import org.glassfish.jersey.internal.Errors;
+import org.glassfish.jersey.internal.util.Producer;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.server.model.internal.ModelErrors;
 import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
@@ -57,15 +60,46 @@ public final class ComponentModelValidator {
     private final List<ResourceModelIssue> issueList = new LinkedList<>();
 
     public ComponentModelValidator(Collection<ValueParamProvider> valueParamProviders, MessageBodyWorkers msgBodyWorkers) {
-        validators = new ArrayList<>();
+        this(valueParamProviders, msgBodyWorkers, 1);
+    }
+
+    /**
+     * Create a new validator that validates the direct sub-components of a validated component, e.g. the resources of
+     * a {@link ResourceModel}, in parallel if the given parallelism is greater than {@code 1}. The issues are reported in
+     * the same order as if the sub-components were validated sequentially.
+     *
+     * @param valueParamProviders value parameter providers.
+     * @param msgBodyWorkers      message body workers.
+     * @param parallelism         maximal number of sub-components validated in parallel.
+     * @since 2.47
+     */
+    public ComponentModelValidator(Collection<ValueParamProvider> valueParamProviders,
+                                   MessageBodyWorkers msgBodyWorkers,
+                                   int parallelism) {
+        this.valueParamProviders = valueParamProviders;
+        this.msgBodyWorkers = msgBodyWorkers;
+        this.parallelism = parallelism;
+        this.invocableValidator = new InvocableValidator();
+        this.validators = createValidators(valueParamProviders, msgBodyWorkers, invocableValidator);
+    }
+
+    private final Collection<ValueParamProvider> valueParamProviders;
+    private final MessageBodyWorkers msgBodyWorkers;
+    private final int parallelism;
+    private final InvocableValidator invocableValidator;
+    private final List<ResourceModelVisitor> validators;
+
+    private static List<ResourceModelVisitor> createValidators(Collection<ValueParamProvider> valueParamProviders,
+                                                               MessageBodyWorkers msgBodyWorkers,
+                                                               InvocableValidator invocableValidator) {
+        final List<ResourceModelVisitor> validators = new ArrayList<>();
         validators.add(new ResourceValidator());
         validators.add(new RuntimeResourceModelValidator(msgBodyWorkers));
         validators.add(new ResourceMethodValidator(valueParamProviders));
-        validators.add(new InvocableValidator());
+        validators.add(invocableValidator);
+        return validators;
     }
 
-    private final List<ResourceModelVisitor> validators;
-
     /**
      * Returns a list of issues found after
      * {@link #validate(org.glassfish.jersey.server.model.ResourceModelComponent)}
@@ -113,7 +147,11 @@ public final class ComponentModelValidator {
             public void run() {
                 Errors.mark();
 
-                validateWithErrors(component);
+                if (parallelism > 1) {
+                    validateInParallel(component);
+                } else {
+                    validateWithErrors(component, validators);
+                }
                 issueList.addAll(ModelErrors.getErrorsAsResourceModelIssues(true));
 
                 Errors.unmark();
@@ -121,7 +159,8 @@ public final class ComponentModelValidator {
         });
     }
 
-    private void validateWithErrors(final ResourceModelComponent component) {
+    private static void validateWithErrors(final ResourceModelComponent component,
+                                           final List<ResourceModelVisitor> validators) {
         for (ResourceModelVisitor validator : validators) {
             component.accept(validator);
         }
@@ -129,7 +168,54 @@ public final class ComponentModelValidator {
         final List<? extends ResourceModelComponent> componentList = component.getComponents();
         if (null != componentList) {
             for (ResourceModelComponent subComponent : componentList) {
-                validateWithErrors(subComponent);
+                validateWithErrors(subComponent, validators);
+            }
+        }
+    }
+
+    private void validateInParallel(final ResourceModelComponent component) {
+        for (ResourceModelVisitor validator : validators) {
+            component.accept(validator);
+        }
+
+        final List<? extends ResourceModelComponent> componentList = component.getComponents();
+        if (null == componentList) {
+            return;
+        }
+
+        // as in the sequential validation, a handler class is checked only in the first sub-component it is found in
+        final Set<Class<?>> checkedClasses = new HashSet<>(invocableValidator.checkedClasses);
+        final List<Producer<Void>> tasks = new ArrayList<>(componentList.size());
+        for (final ResourceModelComponent subComponent : componentList) {
+            final Set<Class<?>> handlerClasses = new HashSet<>();
+            collectHandlerClasses(subComponent, handlerClasses);
+            final Set<Class<?>> checkedBefore = new HashSet<>(handlerClasses);
+            checkedBefore.retainAll(checkedClasses);
+            checkedClasses.addAll(handlerClasses);
+
+            tasks.add(() -> {
+                validateWithErrors(subComponent, createValidators(valueParamProviders, msgBodyWorkers,
+                        new InvocableValidator(checkedBefore)));
+                return null;
+            });
+        }
+
+        ModelErrors.invokeAll(parallelism, tasks);
+        invocableValidator.checkedClasses.addAll(checkedClasses);
+    }
+
+    private static void collectHandlerClasses(final ResourceModelComponent component, final Set<Class<?>> handlerClasses) {
+        if (component instanceof Invocable) {
+            final Class<?> handlerClass = ((Invocable) component).getHandler().getHandlerClass();
+            if (handlerClass != null) {
+                handlerClasses.add(handlerClass);
+            }
+        }
+
+        final List<? extends ResourceModelComponent> componentList = component.getComponents();
+        if (null != componentList) {
+            for (ResourceModelComponent subComponent : componentList) {
+                collectHandlerClasses(subComponent, handlerClasses);
             }
         }
     }
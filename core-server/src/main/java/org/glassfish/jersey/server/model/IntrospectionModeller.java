@@ -63,6 +63,8 @@ final class IntrospectionModeller {
     private final Class<?> handlerClass;
     // validation flag
     private final boolean disableValidation;
+    // methods to be modelled, all the methods of the handler class if null
+    private final Collection<Method> methods;
 
     /**
      * Create a new introspection modeller for a given JAX-RS resource class.
@@ -73,6 +75,42 @@ final class IntrospectionModeller {
     public IntrospectionModeller(Class<?> handlerClass, boolean disableValidation) {
         this.handlerClass = handlerClass;
         this.disableValidation = disableValidation;
+        this.methods = null;
+    }
+
+    /**
+     * Create a new introspection modeller for a given JAX-RS resource class that models only the given methods
+     * of the class and does not run any model validation checks.
+     *
+     * @param handlerClass JAX-RS resource (handler) class.
+     * @param methods      public methods of the class to be modelled, as returned by {@link #getModelledMethods(Class)}
+     *                     for the same class.
+     */
+    IntrospectionModeller(Class<?> handlerClass, Collection<Method> methods) {
+        this.handlerClass = handlerClass;
+        this.disableValidation = true;
+        this.methods = methods;
+    }
+
+    /**
+     * Get the methods of a JAX-RS resource class the resource model is created from, i.e. the resource methods,
+     * sub-resource methods, sub-resource locators and the property setters of the class.
+     *
+     * @param handlerClass JAX-RS resource (handler) class.
+     * @return modelled methods in the order in which they are introspected.
+     */
+    static List<Method> getModelledMethods(Class<?> handlerClass) {
+        final List<Method> modelled = new ArrayList<>();
+        for (AnnotatedMethod am : new MethodList(handlerClass)) {
+            final boolean setter = am.getParameterTypes().length == 1
+                    && am.getMethod().getReturnType() == void.class
+                    && am.getMethod().getName().startsWith("set");
+            if (setter || am.getAnnotation(Path.class) != null
+                    || !am.getMetaMethodAnnotations(HttpMethod.class).isEmpty()) {
+                modelled.add(am.getDeclaredMethod());
+            }
+        }
+        return modelled;
     }
 
     /**
@@ -110,7 +148,7 @@ final class IntrospectionModeller {
         final Collection<Class<? extends Annotation>> defaultNameBindings =
                 ReflectionHelper.getAnnotationTypes(annotatedResourceClass, NameBinding.class);
 
-        final MethodList methodList = new MethodList(handlerClass);
+        final MethodList methodList = methods == null ? new MethodList(handlerClass) : new MethodList(methods);
 
         final List<Parameter> resourceClassParameters = new LinkedList<>();
         checkResourceClassSetters(methodList, keepEncodedParams, resourceClassParameters);
@@ -17,6 +17,7 @@
 package org.glassfish.jersey.server.model;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -42,6 +43,22 @@ class InvocableValidator extends AbstractResourceModelVisitor {
      */
     protected final Set<Class<?>> checkedClasses = new HashSet<Class<?>>();
 
+    /**
+     * Create a new validator.
+     */
+    InvocableValidator() {
+    }
+
+    /**
+     * Create a new validator that does not check the given classes, e.g. because they have been checked
+     * by another validator already.
+     *
+     * @param checkedClasses classes that have been checked already.
+     */
+    InvocableValidator(final Collection<Class<?>> checkedClasses) {
+        this.checkedClasses.addAll(checkedClasses);
+    }
+
     private static Set<Class<?>> getScopeAnnotations() {
         Set<Class<?>> scopeAnnotations = new HashSet<Class<?>>();
         scopeAnnotations.add(Singleton.class);
@@ -16,8 +16,10 @@
 
 package org.glassfish.jersey.server.model;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -782,6 +784,20 @@ public final class Resource implements Routed, ResourceModelComponent {
         return builder.isEmpty() ? null : builder.build();
     }
 
+    /**
+     * Create a resource model initialized by introspecting the given methods of an annotated
+     * JAX-RS resource class. No model validation checks are run.
+     *
+     * @param resourceClass resource class to be modelled.
+     * @param methods       public methods of the class to be modelled.
+     * @return resource model initialized by the class or {@code null} if the
+     * class does not represent a resource.
+     */
+    static Resource from(Class<?> resourceClass, Collection<Method> methods) {
+        final Builder builder = new IntrospectionModeller(resourceClass, methods).createResourceBuilder();
+        return builder.isEmpty() ? null : builder.build();
+    }
+
     /**
      * Check if the class is acceptable as a JAX-RS provider or resource.
      * <p/>
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -44,6 +44,8 @@ import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.ReaderInterceptor;
 import javax.ws.rs.ext.WriterInterceptor;
 
@@ -51,6 +53,9 @@ import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.Injections;
 import org.glassfish.jersey.internal.inject.Providers;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.internal.InterceptorChain;
 import org.glassfish.jersey.model.ContractProvider;
 import org.glassfish.jersey.model.NameBound;
 import org.glassfish.jersey.model.internal.ComponentBag;
@@ -59,7 +64,9 @@ import org.glassfish.jersey.model.internal.RankedProvider;
 import org.glassfish.jersey.process.Inflector;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.NonBlocking;
 import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.InternalServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.inject.ConfiguredValidator;
@@ -90,6 +97,7 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
     private final ResourceMethodDispatcher dispatcher;
     private final Method resourceMethod;
     private final Class<?> resourceClass;
+    private final boolean nonBlocking;
     private final List<RankedProvider<ContainerRequestFilter>> requestFilters = new ArrayList<>();
     private final List<RankedProvider<ContainerResponseFilter>> responseFilters = new ArrayList<>();
     private final Iterable<ReaderInterceptor> readerInterceptors;
@@ -216,6 +224,7 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
 
         this.resourceMethod = invocable.getHandlingMethod();
         this.resourceClass = invocable.getHandler().getHandlerClass();
+        this.nonBlocking = isNonBlocking(invocable);
 
         // Configure dynamic features.
         final ResourceMethodConfig config = new ResourceMethodConfig(globalConfig.getProperties());
@@ -295,10 +304,18 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
                     method);
         }
 
-        this.readerInterceptors = Collections.unmodifiableList(StreamSupport.stream(Providers.sortRankedProviders(
-                new RankedComparator<>(), _readerInterceptors).spliterator(), false).collect(Collectors.toList()));
-        this.writerInterceptors = Collections.unmodifiableList(StreamSupport.stream(Providers.sortRankedProviders(
-                new RankedComparator<>(), _writerInterceptors).spliterator(), false).collect(Collectors.toList()));
+        final List<ReaderInterceptor> sortedReaderInterceptors = StreamSupport.stream(Providers.sortRankedProviders(
+                new RankedComparator<>(), _readerInterceptors).spliterator(), false).collect(Collectors.toList());
+        final List<WriterInterceptor> sortedWriterInterceptors = StreamSupport.stream(Providers.sortRankedProviders(
+                new RankedComparator<>(), _writerInterceptors).spliterator(), false).collect(Collectors.toList());
+        if (PropertiesHelper.isProperty(globalConfig.getProperty(MessageProperties.WORKERS_SELECTION_CACHE_ENABLED))) {
+            // remember the reader and writer selected for the entities of this resource method
+            this.readerInterceptors = new InterceptorChain<ReaderInterceptor, MessageBodyReader>(sortedReaderInterceptors);
+            this.writerInterceptors = new InterceptorChain<WriterInterceptor, MessageBodyWriter>(sortedWriterInterceptors);
+        } else {
+            this.readerInterceptors = Collections.unmodifiableList(sortedReaderInterceptors);
+            this.writerInterceptors = Collections.unmodifiableList(sortedWriterInterceptors);
+        }
         this.requestFilters.addAll(_requestFilters);
         this.responseFilters.addAll(_responseFilters);
 
@@ -379,12 +396,21 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
         final ContainerRequest request = processingContext.request();
         final Object resource = processingContext.routingContext().peekMatchedResource();
 
-        if (method.isSuspendDeclared() || method.isManagedAsyncDeclared() || method.isSse()) {
+        // a blocking method must not be invoked on a container I/O thread, it is offloaded to the managed async executor
+        final boolean offload = !nonBlocking && !method.isManagedAsyncDeclared()
+                && request.getProperty(InternalServerProperties.NON_BLOCKING_THREAD) != null;
+
+        if (method.isSuspendDeclared() || method.isManagedAsyncDeclared() || method.isSse() || offload) {
             if (!processingContext.asyncContext().suspend()) {
                 throw new ProcessingException(LocalizationMessages.ERROR_SUSPENDING_ASYNC_REQUEST());
             }
         }
 
+        if (offload) {
+            processingContext.asyncContext().invokeManaged(() -> invokeOffloaded(processingContext, resource));
+            return null; // return null on current thread
+        }
+
         if (method.isManagedAsyncDeclared()) {
             processingContext.asyncContext().invokeManaged(() -> {
                 final Response response = invoke(processingContext, resource);
@@ -425,6 +451,22 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Response invokeOffloaded(final RequestProcessingContext processingContext, final Object resource) {
+        final Response response = invoke(processingContext, resource);
+        if (method.isSuspendDeclared() || method.isSse()) {
+            // the response is sent asynchronously
+            return null;
+        }
+
+        if (response.hasEntity() && response.getEntity() instanceof CompletionStage) {
+            // the request has already been suspended, just wait for the response
+            ((CompletionStage) response.getEntity()).whenComplete(whenComplete(processingContext));
+            return null;
+        }
+        return response;
+    }
+
     private BiConsumer whenComplete(RequestProcessingContext processingContext) {
         return (entity, exception) -> {
 
@@ -487,6 +529,14 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
         return jaxrsResponse;
     }
 
+    private static boolean isNonBlocking(final Invocable invocable) {
+        final Method definitionMethod = invocable.getDefinitionMethod();
+        return definitionMethod.isAnnotationPresent(NonBlocking.class)
+                || invocable.getHandlingMethod().isAnnotationPresent(NonBlocking.class)
+                || definitionMethod.getDeclaringClass().isAnnotationPresent(NonBlocking.class)
+                || invocable.getHandler().getHandlerClass().isAnnotationPresent(NonBlocking.class);
+    }
+
     private Type unwrapInvocableResponseType(ContainerRequest request, Type entityType) {
         if (isCompletionStageResponseType
                 && request.resolveProperty(ServerProperties.UNWRAP_COMPLETION_STAGE_IN_WRITER_ENABLE, Boolean.FALSE)) {
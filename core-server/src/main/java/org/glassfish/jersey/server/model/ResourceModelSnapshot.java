@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.internal.Version;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+
+/**
+ * Snapshot of the introspected resource model of an application that is stored in a file and restored on the subsequent
+ * starts of the same application.
+ * <p>
+ * For each registered component class the snapshot records whether the class is a resource and which methods of the class
+ * the resource model has been introspected from. A restored class is modelled from the recorded methods only, without
+ * inspecting the other methods of the class and without running the model validation checks. The snapshot is bound to
+ * a fingerprint of the class files of the application and of the component classes, the Jersey version and the
+ * application properties; a snapshot with a different fingerprint is not restored.
+ * <p>
+ * The instances are thread-safe, so that the resource classes may be modelled in parallel.
+ *
+ * @see org.glassfish.jersey.server.ServerProperties#RESOURCE_MODEL_SNAPSHOT
+ * @since 2.47
+ */
+public final class ResourceModelSnapshot {
+
+    private static final Logger LOGGER = Logger.getLogger(ResourceModelSnapshot.class.getName());
+
+    private static final int MAGIC = 0x4A524D53;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NOT_A_RESOURCE = -1;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (final Class<?> primitive : new Class<?>[] {boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class}) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    private final Path file;
+    private final String fingerprint;
+    // component class name -> signatures of the modelled methods, null for a class that is not a resource
+    private final Map<String, List<String[]>> components;
+    private volatile boolean restored;
+
+    private ResourceModelSnapshot(final Path file,
+                                  final String fingerprint,
+                                  final Map<String, List<String[]>> components,
+                                  final boolean restored) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.components = components;
+        this.restored = restored;
+    }
+
+    /**
+     * Create a new empty snapshot that records the resource models created by {@link #from(Class, boolean)}.
+     *
+     * @param file        file the snapshot is {@link #store() stored} to.
+     * @param fingerprint fingerprint of the application.
+     * @return new empty snapshot.
+     */
+    public static ResourceModelSnapshot create(final Path file, final String fingerprint) {
+        return new ResourceModelSnapshot(file, fingerprint, Collections.synchronizedMap(new LinkedHashMap<>()), false);
+    }
+
+    /**
+     * Load a snapshot from a file.
+     *
+     * @param file        snapshot file.
+     * @param fingerprint fingerprint of the application.
+     * @return restored snapshot or {@code null} if the file does not exist, cannot be read, is corrupted or was stored with
+     * a different fingerprint.
+     */
+    public static ResourceModelSnapshot load(final Path file, final String fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !fingerprint.equals(in.readUTF())) {
+                LOGGER.log(Level.CONFIG, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_OUTDATED(file));
+                return null;
+            }
+
+            // every counted item takes at least one byte of the file, larger counts come from a corrupted file
+            final long limit = Files.size(file);
+            final int count = readCount(in, 0, limit);
+            final Map<String, List<String[]>> components = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                final String className = in.readUTF();
+                final int methods = readCount(in, NOT_A_RESOURCE, limit);
+                if (methods == NOT_A_RESOURCE) {
+                    components.put(className, null);
+                    continue;
+                }
+
+                final List<String[]> signatures = new ArrayList<>(methods);
+                for (int j = 0; j < methods; j++) {
+                    // method name followed by the parameter types
+                    final String[] signature = new String[readCount(in, 1, limit)];
+                    for (int k = 0; k < signature.length; k++) {
+                        signature[k] = in.readUTF();
+                    }
+                    signatures.add(signature);
+                }
+                components.put(className, signatures);
+            }
+            return new ResourceModelSnapshot(file, fingerprint, Collections.synchronizedMap(components), true);
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_READ_FAILED(file), e);
+            return null;
+        }
+    }
+
+    private static int readCount(final DataInputStream in, final int min, final long max) throws IOException {
+        final int count = in.readInt();
+        if (count < min || count > max) {
+            throw new IOException(LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_INVALID_COUNT(count));
+        }
+        return count;
+    }
+
+    /**
+     * Compute the fingerprint of an application.
+     * <p>
+     * The fingerprint covers the Jersey version, the application properties of simple types and the class files of
+     * the application class, of the component classes and of all their super classes and interfaces that are not loaded
+     * by the bootstrap class loader.
+     *
+     * @param applicationClass application class.
+     * @param componentClasses registered component classes.
+     * @param properties       application properties.
+     * @return fingerprint of the application or {@code null} if the class file of any of the classes is not available.
+     */
+    public static String fingerprint(final Class<?> applicationClass,
+                                     final Collection<Class<?>> componentClasses,
+                                     final Map<String, ?> properties) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            return null;
+        }
+
+        update(digest, FORMAT_VERSION + "\n" + Version.getVersion() + "\n" + applicationClass.getName() + "\n");
+        for (final Map.Entry<String, ?> property : new TreeMap<>(properties).entrySet()) {
+            final Object value = property.getValue();
+            if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum) {
+                update(digest, property.getKey() + "=" + value + "\n");
+            }
+        }
+
+        final Map<String, Class<?>> classes = new TreeMap<>();
+        addClass(classes, applicationClass);
+        for (final Class<?> componentClass : componentClasses) {
+            addClass(classes, componentClass);
+        }
+
+        final byte[] buffer = new byte[8192];
+        for (final Map.Entry<String, Class<?>> entry : classes.entrySet()) {
+            final String resourceName = entry.getKey().replace('.', '/') + ".class";
+            try (InputStream in = entry.getValue().getClassLoader().getResourceAsStream(resourceName)) {
+                if (in == null) {
+                    LOGGER.log(Level.CONFIG, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_UNSUPPORTED(entry.getKey()));
+                    return null;
+                }
+                update(digest, entry.getKey() + "\n");
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (final IOException e) {
+                LOGGER.log(Level.CONFIG, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_UNSUPPORTED(entry.getKey()), e);
+                return null;
+            }
+        }
+
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void addClass(final Map<String, Class<?>> classes, final Class<?> clazz) {
+        if (clazz == null || clazz.getClassLoader() == null || classes.containsKey(clazz.getName())) {
+            return;
+        }
+        classes.put(clazz.getName(), clazz);
+        addClass(classes, clazz.getSuperclass());
+        for (final Class<?> iface : clazz.getInterfaces()) {
+            addClass(classes, iface);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create a resource model of a JAX-RS resource class.
+     * <p>
+     * A class recorded in a restored snapshot is modelled from the recorded methods, without any model validation
+     * checks. Other classes are {@link Resource#from(Class, boolean) introspected} and recorded in the snapshot. If
+     * a recorded method cannot be found any more, the class is introspected too and the snapshot is no longer
+     * {@link #isRestored() restored}.
+     *
+     * @param resourceClass     resource class to be modelled.
+     * @param disableValidation if set to {@code true}, then any model validation checks will be disabled when the class
+     *                          is introspected.
+     * @return resource model of the class or {@code null} if the class does not represent a resource.
+     */
+    public Resource from(final Class<?> resourceClass, final boolean disableValidation) {
+        final String className = resourceClass.getName();
+        if (restored && components.containsKey(className)) {
+            final List<String[]> signatures = components.get(className);
+            if (signatures == null) {
+                return null;
+            }
+
+            try {
+                return Resource.from(resourceClass, resolve(resourceClass, signatures));
+            } catch (final ClassNotFoundException | NoSuchMethodException e) {
+                LOGGER.log(Level.CONFIG, LocalizationMessages.RESOURCE_MODEL_SNAPSHOT_STALE_CLASS(className), e);
+                restored = false;
+            }
+        }
+
+        final Resource resource = Resource.from(resourceClass, disableValidation);
+        if (!restored) {
+            components.put(className,
+                    resource == null ? null : signatures(IntrospectionModeller.getModelledMethods(resourceClass)));
+        }
+        return resource;
+    }
+
+    private static List<Method> resolve(final Class<?> resourceClass, final List<String[]> signatures)
+            throws ClassNotFoundException, NoSuchMethodException {
+        final List<Method> methods = new ArrayList<>(signatures.size());
+        for (final String[] signature : signatures) {
+            final Class<?>[] parameterTypes = new Class<?>[signature.length - 1];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                final Class<?> primitive = PRIMITIVES.get(signature[i + 1]);
+                parameterTypes[i] = primitive != null
+                        ? primitive
+                        : Class.forName(signature[i + 1], false, resourceClass.getClassLoader());
+            }
+            methods.add(resourceClass.getMethod(signature[0], parameterTypes));
+        }
+        return methods;
+    }
+
+    private static List<String[]> signatures(final List<Method> methods) {
+        final List<String[]> signatures = new ArrayList<>(methods.size());
+        for (final Method method : methods) {
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            final String[] signature = new String[parameterTypes.length + 1];
+            signature[0] = method.getName();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                signature[i + 1] = parameterTypes[i].getName();
+            }
+            signatures.add(signature);
+        }
+        return signatures;
+    }
+
+    /**
+     * Check whether this snapshot has been loaded from its file and all the resource classes modelled so far have been
+     * restored from it.
+     *
+     * @return {@code true} if the snapshot has been restored.
+     */
+    public boolean isRestored() {
+        return restored;
+    }
+
+    /**
+     * Get the file of this snapshot.
+     *
+     * @return snapshot file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Store this snapshot to its file. The file is replaced atomically where the file system supports it, so that
+     * applications starting concurrently never read a partially written snapshot.
+     *
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public void store() throws IOException {
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(fingerprint);
+                final List<Map.Entry<String, List<String[]>>> entries = new ArrayList<>(components.entrySet());
+                out.writeInt(entries.size());
+                for (final Map.Entry<String, List<String[]>> component : entries) {
+                    out.writeUTF(component.getKey());
+                    final List<String[]> signatures = component.getValue();
+                    if (signatures == null) {
+                        out.writeInt(NOT_A_RESOURCE);
+                        continue;
+                    }
+
+                    out.writeInt(signatures.size());
+                    for (final String[] signature : signatures) {
+                        out.writeInt(signature.length);
+                        for (final String part : signature) {
+                            out.writeUTF(part);
+                        }
+                    }
+                }
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -75,7 +75,14 @@ abstract class AbstractJavaResourceMethodDispatcher implements ResourceMethodDis
         this.validator = validator;
     }
 
-    private Method getPublic(Method handlingMethod, Method definitionMethod) {
+    /**
+     * Get the Java method that is invoked when dispatching to a resource method.
+     *
+     * @param handlingMethod   resource method handling Java method.
+     * @param definitionMethod resource method definition Java method.
+     * @return the handling method if it is public and declared by a public class, the definition method otherwise.
+     */
+    static Method getPublic(Method handlingMethod, Method definitionMethod) {
         if (handlingMethod == definitionMethod) {
             return handlingMethod;
         }
@@ -136,57 +143,12 @@ abstract class AbstractJavaResourceMethodDispatcher implements ResourceMethodDis
                 validator.validateResourceAndInputParams(resource, resourceMethod, args);
             }
 
-            final PrivilegedAction invokeMethodAction = new PrivilegedAction() {
-                @Override
-                public Object run() {
-                    final TracingLogger tracingLogger = TracingLogger.getInstance(containerRequest);
-                    final long timestamp = tracingLogger.timestamp(ServerTraceEvent.METHOD_INVOKE);
-                    try {
-
-                        Object result = methodHandler.invoke(resource, method, args);
-
-                        // if a response is a CompletionStage and is done, we don't need to suspend and resume
-                        if (result instanceof CompletionStage) {
-                            CompletableFuture resultFuture;
-                            try {
-                                resultFuture = ((CompletionStage) result).toCompletableFuture();
-                            } catch (UnsupportedOperationException e) {
-                                // CompletionStage is not required to implement "toCompletableFuture". If it doesn't
-                                // we treat it as "uncompleted" future.
-                                return result;
-                            }
-
-                            if (resultFuture != null && resultFuture.isDone()) {
-                                if (resultFuture.isCancelled()) {
-                                    return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
-                                } else {
-                                    try {
-                                        return resultFuture.get();
-                                    } catch (ExecutionException e) {
-                                        throw new InvocationTargetException(e.getCause());
-                                    }
-                                }
-                            }
-                        }
-
-                        return result;
-
-                    } catch (IllegalAccessException | IllegalArgumentException | UndeclaredThrowableException ex) {
-                        throw new ProcessingException(LocalizationMessages.ERROR_RESOURCE_JAVA_METHOD_INVOCATION(), ex);
-                    } catch (InvocationTargetException ex) {
-                        throw mapTargetToRuntimeEx(ex.getCause());
-                    } catch (Throwable t) {
-                        throw new ProcessingException(t);
-                    } finally {
-                        tracingLogger.logDuration(ServerTraceEvent.METHOD_INVOKE, timestamp, resource, method);
-                    }
-                }
-            };
-
             final SecurityContext securityContext = containerRequest.getSecurityContext();
 
             final Object invocationResult = (securityContext instanceof SubjectSecurityContext)
-                    ? ((SubjectSecurityContext) securityContext).doAsSubject(invokeMethodAction) : invokeMethodAction.run();
+                    ? ((SubjectSecurityContext) securityContext).doAsSubject(
+                            (PrivilegedAction) () -> invokeMethod(containerRequest, resource, args))
+                    : invokeMethod(containerRequest, resource, args);
 
             // Validate response entity.
             if (validator != null) {
@@ -199,6 +161,50 @@ abstract class AbstractJavaResourceMethodDispatcher implements ResourceMethodDis
         }
     }
 
+    private Object invokeMethod(final ContainerRequest containerRequest, final Object resource, final Object... args) {
+        final TracingLogger tracingLogger = TracingLogger.getInstance(containerRequest);
+        final long timestamp = tracingLogger.timestamp(ServerTraceEvent.METHOD_INVOKE);
+        try {
+
+            Object result = methodHandler.invoke(resource, method, args);
+
+            // if a response is a CompletionStage and is done, we don't need to suspend and resume
+            if (result instanceof CompletionStage) {
+                CompletableFuture resultFuture;
+                try {
+                    resultFuture = ((CompletionStage) result).toCompletableFuture();
+                } catch (UnsupportedOperationException e) {
+                    // CompletionStage is not required to implement "toCompletableFuture". If it doesn't
+                    // we treat it as "uncompleted" future.
+                    return result;
+                }
+
+                if (resultFuture != null && resultFuture.isDone()) {
+                    if (resultFuture.isCancelled()) {
+                        return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+                    } else {
+                        try {
+                            return resultFuture.get();
+                        } catch (ExecutionException e) {
+                            throw new InvocationTargetException(e.getCause());
+                        }
+                    }
+                }
+            }
+
+            return result;
+
+        } catch (IllegalAccessException | IllegalArgumentException | UndeclaredThrowableException ex) {
+            throw new ProcessingException(LocalizationMessages.ERROR_RESOURCE_JAVA_METHOD_INVOCATION(), ex);
+        } catch (InvocationTargetException ex) {
+            throw mapTargetToRuntimeEx(ex.getCause());
+        } catch (Throwable t) {
+            throw new ProcessingException(t);
+        } finally {
+            tracingLogger.logDuration(ServerTraceEvent.METHOD_INVOKE, timestamp, resource, method);
+        }
+    }
+
     private static RuntimeException mapTargetToRuntimeEx(Throwable throwable) {
         if (throwable instanceof WebApplicationException) {
             return (WebApplicationException) throwable;
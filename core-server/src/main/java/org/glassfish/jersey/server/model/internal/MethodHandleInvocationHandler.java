@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Resource method invocation handler that invokes the resource method using a {@link MethodHandle} bound
+ * to the method when the resource model is built instead of using {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Exceptions thrown by the resource method are wrapped in an {@link InvocationTargetException} so that
+ * the handler can be used interchangeably with the reflective one.
+ * </p>
+ */
+final class MethodHandleInvocationHandler implements InvocationHandler {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final Method method;
+    private final MethodHandle handle;
+
+    private MethodHandleInvocationHandler(final Method method, final MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * Create a new method handle based invocation handler for the given Java method.
+     *
+     * @param method Java method to be invoked by the handler.
+     * @return new invocation handler or {@code null} if the method is not accessible via method handles.
+     */
+    static InvocationHandler create(final Method method) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        handle = handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+
+        return new MethodHandleInvocationHandler(method, handle);
+    }
+
+    @Override
+    public Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        if (method != this.method) {
+            // dispatched to a different method than the one the handle has been bound to
+            return method.invoke(target, args);
+        }
+
+        final Object[] arguments = args == null ? NO_ARGS : args;
+        try {
+            return (Object) handle.invokeExact(target, arguments);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleInvocationHandler{" + method + "}";
+    }
+}
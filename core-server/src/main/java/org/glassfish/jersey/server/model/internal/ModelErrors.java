@@ -16,10 +16,14 @@
 
 package org.glassfish.jersey.server.model.internal;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import org.glassfish.jersey.internal.Errors;
+import org.glassfish.jersey.internal.util.Producer;
 import org.glassfish.jersey.server.model.ResourceModelIssue;
 
 /**
@@ -49,4 +53,87 @@ public class ModelErrors {
                      .collect(Collectors.toList());
     }
 
+    /**
+     * Invoke the tasks and return their results in the order of the tasks. The tasks are invoked in parallel on a new
+     * {@link ForkJoinPool} if the given parallelism is greater than {@code 1}, otherwise they are invoked sequentially
+     * on the current thread.
+     * <p>
+     * The error messages filed by the tasks are added to the error context of the current thread in the order of the tasks,
+     * regardless of the order in which the tasks complete, so that the same errors are reported in the same order as if
+     * the tasks were invoked sequentially. A runtime exception thrown by a task is re-thrown once the messages of the task
+     * and of all the preceding tasks have been added, the messages and results of the following tasks are discarded.
+     *
+     * @param parallelism maximal number of tasks invoked in parallel.
+     * @param tasks       tasks to be invoked.
+     * @param <T>         task result type.
+     * @return task results in the order of the tasks.
+     * @since 2.47
+     */
+    public static <T> List<T> invokeAll(final int parallelism, final List<? extends Producer<T>> tasks) {
+        final List<T> results = new ArrayList<>(tasks.size());
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            for (final Producer<T> task : tasks) {
+                results.add(task.call());
+            }
+            return results;
+        }
+
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, tasks.size()));
+        try {
+            final List<ForkJoinTask<Outcome<T>>> outcomes = new ArrayList<>(tasks.size());
+            for (final Producer<T> task : tasks) {
+                outcomes.add(pool.submit(() -> Outcome.of(task, contextClassLoader)));
+            }
+
+            for (final ForkJoinTask<Outcome<T>> outcome : outcomes) {
+                results.add(outcome.join().get());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Result, exception and error messages of a task invoked on a pool thread.
+     */
+    private static final class Outcome<T> {
+
+        private T result;
+        private RuntimeException failure;
+        private List<Errors.ErrorMessage> messages;
+
+        private static <T> Outcome<T> of(final Producer<T> task, final ClassLoader contextClassLoader) {
+            final Outcome<T> outcome = new Outcome<>();
+            final Thread thread = Thread.currentThread();
+            final ClassLoader original = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                outcome.messages = Errors.collect(() -> {
+                    try {
+                        outcome.result = task.call();
+                    } catch (final RuntimeException e) {
+                        outcome.failure = e;
+                    }
+                });
+            } finally {
+                thread.setContextClassLoader(original);
+            }
+            return outcome;
+        }
+
+        /**
+         * Report the error messages of the task in the error context of the current thread and get the task result.
+         *
+         * @return task result.
+         */
+        private T get() {
+            Errors.report(messages);
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
 }
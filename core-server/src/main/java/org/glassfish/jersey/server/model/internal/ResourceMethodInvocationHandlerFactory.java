@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,17 +17,20 @@
 package org.glassfish.jersey.server.model.internal;
 
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.inject.Singleton;
+import javax.ws.rs.core.Configuration;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.model.Invocable;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
@@ -43,6 +46,10 @@ import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerP
  * invocation handler} instance retrieved from the providers. If no custom providers
  * are available, or if none of the providers returns a non-null invocation handler,
  * in such case a default invocation handler provided by the factory is returned.
+ * <p />
+ * The default invocation handler invokes the resource method using reflection, unless
+ * {@link ServerProperties#METHOD_HANDLE_DISPATCH_ENABLED} is set, in which case a method handle
+ * bound to the resource method is used whenever the method is accessible.
  *
  * @author Marek Potociar
  */
@@ -52,10 +59,17 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
     private static final InvocationHandler DEFAULT_HANDLER = (target, method, args) -> method.invoke(target, args);
     private static final Logger LOGGER = Logger.getLogger(ResourceMethodInvocationHandlerFactory.class.getName());
     private final LazyValue<Set<ResourceMethodInvocationHandlerProvider>> providers;
+    private final boolean methodHandlesEnabled;
 
     ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager) {
+        this(injectionManager, null);
+    }
+
+    ResourceMethodInvocationHandlerFactory(InjectionManager injectionManager, Configuration configuration) {
         this.providers = Values.lazy((Value<Set<ResourceMethodInvocationHandlerProvider>>)
                 () -> Providers.getProviders(injectionManager, ResourceMethodInvocationHandlerProvider.class));
+        this.methodHandlesEnabled = configuration != null && ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.METHOD_HANDLE_DISPATCH_ENABLED, Boolean.FALSE, Boolean.class);
     }
 
     // ResourceMethodInvocationHandlerProvider
@@ -74,6 +88,15 @@ public final class ResourceMethodInvocationHandlerFactory implements ResourceMet
             }
         }
 
+        if (methodHandlesEnabled) {
+            final Method method = AbstractJavaResourceMethodDispatcher.getPublic(
+                    resourceMethod.getHandlingMethod(), resourceMethod.getDefinitionMethod());
+            final InvocationHandler handler = method == null ? null : MethodHandleInvocationHandler.create(method);
+            if (handler != null) {
+                return handler;
+            }
+        }
+
         return DEFAULT_HANDLER;
     }
 }
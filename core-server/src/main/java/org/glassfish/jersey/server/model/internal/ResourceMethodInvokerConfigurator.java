@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -49,7 +49,8 @@ public class ResourceMethodInvokerConfigurator implements BootstrapConfigurator
         ResourceMethodInvoker.Builder builder = new ResourceMethodInvoker.Builder()
                 .injectionManager(injectionManager)
                 .resourceMethodDispatcherFactory(new ResourceMethodDispatcherFactory(providers))
-                .resourceMethodInvocationHandlerFactory(new ResourceMethodInvocationHandlerFactory(injectionManager))
+                .resourceMethodInvocationHandlerFactory(new ResourceMethodInvocationHandlerFactory(injectionManager,
+                        bootstrapBag.getConfiguration()))
                 .configuration(bootstrapBag.getConfiguration())
                 .configurationValidator(() -> injectionManager.getInstance(ConfiguredValidator.class));
 
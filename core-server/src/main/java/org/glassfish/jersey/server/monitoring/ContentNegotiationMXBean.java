@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * MXBean interface of the content negotiation decision cache statistics.
+ *
+ * @since 2.47
+ * @see org.glassfish.jersey.server.ServerProperties#ROUTING_NEGOTIATION_CACHE_SIZE
+ */
+public interface ContentNegotiationMXBean {
+
+    /**
+     * Get the number of requests whose resource method and acceptable response media types were served from
+     * the content negotiation decision cache.
+     *
+     * @return Negotiation cache hit count.
+     */
+    public long getNegotiationCacheHitCount();
+
+    /**
+     * Get the number of requests for which the content negotiation had to be performed because no decision
+     * was cached for them.
+     *
+     * @return Negotiation cache miss count.
+     */
+    public long getNegotiationCacheMissCount();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * MXBean interface of the message body workers lookup cache statistics.
+ *
+ * @since 2.47
+ */
+public interface MessageBodyWorkersMXBean {
+
+    /**
+     * Get the number of message body reader and writer lookups served from the lookup cache.
+     *
+     * @return Lookup cache hit count.
+     */
+    public long getLookupCacheHitCount();
+
+    /**
+     * Get the number of message body reader and writer lookups not found in the lookup cache.
+     *
+     * @return Lookup cache miss count.
+     */
+    public long getLookupCacheMissCount();
+
+    /**
+     * Get the maximum number of entries retained by the lookup cache.
+     *
+     * @return Lookup cache capacity.
+     * @see org.glassfish.jersey.message.MessageProperties#WORKERS_LOOKUP_CACHE_SIZE
+     */
+    public int getLookupCacheCapacity();
+}
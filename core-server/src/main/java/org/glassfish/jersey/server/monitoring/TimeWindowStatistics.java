@@ -80,6 +80,24 @@ public interface TimeWindowStatistics {
      */
     public long getAverageDuration();
 
+    /**
+     * Returns the duration (processing time) in milliseconds at the given percentile of the request processing times
+     * measured in the time window. For example, {@code getDurationPercentile(99)} returns a duration that 99% of the requests
+     * processed in the time window did not exceed. The returned duration might be approximated.
+     *
+     * @param percentile the percentile, in {@code [0..100]}.
+     * @return Processing time of the request at the given percentile or -1 if no request has been processed or
+     * the percentiles are not supported.
+     * @throws IllegalArgumentException if the percentile is not in {@code [0..100]} range.
+     * @since 2.47
+     */
+    public default long getDurationPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException(percentile + " is not in [0..100] range");
+        }
+        return -1;
+    }
+
     /**
      * Returns the count of requests received measured in the time window.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -85,7 +85,9 @@ public interface ContainerResponseWriter {
      *     header can be set or utilize chunked transfer encoding.
      * @param responseContext the JAX-RS response to be written. The status and headers
      *     are obtained from the response.
-     * @return the output stream to write the entity (if any).
+     * @return the output stream to write the entity (if any). Containers able to transfer file regions or byte buffers
+     *     to the client without copying them through the heap should return a stream implementing
+     *     {@link org.glassfish.jersey.message.ZeroCopyOutput}.
      * @throws ContainerException if an error occurred when writing out the
      *                            status and headers or obtaining the output stream.
      */
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link ChunkedOutput} flushing the chunks in batches.
+ */
+public class ChunkedOutputBatchingTest {
+
+    @Path("chunks")
+    public static class ChunkedResource {
+
+        static final BlockingQueue<ChunkedOutput<byte[]>> OUTPUTS = new LinkedBlockingQueue<>();
+
+        @GET
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public ChunkedOutput<byte[]> get(@QueryParam("chunks") final int chunks, @QueryParam("delay") final long delay) {
+            final ChunkedOutput<byte[]> output = ChunkedOutput.<byte[]>builder(byte[].class)
+                    .flushAfterChunks(chunks)
+                    .flushDelay(delay, TimeUnit.MILLISECONDS)
+                    .build();
+            OUTPUTS.add(output);
+            return output;
+        }
+    }
+
+    private final RecordingOutputStream stream = new RecordingOutputStream();
+    private Future<ContainerResponse> response;
+
+    private ChunkedOutput<byte[]> request(final String query) throws InterruptedException {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(ChunkedResource.class));
+        response = handler.apply(RequestContextBuilder.from("/chunks?" + query, "GET").build(), stream);
+        return ChunkedResource.OUTPUTS.poll(5, TimeUnit.SECONDS);
+    }
+
+    private void close(final ChunkedOutput<byte[]> output) throws Exception {
+        output.close();
+        assertEquals(200, response.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    private static void write(final ChunkedOutput<byte[]> output, final String chunks) throws Exception {
+        for (final char c : chunks.toCharArray()) {
+            output.write(new byte[] {(byte) c});
+        }
+    }
+
+    @Test
+    public void testSingleProducerChunksFlushedTogether() throws Exception {
+        final ChunkedOutput<byte[]> output = request("delay=500");
+
+        // the producer just queues the chunks
+        write(output, "abcde");
+
+        assertTrue(RecordingOutputStream.await(() -> !stream.getFlushes().isEmpty(), 5000));
+        assertEquals("abcde", stream.toString());
+        assertEquals(Collections.singletonList(5), stream.getFlushes());
+
+        close(output);
+    }
+
+    @Test
+    public void testCompleteBatchFlushedBeforeDelay() throws Exception {
+        final ChunkedOutput<byte[]> output = request("chunks=3&delay=60000");
+
+        write(output, "abc");
+
+        assertTrue(RecordingOutputStream.await(() -> !stream.getFlushes().isEmpty(), 5000));
+        assertEquals("abc", stream.toString());
+        assertEquals(Collections.singletonList(3), stream.getFlushes());
+
+        close(output);
+    }
+
+    @Test
+    public void testProducerNotBlockedByFlush() throws Exception {
+        final ChunkedOutput<byte[]> output = request("chunks=2");
+
+        stream.block();
+        write(output, "a");
+        assertTrue(stream.awaitBlocked(5000));
+
+        // the flush task is stuck writing the first chunk, the producer is not
+        write(output, "bcd");
+
+        stream.unblock();
+        assertTrue(RecordingOutputStream.await(() -> "abcd".equals(stream.toString()), 5000));
+
+        close(output);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Tests message body worker lookups with {@link MessageProperties#WORKERS_SELECTION_CACHE_ENABLED} set.
+ */
+public class MessageBodyWorkersLookupCacheTest {
+
+    @Path("echo")
+    public static class EchoResource {
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String echo(final String entity) {
+            return "echo-" + entity;
+        }
+
+        @POST
+        @Path("bytes")
+        @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public byte[] bytes(final byte[] entity) {
+            return entity;
+        }
+    }
+
+    public static class Counted {
+    }
+
+    @Produces("text/counted")
+    public static class CountingWriter implements MessageBodyWriter<Counted> {
+
+        private final AtomicInteger isWriteableCalls = new AtomicInteger();
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            isWriteableCalls.incrementAndGet();
+            return type == Counted.class;
+        }
+
+        @Override
+        public void writeTo(final Counted counted, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType,
+                            final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream)
+                throws IOException {
+            entityStream.write("counted".getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Path("counted")
+    public static class CountedResource {
+
+        @GET
+        @Produces("text/counted")
+        public Counted get() {
+            return new Counted();
+        }
+    }
+
+    private static int isWriteableCallsPerRequest(final boolean selectionCache) throws Exception {
+        final CountingWriter writer = new CountingWriter();
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(CountedResource.class)
+                .register(writer)
+                .property(MessageProperties.WORKERS_SELECTION_CACHE_ENABLED, selectionCache));
+
+        final int warmUp = 2;
+        final int requests = 5;
+        int calls = 0;
+        for (int i = 0; i < warmUp + requests; i++) {
+            if (i == warmUp) {
+                calls = writer.isWriteableCalls.get();
+            }
+            final ContainerResponse response = handler.apply(RequestContextBuilder.from("/counted", "GET").build()).get();
+            assertThat(response.getStatus(), is(200));
+        }
+        return (writer.isWriteableCalls.get() - calls) / requests;
+    }
+
+    @Test
+    public void testResourceMethodRemembersWriter() throws Exception {
+        assertThat(isWriteableCallsPerRequest(false), greaterThan(0));
+        assertThat(isWriteableCallsPerRequest(true), is(0));
+    }
+
+    @Test
+    public void testSelectionCache() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(EchoResource.class)
+                .property(MessageProperties.WORKERS_SELECTION_CACHE_ENABLED, true)
+                .property(MessageProperties.WORKERS_LOOKUP_CACHE_SIZE, 64));
+        final MessageBodyFactory factory =
+                (MessageBodyFactory) handler.getInjectionManager().getInstance(MessageBodyWorkers.class);
+        assertThat(factory.getLookupCacheCapacity(), is(64));
+
+        for (int i = 0; i < 3; i++) {
+            ContainerResponse response = handler.apply(RequestContextBuilder.from("/echo", "POST")
+                    .type(MediaType.TEXT_PLAIN).entity("a" + i).build()).get();
+            assertThat(response.getStatus(), is(200));
+            assertThat(response.getEntity(), is("echo-a" + i));
+
+            response = handler.apply(RequestContextBuilder.from("/echo/bytes", "POST")
+                    .type(MediaType.APPLICATION_OCTET_STREAM).entity(new byte[] {(byte) i}).build()).get();
+            assertThat(response.getStatus(), is(200));
+            assertThat(((byte[]) response.getEntity())[0], is((byte) i));
+        }
+
+        assertThat(factory.getLookupCacheHitCount(), greaterThan(0L));
+        assertThat(factory.getLookupCacheMissCount(), greaterThan(0L));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Response entity stream recording the written bytes and the flushes. The writes can be blocked to simulate a client
+ * that does not read the response.
+ */
+class RecordingOutputStream extends OutputStream {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final List<Integer> flushes = new ArrayList<>();
+    private volatile CountDownLatch gate;
+    private volatile CountDownLatch blocked = new CountDownLatch(1);
+
+    /**
+     * Block the writes until {@link #unblock()} is called.
+     */
+    void block() {
+        blocked = new CountDownLatch(1);
+        gate = new CountDownLatch(1);
+    }
+
+    /**
+     * Let the blocked writes continue.
+     */
+    void unblock() {
+        final CountDownLatch current = gate;
+        gate = null;
+        if (current != null) {
+            current.countDown();
+        }
+    }
+
+    /**
+     * Wait until a write gets blocked.
+     *
+     * @param timeout maximal time to wait in milliseconds.
+     * @return {@code true} if a write is blocked.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    boolean awaitBlocked(final long timeout) throws InterruptedException {
+        return blocked.await(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        final CountDownLatch current = gate;
+        if (current != null) {
+            blocked.countDown();
+            try {
+                current.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+        synchronized (this) {
+            bytes.write(b, off, len);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        final int size = bytes.size();
+        // the flushes of the response headers are not interesting
+        if (size > 0 && (flushes.isEmpty() || flushes.get(flushes.size() - 1) < size)) {
+            flushes.add(size);
+        }
+    }
+
+    /**
+     * Get the number of the bytes written at the flushes of the newly written data.
+     *
+     * @return sizes of the written data at the flushes.
+     */
+    synchronized List<Integer> getFlushes() {
+        return new ArrayList<>(flushes);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Wait until the condition holds.
+     *
+     * @param condition condition to wait for.
+     * @param timeout   maximal time to wait in milliseconds.
+     * @return {@code true} if the condition holds, {@code false} if timed out.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    static boolean await(final BooleanSupplier condition, final long timeout) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeout;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link SlowConsumerPolicy} applied to the shared chunks written to a {@link ChunkedOutput}. Unless bound to
+ * a response, the chunked outputs keep all the written chunks queued like for a client that does not read at all.
+ */
+public class SlowConsumerPolicyTest {
+
+    @Path("chunks")
+    public static class ChunkedResource {
+
+        static final BlockingQueue<ChunkedOutput<byte[]>> OUTPUTS = new LinkedBlockingQueue<>();
+
+        @GET
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public ChunkedOutput<byte[]> get() {
+            final ChunkedOutput<byte[]> output = new ChunkedOutput<>(byte[].class);
+            OUTPUTS.add(output);
+            return output;
+        }
+
+        @GET
+        @Path("ring")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public ChunkedOutput<byte[]> getRing() {
+            final ChunkedOutput<byte[]> output = ChunkedOutput.<byte[]>builder(byte[].class).ringBufferCapacity(4).build();
+            OUTPUTS.add(output);
+            return output;
+        }
+    }
+
+    /**
+     * Chunked output bound to a response written to a recording stream.
+     */
+    private static final class BoundOutput {
+
+        private final RecordingOutputStream stream = new RecordingOutputStream();
+        private final Future<ContainerResponse> response;
+        private final ChunkedOutput<byte[]> output;
+
+        private BoundOutput(final ApplicationHandler handler) throws InterruptedException {
+            this(handler, "/chunks");
+        }
+
+        private BoundOutput(final ApplicationHandler handler, final String uri) throws InterruptedException {
+            this.response = handler.apply(RequestContextBuilder.from(uri, "GET").build(), stream);
+            this.output = ChunkedResource.OUTPUTS.poll(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void broadcast(final Broadcaster<byte[]> broadcaster, final String chunks) {
+        // the broadcast must not wait for the blocked client
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (final char c : chunks.toCharArray()) {
+                broadcaster.broadcast(new byte[] {(byte) c});
+            }
+        });
+    }
+
+    @Test
+    public void testBuffer() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+
+        assertTrue(output.write(new SharedChunk<>("1"), SlowConsumerPolicy.buffer(2)));
+        assertTrue(output.write(new SharedChunk<>("2"), SlowConsumerPolicy.buffer(2)));
+        assertFalse(output.write(new SharedChunk<>("3"), SlowConsumerPolicy.buffer(2)));
+        assertFalse(output.isClosed());
+    }
+
+    @Test
+    public void testDrop() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+
+        // the queued chunk is replaced by the newer ones
+        assertTrue(output.write(new SharedChunk<>("1"), SlowConsumerPolicy.drop()));
+        assertTrue(output.write(new SharedChunk<>("2"), SlowConsumerPolicy.drop()));
+        assertTrue(output.write(new SharedChunk<>("3"), SlowConsumerPolicy.drop()));
+        assertFalse(output.isClosed());
+    }
+
+    @Test
+    public void testDisconnect() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+
+        assertTrue(output.write(new SharedChunk<>("1"), SlowConsumerPolicy.disconnect(1)));
+        assertFalse(output.write(new SharedChunk<>("2"), SlowConsumerPolicy.disconnect(1)));
+        assertTrue(output.isClosed());
+        assertThrows(IOException.class, () -> output.write(new SharedChunk<>("3"), SlowConsumerPolicy.disconnect(1)));
+    }
+
+    @Test
+    public void testBlock() throws IOException {
+        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(output.write(new SharedChunk<>(Integer.toString(i)), SlowConsumerPolicy.BLOCK));
+        }
+        assertFalse(output.isClosed());
+    }
+
+    @Test
+    public void testInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> SlowConsumerPolicy.buffer(0));
+        assertThrows(IllegalArgumentException.class, () -> SlowConsumerPolicy.disconnect(-1));
+    }
+
+    @Test
+    public void testBroadcasterDisconnectsSlowOutput() {
+        final List<ChunkedOutput<String>> closed = new ArrayList<>();
+        final Broadcaster<String> broadcaster = new Broadcaster<String>() {
+            @Override
+            public void onClose(final ChunkedOutput<String> chunkedOutput) {
+                closed.add(chunkedOutput);
+            }
+        };
+        final ChunkedOutput<String> dropping = new ChunkedOutput<>(String.class);
+        final ChunkedOutput<String> disconnecting = new ChunkedOutput<>(String.class);
+        broadcaster.add(dropping, SlowConsumerPolicy.drop());
+        broadcaster.add(disconnecting, SlowConsumerPolicy.disconnect(2));
+
+        broadcaster.broadcast("1");
+        broadcaster.broadcast("2");
+        assertEquals(0, closed.size());
+
+        broadcaster.broadcast("3");
+        assertEquals(1, closed.size());
+        assertTrue(closed.get(0) == disconnecting);
+        assertFalse(dropping.isClosed());
+    }
+
+    @Test
+    public void testBlockedClientDropsChunks() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(ChunkedResource.class));
+        final BoundOutput slow = new BoundOutput(handler);
+        final BoundOutput fast = new BoundOutput(handler);
+        final Broadcaster<byte[]> broadcaster = new Broadcaster<>();
+        broadcaster.add(slow.output, SlowConsumerPolicy.drop());
+        broadcaster.add(fast.output, SlowConsumerPolicy.drop());
+
+        slow.stream.block();
+        broadcast(broadcaster, "a");
+        assertTrue(slow.stream.awaitBlocked(5000));
+
+        // "a" is being written to the slow client, "b" is queued and replaced by "c" and "c" by "d"
+        broadcast(broadcaster, "bcd");
+        assertTrue(RecordingOutputStream.await(() -> "abcd".equals(fast.stream.toString()), 5000));
+
+        // the slow client receives the latest chunk
+        slow.stream.unblock();
+        assertTrue(RecordingOutputStream.await(() -> "ad".equals(slow.stream.toString()), 5000));
+        assertFalse(slow.output.isClosed());
+
+        broadcaster.closeAll();
+        assertEquals(200, slow.response.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, fast.response.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals("ad", slow.stream.toString());
+    }
+
+    @Test
+    public void testBlockedClientDisconnected() throws Exception {
+        testBlockedClientDisconnected("/chunks");
+    }
+
+    @Test
+    public void testBlockedRingBufferClientDisconnected() throws Exception {
+        // the queue with a single consumer is drained by the flushing thread, not by the broadcasting one
+        testBlockedClientDisconnected("/chunks/ring");
+    }
+
+    private void testBlockedClientDisconnected(final String uri) throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(ChunkedResource.class));
+        final BoundOutput slow = new BoundOutput(handler, uri);
+        final BoundOutput fast = new BoundOutput(handler, uri);
+        final List<ChunkedOutput<byte[]>> closed = new CopyOnWriteArrayList<>();
+        final Broadcaster<byte[]> broadcaster = new Broadcaster<byte[]>() {
+            @Override
+            public void onClose(final ChunkedOutput<byte[]> chunkedOutput) {
+                closed.add(chunkedOutput);
+            }
+        };
+        broadcaster.add(slow.output, SlowConsumerPolicy.disconnect(1));
+        broadcaster.add(fast.output, SlowConsumerPolicy.disconnect(1));
+
+        slow.stream.block();
+        broadcast(broadcaster, "a");
+        assertTrue(slow.stream.awaitBlocked(5000));
+
+        // "a" is being written to the slow client, "b" is queued and "c" disconnects the client
+        broadcast(broadcaster, "bc");
+        assertTrue(slow.output.isClosed());
+        assertEquals(1, closed.size());
+        assertTrue(closed.get(0) == slow.output);
+
+        assertTrue(RecordingOutputStream.await(() -> "abc".equals(fast.stream.toString()), 5000));
+        assertFalse(fast.output.isClosed());
+
+        // the queued chunk is discarded, the response is closed once the blocked write completes
+        slow.stream.unblock();
+        assertEquals(200, slow.response.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals("a", slow.stream.toString());
+
+        broadcaster.closeAll();
+        assertEquals(200, fast.response.get(5, TimeUnit.SECONDS).getStatus());
+    }
+}
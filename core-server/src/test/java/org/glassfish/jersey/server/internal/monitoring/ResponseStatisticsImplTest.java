@@ -65,6 +65,29 @@ public class ResponseStatisticsImplTest {
         Assertions.assertEquals(1, (long) builder.build().getResponseCodes().get(200));
     }
 
+    @Test
+    public void testCountedResponseCodes() {
+        ResponseStatisticsImpl.Builder builder = new ResponseStatisticsImpl.Builder();
+
+        builder.addResponseCode(200, 5);
+        builder.addResponseCode(404, 2);
+
+        Assertions.assertNull(builder.build().getLastResponseCode());
+        Assertions.assertEquals(5, (long) builder.build().getResponseCodes().get(200));
+        Assertions.assertEquals(2, (long) builder.build().getResponseCodes().get(404));
+
+        Object original = builder.build();
+        builder.setLastResponseCode(404);
+
+        Assertions.assertFalse(original == builder.build());
+        Assertions.assertEquals(404, (int) builder.build().getLastResponseCode());
+
+        builder.addResponseCode(200, 3);
+
+        Assertions.assertEquals(8, (long) builder.build().getResponseCodes().get(200));
+        Assertions.assertEquals(404, (int) builder.build().getLastResponseCode());
+    }
+
     @Test
     public void testImmutability() {
         Assertions.assertThrows(UnsupportedOperationException.class, () -> {
@@ -18,11 +18,13 @@ package org.glassfish.jersey.server.internal.monitoring;
 
 import java.util.concurrent.TimeUnit;
 
+import org.glassfish.jersey.server.internal.monitoring.core.HistogramTimeReservoir;
 import org.glassfish.jersey.server.internal.monitoring.core.ReservoirConstants;
-import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeReservoir;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests of {@link TimeWindowStatisticsImpl}.
@@ -45,7 +47,7 @@ public class TimeWindowStatisticsImplTest {
     public void test() {
         final long now = System.currentTimeMillis();
         final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(1000L, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(1000L, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
         builder.addRequest(now, 30L);
         builder.addRequest(now + 300, 100L);
         builder.addRequest(now + 600, 150L);
@@ -53,10 +55,10 @@ public class TimeWindowStatisticsImplTest {
         builder.addRequest(now + 999, 60L);
         builder.addRequest(now + 1000, 95L);
 
-        check(builder, now + 1000, 6, 15, 150, 75, 6);
+        // the window slides in steps of a tenth of its size, the request at 'now' has left the window at 'now + 1000'
+        check(builder, now + 1000, 5, 15, 150, 84, 5.555556);
         builder.addRequest(now + 1001, 999L);
-        // the original implementation was supposed to trim the first request, we can only guess why it didn't ...
-        check(builder, now + 1001, 6, 15, 999, 236, 6);
+        check(builder, now + 1001, 6, 15, 999, 236, 6.659267);
     }
 
     @Test
@@ -64,7 +66,7 @@ public class TimeWindowStatisticsImplTest {
         final long now = 0;
         final TimeWindowStatisticsImpl.Builder<Long> builder
                 = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(10000, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(10000, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
         builder.addRequest(now, 30L);
         builder.addRequest(now + 300, 100L);
         builder.addRequest(now + 600, 150L);
@@ -76,12 +78,10 @@ public class TimeWindowStatisticsImplTest {
         // check unfinished interval
         check(builder, now + 8001, 7, 15, 600, 150, 0.8748906);
 
-        // the original implementation used chunks for time units and the metrics calculation
-        // was accurate only when aligned with the chunks; now, we're accurate as possible which
-        // is why we don't need to use ratio (to adjust the count of the request in the last chunk
-        check(builder, now + 10900, 3, 60, 600, 251, 0.3);
-        // the original calculation left minimum as '15' which collides with the api doc
-        check(builder, now + 11000, 2, 95, 600, 347, 0.2);
+        // the window covers whole slots of a tenth of its size, at 'now + 10900' the slot starting at 'now + 1000'
+        // is the oldest one within the window
+        check(builder, now + 10900, 2, 95, 600, 347, 0.20202);
+        check(builder, now + 11000, 1, 600, 600, 600, 0.111111);
 
     }
 
@@ -94,22 +94,23 @@ public class TimeWindowStatisticsImplTest {
         final long now = 0;
         final TimeWindowStatisticsImpl.Builder<Long> builder
                 = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(1000, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(1000, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
         builder.addRequest(now, 40L);
         builder.addRequest(now + 1000, 30L);
         // this is a request in past which will actually reuse the time 'now + 1000'
         builder.addRequest(now + 100, 10L);
 
-        check(builder, now + 1000, 3, 10, 40, 26, 3);
+        // the request at 'now' has already left the window, the request in past still fits into it
+        check(builder, now + 1000, 2, 10, 30, 20, 2.222222);
 
         // this request in past is so old that it doesn't even fit into the window
         builder.addRequest(now + 100, 0L);
         builder.addRequest(now + 1200, 20L);
 
-        check(builder, now + 1201, 2, 20, 30, 25, 2);
+        check(builder, now + 1201, 2, 20, 30, 25, 2.219756);
 
         // snapshot retrieval in past does return values in past; in fact, time 'now + 1201' is used
-        check(builder, now + 1000, 2, 20, 30, 25, 2);
+        check(builder, now + 1000, 2, 20, 30, 25, 2.219756);
 
     }
 
@@ -118,7 +119,7 @@ public class TimeWindowStatisticsImplTest {
         final long now = 0;
         final TimeWindowStatisticsImpl.Builder<Long> builder
                 = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(3000, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(3000, TimeUnit.MILLISECONDS, now, TimeUnit.MILLISECONDS));
         builder.addRequest(now, 99L);
         builder.addRequest(now + 300, 98L);
         builder.addRequest(now + 600, 1L);
@@ -135,27 +136,27 @@ public class TimeWindowStatisticsImplTest {
         builder.addRequest(now + 5300, 8L);
         builder.addRequest(now + 5600, 50L);
 
-        check(builder, now + 6001, 7, 4, 92, 48, 2.333333);
+        check(builder, now + 6001, 7, 4, 92, 48, 2.591633);
     }
 
     @Test
     public void testLongPause() {
         final long now = 0;
         final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(60, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(60, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
         builder.addRequest(now, 99L);
         final long time = now + 1000 * 60 * 60 * 23;
         builder.addRequest(time, 95L);
         builder.addRequest(time + 5, 5L);
-        check(builder, time + 20000, 2, 5, 95, 50, 0.03333);
+        check(builder, time + 20000, 2, 5, 95, 50, 0.035714);
     }
 
     @Test
     public void testMultipleRequestsAtTheSameTime() {
         final long now = 0;
         final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
-        // put multiple requests at the beginning so that even the COLLISION_BUFFER bounds is tested
+                new HistogramTimeReservoir(1, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
+        // put multiple requests at the beginning
         builder.addRequest(now, 10L);
         builder.addRequest(now, 20L);
         builder.addRequest(now, 30L);
@@ -170,42 +171,35 @@ public class TimeWindowStatisticsImplTest {
         // put multiple requests at the end of the window
         builder.addRequest(now + 1000, 80L);
         builder.addRequest(now + 1000, 90L);
-        check(builder, now + 1000, 9, 10, 90, 50, 9);
-
-        // at 'now + 1001' all the requests from 'now' should be gone
-        check(builder, now + 1001, 5, 50, 90, 70, 5);
+        // at 'now + 1000' all the requests from the first slot of the window, 'now' and 'now + 1', are gone
+        check(builder, now + 1000, 4, 60, 90, 75, 4.444444);
+        check(builder, now + 1001, 4, 60, 90, 75, 4.439512);
     }
 
     @Test
     public void testExhaustiveRequestsAtTheSameTime() {
         final long now = 0;
         final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
-        // put multiple requests at the beginning so that even the COLLISION_BUFFER bounds is tested
-        for (int i = 0; i < ReservoirConstants.COLLISION_BUFFER; ++i) {
+                new HistogramTimeReservoir(1, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
+        // the histogram counts any number of requests at the same time
+        for (int i = 0; i < 1000; ++i) {
             builder.addRequest(now, 10L);
         }
-        // add one more request which should be visible at 'now + 1001'
         builder.addRequest(now + 1, 10L);
 
         // put multiple requests in the middle of the window
-        for (int i = 0; i < ReservoirConstants.COLLISION_BUFFER; ++i) {
+        for (int i = 0; i < 1000; ++i) {
             builder.addRequest(now + 500, 10L);
         }
-        check(builder, now + 500, ReservoirConstants.COLLISION_BUFFER * 2 + 1, 10, 10, 10, ReservoirConstants.COLLISION_BUFFER * 2 * 2 + 1 * 2);
+        check(builder, now + 500, 2001, 10, 10, 10, 4002);
 
         // put multiple requests at the end of the window
-        for (int i = 0; i < ReservoirConstants.COLLISION_BUFFER; ++i) {
+        for (int i = 0; i < 1000; ++i) {
             builder.addRequest(now + 1000, 10L);
         }
 
-        check(builder, now + 1000, ReservoirConstants.COLLISION_BUFFER * 3 + 1, 10, 10, 10, ReservoirConstants.COLLISION_BUFFER * 3 + 1);
-
-        // at 'now + 1001' all the requests from 'now' should be gone
-        check(builder, now + 1001, ReservoirConstants.COLLISION_BUFFER * 2 + 1, 10, 10, 10, ReservoirConstants.COLLISION_BUFFER * 2 + 1);
-
-        // at 'now + 1002' the one additional request we added is gone
-        check(builder, now + 1002, ReservoirConstants.COLLISION_BUFFER * 2, 10, 10, 10, ReservoirConstants.COLLISION_BUFFER * 2);
+        // at 'now + 1000' all the requests from the first slot of the window are gone
+        check(builder, now + 1000, 2000, 10, 10, 10, 2222.222222);
     }
 
     /**
@@ -215,7 +209,7 @@ public class TimeWindowStatisticsImplTest {
     public void testGapGreaterThanTimeWindowPause() {
         final long now = 0;
         final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(10, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(10, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS));
         builder.addRequest(now, 91L);
         builder.addRequest(now + 1000, 92L);
         builder.addRequest(now + 2000, 93L);
@@ -231,7 +225,7 @@ public class TimeWindowStatisticsImplTest {
         builder.addRequest(time + 1000, 95L);
         builder.addRequest(time + 2000, 96L);
 
-        check(builder, time + 3000, 3, 94, 96, 95, 0.3);
+        check(builder, time + 3000, 3, 94, 96, 95, 0.333296);
 
         // this line would pass before JERSEY-2848 was fixed; apparently, the values in this window became corrupted
         // check(builder, time + 3000, 5, 94, 96, 93, 0.5);
@@ -256,7 +250,7 @@ public class TimeWindowStatisticsImplTest {
     @Test
     public void testGeneric() {
         final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
-                new SlidingWindowTimeReservoir(10, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(10, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS));
         for (int i = 0; i < 100; i++) {
             final int requestTime = i * 10000;
             builder.addRequest(requestTime + 1, (long) i);
@@ -276,10 +270,9 @@ public class TimeWindowStatisticsImplTest {
     @Test
     public void testUnlimited() {
         final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
-                new UniformTimeReservoir(0, TimeUnit.MILLISECONDS));
+                new HistogramTimeReservoir(0, TimeUnit.MILLISECONDS));
 
         check(builder, 0, 0, 0, 0, 0, 0);
-        check(builder, 10000, 0, 0, 0, 0, 0);
 
         builder.addRequest(0, 10L);
 
@@ -291,10 +284,34 @@ public class TimeWindowStatisticsImplTest {
         builder.addRequest(5544 + 999, 60L);
         builder.addRequest(9998 + 1000, 50L);
 
-        check(builder, 10000, 6, 10, 60, 35, 0.6);
+        check(builder, 11000, 6, 10, 60, 35, 0.545454);
     }
 
-}
+    @Test
+    public void testPercentiles() {
+        final TimeWindowStatisticsImpl.Builder<Long> builder = new TimeWindowStatisticsImpl.Builder<>(
+                new HistogramTimeReservoir(10, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS));
 
+        assertEquals(-1, builder.build(0).getDurationPercentile(50));
 
+        for (int i = 1; i <= 1000; i++) {
+            builder.addRequest(i, (long) i);
+        }
+        check(builder, 1000, 1000, 1, 1000, 500, 1000);
+
+        final TimeWindowStatisticsImpl stat = builder.build(1000);
+        assertEquals(1, stat.getDurationPercentile(0));
+        assertPercentile(500, stat.getDurationPercentile(50));
+        assertPercentile(900, stat.getDurationPercentile(90));
+        assertPercentile(990, stat.getDurationPercentile(99));
+        assertPercentile(999, stat.getDurationPercentile(99.9));
+        assertEquals(1000, stat.getDurationPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> stat.getDurationPercentile(101));
+    }
 
+    private static void assertPercentile(final long expected, final long actual) {
+        // histogram reservoir reports values with a relative error lower than 1/8
+        assertTrue(actual >= expected && actual <= expected + expected / 8, "expected " + expected + " but was " + actual);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link HistogramTimeReservoir}.
+ */
+public class HistogramTimeReservoirTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void testBuckets() {
+        int previous = -1;
+        for (long value = 0; value < 100_000; value++) {
+            final int bucket = HistogramTimeReservoir.bucket(value);
+            // buckets are contiguous and the value is within the bucket
+            assertTrue(bucket == previous || bucket == previous + 1, "value " + value);
+            assertTrue(HistogramTimeReservoir.highestValue(bucket) >= value, "value " + value);
+            assertTrue(HistogramTimeReservoir.highestValue(bucket) - value
+                    <= value / HistogramTimeReservoir.SUB_BUCKETS, "value " + value);
+            previous = bucket;
+        }
+        assertEquals(HistogramTimeReservoir.BUCKETS - 1, HistogramTimeReservoir.bucket(HistogramTimeReservoir.MAX_VALUE));
+        assertEquals(HistogramTimeReservoir.BUCKETS - 1, HistogramTimeReservoir.bucket(Long.MAX_VALUE));
+        assertEquals(HistogramTimeReservoir.MAX_VALUE,
+                HistogramTimeReservoir.highestValue(HistogramTimeReservoir.BUCKETS - 1));
+        assertEquals(0, HistogramTimeReservoir.bucket(-1));
+    }
+
+    @Test
+    public void testUnlimited() {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(0, TimeUnit.MILLISECONDS);
+        assertEquals(0, reservoir.interval(TimeUnit.MILLISECONDS));
+        assertEquals(0, reservoir.getSnapshot(1000, TimeUnit.MILLISECONDS).size());
+
+        for (long i = 1; i <= 1000; i++) {
+            reservoir.update(i, i * 10, TimeUnit.MILLISECONDS);
+        }
+
+        final UniformTimeSnapshot snapshot = reservoir.getSnapshot(10_000, TimeUnit.MILLISECONDS);
+        assertEquals(1000, snapshot.size());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500.5, snapshot.getMean(), DELTA);
+        assertEquals(100, snapshot.getRate(TimeUnit.SECONDS), DELTA);
+
+        assertEquals(1, snapshot.getValue(0), DELTA);
+        assertEquals(1000, snapshot.getValue(1), DELTA);
+        assertValue(500, snapshot.getValue(0.5));
+        assertValue(900, snapshot.getValue(0.9));
+        assertValue(990, snapshot.getValue(0.99));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValue(1.5));
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(1, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+        assertEquals(1000, reservoir.interval(TimeUnit.MILLISECONDS));
+
+        reservoir.update(10L, 0, TimeUnit.MILLISECONDS);
+        reservoir.update(12L, 500, TimeUnit.MILLISECONDS);
+        reservoir.update(14L, 999, TimeUnit.MILLISECONDS);
+
+        UniformTimeSnapshot snapshot = reservoir.getSnapshot(999, TimeUnit.MILLISECONDS);
+        assertEquals(3, snapshot.size());
+        assertEquals(10, snapshot.getMin());
+        assertEquals(14, snapshot.getMax());
+        assertEquals(12, snapshot.getValue(0.5), DELTA);
+
+        // the window slides by slots of 100 ms, the first slot drops out
+        snapshot = reservoir.getSnapshot(1000, TimeUnit.MILLISECONDS);
+        assertEquals(2, snapshot.size());
+        assertEquals(12, snapshot.getMin());
+        assertEquals(2, reservoir.size(1000, TimeUnit.MILLISECONDS));
+
+        // a value older than the window is thrown away
+        reservoir.update(5L, 50, TimeUnit.MILLISECONDS);
+        assertEquals(2, reservoir.getSnapshot(1000, TimeUnit.MILLISECONDS).size());
+
+        // a value in past within the window is recorded
+        reservoir.update(15L, 600, TimeUnit.MILLISECONDS);
+        snapshot = reservoir.getSnapshot(1000, TimeUnit.MILLISECONDS);
+        assertEquals(3, snapshot.size());
+        assertEquals(15, snapshot.getMax());
+
+        // after a long pause, all the slots are out of the window
+        snapshot = reservoir.getSnapshot(5000, TimeUnit.MILLISECONDS);
+        assertEquals(0, snapshot.size());
+
+        // a slot reused for a newer time does not keep the old values
+        reservoir.update(13L, 5050, TimeUnit.MILLISECONDS);
+        snapshot = reservoir.getSnapshot(5100, TimeUnit.MILLISECONDS);
+        assertEquals(1, snapshot.size());
+        assertEquals(13, snapshot.getMin());
+        assertEquals(13, snapshot.getMax());
+    }
+
+    @Test
+    public void testRate() {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(10, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 10; i++) {
+            reservoir.update(1L, i * 500, TimeUnit.MILLISECONDS);
+        }
+        // unfinished window: 10 values in 5 seconds
+        assertEquals(2, reservoir.getSnapshot(5000, TimeUnit.MILLISECONDS).getRate(TimeUnit.SECONDS), DELTA);
+
+        for (int i = 10; i < 40; i++) {
+            reservoir.update(1L, i * 500, TimeUnit.MILLISECONDS);
+        }
+        // the window covers the slots since 10 s, i.e. 20 values in 10 seconds
+        assertEquals(2, reservoir.getSnapshot(19_999, TimeUnit.MILLISECONDS).getRate(TimeUnit.SECONDS), 0.1);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        final HistogramTimeReservoir reservoir = new HistogramTimeReservoir(1, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final long value = i + 1;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    reservoir.update(value, j % 1000, TimeUnit.MILLISECONDS);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // the values recorded by all the threads are merged
+        final UniformTimeSnapshot snapshot = reservoir.getSnapshot(999, TimeUnit.MILLISECONDS);
+        assertEquals(80_000, snapshot.size());
+        assertEquals(80_000, reservoir.size(999, TimeUnit.MILLISECONDS));
+        assertEquals(1, snapshot.getMin());
+        assertEquals(8, snapshot.getMax());
+        assertEquals(4.5, snapshot.getMean(), DELTA);
+    }
+
+    private static void assertValue(final long expected, final double actual) {
+        // the value is the highest value of its bucket
+        assertTrue(actual >= expected && actual <= expected + expected / HistogramTimeReservoir.SUB_BUCKETS,
+                "expected " + expected + " but was " + actual);
+    }
+}
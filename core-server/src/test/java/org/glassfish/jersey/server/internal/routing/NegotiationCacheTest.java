@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests caching of the content negotiation decisions in {@link MethodSelectingRouter}.
+ */
+public class NegotiationCacheTest {
+
+    @Path("negotiation")
+    public static class Resource {
+
+        @GET
+        @Produces("text/plain")
+        public String getText() {
+            return "text";
+        }
+
+        @GET
+        @Produces("application/xml")
+        public String getXml() {
+            return "<xml/>";
+        }
+
+        @POST
+        @Consumes("text/plain")
+        @Produces("text/plain")
+        public String postText(final String entity) {
+            return "text:" + entity;
+        }
+
+        @POST
+        @Consumes("application/xml")
+        @Produces("text/plain")
+        public String postXml(final String entity) {
+            return "xml:" + entity;
+        }
+    }
+
+    private static final List<String[]> REQUESTS = Arrays.asList(
+            new String[] {"GET", null, null},
+            new String[] {"GET", null, "text/plain"},
+            new String[] {"GET", null, "application/xml"},
+            new String[] {"GET", null, "application/xml;q=0.5, text/plain"},
+            new String[] {"GET", null, "image/png"},
+            new String[] {"POST", "text/plain", "*/*"},
+            new String[] {"POST", "application/xml", null},
+            new String[] {"POST", "image/png", null},
+            new String[] {"PUT", "text/plain", null}
+    );
+
+    private static ApplicationHandler createApplication(final int cacheSize) {
+        return new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.ROUTING_NEGOTIATION_CACHE_SIZE, cacheSize));
+    }
+
+    private static ContainerResponse apply(final ApplicationHandler handler, final String[] request) throws Exception {
+        final RequestContextBuilder builder = RequestContextBuilder.from("/negotiation", request[0]);
+        if (request[1] != null) {
+            builder.type(request[1]).entity("e");
+        }
+        if (request[2] != null) {
+            builder.header(HttpHeaders.ACCEPT, request[2]);
+        }
+        final ContainerRequest containerRequest = builder.build();
+        return handler.apply(containerRequest).get();
+    }
+
+    private static NegotiationStatistics statistics(final ApplicationHandler handler) {
+        return handler.getInjectionManager().getInstance(NegotiationStatistics.class);
+    }
+
+    @Test
+    public void testCachedDecisionsMatchNegotiatedOnes() throws Exception {
+        final ApplicationHandler uncached = createApplication(0);
+        final ApplicationHandler cached = createApplication(16);
+
+        for (int i = 0; i < 3; i++) {
+            for (final String[] request : REQUESTS) {
+                final ContainerResponse expected = apply(uncached, request);
+                final ContainerResponse actual = apply(cached, request);
+
+                final String message = Arrays.toString(request);
+                assertThat(message, actual.getStatus(), is(expected.getStatus()));
+                assertThat(message, actual.getMediaType(), is(expected.getMediaType()));
+                assertThat(message, actual.getEntity(), is(expected.getEntity()));
+            }
+        }
+
+        assertThat(statistics(uncached).getHitCount(), is(0L));
+        assertThat(statistics(uncached).getMissCount(), is(0L));
+    }
+
+    @Test
+    public void testRepeatedRequestsHitCache() throws Exception {
+        final ApplicationHandler handler = createApplication(16);
+        final String[] request = {"GET", null, "application/xml"};
+
+        for (int i = 0; i < 5; i++) {
+            final ContainerResponse response = apply(handler, request);
+            assertThat(response.getStatus(), is(200));
+            assertThat(response.getMediaType(), is(MediaType.APPLICATION_XML_TYPE));
+        }
+
+        assertThat(statistics(handler).getMissCount(), is(1L));
+        assertThat(statistics(handler).getHitCount(), is(4L));
+
+        final ContainerResponse response = apply(handler, new String[] {"GET", null, "text/plain"});
+        assertThat(response.getEntity(), is("text"));
+        assertThat(statistics(handler).getMissCount(), is(2L));
+    }
+
+    @Test
+    public void testFailedNegotiationIsNotCached() throws Exception {
+        final ApplicationHandler handler = createApplication(16);
+        final String[] request = {"GET", null, "image/png"};
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(apply(handler, request).getStatus(), is(406));
+        }
+
+        assertThat(statistics(handler).getHitCount(), is(0L));
+        assertThat(statistics(handler).getMissCount(), is(3L));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.uri.PathPattern;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the prefix index used by {@link PathMatchingRouter} when
+ * {@link ServerProperties#ROUTING_PREFIX_INDEX_ENABLED} is set.
+ */
+public class PathPrefixIndexTest {
+
+    @Test
+    public void testLiteralPrefix() {
+        assertThat(PathPrefixIndex.literalPrefix(new PathPattern("foo/bar").getRegex()), is("/foo/bar"));
+        assertThat(PathPrefixIndex.literalPrefix(new PathPattern("foo/{id}").getRegex()), is("/foo/"));
+        assertThat(PathPrefixIndex.literalPrefix(new PathPattern("foo/{id: \\d+}").getRegex()), is("/foo/"));
+        assertThat(PathPrefixIndex.literalPrefix(new PathPattern("foo.bar-baz").getRegex()), is("/foo.bar-baz"));
+        assertThat(PathPrefixIndex.literalPrefix(PathPattern.asClosed(new PathPattern("foo/")).getRegex()), is("/foo"));
+        assertThat(PathPrefixIndex.literalPrefix(PathPattern.END_OF_PATH_PATTERN.getRegex()), is(""));
+        assertThat(PathPrefixIndex.literalPrefix(PathPattern.OPEN_ROOT_PATH_PATTERN.getRegex()), is(""));
+        assertThat(PathPrefixIndex.literalPrefix(PathPattern.EMPTY_PATTERN.getRegex()), is(""));
+        assertThat(PathPrefixIndex.literalPrefix("ab*c"), is("a"));
+        assertThat(PathPrefixIndex.literalPrefix("ab+c"), is("ab"));
+        assertThat(PathPrefixIndex.literalPrefix("a\\.?b"), is("a"));
+        assertThat(PathPrefixIndex.literalPrefix("a\\d"), is("a"));
+    }
+
+    @Test
+    public void testCandidatesKeepOrder() {
+        final List<Route> routes = new ArrayList<>();
+        for (final String template : Arrays.asList("foo/bar", "{x}", "foo/{id}", "baz", "foo")) {
+            routes.add(Route.of(new PathPattern(template), Collections.emptyList()));
+        }
+        final PathPrefixIndex index = PathPrefixIndex.of(routes);
+
+        assertThat(index.candidates("/foo/bar/x"), is(bits(0, 1, 2, 4)));
+        assertThat(index.candidates("/foo/1"), is(bits(1, 2, 4)));
+        assertThat(index.candidates("/baz"), is(bits(1, 3)));
+        assertThat(index.candidates(""), is(bits()));
+    }
+
+    private static BitSet bits(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+
+    @Path("items")
+    public static class ItemsResource {
+
+        @GET
+        public String list() {
+            return "list";
+        }
+
+        @GET
+        @Path("special")
+        public String special() {
+            return "special";
+        }
+
+        @GET
+        @Path("{id}")
+        public String item(@PathParam("id") final String id) {
+            return "item-" + id;
+        }
+
+        @Path("{id}/sub")
+        public SubResource sub() {
+            return new SubResource();
+        }
+    }
+
+    @Path("{any}")
+    public static class AnyResource {
+
+        @POST
+        public String post(@PathParam("any") final String any) {
+            return "any-" + any;
+        }
+    }
+
+    @Path("items-archive")
+    public static class ArchiveResource {
+
+        @GET
+        public String get() {
+            return "archive";
+        }
+    }
+
+    public static class SubResource {
+
+        @GET
+        public String get() {
+            return "sub";
+        }
+    }
+
+    private static String get(final ApplicationHandler handler, final String method, final String path)
+            throws ExecutionException, InterruptedException {
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from(path, method).build()).get();
+        return response.getStatus() + ":" + response.getEntity();
+    }
+
+    @Test
+    public void testMatchingIsSameAsWithoutIndex() throws Exception {
+        final ApplicationHandler plain = new ApplicationHandler(
+                new ResourceConfig(ItemsResource.class, AnyResource.class, ArchiveResource.class));
+        final ApplicationHandler indexed = new ApplicationHandler(
+                new ResourceConfig(ItemsResource.class, AnyResource.class, ArchiveResource.class)
+                        .property(ServerProperties.ROUTING_PREFIX_INDEX_ENABLED, true));
+
+        for (final String method : Arrays.asList("GET", "POST")) {
+            for (final String path : Arrays.asList("/items", "/items/", "/items/special", "/items/1", "/items/1/sub",
+                    "/items-archive", "/other", "/items/1/2")) {
+                assertThat(method + " " + path, get(indexed, method, path), is(get(plain, method, path)));
+            }
+        }
+
+        assertThat(get(indexed, "GET", "/items/special"), is("200:special"));
+        assertThat(get(indexed, "GET", "/items/1/sub"), is("200:sub"));
+        assertThat(get(indexed, "GET", "/items-archive"), is("200:archive"));
+        assertThat(get(indexed, "POST", "/other"), is("200:any-other"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link ComponentIndex}.
+ */
+public class ComponentIndexTest {
+
+    public static class Indexed {
+    }
+
+    @javax.ws.rs.Path("scanned")
+    public static class Scanned {
+    }
+
+    private static ClassLoader classLoader(final List<String> index) throws IOException {
+        final Path root = Files.createTempDirectory("jersey-index");
+        final Path file = root.resolve(ComponentIndex.INDEX);
+        Files.createDirectories(file.getParent());
+        Files.write(file, index);
+        // the package of the test in the indexed root, a class file the scanner would fail to parse
+        final Path scanning = root.resolve(ComponentIndexTest.class.getPackage().getName().replace('.', '/'));
+        Files.createDirectories(scanning);
+        Files.write(scanning.resolve("Broken.class"), new byte[] {0, 1, 2, 3});
+        return new URLClassLoader(new URL[] {root.toUri().toURL()}, ComponentIndexTest.class.getClassLoader());
+    }
+
+    @Test
+    public void testNoIndex() throws IOException {
+        assertNull(ComponentIndex.load(new URLClassLoader(new URL[0], null)));
+    }
+
+    @Test
+    public void testPackages() throws IOException {
+        final ComponentIndex index = ComponentIndex.load(classLoader(Arrays.asList(
+                "# comment",
+                Indexed.class.getName(),
+                ResourceConfig.class.getName())));
+
+        final String scanning = ComponentIndexTest.class.getPackage().getName();
+        assertEquals(Collections.singleton(Indexed.class), index.getClasses(new String[] {scanning}, false));
+        assertEquals(Collections.emptySet(), index.getClasses(new String[] {"org.glassfish.jersey.server.internal"}, false));
+        assertEquals(new HashSet<>(Arrays.asList(Indexed.class, ResourceConfig.class)),
+                index.getClasses(new String[] {"org.glassfish.jersey.server"}, true));
+        // a package name prefix is not a parent package
+        assertEquals(Collections.emptySet(), index.getClasses(new String[] {"org.glassfish.jersey.serv"}, true));
+        assertEquals(2, index.getClasses(new String[] {""}, true).size());
+    }
+
+    @Test
+    public void testResourceConfig() throws IOException {
+        final ResourceConfig config = new ResourceConfig()
+                .property(ServerProperties.PROVIDER_PACKAGES, ComponentIndexTest.class.getPackage().getName())
+                .property(ServerProperties.PROVIDER_SCANNING_INDEX, true);
+        config.setClassLoader(classLoader(Collections.singletonList(Indexed.class.getName())));
+
+        // the indexed root is not scanned and its indexed classes are returned even though they are not annotated,
+        // the root of the test classes has no index and is scanned
+        assertEquals(new HashSet<>(Arrays.asList(Indexed.class, Scanned.class)), config.getClasses());
+    }
+
+    @Test
+    public void testIndexedRootsSkipped() throws IOException {
+        final ClassLoader classLoader = classLoader(Collections.singletonList(Indexed.class.getName()));
+        final ComponentIndex index = ComponentIndex.load(classLoader);
+        final String[] packages = {ComponentIndexTest.class.getPackage().getName()};
+
+        final PackageNamesScanner scanner = new PackageNamesScanner(classLoader, packages, false, index);
+        final List<String> scanned = new ArrayList<>();
+        while (scanner.hasNext()) {
+            scanned.add(scanner.next());
+        }
+        assertFalse(scanned.contains("Broken.class"));
+        assertTrue(scanned.contains(ComponentIndexTest.class.getSimpleName() + ".class"));
+    }
+}
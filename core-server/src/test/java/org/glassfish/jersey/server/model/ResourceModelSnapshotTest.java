@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link ResourceModelSnapshot}.
+ */
+public class ResourceModelSnapshotTest {
+
+    @javax.ws.rs.Path("snapshot")
+    public static class SnapshotResource {
+
+        private String query;
+
+        @QueryParam("q")
+        public void setQuery(final String query) {
+            this.query = query;
+        }
+
+        @GET
+        public String get() {
+            return "get:" + query;
+        }
+
+        @GET
+        @javax.ws.rs.Path("child/{id}")
+        @Produces("text/plain")
+        public String getChild(@javax.ws.rs.PathParam("id") final int id) {
+            return "child:" + id;
+        }
+
+        @javax.ws.rs.Path("locator")
+        public SubResource locator() {
+            return new SubResource();
+        }
+
+        public String helper() {
+            return "helper";
+        }
+    }
+
+    public static class SubResource {
+
+        @GET
+        public String get() {
+            return "sub";
+        }
+    }
+
+    public static class Filter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) {
+        }
+    }
+
+    private static String describe(final Resource resource) {
+        final StringBuilder sb = new StringBuilder(String.valueOf(resource.getPath()));
+        for (final ResourceMethod method : resource.getAllMethods()) {
+            sb.append(' ').append(method.getType()).append(':').append(method.getHttpMethod())
+                    .append(':').append(method.getInvocable().getHandlingMethod().getName())
+                    .append(':').append(method.getProducedTypes())
+                    .append(':').append(method.getInvocable().getHandler().getParameters().size());
+        }
+        for (final Resource child : resource.getChildResources()) {
+            sb.append(" [").append(describe(child)).append(']');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testRestore() throws IOException {
+        final Path file = Files.createTempDirectory("jersey-snapshot").resolve("model.snapshot");
+
+        final ResourceModelSnapshot recording = ResourceModelSnapshot.create(file, "fingerprint");
+        final Resource introspected = recording.from(SnapshotResource.class, false);
+        assertNull(recording.from(Filter.class, false));
+        assertFalse(recording.isRestored());
+        recording.store();
+
+        assertNull(ResourceModelSnapshot.load(file, "other"));
+
+        final ResourceModelSnapshot snapshot = ResourceModelSnapshot.load(file, "fingerprint");
+        assertNotNull(snapshot);
+        assertTrue(snapshot.isRestored());
+        final Resource restored = snapshot.from(SnapshotResource.class, false);
+        assertNull(snapshot.from(Filter.class, false));
+        assertTrue(snapshot.isRestored());
+
+        assertEquals(describe(introspected), describe(restored));
+    }
+
+    @Test
+    public void testMissingFile() throws IOException {
+        final Path file = Files.createTempDirectory("jersey-snapshot").resolve("model.snapshot");
+        assertNull(ResourceModelSnapshot.load(file, "fingerprint"));
+    }
+
+    @Test
+    public void testCorruptedFile() throws IOException {
+        final Path file = Files.createTempDirectory("jersey-snapshot").resolve("model.snapshot");
+        final ResourceModelSnapshot recording = ResourceModelSnapshot.create(file, "fingerprint");
+        recording.from(SnapshotResource.class, false);
+        recording.store();
+        final byte[] stored = Files.readAllBytes(file);
+
+        // magic, format version and fingerprint precede the number of components
+        final int countOffset = 4 + 4 + 2 + "fingerprint".length();
+        final int methodsOffset = countOffset + 4 + 2 + SnapshotResource.class.getName().length();
+        final int signatureOffset = methodsOffset + 4;
+
+        assertNull(load(file, stored, countOffset, Integer.MAX_VALUE));
+        assertNull(load(file, stored, countOffset, -1));
+        assertNull(load(file, stored, methodsOffset, -2));
+        assertNull(load(file, stored, methodsOffset, Integer.MAX_VALUE));
+        assertNull(load(file, stored, signatureOffset, 0));
+
+        Files.write(file, Arrays.copyOf(stored, stored.length - 3));
+        assertNull(ResourceModelSnapshot.load(file, "fingerprint"));
+
+        Files.write(file, stored);
+        assertNotNull(ResourceModelSnapshot.load(file, "fingerprint"));
+    }
+
+    private static ResourceModelSnapshot load(final Path file, final byte[] stored, final int offset, final int value)
+            throws IOException {
+        final byte[] corrupted = stored.clone();
+        ByteBuffer.wrap(corrupted).putInt(offset, value);
+        Files.write(file, corrupted);
+        return ResourceModelSnapshot.load(file, "fingerprint");
+    }
+
+    @Test
+    public void testFingerprint() {
+        final String fingerprint = ResourceModelSnapshot.fingerprint(ResourceConfig.class,
+                Collections.singleton(SnapshotResource.class), Collections.singletonMap("property", "value"));
+        assertNotNull(fingerprint);
+        assertEquals(fingerprint, ResourceModelSnapshot.fingerprint(ResourceConfig.class,
+                Collections.singleton(SnapshotResource.class), Collections.singletonMap("property", "value")));
+        assertFalse(fingerprint.equals(ResourceModelSnapshot.fingerprint(ResourceConfig.class,
+                Collections.singleton(SnapshotResource.class), Collections.singletonMap("property", "other"))));
+        assertFalse(fingerprint.equals(ResourceModelSnapshot.fingerprint(ResourceConfig.class,
+                Collections.singleton(SubResource.class), Collections.singletonMap("property", "value"))));
+    }
+
+    @Test
+    public void testApplicationHandler() throws Exception {
+        final Path file = Files.createTempDirectory("jersey-snapshot").resolve("model.snapshot");
+
+        assertResponses(new ApplicationHandler(new ResourceConfig(SnapshotResource.class, Filter.class)
+                .property(ServerProperties.RESOURCE_MODEL_SNAPSHOT, file.toString())));
+        assertTrue(Files.isRegularFile(file));
+        final FileTime stored = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, stored);
+
+        // started from the snapshot, which is not written again
+        assertResponses(new ApplicationHandler(new ResourceConfig(SnapshotResource.class, Filter.class)
+                .property(ServerProperties.RESOURCE_MODEL_SNAPSHOT, file.toString())));
+        assertEquals(stored, Files.getLastModifiedTime(file));
+    }
+
+    private static void assertResponses(final ApplicationHandler handler) throws ExecutionException, InterruptedException {
+        assertEquals("get:x", response(handler, "/snapshot?q=x").getEntity());
+        assertEquals("child:42", response(handler, "/snapshot/child/42").getEntity());
+        assertEquals("sub", response(handler, "/snapshot/locator").getEntity());
+    }
+
+    private static ContainerResponse response(final ApplicationHandler handler, final String uri)
+            throws ExecutionException, InterruptedException {
+        return handler.apply(RequestContextBuilder.from(uri, "GET").build()).get();
+    }
+}
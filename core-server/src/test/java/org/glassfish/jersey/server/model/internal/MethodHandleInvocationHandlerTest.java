@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests resource method dispatching using {@link MethodHandleInvocationHandler}.
+ */
+public class MethodHandleInvocationHandlerTest {
+
+    public static class Target {
+
+        public String concat(final String a, final int b) {
+            return a + b;
+        }
+
+        public void nothing() {
+        }
+
+        public static String twice(final String a) {
+            return a + a;
+        }
+
+        public String fail() {
+            throw new IllegalStateException("fail");
+        }
+    }
+
+    @Test
+    public void testInvoke() throws Throwable {
+        final Method concat = Target.class.getMethod("concat", String.class, int.class);
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(concat);
+
+        assertThat(handler.invoke(new Target(), concat, new Object[] {"a", 1}), is("a1"));
+    }
+
+    @Test
+    public void testInvokeVoidAndStatic() throws Throwable {
+        final Method nothing = Target.class.getMethod("nothing");
+        assertThat(MethodHandleInvocationHandler.create(nothing).invoke(new Target(), nothing, null), nullValue());
+
+        final Method twice = Target.class.getMethod("twice", String.class);
+        assertThat(MethodHandleInvocationHandler.create(twice).invoke(null, twice, new Object[] {"a"}), is("aa"));
+    }
+
+    @Test
+    public void testExceptionIsWrapped() throws Throwable {
+        final Method fail = Target.class.getMethod("fail");
+        final InvocationHandler handler = MethodHandleInvocationHandler.create(fail);
+
+        final InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> handler.invoke(new Target(), fail, new Object[0]));
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    @Path("dispatch")
+    public static class Resource {
+
+        @GET
+        public String get(@QueryParam("q") final String q) {
+            if ("missing".equals(q)) {
+                throw new NotFoundException();
+            }
+            if ("fail".equals(q)) {
+                throw new IllegalStateException(q);
+            }
+            return "get-" + q;
+        }
+    }
+
+    public static class IllegalStateMapper implements ExceptionMapper<IllegalStateException> {
+
+        @Override
+        public Response toResponse(final IllegalStateException exception) {
+            return Response.status(409).entity(exception.getMessage()).build();
+        }
+    }
+
+    @Test
+    public void testDispatch() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class, IllegalStateMapper.class)
+                .property(ServerProperties.METHOD_HANDLE_DISPATCH_ENABLED, true));
+
+        ContainerResponse response = handler.apply(RequestContextBuilder.from("/dispatch?q=a", "GET").build()).get();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getEntity(), is("get-a"));
+
+        response = handler.apply(RequestContextBuilder.from("/dispatch?q=missing", "GET").build()).get();
+        assertThat(response.getStatus(), is(404));
+
+        response = handler.apply(RequestContextBuilder.from("/dispatch?q=fail", "GET").build()).get();
+        assertThat(response.getStatus(), is(409));
+        assertThat(response.getEntity(), is("fail"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.glassfish.jersey.internal.Errors;
+import org.glassfish.jersey.internal.util.Producer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link ModelErrors#invokeAll(int, List)}.
+ */
+public class ModelErrorsTest {
+
+    private static final int TASKS = 50;
+
+    private static List<Producer<Integer>> tasks(final Set<Thread> threads) {
+        final List<Producer<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                threads.add(Thread.currentThread());
+                // later tasks finish first
+                try {
+                    Thread.sleep(TASKS - index);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                Errors.warning(index, "warning " + index);
+                return index;
+            });
+        }
+        return tasks;
+    }
+
+    private static List<String> invokeAll(final int parallelism, final List<Integer> results, final Set<Thread> threads) {
+        return Errors.process((Producer<List<String>>) () -> {
+            results.addAll(ModelErrors.invokeAll(parallelism, tasks(threads)));
+            return Errors.getErrorMessages().stream().map(Errors.ErrorMessage::getMessage).collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    public void testParallelResultsAndErrorsInOrder() {
+        final List<Integer> sequentialResults = new ArrayList<>();
+        final List<String> sequentialMessages = invokeAll(1, sequentialResults, ConcurrentHashMap.newKeySet());
+
+        final List<Integer> parallelResults = new ArrayList<>();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final List<String> parallelMessages = invokeAll(4, parallelResults, threads);
+
+        assertEquals(TASKS, sequentialMessages.size());
+        assertEquals(sequentialResults, parallelResults);
+        assertEquals(sequentialMessages, parallelMessages);
+        assertTrue(threads.size() > 1, "Tasks were not invoked in parallel.");
+    }
+
+    @Test
+    public void testFirstFailureRethrown() {
+        final List<Producer<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                if (index % 10 == 3) {
+                    throw new IllegalStateException("failure " + index);
+                }
+                Errors.warning(index, "warning " + index);
+                return index;
+            });
+        }
+
+        final List<String> messages = new ArrayList<>();
+        final IllegalStateException failure = assertThrows(IllegalStateException.class, () -> Errors.process(() -> {
+            try {
+                ModelErrors.invokeAll(4, tasks);
+            } finally {
+                for (final Errors.ErrorMessage message : Errors.getErrorMessages()) {
+                    messages.add(message.getMessage());
+                }
+            }
+        }));
+
+        assertEquals("failure 3", failure.getMessage());
+        // only the messages of the tasks preceding the failed one are reported, as in a sequential run
+        assertEquals(3, messages.size());
+        assertEquals("warning 2", messages.get(2));
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.index.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating the indexes of the resource and provider classes and of the service providers of
+ * the compiled module.
+ * <p>
+ * The processor writes two files to the class output:
+ * </p>
+ * <ul>
+ *     <li>{@value #COMPONENTS} with the binary names of the public (and static, if nested) classes annotated with
+ *     {@code javax.ws.rs.Path} or {@code javax.ws.rs.ext.Provider}, one per line. The index is used instead of
+ *     package scanning when {@code jersey.config.server.provider.scanning.index} is enabled.</li>
+ *     <li>{@value #SERVICES} with a {@code service=provider} line for every provider listed in the
+ *     {@code META-INF/services} files of the class output, for the services implemented by the compiled classes. The
+ *     index is used instead of parsing the files when the {@code jersey.config.services.index} system property is
+ *     enabled.</li>
+ * </ul>
+ * <p>
+ * The processor does not claim any annotation. The entries of the previous indexes are kept for the classes that were
+ * not compiled again, so that the indexes stay complete in incremental builds.
+ * </p>
+ *
+ * @since 2.47
+ */
+@SupportedAnnotationTypes("*")
+public final class JerseyIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the component index.
+     */
+    static final String COMPONENTS = "META-INF/jersey/components.idx";
+
+    /**
+     * Location of the service index.
+     */
+    static final String SERVICES = "META-INF/jersey/services.idx";
+
+    private static final String SERVICE_FILES = "META-INF/services/";
+    private static final Set<String> COMPONENT_ANNOTATIONS = new HashSet<>();
+
+    static {
+        COMPONENT_ANNOTATIONS.add("javax.ws.rs.Path");
+        COMPONENT_ANNOTATIONS.add("javax.ws.rs.ext.Provider");
+    }
+
+    private final Set<String> components = new TreeSet<>();
+    private final Set<String> compiled = new HashSet<>();
+    private final Set<String> services = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                process((TypeElement) element);
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            try {
+                writeComponents();
+                writeServices();
+            } catch (final IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to write the Jersey index: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private void process(final TypeElement type) {
+        final String name = binaryName(type);
+        compiled.add(name);
+        if (isComponent(type)) {
+            components.add(name);
+        }
+        if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.ENUM) {
+            addServices(type.asType());
+        }
+
+        for (final Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement) {
+                process((TypeElement) enclosed);
+            }
+        }
+    }
+
+    private static boolean isComponent(final TypeElement type) {
+        // the same classes as found by AnnotationAcceptingListener
+        if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        if (type.getEnclosingElement().getKind() != ElementKind.PACKAGE && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (final AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (COMPONENT_ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remember the super types of a compiled class, the services it may be a provider of.
+     */
+    private void addServices(final TypeMirror type) {
+        for (final TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype.getKind() == TypeKind.DECLARED) {
+                final TypeElement element = (TypeElement) ((DeclaredType) supertype).asElement();
+                if (services.add(binaryName(element))) {
+                    addServices(supertype);
+                }
+            }
+        }
+    }
+
+    private void writeComponents() throws IOException {
+        final Set<String> index = new TreeSet<>(components);
+        for (final String name : readLines(COMPONENTS)) {
+            // keep the classes of the previous build that were not compiled again
+            if (!compiled.contains(name) && exists(name)) {
+                index.add(name);
+            }
+        }
+        write(COMPONENTS, index);
+    }
+
+    private void writeServices() throws IOException {
+        final Set<String> serviceNames = new TreeSet<>(services);
+        for (final String line : readLines(SERVICES)) {
+            final int separator = line.indexOf('=');
+            if (separator > 0) {
+                serviceNames.add(line.substring(0, separator));
+            }
+        }
+
+        final Map<String, List<String>> providers = new TreeMap<>();
+        for (final String service : serviceNames) {
+            final List<String> names = readLines(SERVICE_FILES + service);
+            if (!names.isEmpty()) {
+                providers.put(service, names);
+            }
+        }
+
+        final List<String> index = new ArrayList<>();
+        for (final Map.Entry<String, List<String>> entry : providers.entrySet()) {
+            for (final String provider : entry.getValue()) {
+                index.add(entry.getKey() + "=" + provider);
+            }
+        }
+        write(SERVICES, index);
+    }
+
+    private boolean exists(final String binaryName) {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+
+    private String binaryName(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * Read the entries of a class output file in the {@code META-INF/services} format.
+     *
+     * @return entries of the file, empty if the file does not exist.
+     */
+    private List<String> readLines(final String name) {
+        final List<String> lines = new ArrayList<>();
+        try {
+            final FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", name);
+            try (InputStream in = file.openInputStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final int comment = line.indexOf('#');
+                    if (comment >= 0) {
+                        line = line.substring(0, comment);
+                    }
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        lines.add(line);
+                    }
+                }
+            }
+        } catch (final IOException | IllegalArgumentException e) {
+            // the file does not exist
+        }
+        return lines;
+    }
+
+    private void write(final String name, final Iterable<String> lines) throws IOException {
+        final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name);
+        try (OutputStream out = file.openOutputStream();
+             Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            for (final String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+    }
+}
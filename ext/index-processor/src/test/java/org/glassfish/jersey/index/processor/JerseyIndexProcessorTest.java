@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.index.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the indexes generated by {@link JerseyIndexProcessor}.
+ */
+public class JerseyIndexProcessorTest {
+
+    private static final String RESOURCE = "package a; @javax.ws.rs.Path(\"a\") public class Resource {}";
+    private static final String HOLDER = "package a.b; public class Holder {"
+            + " @javax.ws.rs.ext.Provider public static class Nested {}"
+            + " @javax.ws.rs.ext.Provider public class Inner {}"
+            + " @javax.ws.rs.Path(\"private\") static class Hidden {} }";
+    private static final String PACKAGE_PRIVATE = "package a; @javax.ws.rs.Path(\"b\") class PackagePrivate {}";
+    private static final String SERVICE = "package a; public interface Service {}";
+    private static final String SERVICE_IMPL = "package a; public class ServiceImpl implements Service {}";
+
+    @Test
+    public void testComponents() throws IOException {
+        final Path output = Files.createTempDirectory("jersey-index");
+
+        compile(output, source("a.Resource", RESOURCE), source("a.b.Holder", HOLDER),
+                source("a.PackagePrivate", PACKAGE_PRIVATE));
+
+        assertEquals(Arrays.asList("a.Resource", "a.b.Holder$Nested"), read(output, JerseyIndexProcessor.COMPONENTS));
+        assertEquals(Collections.emptyList(), read(output, JerseyIndexProcessor.SERVICES));
+    }
+
+    @Test
+    public void testServices() throws IOException {
+        final Path output = Files.createTempDirectory("jersey-index");
+        final Path services = output.resolve("META-INF/services");
+        Files.createDirectories(services);
+        Files.write(services.resolve("a.Service"), Arrays.asList("# comment", "a.ServiceImpl", "a.Other"));
+        Files.write(services.resolve("a.Unrelated"), Collections.singletonList("a.ServiceImpl"));
+
+        compile(output, source("a.Service", SERVICE), source("a.ServiceImpl", SERVICE_IMPL));
+
+        assertEquals(Arrays.asList("a.Service=a.ServiceImpl", "a.Service=a.Other"),
+                read(output, JerseyIndexProcessor.SERVICES));
+    }
+
+    @Test
+    public void testIncrementalBuild() throws IOException {
+        final Path output = Files.createTempDirectory("jersey-index");
+
+        compile(output, source("a.Resource", RESOURCE), source("a.b.Holder", HOLDER));
+        // only the holder is compiled again, the resource is kept in the index
+        compile(output, source("a.b.Holder", HOLDER.replace("@javax.ws.rs.ext.Provider public static", "public static")));
+
+        assertEquals(Collections.singletonList("a.Resource"), read(output, JerseyIndexProcessor.COMPONENTS));
+    }
+
+    private static void compile(final Path output, final JavaFileObject... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final List<String> options = new ArrayList<>();
+        options.add("-d");
+        options.add(output.toString());
+        options.add("-classpath");
+        options.add(System.getProperty("java.class.path") + File.pathSeparator + output);
+
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new JerseyIndexProcessor()));
+        assertTrue(task.call(), "Compilation failed.");
+    }
+
+    private static List<String> read(final Path output, final String index) throws IOException {
+        return Files.readAllLines(output.resolve(index), StandardCharsets.UTF_8);
+    }
+
+    private static JavaFileObject source(final String className, final String content) {
+        final URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
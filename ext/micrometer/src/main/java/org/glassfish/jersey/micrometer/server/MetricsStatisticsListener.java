@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.micrometer.server;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
+import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
+import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
+import org.glassfish.jersey.server.monitoring.ResourceMethodStatistics;
+import org.glassfish.jersey.server.monitoring.ResourceStatistics;
+import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The Micrometer {@link MonitoringStatisticsListener} which publishes the percentiles of the resource method execution
+ * times calculated by Jersey monitoring statistics as gauges.
+ * <p>
+ * For every resource method and every configured percentile a gauge named {@code <metricName>.percentile} is registered,
+ * tagged with the HTTP method, the resource class, the Java method handling the requests, the simple names of its
+ * parameter types (e.g. {@code (String,int)}, so that overloaded methods are told apart) and the percentile. The gauges
+ * report the execution time in milliseconds at the percentile in the configured time window (1 minute by default).
+ * Jersey monitoring statistics have to be enabled, see {@code jersey.config.server.monitoring.statistics.enabled}.
+ * </p>
+ *
+ * @since 2.47
+ */
+public class MetricsStatisticsListener implements MonitoringStatisticsListener {
+
+    private static final double[] DEFAULT_PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * Sizes of the time windows of the Jersey execution statistics in milliseconds, {@code 0} stands for an unlimited window.
+     */
+    private static final Set<Long> TIME_WINDOWS = new TreeSet<>(Arrays.asList(
+            0L,
+            TimeUnit.SECONDS.toMillis(1),
+            TimeUnit.SECONDS.toMillis(15),
+            TimeUnit.MINUTES.toMillis(1),
+            TimeUnit.MINUTES.toMillis(15),
+            TimeUnit.HOURS.toMillis(1)));
+
+    private final MeterRegistry meterRegistry;
+
+    private final String metricName;
+
+    private final long timeWindow;
+
+    private final double[] percentiles;
+
+    private final Set<ResourceMethod> registered = ConcurrentHashMap.newKeySet();
+
+    private volatile Map<ResourceMethod, ExecutionStatistics> statistics = new HashMap<>();
+
+    /**
+     * Create a listener publishing the 50th, 90th, 99th and 99.9th percentiles in the last minute.
+     *
+     * @param registry   meter registry to register the gauges in.
+     * @param metricName name prefix of the gauges.
+     */
+    public MetricsStatisticsListener(MeterRegistry registry, String metricName) {
+        this(registry, metricName, 1, TimeUnit.MINUTES, DEFAULT_PERCENTILES);
+    }
+
+    /**
+     * Create a listener publishing the given percentiles in the given time window.
+     *
+     * @param registry       meter registry to register the gauges in.
+     * @param metricName     name prefix of the gauges.
+     * @param timeWindow     size of the time window, one of the windows of the Jersey execution statistics: 1 second,
+     *                       15 seconds, 1 minute, 15 minutes, 1 hour, or {@code 0} for the whole application lifetime.
+     * @param timeWindowUnit unit of {@code timeWindow}.
+     * @param percentiles    percentiles to be published, each in the {@code [0..100]} range.
+     * @throws IllegalArgumentException if the time window is not available in the execution statistics or a percentile
+     *                                  is out of range.
+     */
+    public MetricsStatisticsListener(MeterRegistry registry, String metricName, long timeWindow, TimeUnit timeWindowUnit,
+            double... percentiles) {
+        this.meterRegistry = requireNonNull(registry);
+        this.metricName = requireNonNull(metricName);
+        this.timeWindow = timeWindowUnit.toMillis(timeWindow);
+        if (!TIME_WINDOWS.contains(this.timeWindow)) {
+            throw new IllegalArgumentException("Unsupported time window: " + timeWindow + " " + timeWindowUnit
+                    + ", supported time windows in milliseconds are " + TIME_WINDOWS);
+        }
+        this.percentiles = percentiles.clone();
+        for (double percentile : percentiles) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException(percentile + " is not in [0..100] range");
+            }
+        }
+    }
+
+    @Override
+    public void onStatistics(MonitoringStatistics monitoringStatistics) {
+        final Map<ResourceMethod, ExecutionStatistics> methodStatistics = new HashMap<>();
+        for (ResourceStatistics resourceStatistics : monitoringStatistics.getResourceClassStatistics().values()) {
+            for (ResourceMethodStatistics stats : resourceStatistics.getResourceMethodStatistics().values()) {
+                methodStatistics.put(stats.getResourceMethod(), stats.getMethodStatistics());
+            }
+        }
+        this.statistics = methodStatistics;
+
+        for (ResourceMethod method : methodStatistics.keySet()) {
+            if (registered.add(method)) {
+                register(method);
+            }
+        }
+    }
+
+    private void register(ResourceMethod method) {
+        final Method handlingMethod = method.getInvocable().getHandlingMethod();
+        final Tags tags = Tags.of(
+                "method", String.valueOf(method.getHttpMethod()),
+                "class", handlingMethod.getDeclaringClass().getName(),
+                "handler", handlingMethod.getName(),
+                "parameters", Arrays.stream(handlingMethod.getParameterTypes())
+                        .map(Class::getSimpleName)
+                        .collect(Collectors.joining(",", "(", ")")));
+        for (double percentile : percentiles) {
+            Gauge.builder(metricName + ".percentile", this, listener -> listener.percentile(method, percentile))
+                .tags(tags)
+                // 99.9 / 100 is not exactly 0.999 in binary floating point
+                .tag("percentile", BigDecimal.valueOf(percentile).movePointLeft(2).stripTrailingZeros().toPlainString())
+                .baseUnit("milliseconds")
+                .strongReference(true)
+                .register(meterRegistry);
+        }
+    }
+
+    private double percentile(ResourceMethod method, double percentile) {
+        final ExecutionStatistics executionStatistics = statistics.get(method);
+        if (executionStatistics == null) {
+            return Double.NaN;
+        }
+        final TimeWindowStatistics windowStatistics = executionStatistics.getTimeWindowStatistics().get(timeWindow);
+        if (windowStatistics == null || windowStatistics.getRequestCount() == 0) {
+            return Double.NaN;
+        }
+        return windowStatistics.getDurationPercentile(percentile);
+    }
+
+}
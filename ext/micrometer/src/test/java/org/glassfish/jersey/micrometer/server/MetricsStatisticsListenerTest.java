@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.micrometer.server;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.Application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.glassfish.jersey.micrometer.server.resources.TestResource;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link MetricsStatisticsListener}.
+ */
+class MetricsStatisticsListenerTest extends JerseyTest {
+
+    private static final String METRIC_NAME = "http.server.executions";
+
+    private MeterRegistry registry;
+
+    @Override
+    protected Application configure() {
+        registry = new SimpleMeterRegistry();
+
+        final ResourceConfig config = new ResourceConfig();
+        config.register(new MetricsStatisticsListener(registry, METRIC_NAME, 1, TimeUnit.HOURS, 50, 99.9));
+        config.register(TestResource.class);
+        config.property(ServerProperties.MONITORING_STATISTICS_ENABLED, true);
+
+        return config;
+    }
+
+    @Test
+    void percentilesArePublished() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            target("/").request().get();
+        }
+
+        final Gauge median = awaitGauge("0.5");
+        assertThat(median.value()).isGreaterThanOrEqualTo(0);
+        assertThat(awaitGauge("0.999").value()).isGreaterThanOrEqualTo(median.value());
+        assertThat(median.getId().getBaseUnit()).isEqualTo("milliseconds");
+    }
+
+    @Test
+    void unsupportedTimeWindowIsRejected() {
+        assertThatThrownBy(() -> new MetricsStatisticsListener(registry, METRIC_NAME, 2, TimeUnit.MINUTES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void percentileOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new MetricsStatisticsListener(registry, METRIC_NAME, 1, TimeUnit.MINUTES, 100.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Gauge awaitGauge(String percentile) throws InterruptedException {
+        final Tags tags = Tags.of(
+                "method", "GET",
+                "class", TestResource.class.getName(),
+                "handler", "index",
+                "parameters", "()",
+                "percentile", percentile);
+        // the statistics are passed to the listener periodically
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            final Gauge gauge = registry.find(METRIC_NAME + ".percentile").tags(tags).gauge();
+            if (gauge != null && !Double.isNaN(gauge.value())) {
+                return gauge;
+            }
+            assertThat(System.currentTimeMillis()).as("gauge of the %s percentile", percentile).isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+}
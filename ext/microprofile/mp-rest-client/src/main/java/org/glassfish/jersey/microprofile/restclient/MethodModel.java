@@ -36,7 +36,6 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import javax.enterprise.inject.spi.BeanManager;
@@ -98,6 +97,17 @@ class MethodModel {
     private final List<ClientHeaderParamModel> clientHeaders;
     private final List<InterceptorInvocationContext.InvocationInterceptor> invocationInterceptors;
     private final RestClientModel subResourceModel;
+    // parameters by the annotation they handle, sorted out once rather than on every invocation
+    private final List<ParamModel> pathParamModels;
+    private final List<ParamModel> queryParamModels;
+    private final List<ParamModel> matrixParamModels;
+    private final List<ParamModel> headerParamModels;
+    private final List<ParamModel> cookieParamModels;
+    private final List<ParamModel> formParamModels;
+    private final ParamModel entityParam;
+    private final boolean async;
+    // instance of the interface that invokes default methods computing header values
+    private volatile Object defaultMethodTarget;
 
     /**
      * Processes interface method and creates new instance of the model.
@@ -121,6 +131,14 @@ class MethodModel {
         this.parameterModels = builder.parameterModels;
         this.clientHeaders = builder.clientHeaders;
         this.invocationInterceptors = builder.invocationInterceptors;
+        this.pathParamModels = paramsHandling(PathParam.class);
+        this.queryParamModels = paramsHandling(QueryParam.class);
+        this.matrixParamModels = paramsHandling(MatrixParam.class);
+        this.headerParamModels = paramsHandling(HeaderParam.class);
+        this.cookieParamModels = paramsHandling(CookieParam.class);
+        this.formParamModels = paramsHandling(FormParam.class);
+        this.entityParam = parameterModels.stream().filter(ParamModel::isEntity).findFirst().orElse(null);
+        this.async = CompletionStage.class.isAssignableFrom(method.getReturnType());
         if (httpMethod.isEmpty()) {
             subResourceModel = RestClientModel.from(RestClientContext.builder(returnType.getRawType())
                                                             .copyFrom(interfaceModel.context())
@@ -130,6 +148,12 @@ class MethodModel {
         }
     }
 
+    private List<ParamModel> paramsHandling(Class<? extends Annotation> annotation) {
+        return parameterModels.stream()
+                .filter(parameterModel -> parameterModel.handles(annotation))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns all registered cdi interceptors to this method.
      *
@@ -150,28 +174,17 @@ class MethodModel {
     @SuppressWarnings("unchecked")
     //I am checking the type of parameter and I know it should handle instance I am sending
     Object invokeMethod(WebTarget classLevelTarget, Method method, Object[] args) {
-        WebTarget methodLevelTarget = classLevelTarget.path(path);
-
-        AtomicReference<Object> entity = new AtomicReference<>();
-        AtomicReference<WebTarget> webTargetAtomicReference = new AtomicReference<>(methodLevelTarget);
-        parameterModels.stream()
-                .filter(parameterModel -> parameterModel.handles(PathParam.class))
-                .forEach(parameterModel ->
-                                 webTargetAtomicReference.set((WebTarget)
-                                                                      parameterModel
-                                                                              .handleParameter(webTargetAtomicReference.get(),
-                                                                                               PathParam.class,
-                                                                                               args[parameterModel
-                                                                                                       .getParamPosition()])));
-
-        parameterModels.stream()
-                .filter(ParamModel::isEntity)
-                .findFirst()
-                .ifPresent(parameterModel -> entity.set(args[parameterModel.getParamPosition()]));
+        WebTarget webTarget = classLevelTarget.path(path);
+        for (ParamModel parameterModel : pathParamModels) {
+            webTarget = (WebTarget) parameterModel.handleParameter(webTarget,
+                                                                   PathParam.class,
+                                                                   args[parameterModel.getParamPosition()]);
+        }
+
+        Object entity = entityParam == null ? null : args[entityParam.getParamPosition()];
 
         Form form = handleForm(args);
 
-        WebTarget webTarget = webTargetAtomicReference.get();
         if (httpMethod.isEmpty()) {
             //sub resource method
             return subResourceProxy(webTarget, returnType.getRawType());
@@ -181,7 +194,7 @@ class MethodModel {
 
         MultivaluedMap<String, Object> customHeaders = addCustomHeaders(args);
 
-        Object entityToUse = entity.get();
+        Object entityToUse = entity;
         if (entityToUse == null && !form.asMap().isEmpty()) {
             entityToUse = form;
         }
@@ -197,7 +210,7 @@ class MethodModel {
 
         Object response;
 
-        if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+        if (async) {
             response = asynchronousCall(builder, entityToUse, method, customHeaders);
         } else {
             response = synchronousCall(builder, entityToUse, method, customHeaders);
@@ -208,11 +221,9 @@ class MethodModel {
     @SuppressWarnings("unchecked")
     private Form handleForm(Object[] args) {
         final Form form = new Form();
-        parameterModels.stream()
-                .filter(parameterModel -> parameterModel.handles(FormParam.class))
-                .forEach(parameterModel -> parameterModel.handleParameter(form,
-                                                                          FormParam.class,
-                                                                          args[parameterModel.getParamPosition()]));
+        for (ParamModel parameterModel : formParamModels) {
+            parameterModel.handleParameter(form, FormParam.class, args[parameterModel.getParamPosition()]);
+        }
         return form;
     }
 
@@ -310,11 +321,9 @@ class MethodModel {
     private WebTarget addQueryParams(WebTarget webTarget, Object[] args) {
         Map<String, Object[]> queryParams = new HashMap<>();
         WebTarget toReturn = webTarget;
-        parameterModels.stream()
-                .filter(parameterModel -> parameterModel.handles(QueryParam.class))
-                .forEach(parameterModel -> parameterModel.handleParameter(queryParams,
-                                                                          QueryParam.class,
-                                                                          args[parameterModel.getParamPosition()]));
+        for (ParamModel parameterModel : queryParamModels) {
+            parameterModel.handleParameter(queryParams, QueryParam.class, args[parameterModel.getParamPosition()]);
+        }
 
         for (Map.Entry<String, Object[]> entry : queryParams.entrySet()) {
             toReturn = toReturn.queryParam(entry.getKey(), entry.getValue());
@@ -324,25 +333,22 @@ class MethodModel {
 
     @SuppressWarnings("unchecked") //I am checking the type of parameter and I know it should handle instance I am sending
     private WebTarget addMatrixParams(WebTarget webTarget, Object[] args) {
-        AtomicReference<WebTarget> toReturn = new AtomicReference<>(webTarget);
-        parameterModels.stream()
-                .filter(parameterModel -> parameterModel.handles(MatrixParam.class))
-                .forEach(parameterModel -> toReturn
-                        .set((WebTarget) parameterModel.handleParameter(toReturn.get(),
-                                                                        MatrixParam.class,
-                                                                        args[parameterModel.getParamPosition()])));
-        return toReturn.get();
+        WebTarget toReturn = webTarget;
+        for (ParamModel parameterModel : matrixParamModels) {
+            toReturn = (WebTarget) parameterModel.handleParameter(toReturn,
+                                                                  MatrixParam.class,
+                                                                  args[parameterModel.getParamPosition()]);
+        }
+        return toReturn;
     }
 
     @SuppressWarnings("unchecked") //I am checking the type of parameter and I know it should handle instance I am sending
     private Invocation.Builder addCookies(Invocation.Builder builder, Object[] args) {
         Map<String, String> cookies = new HashMap<>();
         Invocation.Builder toReturn = builder;
-        parameterModels.stream()
-                .filter(parameterModel -> parameterModel.handles(CookieParam.class))
-                .forEach(parameterModel -> parameterModel.handleParameter(cookies,
-                                                                          CookieParam.class,
-                                                                          args[parameterModel.getParamPosition()]));
+        for (ParamModel parameterModel : cookieParamModels) {
+            parameterModel.handleParameter(cookies, CookieParam.class, args[parameterModel.getParamPosition()]);
+        }
 
         for (Map.Entry<String, String> entry : cookies.entrySet()) {
             toReturn = toReturn.cookie(entry.getKey(), entry.getValue());
@@ -367,11 +373,9 @@ class MethodModel {
         MultivaluedMap<String, String> customHeaders = new MultivaluedHashMap<>();
         customHeaders.putAll(createMultivaluedHeadersMap(interfaceModel.getClientHeaders()));
         customHeaders.putAll(createMultivaluedHeadersMap(clientHeaders));
-        parameterModels.stream()
-                .filter(parameterModel -> parameterModel.handles(HeaderParam.class))
-                .forEach(parameterModel -> parameterModel.handleParameter(customHeaders,
-                                                                          HeaderParam.class,
-                                                                          args[parameterModel.getParamPosition()]));
+        for (ParamModel parameterModel : headerParamModels) {
+            parameterModel.handleParameter(customHeaders, HeaderParam.class, args[parameterModel.getParamPosition()]);
+        }
 
         MultivaluedMap<String, String> inbound = new MultivaluedHashMap<>();
         Optional<HeadersContext> headersContext = HeadersContext.get();
@@ -403,7 +407,7 @@ class MethodModel {
                     if (method.isDefault()) {
                         //method is interface default
                         //we need to create instance of the interface to be able to call default method
-                        T instance = (T) ReflectionUtil.createProxyInstance(interfaceModel.getRestClientClass());
+                        Object instance = defaultMethodTarget();
                         if (method.getParameterCount() > 0) {
                             customHeaders.put(clientHeaderParamModel.getHeaderName(),
                                               createList(method.invoke(instance, clientHeaderParamModel.getHeaderName())));
@@ -436,6 +440,16 @@ class MethodModel {
         return customHeaders;
     }
 
+    private Object defaultMethodTarget() {
+        Object instance = defaultMethodTarget;
+        if (instance == null) {
+            // the proxy does not hold any state, a concurrently created one is just as good
+            instance = ReflectionUtil.createProxyInstance(interfaceModel.getRestClientClass());
+            defaultMethodTarget = instance;
+        }
+        return instance;
+    }
+
     private static List<String> createList(Object value) {
         if (value instanceof String[]) {
             String[] array = (String[]) value;
@@ -32,7 +32,7 @@ import javax.ws.rs.client.WebTarget;
  */
 class ProxyInvocationHandler implements InvocationHandler {
     private final Client client;
-    private final WebTarget target;
+    private final WebTarget classLevelTarget;
     private final RestClientModel restClientModel;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -42,8 +42,8 @@ class ProxyInvocationHandler implements InvocationHandler {
                            RestClientModel restClientModel) {
 
         this.client = client;
-        this.target = target;
         this.restClientModel = restClientModel;
+        this.classLevelTarget = restClientModel.classLevelTarget(target);
     }
 
     // used for sub-resources
@@ -80,7 +80,7 @@ class ProxyInvocationHandler implements InvocationHandler {
         if (closed.get()) {
             throw new IllegalStateException("Attempting to invoke a method on a closed client.");
         }
-        return restClientModel.invokeMethod(target, method, args);
+        return restClientModel.invokeMethod(classLevelTarget, method, args);
     }
 
 }
@@ -55,15 +55,24 @@ class RestClientModel {
     }
 
     /**
-     * Invokes desired rest client method.
+     * Resolves the target of the rest client interface.
      *
      * @param baseWebTarget path to endpoint
-     * @param method        desired method
-     * @param args          actual method parameters
+     * @return target with the path of the interface appended
+     */
+    WebTarget classLevelTarget(WebTarget baseWebTarget) {
+        return baseWebTarget.path(interfaceModel.getPath());
+    }
+
+    /**
+     * Invokes desired rest client method.
+     *
+     * @param classLevelTarget target of the interface, see {@link #classLevelTarget(WebTarget)}
+     * @param method           desired method
+     * @param args             actual method parameters
      * @return method return value
      */
-    <T> Object invokeMethod(WebTarget baseWebTarget, Method method, Object[] args) {
-        WebTarget classLevelTarget = baseWebTarget.path(interfaceModel.getPath());
+    <T> Object invokeMethod(WebTarget classLevelTarget, Method method, Object[] args) {
         MethodModel methodModel = methodModels.get(method);
         if (methodModel != null) {
             return new InterceptorInvocationContext(classLevelTarget, methodModel, method, args).proceed();
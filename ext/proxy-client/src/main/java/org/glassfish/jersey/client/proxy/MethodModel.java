@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.client.proxy;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.GenericType;
+
+/**
+ * Everything {@link WebResourceFactory} needs to know about a method of a resource interface to invoke it. The model is
+ * built when the method is invoked for the first time and then reused for all the invocations of the method on all the
+ * proxies of the interface, so that an invocation does not look up the annotations of the method again.
+ */
+final class MethodModel {
+
+    private static final String[] EMPTY = {};
+
+    private static final ClassValue<Map<Method, MethodModel>> MODELS = new ClassValue<Map<Method, MethodModel>>() {
+        @Override
+        protected Map<Method, MethodModel> computeValue(final Class<?> resourceInterface) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String httpMethod;
+    private final String path;
+    private final Class<?> responseType;
+    private final GenericType<?> responseGenericType;
+    private final String[] accepts;
+    private final String contentType;
+    private final Param[] params;
+
+    /**
+     * Get the model of a method of a resource interface.
+     *
+     * @param resourceInterface the resource interface the proxy implements.
+     * @param method            the invoked method.
+     * @return the method model.
+     * @throws UnsupportedOperationException in case the method is neither a resource method nor a sub-resource locator.
+     */
+    static MethodModel of(final Class<?> resourceInterface, final Method method) {
+        final Map<Method, MethodModel> models = MODELS.get(resourceInterface);
+        MethodModel model = models.get(method);
+        if (model == null) {
+            // a concurrent first invocation may build the model too, the models are equivalent
+            model = new MethodModel(resourceInterface, method);
+            models.put(method, model);
+        }
+        return model;
+    }
+
+    private MethodModel(final Class<?> resourceInterface, final Method method) {
+        this.responseType = method.getReturnType();
+
+        // determine method name
+        String httpMethod = getHttpMethodName(method);
+        if (httpMethod == null) {
+            for (final Annotation ann : method.getAnnotations()) {
+                httpMethod = getHttpMethodName(ann.annotationType());
+                if (httpMethod != null) {
+                    break;
+                }
+            }
+        }
+        this.httpMethod = httpMethod;
+
+        final Path p = method.getAnnotation(Path.class);
+        this.path = p == null ? null : p.value();
+
+        if (httpMethod == null) {
+            if (path == null) {
+                // no path annotation on the method -> fail
+                throw new UnsupportedOperationException("Not a resource method.");
+            } else if (!responseType.isInterface()) {
+                // the method is a subresource locator, but returns class,
+                // not interface - can't help here
+                throw new UnsupportedOperationException("Return type not an interface");
+            }
+        }
+
+        final Annotation[][] paramAnns = method.getParameterAnnotations();
+        final Type[] paramTypes = method.getGenericParameterTypes();
+        this.params = new Param[paramAnns.length];
+        for (int i = 0; i < paramAnns.length; i++) {
+            final Map<Class<?>, Annotation> anns = new HashMap<>();
+            for (final Annotation ann : paramAnns[i]) {
+                anns.put(ann.annotationType(), ann);
+            }
+            params[i] = new Param(anns, paramTypes[i]);
+        }
+
+        // accepted media types
+        Produces produces = method.getAnnotation(Produces.class);
+        if (produces == null) {
+            produces = resourceInterface.getAnnotation(Produces.class);
+        }
+        this.accepts = (produces == null) ? EMPTY : produces.value();
+
+        Consumes consumes = method.getAnnotation(Consumes.class);
+        if (consumes == null) {
+            consumes = resourceInterface.getAnnotation(Consumes.class);
+        }
+        this.contentType = consumes != null && consumes.value().length > 0 ? consumes.value()[0] : null;
+
+        this.responseGenericType = httpMethod == null ? null : new GenericType<>(method.getGenericReturnType());
+    }
+
+    private static String getHttpMethodName(final AnnotatedElement ae) {
+        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
+        return a == null ? null : a.value();
+    }
+
+    /**
+     * Get the HTTP method of the resource method.
+     *
+     * @return HTTP method name, {@code null} for a sub-resource locator.
+     */
+    String getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * Get the value of the {@link Path} annotation of the method.
+     *
+     * @return the path or {@code null} if the method is not annotated.
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the return type of the method.
+     *
+     * @return the return type.
+     */
+    Class<?> getResponseType() {
+        return responseType;
+    }
+
+    /**
+     * Get the generic return type of the resource method.
+     *
+     * @return the generic return type, {@code null} for a sub-resource locator.
+     */
+    GenericType<?> getResponseGenericType() {
+        return responseGenericType;
+    }
+
+    /**
+     * Get the media types produced by the method, declared on the method or on the interface.
+     *
+     * @return the media types, an empty array if none are declared.
+     */
+    String[] getAccepts() {
+        return accepts;
+    }
+
+    /**
+     * Get the first media type consumed by the method, declared on the method or on the interface.
+     *
+     * @return the media type or {@code null} if none is declared.
+     */
+    String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Get the models of the method parameters.
+     *
+     * @return the parameters.
+     */
+    Param[] getParams() {
+        return params;
+    }
+
+    /**
+     * Model of a method parameter.
+     */
+    static final class Param {
+
+        private final Map<Class<?>, Annotation> annotations;
+        private final boolean entity;
+        private final Type type;
+        private final String defaultValue;
+
+        private Param(final Map<Class<?>, Annotation> annotations, final Type type) {
+            this.annotations = annotations;
+            this.entity = !RequestParameters.hasAnyParamAnnotation(annotations);
+            this.type = type;
+            final DefaultValue defaultValue = (DefaultValue) annotations.get(DefaultValue.class);
+            this.defaultValue = defaultValue == null ? null : defaultValue.value();
+        }
+
+        /**
+         * Get the annotations of the parameter by their type.
+         *
+         * @return the annotations.
+         */
+        Map<Class<?>, Annotation> getAnnotations() {
+            return annotations;
+        }
+
+        /**
+         * Whether the parameter is the request entity, i.e. has no parameter annotation.
+         *
+         * @return {@code true} for the entity parameter.
+         */
+        boolean isEntity() {
+            return entity;
+        }
+
+        /**
+         * Whether the entity type needs to be passed as a {@link javax.ws.rs.core.GenericEntity}.
+         *
+         * @return {@code true} for a parameterized type.
+         */
+        boolean isGenericEntity() {
+            return type instanceof ParameterizedType;
+        }
+
+        /**
+         * Get the generic type of the parameter.
+         *
+         * @return the type.
+         */
+        Type getType() {
+            return type;
+        }
+
+        /**
+         * Get the value of the {@link DefaultValue} annotation.
+         *
+         * @return the default value or {@code null}.
+         */
+        String getDefaultValue() {
+            return defaultValue;
+        }
+    }
+}
@@ -22,9 +22,12 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -59,6 +62,18 @@ class RequestParameters {
     private static final List<Class<?>> PARAM_ANNOTATION_CLASSES = Arrays.asList(PathParam.class, QueryParam.class,
             HeaderParam.class, CookieParam.class, MatrixParam.class, FormParam.class, BeanParam.class);
 
+    // annotated properties of bean parameter classes, looked up once per class
+    private static final ClassValue<List<BeanProperty>> BEAN_PROPERTIES = new ClassValue<List<BeanProperty>>() {
+        @Override
+        protected List<BeanProperty> computeValue(final Class<?> type) {
+            try {
+                return Collections.unmodifiableList(getBeanProperties(type));
+            } catch (IntrospectionException e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    };
+
     RequestParameters(final WebTarget newTarget, final MultivaluedMap<String, Object> headers,
                       final List<Cookie> cookies, final Form form) {
 
@@ -143,12 +158,27 @@ class RequestParameters {
 
     private void addBeanParameter(final Object beanParam)
             throws IllegalAccessException, IntrospectionException, InvocationTargetException {
-        Class<?> beanClass = beanParam.getClass();
-        List<Field> fields = new ArrayList<>();
+        final List<BeanProperty> properties;
+        try {
+            properties = BEAN_PROPERTIES.get(beanParam.getClass());
+        } catch (UndeclaredThrowableException e) {
+            throw (IntrospectionException) e.getCause();
+        }
+
+        for (final BeanProperty property : properties) {
+            final Object value = property.getValue(beanParam);
+            if (value != null) {
+                addParameter(value, property.annotations);
+            }
+        }
+    }
+
+    private static List<BeanProperty> getBeanProperties(final Class<?> beanClass) throws IntrospectionException {
+        final List<Field> fields = new ArrayList<>();
         getAllFields(fields, beanClass);
 
+        final List<BeanProperty> properties = new ArrayList<>();
         for (final Field field : fields) {
-            Object value = null;
             final Map<Class<?>, Annotation> anns = new HashMap<>();
 
             // get field annotations
@@ -157,7 +187,7 @@ class RequestParameters {
             }
 
             if (hasAnyParamAnnotation(anns)) {
-                value = field.get(beanParam);
+                properties.add(new BeanProperty(anns, field, null));
             } else {
                 // get getter annotations if there are no field annotations
                 for (final PropertyDescriptor pd : Introspector.getBeanInfo(beanClass).getPropertyDescriptors()) {
@@ -166,19 +196,16 @@ class RequestParameters {
                             anns.put(ann.annotationType(), ann);
                         }
                         if (hasAnyParamAnnotation(anns)) {
-                            value = pd.getReadMethod().invoke(beanParam);
+                            properties.add(new BeanProperty(anns, null, pd.getReadMethod()));
                         }
                     }
                 }
             }
-
-            if (value != null) {
-                addParameter(value, anns);
-            }
         }
+        return properties;
     }
 
-    private List<Field> getAllFields(List<Field> fields, Class<?> type) {
+    private static List<Field> getAllFields(List<Field> fields, Class<?> type) {
         fields.addAll(Arrays.asList(type.getDeclaredFields()));
 
         if (type.getSuperclass() != null) {
@@ -232,4 +259,24 @@ class RequestParameters {
         return form;
     }
 
+    /**
+     * Field or getter of a bean parameter annotated with a parameter annotation.
+     */
+    private static final class BeanProperty {
+
+        private final Map<Class<?>, Annotation> annotations;
+        private final Field field;
+        private final Method getter;
+
+        private BeanProperty(final Map<Class<?>, Annotation> annotations, final Field field, final Method getter) {
+            this.annotations = annotations;
+            this.field = field;
+            this.getter = getter;
+        }
+
+        private Object getValue(final Object bean) throws IllegalAccessException, InvocationTargetException {
+            return field != null ? field.get(bean) : getter.invoke(bean);
+        }
+    }
+
 }
@@ -16,32 +16,15 @@
 
 package org.glassfish.jersey.client.proxy;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
-import java.lang.reflect.Type;
 import java.security.AccessController;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
-import javax.ws.rs.BeanParam;
-import javax.ws.rs.Consumes;
-import javax.ws.rs.CookieParam;
-import javax.ws.rs.DefaultValue;
-import javax.ws.rs.FormParam;
-import javax.ws.rs.HeaderParam;
-import javax.ws.rs.HttpMethod;
-import javax.ws.rs.MatrixParam;
 import javax.ws.rs.Path;
-import javax.ws.rs.PathParam;
-import javax.ws.rs.Produces;
-import javax.ws.rs.QueryParam;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
@@ -65,8 +48,7 @@ import org.glassfish.jersey.internal.util.ReflectionHelper;
  */
 public final class WebResourceFactory implements InvocationHandler {
 
-    private static final String[] EMPTY = {};
-
+    private final Class<?> resourceInterface;
     private final WebTarget target;
     private final MultivaluedMap<String, Object> headers;
     private final List<Cookie> cookies;
@@ -74,8 +56,6 @@ public final class WebResourceFactory implements InvocationHandler {
 
     private static final MultivaluedMap<String, Object> EMPTY_HEADERS = new MultivaluedHashMap<>();
     private static final Form EMPTY_FORM = new Form();
-    private static final List<Class<?>> PARAM_ANNOTATION_CLASSES = Arrays.asList(PathParam.class, QueryParam.class,
-            HeaderParam.class, CookieParam.class, MatrixParam.class, FormParam.class, BeanParam.class);
 
     /**
      * Creates a new client-side representation of a resource described by
@@ -119,12 +99,14 @@ public final class WebResourceFactory implements InvocationHandler {
 
         return (C) Proxy.newProxyInstance(AccessController.doPrivileged(ReflectionHelper.getClassLoaderPA(resourceInterface)),
                 new Class[] {resourceInterface},
-                new WebResourceFactory(ignoreResourcePath ? target : addPathFromAnnotation(resourceInterface, target),
+                new WebResourceFactory(resourceInterface,
+                        ignoreResourcePath ? target : addPathFromAnnotation(resourceInterface, target),
                         headers, cookies, form));
     }
 
-    private WebResourceFactory(final WebTarget target, final MultivaluedMap<String, Object> headers,
-                               final List<Cookie> cookies, final Form form) {
+    private WebResourceFactory(final Class<?> resourceInterface, final WebTarget target,
+                               final MultivaluedMap<String, Object> headers, final List<Cookie> cookies, final Form form) {
+        this.resourceInterface = resourceInterface;
         this.target = target;
         this.headers = headers;
         this.cookies = cookies;
@@ -148,59 +130,29 @@ public final class WebResourceFactory implements InvocationHandler {
             return equals(args[0]);
         }
 
-        // get the interface describing the resource
-        final Class<?> proxyIfc = proxy.getClass().getInterfaces()[0];
-
-        // response type
-        final Class<?> responseType = method.getReturnType();
-
-        // determine method name
-        String httpMethod = getHttpMethodName(method);
-        if (httpMethod == null) {
-            for (final Annotation ann : method.getAnnotations()) {
-                httpMethod = getHttpMethodName(ann.annotationType());
-                if (httpMethod != null) {
-                    break;
-                }
-            }
-        }
+        final MethodModel model = MethodModel.of(resourceInterface, method);
+        final String httpMethod = model.getHttpMethod();
 
         // create a new UriBuilder appending the @Path attached to the method
-        WebTarget newTarget = addPathFromAnnotation(method, target);
-
-        if (httpMethod == null) {
-            if (newTarget == target) {
-                // no path annotation on the method -> fail
-                throw new UnsupportedOperationException("Not a resource method.");
-            } else if (!responseType.isInterface()) {
-                // the method is a subresource locator, but returns class,
-                // not interface - can't help here
-                throw new UnsupportedOperationException("Return type not an interface");
-            }
-        }
+        WebTarget newTarget = model.getPath() == null ? target : target.path(model.getPath());
 
         // process method params (build maps of (Path|Form|Cookie|Matrix|Header..)Params
         // and extract entity type
         RequestParameters requestParameters = new RequestParameters(newTarget, headers, cookies, form);
-        final Annotation[][] paramAnns = method.getParameterAnnotations();
+        final MethodModel.Param[] params = model.getParams();
         Object entity = null;
-        Type entityType = null;
-        for (int i = 0; i < paramAnns.length; i++) {
-            final Map<Class<?>, Annotation> anns = new HashMap<>();
-            for (final Annotation ann : paramAnns[i]) {
-                anns.put(ann.annotationType(), ann);
-            }
+        MethodModel.Param entityParam = null;
+        for (int i = 0; i < params.length; i++) {
             Object value = args[i];
-            if (!RequestParameters.hasAnyParamAnnotation(anns)) {
-                entityType = method.getGenericParameterTypes()[i];
+            if (params[i].isEntity()) {
+                entityParam = params[i];
                 entity = value;
             } else {
-                Annotation ann;
-                if (value == null && (ann = anns.get(DefaultValue.class)) != null) {
-                    value = ((DefaultValue) ann).value();
+                if (value == null) {
+                    value = params[i].getDefaultValue();
                 }
                 if (value != null) {
-                    requestParameters.addParameter(value, anns);
+                    requestParameters.addParameter(value, params[i].getAnnotations());
                 }
             }
         }
@@ -208,17 +160,10 @@ public final class WebResourceFactory implements InvocationHandler {
 
         if (httpMethod == null) {
             // the method is a subresource locator
-            return WebResourceFactory.newResource(responseType, newTarget, true,
+            return WebResourceFactory.newResource(model.getResponseType(), newTarget, true,
                     requestParameters.getHeaders(), requestParameters.getCookies(), requestParameters.getForm());
         }
 
-        // accepted media types
-        Produces produces = method.getAnnotation(Produces.class);
-        if (produces == null) {
-            produces = proxyIfc.getAnnotation(Produces.class);
-        }
-        final String[] accepts = (produces == null) ? EMPTY : produces.value();
-
         // determine content type
         String contentType = null;
         if (entity != null) {
@@ -226,19 +171,14 @@ public final class WebResourceFactory implements InvocationHandler {
             if ((contentTypeEntries != null) && (!contentTypeEntries.isEmpty())) {
                 contentType = contentTypeEntries.get(0).toString();
             } else {
-                Consumes consumes = method.getAnnotation(Consumes.class);
-                if (consumes == null) {
-                    consumes = proxyIfc.getAnnotation(Consumes.class);
-                }
-                if (consumes != null && consumes.value().length > 0) {
-                    contentType = consumes.value()[0];
-                }
+                contentType = model.getContentType();
             }
         }
 
         Invocation.Builder builder = newTarget.request()
                 .headers(requestParameters.getHeaders()) // this resets all headers so do this first
-                .accept(accepts); // if @Produces is defined, propagate values into Accept header; empty array is NO-OP
+                // if @Produces is defined, propagate values into Accept header; empty array is NO-OP
+                .accept(model.getAccepts());
 
         for (final Cookie c : requestParameters.getCookies()) {
             builder = builder.cookie(c);
@@ -262,10 +202,10 @@ public final class WebResourceFactory implements InvocationHandler {
             }
         }
 
-        final GenericType<?> responseGenericType = new GenericType(method.getGenericReturnType());
+        final GenericType<?> responseGenericType = model.getResponseGenericType();
         if (entity != null) {
-            if (entityType instanceof ParameterizedType) {
-                entity = new GenericEntity(entity, entityType);
+            if (entityParam != null && entityParam.isGenericEntity()) {
+                entity = new GenericEntity(entity, entityParam.getType());
             }
             result = builder.method(httpMethod, Entity.entity(entity, contentType), responseGenericType);
         } else {
@@ -288,9 +228,4 @@ public final class WebResourceFactory implements InvocationHandler {
     public String toString() {
         return target.toString();
     }
-
-    private static String getHttpMethodName(final AnnotatedElement ae) {
-        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
-        return a == null ? null : a.value();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.client.proxy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the models of the resource interface methods.
+ */
+public class MethodModelTest {
+
+    @Test
+    public void testResourceMethod() throws Exception {
+        final Method method = MyResourceIfc.class.getMethod("postIt", List.class);
+        final MethodModel model = MethodModel.of(MyResourceIfc.class, method);
+
+        assertEquals("POST", model.getHttpMethod());
+        assertNull(model.getPath());
+        assertArrayEquals(new String[] {MediaType.APPLICATION_XML}, model.getAccepts());
+        assertEquals(MediaType.APPLICATION_XML, model.getContentType());
+        assertEquals(method.getGenericReturnType(), model.getResponseGenericType().getType());
+
+        assertEquals(1, model.getParams().length);
+        assertTrue(model.getParams()[0].isEntity());
+        assertTrue(model.getParams()[0].isGenericEntity());
+    }
+
+    @Test
+    public void testParameter() throws Exception {
+        final MethodModel model = MethodModel.of(MyResourceIfc.class, MyResourceIfc.class.getMethod("getId", String.class));
+
+        assertEquals("GET", model.getHttpMethod());
+        assertEquals("{id}", model.getPath());
+        assertFalse(model.getParams()[0].isEntity());
+        assertNull(model.getParams()[0].getDefaultValue());
+    }
+
+    @Test
+    public void testModelIsReused() throws Exception {
+        final Method method = MyResourceIfc.class.getMethod("getIt");
+
+        assertSame(MethodModel.of(MyResourceIfc.class, method), MethodModel.of(MyResourceIfc.class, method));
+    }
+
+    @Test
+    public void testNotResourceMethod() throws Exception {
+        final Method method = Object.class.getMethod("getClass");
+
+        assertThrows(UnsupportedOperationException.class, () -> MethodModel.of(MyResourceIfc.class, method));
+    }
+}
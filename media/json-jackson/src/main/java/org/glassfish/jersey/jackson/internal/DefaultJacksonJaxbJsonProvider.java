@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,17 +23,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectReader;
 import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.internal.jsr166.Flow;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.jackson.LocalizationMessages;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.Annotations;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJaxbJsonProvider;
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JsonEndpointConfig;
 import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.NonBlockingMessageBodyReader;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Logger;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -41,13 +49,17 @@ import javax.inject.Singleton;
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.Providers;
 
 /**
  * Entity Data provider based on Jackson JSON provider.
+ * <p>
+ * The provider is also a {@link NonBlockingMessageBodyReader}, that tokenizes the entity using the Jackson non-blocking
+ * parser as the entity bytes arrive.
  */
 @Singleton
-public class DefaultJacksonJaxbJsonProvider extends JacksonJaxbJsonProvider {
+public class DefaultJacksonJaxbJsonProvider extends JacksonJaxbJsonProvider implements NonBlockingMessageBodyReader<Object> {
     private Configuration commonConfig;
     private static final Logger LOGGER = Logger.getLogger(DefaultJacksonJaxbJsonProvider.class.getName());
 
@@ -91,6 +103,32 @@ public class DefaultJacksonJaxbJsonProvider extends JacksonJaxbJsonProvider {
         return super._configForReading(reader, annotations);
     }
 
+    @Override
+    public CompletionStage<Object> readFrom(Class<Object> type, Type genericType, Annotation[] annotations,
+                                            MediaType mediaType, MultivaluedMap<String, String> httpHeaders,
+                                            Flow.Publisher<ByteBuffer> entity) {
+        final JsonEndpointConfig endpoint = _endpointForReading(type, genericType, annotations, mediaType, httpHeaders);
+        final ObjectReader reader = endpoint.getReader();
+
+        final JsonTokenSubscriber subscriber;
+        try {
+            subscriber = new JsonTokenSubscriber(reader.getFactory());
+        } catch (IOException e) {
+            final CompletableFuture<Object> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        entity.subscribe(subscriber);
+
+        return subscriber.getTokens().thenApply(tokens -> {
+            try {
+                return _readValue(endpoint, reader, tokens.asParser(reader), type, genericType, httpHeaders);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
     @PostConstruct
     private void findAndRegisterModules() {
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jackson.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.glassfish.jersey.internal.jsr166.Flow;
+
+/**
+ * Subscriber of an entity publisher that tokenizes the JSON entity incrementally, using the Jackson non-blocking
+ * parser, as the entity bytes arrive.
+ * <p>
+ * The tokens are collected in a {@link TokenBuffer}, which is bound to the requested type once the whole entity has
+ * been received.
+ * </p>
+ */
+final class JsonTokenSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private final CompletableFuture<TokenBuffer> tokens = new CompletableFuture<>();
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer buffer;
+
+    private Flow.Subscription subscription;
+
+    /**
+     * Create a new subscriber.
+     *
+     * @param factory JSON factory the non-blocking parser is created from.
+     * @throws IOException in case the parser cannot be created.
+     */
+    JsonTokenSubscriber(final JsonFactory factory) throws IOException {
+        this.parser = factory.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.buffer = new TokenBuffer(parser, null);
+    }
+
+    /**
+     * Get the tokens of the entity.
+     *
+     * @return completion stage of the entity tokens.
+     */
+    CompletionStage<TokenBuffer> getTokens() {
+        return tokens;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(final ByteBuffer item) {
+        if (tokens.isDone()) {
+            return;
+        }
+        try {
+            if (item.hasArray()) {
+                final int start = item.arrayOffset() + item.position();
+                feeder.feedInput(item.array(), start, start + item.remaining());
+            } else {
+                final byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+            }
+            copyAvailableTokens();
+        } catch (final IOException e) {
+            subscription.cancel();
+            fail(e);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        fail(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (tokens.isDone()) {
+            return;
+        }
+        try {
+            feeder.endOfInput();
+            copyAvailableTokens();
+            parser.close();
+            tokens.complete(buffer);
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    private void copyAvailableTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            buffer.copyCurrentEvent(parser);
+        }
+    }
+
+    private void fail(final Throwable throwable) {
+        try {
+            parser.close();
+        } catch (final IOException e) {
+            // ignore, the original failure is reported
+        }
+        tokens.completeExceptionally(throwable);
+    }
+}
@@ -796,7 +796,19 @@ public abstract class ProviderBase<
 
         ObjectReader reader = endpoint.getReader();
         JsonParser p = _createParser(reader, entityStream);
+        return _readValue(endpoint, reader, p, type, genericType, httpHeaders);
+    }
 
+    /**
+     * Helper method that binds the content of given parser to the requested type;
+     * shared by the blocking and the non-blocking (Jersey) reading of the entity.
+     * May be given null parser to indicate that there is no content.
+     */
+    protected Object _readValue(EP_CONFIG endpoint, ObjectReader reader, JsonParser p,
+                                Class<Object> type, Type genericType,
+                                MultivaluedMap<String,String> httpHeaders)
+            throws IOException
+    {
         // If null is returned, considered to be empty stream
         // 05-Apr-2014, tatu: As per [Issue#49], behavior here is configurable.
         if (p == null || p.nextToken() == null) {
@@ -16,8 +16,11 @@
 
 package org.glassfish.jersey.media.sse;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -31,6 +34,11 @@ import org.glassfish.jersey.message.MessageBodyWorkers;
  * Inbound Server-Sent Events channel.
  *
  * The input channel lets you serially read & consume SSE events as they arrive.
+ * <p>
+ * Unless a custom {@link #setParser(ChunkParser) chunk parser} is set, the events are parsed directly from the response
+ * stream by a block-buffered SSE parser rather than split into chunks which are then parsed by the
+ * {@link javax.ws.rs.ext.MessageBodyReader} of {@link InboundEvent}.
+ * </p>
  *
  * @author Marek Potociar
  */
@@ -39,6 +47,12 @@ public class EventInput extends ChunkedInput<InboundEvent> {
      * SSE event chunk parser - SSE chunks are delimited with a fixed "\n\n" and "\r\n\r\n" delimiter in the response stream.
      */
     private static final ChunkParser SSE_EVENT_PARSER = ChunkedInput.createMultiParser("\n\n", "\r\n\r\n");
+    private static final Logger LOGGER = Logger.getLogger(EventInput.class.getName());
+
+    private final InboundEventParser eventParser;
+    private final Annotation[] annotations;
+    private final MultivaluedMap<String, String> headers;
+    private final MessageBodyWorkers messageBodyWorkers;
 
     /**
      * Package-private constructor used by the {@link org.glassfish.jersey.client.ChunkedInputReader}.
@@ -59,5 +73,30 @@ public class EventInput extends ChunkedInput<InboundEvent> {
         super(InboundEvent.class, inputStream, annotations, mediaType, headers, messageBodyWorkers, propertiesDelegate);
 
         super.setParser(SSE_EVENT_PARSER);
+
+        this.eventParser = new InboundEventParser(inputStream);
+        this.annotations = annotations;
+        this.headers = headers;
+        this.messageBodyWorkers = messageBodyWorkers;
+    }
+
+    @Override
+    public InboundEvent read() throws IllegalStateException {
+        if (getParser() != SSE_EVENT_PARSER || isClosed()) {
+            // a custom parser splits the stream into chunks read by the message body reader
+            return super.read();
+        }
+
+        try {
+            final InboundEvent event = eventParser.next(messageBodyWorkers, annotations, getChunkType(), headers);
+            if (event == null) {
+                close();
+            }
+            return event;
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+            close();
+        }
+        return null;
     }
 }
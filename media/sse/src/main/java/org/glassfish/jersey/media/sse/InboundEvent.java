@@ -187,7 +187,7 @@ public class InboundEvent implements InboundSseEvent {
                     id,
                     commentBuilder.length() > 0 ? commentBuilder.substring(0, commentBuilder.length() - 1) : null,
                     reconnectDelay,
-                    dataStream.toByteArray(),
+                    stripLastLineBreak(dataStream.toByteArray()),
                     workers,
                     annotations,
                     mediaType,
@@ -195,7 +195,20 @@ public class InboundEvent implements InboundSseEvent {
         }
     }
 
-    private InboundEvent(final String name,
+    /**
+     * Create new inbound event.
+     *
+     * @param name               event name.
+     * @param id                 event identifier.
+     * @param comment            event comment.
+     * @param reconnectDelay     reconnection delay.
+     * @param data               event data without the line break after the last data line.
+     * @param messageBodyWorkers message body workers used to read the data.
+     * @param annotations        annotations used to read the data.
+     * @param mediaType          media type of the data.
+     * @param headers            response headers.
+     */
+    InboundEvent(final String name,
                          final String id,
                          final String comment,
                          final long reconnectDelay,
@@ -208,7 +221,7 @@ public class InboundEvent implements InboundSseEvent {
         this.id = id;
         this.comment = comment;
         this.reconnectDelay = reconnectDelay;
-        this.data = stripLastLineBreak(data);
+        this.data = data;
         this.messageBodyWorkers = messageBodyWorkers;
         this.annotations = annotations;
         this.mediaType = mediaType;
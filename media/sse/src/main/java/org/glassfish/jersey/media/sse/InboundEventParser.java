@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.MessageUtils;
+
+/**
+ * Block-buffered parser of a Server-Sent Events stream.
+ * <p>
+ * The parser reads the stream in blocks into a reusable byte window and scans the window for the line breaks
+ * ({@code LF}, {@code CR} or {@code CRLF}), so that the stream is read neither byte by byte nor split into chunks parsed
+ * again afterwards. Field names are matched against the window directly, field values are decoded from the window and
+ * the data lines are collected in a reusable buffer which is copied once per event. The data of an event are deserialized
+ * lazily, when the event data are {@link InboundEvent#readData() read}.
+ * </p>
+ * <p>
+ * Empty events (e.g. repeated blank lines) are not delivered. Leading spaces of a field value are skipped, the leading and
+ * trailing white space of a comment line is trimmed, which is consistent with {@link InboundEventReader}.
+ * </p>
+ * <p>
+ * The parser is not thread-safe.
+ * </p>
+ */
+final class InboundEventParser {
+
+    private static final Logger LOGGER = Logger.getLogger(InboundEventParser.class.getName());
+
+    /**
+     * Default size of the byte window.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final byte[] EVENT = "event".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DATA = "data".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ID = "id".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RETRY = "retry".getBytes(StandardCharsets.US_ASCII);
+
+    private final InputStream in;
+
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean eof;
+    // the last line ended with CR, a LF following it belongs to the same line break
+    private boolean skipLineFeed;
+    // bounds of the last line read
+    private int lineStart;
+    private int lineEnd;
+
+    // the event being parsed
+    private boolean eventStarted;
+    private String name;
+    private String id;
+    private StringBuilder comment;
+    private long reconnectDelay = SseFeature.RECONNECT_NOT_SET;
+    private byte[] data = new byte[256];
+    private int dataLength;
+
+    /**
+     * Create new parser with the default buffer size.
+     *
+     * @param in stream of the events.
+     */
+    InboundEventParser(final InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create new parser.
+     *
+     * @param in         stream of the events.
+     * @param bufferSize initial size of the byte window, the window grows when a line does not fit in.
+     */
+    InboundEventParser(final InputStream in, final int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[Math.max(16, bufferSize)];
+    }
+
+    /**
+     * Parse the next event of the stream.
+     *
+     * @param workers     message body workers used to read the data of the event.
+     * @param annotations annotations used to read the data of the event.
+     * @param mediaType   media type of the stream.
+     * @param headers     response headers.
+     * @return next event, or {@code null} if the end of the stream has been reached.
+     * @throws IOException if the stream could not be read.
+     */
+    InboundEvent next(final MessageBodyWorkers workers,
+                      final Annotation[] annotations,
+                      final MediaType mediaType,
+                      final MultivaluedMap<String, String> headers) throws IOException {
+        final Charset charset = MessageUtils.getCharset(mediaType);
+        while (readLine()) {
+            if (lineStart == lineEnd) {
+                if (eventStarted) {
+                    return dispatch(workers, annotations, mediaType, headers);
+                }
+                // skip empty events
+            } else {
+                processLine(charset);
+            }
+        }
+        return eventStarted ? dispatch(workers, annotations, mediaType, headers) : null;
+    }
+
+    private void processLine(final Charset charset) {
+        eventStarted = true;
+        if (buffer[lineStart] == ':') {
+            if (comment == null) {
+                comment = new StringBuilder();
+            }
+            comment.append(new String(buffer, lineStart + 1, lineEnd - lineStart - 1, charset).trim()).append('\n');
+            return;
+        }
+
+        int nameEnd = lineStart;
+        while (nameEnd < lineEnd && buffer[nameEnd] != ':') {
+            nameEnd++;
+        }
+        int valueStart = nameEnd;
+        if (valueStart < lineEnd) {
+            // skip the colon and the leading spaces
+            valueStart++;
+            while (valueStart < lineEnd && buffer[valueStart] == ' ') {
+                valueStart++;
+            }
+        }
+        final int valueLength = lineEnd - valueStart;
+
+        if (matches(DATA, nameEnd)) {
+            appendData(valueStart, valueLength);
+        } else if (matches(EVENT, nameEnd)) {
+            name = new String(buffer, valueStart, valueLength, charset);
+        } else if (matches(ID, nameEnd)) {
+            id = new String(buffer, valueStart, valueLength, charset);
+        } else if (matches(RETRY, nameEnd)) {
+            final String value = new String(buffer, valueStart, valueLength, charset);
+            try {
+                final long delay = Long.parseLong(value);
+                reconnectDelay = delay < 0 ? SseFeature.RECONNECT_NOT_SET : delay;
+            } catch (final NumberFormatException ex) {
+                LOGGER.log(Level.FINE, LocalizationMessages.IN_EVENT_RETRY_PARSE_ERROR(value), ex);
+            }
+        } else if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(LocalizationMessages.IN_EVENT_FIELD_NOT_RECOGNIZED(
+                    new String(buffer, lineStart, nameEnd - lineStart, charset),
+                    new String(buffer, valueStart, valueLength, charset)));
+        }
+    }
+
+    private boolean matches(final byte[] fieldName, final int nameEnd) {
+        if (nameEnd - lineStart != fieldName.length) {
+            return false;
+        }
+        for (int i = 0; i < fieldName.length; i++) {
+            if (buffer[lineStart + i] != fieldName[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendData(final int offset, final int length) {
+        final int required = dataLength + length + 1;
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+        }
+        System.arraycopy(buffer, offset, data, dataLength, length);
+        dataLength += length;
+        data[dataLength++] = '\n';
+    }
+
+    private InboundEvent dispatch(final MessageBodyWorkers workers,
+                                  final Annotation[] annotations,
+                                  final MediaType mediaType,
+                                  final MultivaluedMap<String, String> headers) {
+        // the line break after the last data line is not a part of the data
+        final byte[] eventData = dataLength == 0 ? new byte[0] : Arrays.copyOf(data, dataLength - 1);
+        final InboundEvent event = new InboundEvent(
+                name,
+                id,
+                comment == null ? null : comment.substring(0, comment.length() - 1),
+                reconnectDelay,
+                eventData,
+                workers,
+                annotations,
+                mediaType,
+                headers);
+
+        eventStarted = false;
+        name = null;
+        id = null;
+        comment = null;
+        reconnectDelay = SseFeature.RECONNECT_NOT_SET;
+        dataLength = 0;
+        return event;
+    }
+
+    /**
+     * Read the next line into the window.
+     *
+     * @return {@code true} if a line has been read, {@code false} if the end of the stream has been reached.
+     * @throws IOException if the stream could not be read.
+     */
+    private boolean readLine() throws IOException {
+        if (skipLineFeed) {
+            if (position == limit && !fill()) {
+                return false;
+            }
+            if (buffer[position] == '\n') {
+                position++;
+            }
+            skipLineFeed = false;
+        }
+
+        int scan = position;
+        while (true) {
+            for (int i = scan; i < limit; i++) {
+                final byte b = buffer[i];
+                if (b == '\n' || b == '\r') {
+                    lineStart = position;
+                    lineEnd = i;
+                    position = i + 1;
+                    skipLineFeed = b == '\r';
+                    return true;
+                }
+            }
+
+            final int scanned = limit - position;
+            if (!fill()) {
+                if (position < limit) {
+                    // the last line is not terminated
+                    lineStart = position;
+                    lineEnd = limit;
+                    position = limit;
+                    return true;
+                }
+                return false;
+            }
+            scan = position + scanned;
+        }
+    }
+
+    /**
+     * Read more bytes of the stream into the window. The unprocessed bytes are moved to the beginning of the window
+     * first, the window grows if it is full of unprocessed bytes.
+     *
+     * @return {@code true} if some bytes have been read, {@code false} if the end of the stream has been reached.
+     * @throws IOException if the stream could not be read.
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read;
+        do {
+            read = in.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+}
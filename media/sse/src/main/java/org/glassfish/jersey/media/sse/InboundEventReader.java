@@ -16,14 +16,10 @@
 
 package org.glassfish.jersey.media.sse;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import javax.ws.rs.ConstrainedTo;
 import javax.ws.rs.RuntimeType;
@@ -36,7 +32,6 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.glassfish.jersey.message.MessageBodyWorkers;
-import org.glassfish.jersey.message.MessageUtils;
 
 /**
  * Client-side single inbound Server-Sent Event reader.
@@ -46,8 +41,8 @@ import org.glassfish.jersey.message.MessageUtils;
 @ConstrainedTo(RuntimeType.CLIENT)
 class InboundEventReader implements MessageBodyReader<InboundEvent> {
 
-    private static final Logger LOGGER = Logger.getLogger(InboundEventReader.class.getName());
-    private static final byte[] EOL_DATA = new byte[] {'\n'};
+    // the reader parses a single event, usually a chunk of an event stream already split by ChunkedInput
+    private static final int READ_BUFFER_SIZE = 1024;
 
     private final Provider<MessageBodyWorkers> messageBodyWorkers;
 
@@ -56,13 +51,6 @@ class InboundEventReader implements MessageBodyReader<InboundEvent> {
         this.messageBodyWorkers = messageBodyWorkers;
     }
 
-    private enum State {
-        SKIPPING_PREPENDED_EMPTY_EVENTS,
-        NEW_LINE,
-        COMMENT,
-        FIELD,
-    }
-
     @Override
     public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
                               final MediaType mediaType) {
@@ -82,140 +70,9 @@ class InboundEventReader implements MessageBodyReader<InboundEvent> {
          * http://dev.w3.org/html5/eventsource/
          * last editors draft from 13 March 2012
          */
-        final ByteArrayOutputStream tokenData = new ByteArrayOutputStream();
-        final String charsetName = MessageUtils.getCharset(mediaType).name();
-        final InboundEvent.Builder eventBuilder =
-                new InboundEvent.Builder(messageBodyWorkers.get(), annotations, mediaType, headers);
-
-        int b = -1;
-        State currentState = State.SKIPPING_PREPENDED_EMPTY_EVENTS;
-        loop:
-        do {
-            switch (currentState) {
-                /* There is a problem with the SSE event parsing, because Jersey uses ChunkedInput to separate events.
-                   The problem is that ChunkedInput uses fixed character string as a separator, which is \r\n\r\n when it
-                   parses SSE.
-                   The problem is that SSE events are separated only by \r\n and \r\n also works as an end of a field inside
-                   the event, so the fixed separator \r\n\r\n  only works if the server does not send empty events.
-                   For example:
-
-                    event: e1\r\n
-                    data: d1\r\n
-                    \r\n
-                    \r\n
-                    event: e2\r\n
-                    data: d2\r\n
-                    \r\n
-
-                    is a stream of <e1> <empty event> <e2>
-                    Unfortunately the ChunkedInput parser will parse it only into 2 events <e1> and <e2> and <e2> will have
-                    \r\n (an empty event) prepended at the beginning. This is not fixable on the ChunkedInput parser level,
-                    which is not SSE aware, so this InboundEventReader must be aware of this and skip any prepended empty events.
-                    Also as a result Jersey will not deliver empty events to the user. */
-                case SKIPPING_PREPENDED_EMPTY_EVENTS:
-                case NEW_LINE:
-                    if (b == '\r') {
-                        // read next byte in case of CRLF delimiter
-                        b = entityStream.read();
-                        b = b == '\n' ? entityStream.read() : b;
-                    } else {
-                        b = entityStream.read();
-                    }
-
-                    if (b == '\n' || b == '\r' || b == -1) {
-                        if (currentState == State.SKIPPING_PREPENDED_EMPTY_EVENTS) {
-                            break;
-                        }
-
-                        break loop;
-                    }
-
-                    if (b == ':') {
-                        currentState = State.COMMENT;
-                    } else {
-                        tokenData.write(b);
-                        currentState = State.FIELD;
-                    }
-                    break;
-                case COMMENT:
-                    // skipping comment data
-                    b = readLineUntil(entityStream, '\n', tokenData);
-                    final String commentLine = tokenData.toString(charsetName);
-                    tokenData.reset();
-                    eventBuilder.commentLine(commentLine.trim());
-                    currentState = State.NEW_LINE;
-                    break;
-                case FIELD:
-                    // read field name
-                    b = readLineUntil(entityStream, ':', tokenData);
-                    final String fieldName = tokenData.toString(charsetName);
-                    tokenData.reset();
-
-                    if (b == ':') {
-                        do {
-                            b = entityStream.read();
-                        } while (b == ' ');
-
-                        if (b != '\n' && b != '\r' && b != -1) {
-                            tokenData.write(b);
-                            b = readLineUntil(entityStream, '\n', tokenData);
-                        }
-                    }
-
-                    processField(eventBuilder, fieldName, mediaType, tokenData.toByteArray());
-                    tokenData.reset();
-
-                    currentState = State.NEW_LINE;
-                    break;
-            }
-        } while (b != -1);
-
-        return eventBuilder.build();
-    }
-
-    /**
-     * Read input stream until a delimiter or {@code EOL ('\n')} or {@code EOF} is reached
-     * and write the read data to the supplied output stream if not {@code null}, or discard
-     * the data if the output stream is {@code null}.
-     *
-     * @param in        input stream to be read.
-     * @param delimiter delimiter to break the read (apart from {@code EOL ('\n', '\r')} or {@code EOF}).
-     * @param out       output stream to write the read data to. May be {@code null}, in which case the
-     *                  read data are silently discarded.
-     * @return value of the last byte read.
-     * @throws IOException in case the reading or writing of the data failed.
-     */
-    private int readLineUntil(final InputStream in, final int delimiter, final OutputStream out) throws IOException {
-        int b;
-        while ((b = in.read()) != -1) {
-            if (b == delimiter || b == '\n' || b == '\r') {
-                break;
-            } else if (out != null) {
-                out.write(b);
-            }
-        }
-
-        return b;
-    }
-
-    private void processField(final InboundEvent.Builder inboundEventBuilder, final String name,
-                              final MediaType mediaType, final byte[] value) {
-        final String valueString = new String(value, MessageUtils.getCharset(mediaType));
-        if ("event".equals(name)) {
-            inboundEventBuilder.name(valueString);
-        } else if ("data".equals(name)) {
-            inboundEventBuilder.write(value);
-            inboundEventBuilder.write(EOL_DATA);
-        } else if ("id".equals(name)) {
-            inboundEventBuilder.id(valueString);
-        } else if ("retry".equals(name)) {
-            try {
-                inboundEventBuilder.reconnectDelay(Long.parseLong(valueString));
-            } catch (final NumberFormatException ex) {
-                LOGGER.log(Level.FINE, LocalizationMessages.IN_EVENT_RETRY_PARSE_ERROR(valueString), ex);
-            }
-        } else {
-            LOGGER.fine(LocalizationMessages.IN_EVENT_FIELD_NOT_RECOGNIZED(name, valueString));
-        }
+        final MessageBodyWorkers workers = messageBodyWorkers.get();
+        final InboundEvent event = new InboundEventParser(entityStream, READ_BUFFER_SIZE)
+                .next(workers, annotations, mediaType, headers);
+        return event != null ? event : new InboundEvent.Builder(workers, annotations, mediaType, headers).build();
     }
 }
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.SseEventSink;
+
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.SharedChunk;
+import org.glassfish.jersey.server.SlowConsumerPolicy;
+
+/**
+ * Registry of {@link SseEventSink SSE event sinks} meant for a large number of mostly idle connections.
+ * <p>
+ * Unlike {@link javax.ws.rs.sse.SseBroadcaster}, which creates a subscription with its own event buffer for every
+ * registered sink, the registry keeps just a reference to each sink. The sinks are spread over shards, each shard is
+ * an array guarded by its own lock, so that registrations of many clients do not contend on a single lock.
+ * </p>
+ * <p>
+ * A {@link #broadcast(OutboundSseEvent) broadcast} event is serialized once for all the Jersey event sinks. The calling
+ * thread just queues the event in each sink, every Jersey event sink writes the queued events in its own task on the
+ * {@link org.glassfish.jersey.server.ManagedAsyncExecutor managed async executor}, so a client that does not read
+ * the events does not hold up the other clients. When configured, a comment event is periodically queued in the sinks
+ * to keep the idle connections open and to detect the disconnected clients. A Jersey event sink that has not written
+ * the previously queued events yet skips the heartbeat, so that a stalled client does not accumulate them. The heartbeat
+ * of each shard is scheduled separately, the shards are spread evenly over the heartbeat period. The sinks that are found
+ * closed by a broadcast or a heartbeat are unregistered.
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class SseSinkRegistry implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(SseSinkRegistry.class.getName());
+    private static final int MAX_SHARDS = 64;
+    // a heartbeat is only needed by an idle sink, a sink that has not written the queued events yet skips it
+    private static final SlowConsumerPolicy HEARTBEAT_POLICY = SlowConsumerPolicy.buffer(1);
+
+    private final Shard[] shards;
+    private final int mask;
+    private final SlowConsumerPolicy policy;
+    private final SharedChunk<OutboundSseEvent> heartbeat;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final List<ScheduledFuture<?>> heartbeats = new ArrayList<>();
+    private volatile boolean closed;
+
+    private SseSinkRegistry(final Builder builder) {
+        final int count = builder.shards == 1 ? 1 : Math.min(MAX_SHARDS, Integer.highestOneBit(builder.shards - 1) << 1);
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard();
+        }
+        this.mask = count - 1;
+        this.policy = builder.policy;
+
+        if (builder.heartbeatNanos > 0) {
+            this.heartbeat = new SharedChunk<>(new OutboundEvent.Builder().comment(builder.heartbeatComment).build());
+            this.ownScheduler = builder.scheduler == null;
+            this.scheduler = ownScheduler
+                    ? Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                         .setNameFormat("jersey-sse-heartbeat-%d")
+                                                                         .setDaemon(true)
+                                                                         .build())
+                    : builder.scheduler;
+            for (int i = 0; i < count; i++) {
+                final Shard shard = shards[i];
+                // spread the heartbeats of the shards evenly over the period
+                final long delay = builder.heartbeatNanos * (i + 1) / count;
+                heartbeats.add(scheduler.scheduleAtFixedRate(
+                        () -> send(shard, heartbeat, HEARTBEAT_POLICY), delay, builder.heartbeatNanos, TimeUnit.NANOSECONDS));
+            }
+        } else {
+            this.heartbeat = null;
+            this.scheduler = null;
+            this.ownScheduler = false;
+        }
+    }
+
+    /**
+     * Create a new registry builder.
+     *
+     * @return new registry builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Register an event sink.
+     *
+     * @param sink event sink to be registered.
+     * @throws IllegalStateException if this registry is closed.
+     */
+    public void register(final SseEventSink sink) {
+        if (sink == null) {
+            throw new NullPointerException(LocalizationMessages.PARAM_NULL("sink"));
+        }
+        if (closed) {
+            throw new IllegalStateException(LocalizationMessages.SSE_REGISTRY_CLOSED());
+        }
+        shard(sink).add(sink);
+    }
+
+    /**
+     * Unregister an event sink. The sink is not closed.
+     *
+     * @param sink event sink to be unregistered.
+     * @return {@code true} if the sink was registered, {@code false} otherwise.
+     */
+    public boolean unregister(final SseEventSink sink) {
+        return sink != null && shard(sink).remove(sink);
+    }
+
+    /**
+     * Get the number of the registered event sinks.
+     *
+     * @return number of the registered sinks.
+     */
+    public int size() {
+        int size = 0;
+        for (final Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Send an event to all the registered event sinks.
+     * <p>
+     * The event is serialized once for all the Jersey event sinks. The {@link Builder#slowConsumerPolicy(SlowConsumerPolicy)
+     * slow consumer policy} of this registry decides what happens when a sink has not written the previous events yet.
+     * </p>
+     *
+     * @param event event to be sent.
+     * @throws IllegalStateException if this registry is closed.
+     */
+    public void broadcast(final OutboundSseEvent event) {
+        if (event == null) {
+            throw new NullPointerException(LocalizationMessages.PARAM_NULL("event"));
+        }
+        if (closed) {
+            throw new IllegalStateException(LocalizationMessages.SSE_REGISTRY_CLOSED());
+        }
+        final SharedChunk<OutboundSseEvent> chunk = new SharedChunk<>(event);
+        for (final Shard shard : shards) {
+            send(shard, chunk, policy);
+        }
+    }
+
+    /**
+     * Stop the heartbeats, close and unregister all the registered event sinks.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (final ScheduledFuture<?> future : heartbeats) {
+            future.cancel(false);
+        }
+        if (ownScheduler) {
+            scheduler.shutdown();
+        }
+        for (final Shard shard : shards) {
+            for (final SseEventSink sink : shard.clear()) {
+                sink.close();
+            }
+        }
+    }
+
+    private Shard shard(final SseEventSink sink) {
+        final int h = System.identityHashCode(sink);
+        return shards[(h ^ (h >>> 16)) & mask];
+    }
+
+    private void send(final Shard shard, final SharedChunk<OutboundSseEvent> chunk, final SlowConsumerPolicy policy) {
+        boolean found = false;
+        for (final SseEventSink sink : shard.snapshot()) {
+            if (!sink.isClosed()) {
+                send(sink, chunk, policy);
+            }
+            found |= sink.isClosed();
+        }
+        if (found) {
+            shard.removeClosed();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void send(final SseEventSink sink,
+                             final SharedChunk<OutboundSseEvent> chunk,
+                             final SlowConsumerPolicy policy) {
+        try {
+            if (sink instanceof ChunkedOutput) {
+                ((ChunkedOutput<OutboundSseEvent>) sink).write(chunk, policy);
+            } else {
+                sink.send(chunk.getChunk());
+            }
+        } catch (final IOException | RuntimeException e) {
+            // the closed sink is unregistered afterwards
+            LOGGER.log(Level.FINE, LocalizationMessages.SSE_REGISTRY_SEND_FAILED(), e);
+            sink.close();
+        }
+    }
+
+    /**
+     * Part of the registered event sinks.
+     */
+    private static final class Shard {
+
+        private static final SseEventSink[] EMPTY = new SseEventSink[0];
+
+        private SseEventSink[] sinks = EMPTY;
+        private int size;
+
+        private synchronized void add(final SseEventSink sink) {
+            if (size == sinks.length) {
+                sinks = Arrays.copyOf(sinks, Math.max(8, size * 2));
+            }
+            sinks[size++] = sink;
+        }
+
+        private synchronized boolean remove(final SseEventSink sink) {
+            for (int i = 0; i < size; i++) {
+                if (sinks[i] == sink) {
+                    // the order of the sinks does not matter, move the last one to the free slot
+                    sinks[i] = sinks[--size];
+                    sinks[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private synchronized void removeClosed() {
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                if (!sinks[i].isClosed()) {
+                    sinks[j++] = sinks[i];
+                }
+            }
+            Arrays.fill(sinks, j, size, null);
+            size = j;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized SseEventSink[] snapshot() {
+            // the events are written outside of the lock so that a slow sink does not block the registrations
+            return size == 0 ? EMPTY : Arrays.copyOf(sinks, size);
+        }
+
+        private synchronized SseEventSink[] clear() {
+            final SseEventSink[] snapshot = snapshot();
+            sinks = EMPTY;
+            size = 0;
+            return snapshot;
+        }
+    }
+
+    /**
+     * Builder of {@link SseSinkRegistry}.
+     */
+    public static final class Builder {
+
+        private int shards = 2 * Runtime.getRuntime().availableProcessors();
+        private long heartbeatNanos;
+        private String heartbeatComment = "";
+        private ScheduledExecutorService scheduler;
+        private SlowConsumerPolicy policy = SlowConsumerPolicy.BLOCK;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the minimal number of the shards of the registry, the number is rounded up to the next power of two and
+         * limited to 64. Defaults to twice the number of the available processors.
+         *
+         * @param shards number of the shards, must be positive.
+         * @return updated builder.
+         */
+        public Builder shards(final int shards) {
+            if (shards <= 0) {
+                throw new IllegalArgumentException("shards: " + shards);
+            }
+            this.shards = shards;
+            return this;
+        }
+
+        /**
+         * Enable periodic heartbeat comment events. Disabled by default.
+         *
+         * @param period period of the heartbeat, {@code 0} to disable the heartbeat.
+         * @param unit   unit of the period.
+         * @return updated builder.
+         */
+        public Builder heartbeat(final long period, final TimeUnit unit) {
+            if (period < 0) {
+                throw new IllegalArgumentException("period: " + period);
+            }
+            this.heartbeatNanos = unit.toNanos(period);
+            return this;
+        }
+
+        /**
+         * Set the comment of the heartbeat events. Defaults to an empty comment.
+         *
+         * @param comment heartbeat comment.
+         * @return updated builder.
+         */
+        public Builder heartbeatComment(final String comment) {
+            if (comment == null) {
+                throw new NullPointerException(LocalizationMessages.PARAM_NULL("comment"));
+            }
+            this.heartbeatComment = comment;
+            return this;
+        }
+
+        /**
+         * Set the scheduler of the heartbeats. By default, the registry creates its own single thread scheduler, which is
+         * shut down when the registry is closed. A scheduler set by this method is not shut down by the registry.
+         *
+         * @param scheduler heartbeat scheduler.
+         * @return updated builder.
+         */
+        public Builder scheduler(final ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Set the policy applied to the events a Jersey event sink is not able to write in time. Defaults to
+         * {@link SlowConsumerPolicy#BLOCK}.
+         *
+         * @param policy slow consumer policy.
+         * @return updated builder.
+         */
+        public Builder slowConsumerPolicy(final SlowConsumerPolicy policy) {
+            if (policy == null) {
+                throw new NullPointerException(LocalizationMessages.PARAM_NULL("policy"));
+            }
+            this.policy = policy;
+            return this;
+        }
+
+        /**
+         * Build a new registry.
+         *
+         * @return new registry.
+         */
+        public SseSinkRegistry build() {
+            return new SseSinkRegistry(this);
+        }
+    }
+}
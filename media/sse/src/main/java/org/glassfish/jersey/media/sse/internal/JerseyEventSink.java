@@ -36,6 +36,8 @@ import org.glassfish.jersey.media.sse.LocalizationMessages;
 import org.glassfish.jersey.media.sse.OutboundEvent;
 import org.glassfish.jersey.server.AsyncContext;
 import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.SharedChunk;
+import org.glassfish.jersey.server.SlowConsumerPolicy;
 
 /**
  * Server-side SSE subscriber.
@@ -146,6 +148,24 @@ class JerseyEventSink extends ChunkedOutput<OutboundSseEvent>
         }
     }
 
+    /**
+     * Send an event shared with other event sinks, the event is serialized only once for all the sinks.
+     *
+     * @param event shared event.
+     * @return completion stage of the send operation.
+     */
+    CompletionStage<?> send(final SharedChunk<OutboundSseEvent> event) {
+        checkClosed();
+        try {
+            this.write(event, SlowConsumerPolicy.BLOCK);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
     /**
      * Flush the headers.
      *
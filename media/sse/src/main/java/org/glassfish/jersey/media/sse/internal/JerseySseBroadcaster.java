@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.lang.reflect.Type;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -23,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
 import javax.ws.rs.sse.SseBroadcaster;
@@ -31,11 +33,14 @@ import javax.ws.rs.sse.SseEventSink;
 import org.glassfish.jersey.internal.jsr166.Flow;
 import org.glassfish.jersey.internal.util.JerseyPublisher;
 import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.server.SharedChunk;
 
 /**
  * Used for broadcasting SSE to multiple {@link javax.ws.rs.sse.SseEventSink} instances.
  * <p>
  * JAX-RS 2.1 {@link SseBroadcaster} implementation.
+ * <p>
+ * A broadcast event is serialized once for all the registered Jersey event sinks rather than once per sink.
  *
  * @author Adam Lindenthal
  */
@@ -104,7 +109,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
             throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
         }
 
-        return CompletableFuture.completedFuture(publish(event));
+        return CompletableFuture.completedFuture(publish(new SharedEvent(event)));
     }
 
     private void notifyOnCompleteHandlers(Flow.Subscriber<? super OutboundSseEvent> subscriber) {
@@ -136,7 +141,13 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
 
         @Override
         public void onNext(final OutboundSseEvent item) {
-            sseEventSink.send(item);
+            if (!(item instanceof SharedEvent)) {
+                sseEventSink.send(item);
+            } else if (sseEventSink instanceof JerseyEventSink) {
+                ((JerseyEventSink) sseEventSink).send(((SharedEvent) item).sharedChunk);
+            } else {
+                sseEventSink.send(((SharedEvent) item).sharedChunk.getChunk());
+            }
         }
 
         @Override
@@ -154,4 +165,68 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
 
         }
     }
+
+    /**
+     * Broadcast event carrying the chunk shared by all the event sinks.
+     */
+    private static final class SharedEvent implements OutboundSseEvent {
+
+        private final SharedChunk<OutboundSseEvent> sharedChunk;
+        private final OutboundSseEvent event;
+
+        private SharedEvent(final OutboundSseEvent event) {
+            this.sharedChunk = new SharedChunk<>(event);
+            this.event = event;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return event.getType();
+        }
+
+        @Override
+        public Type getGenericType() {
+            return event.getGenericType();
+        }
+
+        @Override
+        public MediaType getMediaType() {
+            return event.getMediaType();
+        }
+
+        @Override
+        public Object getData() {
+            return event.getData();
+        }
+
+        @Override
+        public String getId() {
+            return event.getId();
+        }
+
+        @Override
+        public String getName() {
+            return event.getName();
+        }
+
+        @Override
+        public String getComment() {
+            return event.getComment();
+        }
+
+        @Override
+        public long getReconnectDelay() {
+            return event.getReconnectDelay();
+        }
+
+        @Override
+        public boolean isReconnectDelaySet() {
+            return event.isReconnectDelaySet();
+        }
+
+        @Override
+        public String toString() {
+            return event.toString();
+        }
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link InboundEventParser} test.
+ */
+public class InboundEventParserTest {
+
+    private static final String EVENTS = "event: first\ndata: 1\n\nevent: second\ndata: 2\ndata: 3\n\n";
+
+    @Test
+    public void testMultipleEvents() throws IOException {
+        final InboundEventParser parser = new InboundEventParser(stream(EVENTS));
+        assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), "first", "1");
+        assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), "second", "2\n3");
+        assertNull(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null));
+    }
+
+    @Test
+    public void testLineBreaks() throws IOException {
+        for (final String lineBreak : Arrays.asList("\n", "\r", "\r\n")) {
+            // bytes read one by one into the smallest window, CRLF is split between two reads
+            final InboundEventParser parser = new InboundEventParser(
+                    new TricklingInputStream(EVENTS.replace("\n", lineBreak)), 1);
+            assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), "first", "1");
+            assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), "second", "2\n3");
+            assertNull(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null));
+        }
+    }
+
+    @Test
+    public void testLongLine() throws IOException {
+        final char[] chars = new char[100_000];
+        Arrays.fill(chars, 'x');
+        final String data = new String(chars);
+
+        final InboundEventParser parser = new InboundEventParser(stream("data: " + data + "\n\ndata: y\n\n"), 16);
+        assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), null, data);
+        assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), null, "y");
+    }
+
+    @Test
+    public void testFields() throws IOException {
+        final InboundEventParser parser = new InboundEventParser(
+                stream(": hello \n:world\nid: 7\nretry: 500\nunknown: value\n\nretry: -1\nretry: nan\n\n"));
+
+        final InboundEvent event = parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null);
+        assertEquals("hello\nworld", event.getComment());
+        assertEquals("7", event.getId());
+        assertEquals(500, event.getReconnectDelay());
+        assertTrue(event.isEmpty());
+
+        assertEquals(SseFeature.RECONNECT_NOT_SET,
+                parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null).getReconnectDelay());
+    }
+
+    @Test
+    public void testEmptyEventsSkipped() throws IOException {
+        final InboundEventParser parser = new InboundEventParser(stream("\n\n\r\n\ndata: x\n\n\n\n"));
+        assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), null, "x");
+        assertNull(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null));
+    }
+
+    @Test
+    public void testUnterminatedEvent() throws IOException {
+        final InboundEventParser parser = new InboundEventParser(stream("data: a\ndata\n\ndata:   x"));
+        assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), null, "a\n");
+        assertEvent(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null), null, "x");
+        assertNull(parser.next(null, null, SseFeature.SERVER_SENT_EVENTS_TYPE, null));
+    }
+
+    private static InputStream stream(final String events) {
+        return new ByteArrayInputStream(events.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertEvent(final InboundEvent event, final String name, final String data) {
+        assertEquals(name, event.getName());
+        assertEquals(data, new String(event.getRawData(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stream returning at most one byte per read.
+     */
+    private static final class TricklingInputStream extends InputStream {
+
+        private final InputStream delegate;
+
+        private TricklingInputStream(final String events) {
+            this.delegate = stream(events);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return delegate.read(b, off, Math.min(len, 1));
+        }
+    }
+}
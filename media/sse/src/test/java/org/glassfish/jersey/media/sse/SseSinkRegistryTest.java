@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.SseEventSink;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.SharedChunk;
+import org.glassfish.jersey.server.SlowConsumerPolicy;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SseSinkRegistry} test.
+ */
+public class SseSinkRegistryTest {
+
+    @Path("events")
+    public static class SseResource {
+
+        static final BlockingQueue<SseEventSink> SINKS = new LinkedBlockingQueue<>();
+
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public void get(@Context final SseEventSink sink) {
+            SINKS.add(sink);
+        }
+    }
+
+    @Test
+    public void testBroadcast() {
+        try (SseSinkRegistry registry = SseSinkRegistry.builder().shards(4).build()) {
+            final RecordingSink[] sinks = new RecordingSink[100];
+            for (int i = 0; i < sinks.length; i++) {
+                sinks[i] = new RecordingSink();
+                registry.register(sinks[i]);
+            }
+            assertEquals(100, registry.size());
+
+            final OutboundSseEvent event = new OutboundEvent.Builder().data("event").build();
+            registry.broadcast(event);
+            for (final RecordingSink sink : sinks) {
+                assertEquals(1, sink.events.size());
+                assertSame(event, sink.events.get(0));
+            }
+        }
+    }
+
+    @Test
+    public void testUnregister() {
+        try (SseSinkRegistry registry = SseSinkRegistry.builder().shards(1).build()) {
+            final RecordingSink first = new RecordingSink();
+            final RecordingSink second = new RecordingSink();
+            registry.register(first);
+            registry.register(second);
+
+            assertTrue(registry.unregister(first));
+            assertFalse(registry.unregister(first));
+            assertEquals(1, registry.size());
+            assertFalse(first.isClosed());
+
+            registry.broadcast(new OutboundEvent.Builder().data("event").build());
+            assertEquals(0, first.events.size());
+            assertEquals(1, second.events.size());
+        }
+    }
+
+    @Test
+    public void testClosedSinksUnregistered() {
+        try (SseSinkRegistry registry = SseSinkRegistry.builder().shards(2).build()) {
+            final RecordingSink open = new RecordingSink();
+            final RecordingSink closed = new RecordingSink();
+            registry.register(open);
+            registry.register(closed);
+
+            closed.close();
+            registry.broadcast(new OutboundEvent.Builder().data("event").build());
+            assertEquals(1, registry.size());
+            assertEquals(1, open.events.size());
+            assertEquals(0, closed.events.size());
+        }
+    }
+
+    @Test
+    public void testHeartbeat() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(4);
+        try (SseSinkRegistry registry = SseSinkRegistry.builder()
+                                                      .shards(2)
+                                                      .heartbeat(10, TimeUnit.MILLISECONDS)
+                                                      .heartbeatComment("ping")
+                                                      .build()) {
+            for (int i = 0; i < 4; i++) {
+                registry.register(new RecordingSink() {
+                    @Override
+                    public CompletionStage<?> send(final OutboundSseEvent event) {
+                        if (events.isEmpty()) {
+                            assertEquals("ping", event.getComment());
+                            latch.countDown();
+                        }
+                        return super.send(event);
+                    }
+                });
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testClose() {
+        final SseSinkRegistry registry = SseSinkRegistry.builder().build();
+        final RecordingSink sink = new RecordingSink();
+        registry.register(sink);
+
+        registry.close();
+        assertTrue(sink.isClosed());
+        assertEquals(0, registry.size());
+        assertThrows(IllegalStateException.class, () -> registry.register(new RecordingSink()));
+        assertThrows(IllegalStateException.class,
+                () -> registry.broadcast(new OutboundEvent.Builder().data("event").build()));
+    }
+
+    private static class RecordingSink implements SseEventSink {
+
+        final List<OutboundSseEvent> events = new CopyOnWriteArrayList<>();
+        private volatile boolean closed;
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public CompletionStage<?> send(final OutboundSseEvent event) {
+            events.add(event);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    public void testBlockedClientDoesNotHoldUpOthers() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(SseResource.class));
+        final ClientStream slow = new ClientStream();
+        final ClientStream fast = new ClientStream();
+
+        try (SseSinkRegistry registry = SseSinkRegistry.builder()
+                                                      .shards(1)
+                                                      .heartbeat(20, TimeUnit.MILLISECONDS)
+                                                      .heartbeatComment("ping")
+                                                      .slowConsumerPolicy(SlowConsumerPolicy.drop())
+                                                      .build()) {
+            registry.register(connect(handler, slow));
+            registry.register(connect(handler, fast));
+
+            registry.broadcast(new OutboundEvent.Builder().data("hello").build());
+            assertTrue(await(() -> slow.toString().contains("data: hello") && fast.toString().contains("data: hello")));
+
+            slow.block();
+            registry.broadcast(new OutboundEvent.Builder().data("blocked").build());
+            assertTrue(slow.blocked.await(5, TimeUnit.SECONDS));
+
+            // the sinks share the shard, the heartbeats and the broadcasts still reach the other client
+            registry.broadcast(new OutboundEvent.Builder().data("next").build());
+            final int heartbeats = fast.count(": ping");
+            assertTrue(await(() -> fast.count(": ping") >= heartbeats + 3));
+            assertTrue(fast.toString().contains("data: next"));
+            assertEquals(2, registry.size());
+
+            slow.unblock();
+            assertTrue(await(() -> slow.toString().contains("data: blocked")));
+        }
+    }
+
+    @Test
+    public void testStalledClientSkipsHeartbeats() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(SseResource.class));
+        final ClientStream slow = new ClientStream();
+        final ClientStream fast = new ClientStream();
+
+        try (SseSinkRegistry registry = SseSinkRegistry.builder()
+                                                      .shards(1)
+                                                      .heartbeat(5, TimeUnit.MILLISECONDS)
+                                                      .heartbeatComment("ping")
+                                                      .build()) {
+            final SseEventSink slowSink = connect(handler, slow);
+            registry.register(slowSink);
+            registry.register(connect(handler, fast));
+
+            slow.block();
+            registry.broadcast(new OutboundEvent.Builder().data("blocked").build());
+            assertTrue(slow.blocked.await(5, TimeUnit.SECONDS));
+
+            final int heartbeats = fast.count(": ping");
+            assertTrue(await(() -> fast.count(": ping") >= heartbeats + 20));
+
+            // a single heartbeat is queued behind the blocked event, the other ones are skipped
+            @SuppressWarnings("unchecked")
+            final ChunkedOutput<OutboundSseEvent> output = (ChunkedOutput<OutboundSseEvent>) slowSink;
+            final SharedChunk<OutboundSseEvent> probe = new SharedChunk<>(new OutboundEvent.Builder().data("probe").build());
+            assertTrue(output.write(probe, SlowConsumerPolicy.buffer(2)));
+            assertFalse(output.write(probe, SlowConsumerPolicy.buffer(2)));
+
+            slow.unblock();
+            assertTrue(await(() -> slow.toString().contains("data: probe")));
+            final String written = slow.toString();
+            final String stalled = written.substring(written.indexOf("data: blocked"), written.indexOf("data: probe"));
+            assertEquals(1, stalled.split(": ping", -1).length - 1);
+        }
+    }
+
+    private static SseEventSink connect(final ApplicationHandler handler, final OutputStream stream)
+            throws InterruptedException {
+        final ContainerRequest request = new ContainerRequest(
+                URI.create("http://localhost/"), URI.create("http://localhost/events"),
+                "GET", null, new MapPropertiesDelegate(), handler.getConfiguration());
+        request.header(HttpHeaders.ACCEPT, MediaType.SERVER_SENT_EVENTS);
+        handler.apply(request, stream);
+        return SseResource.SINKS.poll(5, TimeUnit.SECONDS);
+    }
+
+    private static boolean await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Response stream of a client, the writes can be blocked to simulate a client that does not read the events.
+     */
+    private static class ClientStream extends OutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private volatile CountDownLatch gate;
+        private volatile CountDownLatch blocked;
+
+        void block() {
+            blocked = new CountDownLatch(1);
+            gate = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            gate.countDown();
+            gate = null;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            final CountDownLatch current = gate;
+            if (current != null) {
+                blocked.countDown();
+                try {
+                    current.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            synchronized (this) {
+                bytes.write(b, off, len);
+            }
+        }
+
+        int count(final String text) {
+            final String written = toString();
+            int count = 0;
+            for (int i = written.indexOf(text); i >= 0; i = written.indexOf(text, i + 1)) {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
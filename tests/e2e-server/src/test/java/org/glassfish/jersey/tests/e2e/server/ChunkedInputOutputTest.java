@@ -22,7 +22,9 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -54,6 +56,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
  */
 public class ChunkedInputOutputTest extends JerseyTest {
     private static final Logger LOGGER = Logger.getLogger(ChunkedInputOutputTest.class.getName());
+    private static final int RING_BUFFER_CHUNKS = 1000;
 
     /**
      * Test resource.
@@ -72,6 +75,47 @@ public class ChunkedInputOutputTest extends JerseyTest {
                              .chunkDelimiter("\r\n".getBytes()).build());
         }
 
+        /**
+         * Get a stream of many small chunks offered to a ring buffer of capacity 4 and flushed in batches.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("/testWithRingBuffer")
+        public ChunkedOutput<String> getWithRingBuffer() {
+            final ChunkedOutput<String> output = ChunkedOutput.<String>builder(String.class)
+                    .ringBufferCapacity(4)
+                    .flushAfterChunks(16)
+                    .flushAfterBytes(64)
+                    .flushDelay(100, TimeUnit.MICROSECONDS)
+                    .chunkDelimiter("\r\n".getBytes())
+                    .build();
+
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < RING_BUFFER_CHUNKS; i++) {
+                            while (!output.offer("chunk-" + i)) {
+                                // back-pressure, let the flushing thread make some room
+                                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                            }
+                        }
+                    } catch (final IOException e) {
+                        LOGGER.log(Level.SEVERE, "Error writing chunk.", e);
+                    } finally {
+                        try {
+                            output.close();
+                        } catch (final IOException e) {
+                            LOGGER.log(Level.INFO, "Error closing chunked output.", e);
+                        }
+                    }
+                }
+            }.start();
+
+            return output;
+        }
+
         /**
          * Get chunk stream.
          *
@@ -215,6 +259,27 @@ public class ChunkedInputOutputTest extends JerseyTest {
                 "Unexpected value of chunked response unmarshalled as a single string.");
     }
 
+    /**
+     * Test retrieving chunks offered to a ring buffer backed chunked output that flushes the chunks in batches.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testRingBufferChunkedOutputToChunkInput() throws Exception {
+        final ChunkedInput<String> input = target().path("test/testWithRingBuffer").request()
+                .get(new GenericType<ChunkedInput<String>>() {
+                });
+
+        int counter = 0;
+        String chunk;
+        while ((chunk = input.read()) != null) {
+            assertEquals("chunk-" + counter, chunk, "Unexpected value of chunk " + counter);
+            counter++;
+        }
+
+        assertEquals(RING_BUFFER_CHUNKS, counter, "Unexpected numbed of received chunks.");
+    }
+
     /**
      * Test retrieving chunked response stream sequentially as individual chunks using chunked input.
      *
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.e2e.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.server.Broadcaster;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.SlowConsumerPolicy;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that a chunk broadcast to the chunked outputs registered with a {@link SlowConsumerPolicy} is serialized once.
+ */
+public class SharedChunkBroadcasterTest extends JerseyTest {
+
+    private static final Broadcaster<Message> BROADCASTER = new Broadcaster<>();
+    private static final AtomicInteger SERIALIZED = new AtomicInteger();
+
+    public static class Message {
+
+        private final String text;
+
+        public Message(final String text) {
+            this.text = text;
+        }
+    }
+
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class CountingMessageWriter implements MessageBodyWriter<Message> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return type == Message.class;
+        }
+
+        @Override
+        public void writeTo(final Message message, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType,
+                            final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream)
+                throws IOException {
+            SERIALIZED.incrementAndGet();
+            entityStream.write(message.text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Path("/shared")
+    public static class SharedResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public ChunkedOutput<Message> get() throws IOException {
+            final ChunkedOutput<Message> output = new ChunkedOutput<>(Message.class);
+            // write something to ensure the client does not get blocked on waiting for the first byte
+            output.write(new Message("first"));
+            BROADCASTER.add(output, SlowConsumerPolicy.BLOCK);
+            return output;
+        }
+
+        @POST
+        public String post(final String text) {
+            BROADCASTER.broadcast(new Message(text));
+            return text;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(SharedResource.class, CountingMessageWriter.class);
+    }
+
+    @Test
+    public void testSerializedOnce() throws IOException {
+        final InputStream is1 = getChunkStream();
+        final InputStream is2 = getChunkStream();
+        final InputStream is3 = getChunkStream();
+        checkStream("first", is1, is2, is3);
+
+        SERIALIZED.set(0);
+        target("shared").request().post(Entity.text("text1"));
+        checkStream("text1", is1, is2, is3);
+        assertEquals(1, SERIALIZED.get());
+
+        target("shared").request().post(Entity.text("text2"));
+        checkStream("text2", is1, is2, is3);
+        assertEquals(2, SERIALIZED.get());
+
+        BROADCASTER.closeAll();
+    }
+
+    private InputStream getChunkStream() {
+        return target("shared").request().get(InputStream.class);
+    }
+
+    private void checkStream(final String golden, final InputStream... inputStreams) throws IOException {
+        final byte[] bytes = golden.getBytes();
+        final byte[] entity = new byte[bytes.length];
+        for (final InputStream is : inputStreams) {
+            int bytesRead = 0;
+            int previous = 0;
+            while ((bytesRead += is.read(entity, bytesRead, entity.length - bytesRead)) < entity.length
+                    && previous != bytesRead) {
+                previous = bytesRead;
+            }
+            assertEquals(golden, new String(entity));
+        }
+    }
+}
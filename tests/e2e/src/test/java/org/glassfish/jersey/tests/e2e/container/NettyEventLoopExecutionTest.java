@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.e2e.container;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.netty.httpserver.NettyServerProperties;
+import org.glassfish.jersey.server.NonBlocking;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.netty.NettyTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerException;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+
+import io.netty.util.concurrent.FastThreadLocalThread;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the processing of the requests on the Netty event loop enabled by
+ * {@link NettyServerProperties#EVENT_LOOP_EXECUTION}.
+ */
+public class NettyEventLoopExecutionTest extends JerseyTest {
+
+    private static final int MAX_ENTITY_SIZE = 16;
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(NonBlockingResource.class, BlockingResource.class, ThreadFilter.class)
+                .property(NettyServerProperties.EVENT_LOOP_EXECUTION, true)
+                .property(NettyServerProperties.EVENT_LOOP_MAX_ENTITY_SIZE, MAX_ENTITY_SIZE);
+    }
+
+    @Override
+    protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
+        return new NettyTestContainerFactory();
+    }
+
+    private static String thread(String entity) {
+        // Netty event loop threads are fast thread local threads
+        return (Thread.currentThread() instanceof FastThreadLocalThread ? "event-loop:" : "worker:") + entity;
+    }
+
+    public static class ThreadFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            requestContext.setProperty("filter", thread("filter"));
+        }
+    }
+
+    @Path("non-blocking")
+    @NonBlocking
+    public static class NonBlockingResource {
+
+        @GET
+        public String get() {
+            return thread("get");
+        }
+
+        @POST
+        public String post(String entity) {
+            return thread(entity);
+        }
+
+        @GET
+        @Path("large")
+        public byte[] large() {
+            final byte[] entity = new byte[1024 * 1024];
+            Arrays.fill(entity, (byte) 'a');
+            return entity;
+        }
+    }
+
+    @Path("blocking")
+    public static class BlockingResource {
+
+        @GET
+        public String get() {
+            return thread("get");
+        }
+
+        @GET
+        @Path("filter")
+        public String filter(@Context ContainerRequestContext requestContext) {
+            return requestContext.getProperty("filter") + "," + thread("get");
+        }
+
+        @POST
+        @Path("read")
+        public String read(InputStream entityStream) throws IOException, InterruptedException {
+            // blocking read of the entity and a blocking wait, neither must fail with BlockingOperationException
+            final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4];
+            int read;
+            while ((read = entityStream.read(buffer)) != -1) {
+                entity.write(buffer, 0, read);
+            }
+            Thread.sleep(100);
+            return thread(new String(entity.toByteArray(), StandardCharsets.UTF_8));
+        }
+
+        @GET
+        @Path("large")
+        public byte[] large() {
+            final byte[] entity = new byte[1024 * 1024];
+            Arrays.fill(entity, (byte) 'b');
+            return entity;
+        }
+
+        @GET
+        @Path("async")
+        public CompletionStage<String> async() {
+            return CompletableFuture.supplyAsync(() -> "async");
+        }
+
+        @GET
+        @Path("non-blocking")
+        @NonBlocking
+        public String nonBlocking() {
+            return thread("get");
+        }
+    }
+
+    @Test
+    public void testNonBlockingMethodOnEventLoop() {
+        assertEquals("event-loop:get", target("non-blocking").request().get(String.class));
+        assertEquals("event-loop:get", target("blocking/non-blocking").request().get(String.class));
+    }
+
+    @Test
+    public void testBlockingMethodOffloaded() {
+        assertEquals("worker:get", target("blocking").request().get(String.class));
+    }
+
+    @Test
+    public void testFilterOnEventLoop() {
+        assertEquals("event-loop:filter,worker:get", target("blocking/filter").request().get(String.class));
+    }
+
+    @Test
+    public void testBlockingMethodDispatchedFromEventLoop() {
+        // the small entity is received before the request is processed on the event loop, the method is offloaded
+        final Response response = target("blocking/read").request().post(Entity.text("small"));
+        assertEquals(200, response.getStatus());
+        assertEquals("worker:small", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testLargeResponseFromWorker() {
+        // written through the bounded chunked input by the offloaded method
+        assertEquals(1024 * 1024, target("blocking/large").request().get(byte[].class).length);
+    }
+
+    @Test
+    public void testBlockingCompletionStage() {
+        assertEquals("async", target("blocking/async").request().get(String.class));
+    }
+
+    @Test
+    public void testSmallEntityOnEventLoop() {
+        assertEquals("event-loop:small", target("non-blocking").request().post(Entity.text("small"), String.class));
+    }
+
+    @Test
+    public void testLargeEntityOnWorker() {
+        final String entity = "larger than the maximal entity size";
+        assertEquals("worker:" + entity, target("non-blocking").request().post(Entity.text(entity), String.class));
+    }
+
+    @Test
+    public void testLargeResponseFromEventLoop() {
+        assertEquals(1024 * 1024, target("non-blocking/large").request().get(byte[].class).length);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.e2e.container;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.internal.jsr166.Flow;
+import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.message.NonBlockingInput;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.grizzly.GrizzlyTestContainerFactory;
+import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
+import org.glassfish.jersey.test.jdkhttp.JdkHttpServerTestContainerFactory;
+import org.glassfish.jersey.test.netty.NettyTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+import org.glassfish.jersey.test.spi.TestHelper;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests reading request entities using {@link ContainerRequest#getEntityPublisher()} and
+ * {@link ContainerRequest#readEntityAsync(Class)}, natively non-blocking in the containers supporting
+ * {@link NonBlockingInput}.
+ */
+public class NonBlockingEntityTest {
+
+    private static final String NON_BLOCKING = "X-Non-Blocking";
+
+    public static class Bean {
+
+        public String name;
+        public List<String> items;
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @POST
+        @Path("json")
+        @Consumes(MediaType.APPLICATION_JSON)
+        public void json(@Context final ContainerRequest request, @Suspended final AsyncResponse asyncResponse) {
+            final boolean nonBlocking = request.getEntityStream() instanceof NonBlockingInput;
+            request.readEntityAsync(Bean.class).whenComplete((bean, failure) -> {
+                if (failure != null) {
+                    asyncResponse.resume(failure);
+                } else {
+                    asyncResponse.resume(Response.ok(bean.name + ":" + bean.items.size())
+                            .header(NON_BLOCKING, nonBlocking)
+                            .build());
+                }
+            });
+        }
+
+        @POST
+        @Path("bytes")
+        public void bytes(@Context final ContainerRequest request, @Suspended final AsyncResponse asyncResponse) {
+            request.getEntityPublisher().subscribe(new Flow.Subscriber<ByteBuffer>() {
+
+                private Flow.Subscription subscription;
+                private long count;
+
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(final ByteBuffer item) {
+                    count += item.remaining();
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    asyncResponse.resume(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    asyncResponse.resume(String.valueOf(count));
+                }
+            });
+        }
+    }
+
+    @TestFactory
+    public Collection<DynamicContainer> generateTests() {
+        Collection<DynamicContainer> tests = new ArrayList<>();
+        // the in-memory and JDK HTTP server containers cannot suspend the response
+        JerseyContainerTest.parameters()
+                .filter(factory -> !(factory instanceof InMemoryTestContainerFactory)
+                        && !(factory instanceof JdkHttpServerTestContainerFactory))
+                .forEach(testContainerFactory -> {
+                    NonBlockingEntityTemplateTest test = new NonBlockingEntityTemplateTest(testContainerFactory) {};
+                    tests.add(TestHelper.toTestContainer(test, testContainerFactory.getClass().getSimpleName()));
+                });
+        return tests;
+    }
+
+    public abstract static class NonBlockingEntityTemplateTest extends JerseyContainerTest {
+
+        private final boolean nonBlockingSupported;
+
+        public NonBlockingEntityTemplateTest(TestContainerFactory testContainerFactory) {
+            super(testContainerFactory);
+            this.nonBlockingSupported = testContainerFactory instanceof GrizzlyTestContainerFactory
+                    || testContainerFactory instanceof NettyTestContainerFactory;
+        }
+
+        @Override
+        protected Application configure() {
+            return new ResourceConfig(Resource.class, JacksonFeature.class);
+        }
+
+        @Test
+        public void testJson() {
+            final StringBuilder json = new StringBuilder("{\"name\":\"bean\",\"items\":[");
+            for (int i = 0; i < 20000; i++) {
+                json.append(i == 0 ? "" : ",").append("\"item-").append(i).append('"');
+            }
+            json.append("]}");
+
+            final Response response = target("json").request().post(Entity.json(json.toString()));
+            assertThat(response.getStatus(), is(200));
+            assertThat(response.readEntity(String.class), is("bean:20000"));
+            assertThat(response.getHeaderString(NON_BLOCKING), is(String.valueOf(nonBlockingSupported)));
+        }
+
+        @Test
+        public void testMalformedJson() {
+            final Response response = target("json").request().post(Entity.json("{\"name\":"));
+            assertThat(response.getStatus(), is(400));
+        }
+
+        @Test
+        public void testBytes() {
+            final byte[] entity = new byte[1024 * 1024 + 3];
+            final Response response = target("bytes").request().post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM));
+            assertThat(response.getStatus(), is(200));
+            assertThat(response.readEntity(String.class), is(String.valueOf(entity.length)));
+        }
+    }
+}
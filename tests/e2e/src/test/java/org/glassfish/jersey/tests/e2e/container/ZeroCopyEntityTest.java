@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.e2e.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.message.GZipEncoder;
+import org.glassfish.jersey.message.ZeroCopyOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.filter.EncodingFilter;
+import org.glassfish.jersey.test.grizzly.GrizzlyTestContainerFactory;
+import org.glassfish.jersey.test.jdkhttp.JdkHttpServerTestContainerFactory;
+import org.glassfish.jersey.test.netty.NettyTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+import org.glassfish.jersey.test.spi.TestHelper;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Tests large {@link File}, {@link StreamingOutput} and {@link ByteBuffer} entities, which are written without copying
+ * by the containers supporting {@link ZeroCopyOutput}.
+ */
+public class ZeroCopyEntityTest {
+
+    private static final byte[] CONTENT = new byte[3 * 1024 * 1024 + 7];
+    private static final File FILE;
+
+    private static final AtomicReference<Boolean> ZERO_COPY = new AtomicReference<>();
+    private static final AtomicBoolean FILE_COPIED = new AtomicBoolean();
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+        try {
+            FILE = File.createTempFile("jersey-zero-copy", ".bin");
+            FILE.deleteOnExit();
+            Files.write(FILE.toPath(), CONTENT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("file")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public File getFile() {
+            return new TrackedFile();
+        }
+
+        @GET
+        @Path("streaming")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public StreamingOutput getStreaming() {
+            return output -> {
+                final boolean zeroCopy = output instanceof ZeroCopyOutput
+                        && ((ZeroCopyOutput) output).writeFile(FILE, 0, FILE.length());
+                ZERO_COPY.set(zeroCopy);
+                if (!zeroCopy) {
+                    Files.copy(FILE.toPath(), output);
+                }
+            };
+        }
+
+        @GET
+        @Path("buffer")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public ByteBuffer getBuffer() {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(CONTENT.length);
+            buffer.put(CONTENT).flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * The test file recording whether it has been copied by {@code FileProvider}, which opens the file using
+     * {@link File#toPath()} only if the container cannot send it without copying.
+     */
+    private static class TrackedFile extends File {
+
+        private TrackedFile() {
+            super(FILE.getPath());
+        }
+
+        @Override
+        public java.nio.file.Path toPath() {
+            FILE_COPIED.set(true);
+            return super.toPath();
+        }
+    }
+
+    public static class ByteBufferWriter implements MessageBodyWriter<ByteBuffer> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return ByteBuffer.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buffer, Class<?> type, Type genericType, Annotation[] annotations,
+                            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                            OutputStream entityStream) throws IOException {
+            final boolean zeroCopy = ((ZeroCopyOutput) entityStream).writeBuffer(buffer);
+            // the buffer written without copying must have been consumed, just like the copied one
+            ZERO_COPY.set(zeroCopy && !buffer.hasRemaining());
+            if (!zeroCopy) {
+                Channels.newChannel(entityStream).write(buffer);
+            }
+        }
+    }
+
+    @TestFactory
+    public Collection<DynamicContainer> generateTests() {
+        Collection<DynamicContainer> tests = new ArrayList<>();
+        JerseyContainerTest.parameters().forEach(testContainerFactory -> {
+            ZeroCopyEntityTemplateTest test = new ZeroCopyEntityTemplateTest(testContainerFactory) {};
+            tests.add(TestHelper.toTestContainer(test, testContainerFactory.getClass().getSimpleName()));
+        });
+        return tests;
+    }
+
+    @Test
+    public void testGrizzlySendFile() throws IOException {
+        final HttpServer server = GrizzlyHttpServerFactory.createHttpServer(
+                URI.create("http://localhost:0/"), new ResourceConfig(Resource.class), false);
+        // sendfile is not enabled by default on recent JDKs
+        for (NetworkListener listener : server.getListeners()) {
+            listener.setSendFileEnabled(true);
+        }
+        server.start();
+        final Client client = ClientBuilder.newClient();
+        try {
+            final URI uri = URI.create("http://localhost:" + server.getListener("grizzly").getPort() + "/");
+
+            FILE_COPIED.set(false);
+            Response response = client.target(uri).path("file").request().get();
+            assertThat(response.getStatus(), is(200));
+            assertThat(response.getHeaderString(HttpHeaders.CONTENT_LENGTH), is(String.valueOf(CONTENT.length)));
+            assertArrayEquals(CONTENT, response.readEntity(byte[].class));
+            assertThat(FILE_COPIED.get(), is(false));
+
+            ZERO_COPY.set(null);
+            response = client.target(uri).path("streaming").request().get();
+            assertThat(response.getStatus(), is(200));
+            assertArrayEquals(CONTENT, response.readEntity(byte[].class));
+            assertThat(ZERO_COPY.get(), is(true));
+        } finally {
+            client.close();
+            server.shutdownNow();
+        }
+    }
+
+    public abstract static class ZeroCopyEntityTemplateTest extends JerseyContainerTest {
+
+        private final boolean zeroCopySupported;
+        private final Boolean fileZeroCopySupported;
+        private final boolean headContentLengthSupported;
+
+        public ZeroCopyEntityTemplateTest(TestContainerFactory testContainerFactory) {
+            super(testContainerFactory);
+            // JDK HTTP server does not send Content-Length in responses to HEAD requests
+            this.headContentLengthSupported = !(testContainerFactory instanceof JdkHttpServerTestContainerFactory);
+            this.zeroCopySupported = testContainerFactory instanceof GrizzlyTestContainerFactory
+                    || testContainerFactory instanceof NettyTestContainerFactory;
+            // Grizzly sends files without copying only if sendfile is enabled, which depends on the JDK, see testGrizzlySendFile
+            this.fileZeroCopySupported = testContainerFactory instanceof GrizzlyTestContainerFactory
+                    ? null : testContainerFactory instanceof NettyTestContainerFactory;
+        }
+
+        private void assertFileZeroCopy(final boolean zeroCopy) {
+            if (fileZeroCopySupported != null) {
+                assertThat(zeroCopy, is(fileZeroCopySupported));
+            }
+        }
+
+        @Override
+        protected Application configure() {
+            return new ResourceConfig(Resource.class, ByteBufferWriter.class, EncodingFilter.class, GZipEncoder.class);
+        }
+
+        @Override
+        protected void configureClient(final ClientConfig config) {
+            config.register(GZipEncoder.class);
+        }
+
+        @Test
+        public void testFile() {
+            for (int i = 0; i < 3; i++) {
+                FILE_COPIED.set(false);
+                final Response response = target("file").request().get();
+                assertThat(response.getStatus(), is(200));
+                assertThat(response.getHeaderString(HttpHeaders.CONTENT_LENGTH), is(String.valueOf(CONTENT.length)));
+                assertArrayEquals(CONTENT, response.readEntity(byte[].class));
+                assertFileZeroCopy(!FILE_COPIED.get());
+            }
+        }
+
+        @Test
+        public void testStreamingFile() {
+            ZERO_COPY.set(null);
+            final Response response = target("streaming").request().get();
+            assertThat(response.getStatus(), is(200));
+            assertArrayEquals(CONTENT, response.readEntity(byte[].class));
+            assertFileZeroCopy(ZERO_COPY.get());
+        }
+
+        @Test
+        public void testEncodedFile() {
+            FILE_COPIED.set(false);
+            final Response response = target("file").request().acceptEncoding("gzip").get();
+            assertThat(response.getStatus(), is(200));
+            assertThat(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), is("gzip"));
+            assertArrayEquals(CONTENT, response.readEntity(byte[].class));
+            // the encoded entity has to be copied through the GZIP stream
+            assertThat(FILE_COPIED.get(), is(true));
+        }
+
+        @Test
+        public void testHeadFile() {
+            final Response response = target("file").request().head();
+            assertThat(response.getStatus(), is(200));
+            if (headContentLengthSupported) {
+                assertThat(response.getHeaderString(HttpHeaders.CONTENT_LENGTH), is(String.valueOf(CONTENT.length)));
+            }
+        }
+
+        @Test
+        public void testBuffer() {
+            final Response response = target("buffer").request().get();
+            assertThat(response.getStatus(), is(200));
+            assertArrayEquals(CONTENT, response.readEntity(byte[].class));
+            assertThat(ZERO_COPY.get(), is(zeroCopySupported));
+        }
+    }
+}
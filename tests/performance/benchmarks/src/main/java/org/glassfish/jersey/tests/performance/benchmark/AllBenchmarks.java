@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,21 @@ public class AllBenchmarks {
                 .include(LocatorBenchmark.class.getSimpleName())
                 .include(JerseyUriBuilderBenchmark.class.getSimpleName())
                 .include(HeadersServerBenchmark.class.getName())
+                .include(LazyHeadersServerBenchmark.class.getName())
+                .include(RoutingBenchmark.class.getSimpleName())
+                .include(DispatchBenchmark.class.getSimpleName())
+                .include(BufferPoolBenchmark.class.getSimpleName())
+                .include(JsonEndpointBenchmark.class.getSimpleName())
+                .include(ChunkedOutputBenchmark.class.getSimpleName())
+                .include(MonitoringBenchmark.class.getSimpleName())
+                .include(MonitoringRecordingBenchmark.class.getSimpleName())
+                .include(SseSinkMemoryBenchmark.class.getSimpleName())
+                .include(SseParserBenchmark.class.getSimpleName())
+                .include(ProxyClientBenchmark.class.getSimpleName())
+                .include(NettyEventLoopBenchmark.class.getSimpleName())
+                .include(ScanningBenchmark.class.getSimpleName())
+                .include(ModelSnapshotBenchmark.class.getSimpleName())
+                .include(ParallelStartupBenchmark.class.getSimpleName())
                 // Measure throughput in seconds (ops/s).
                 .mode(Mode.Throughput)
                 .timeUnit(TimeUnit.SECONDS)
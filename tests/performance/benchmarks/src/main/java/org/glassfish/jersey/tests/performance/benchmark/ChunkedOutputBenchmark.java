@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.server.ChunkedOutputApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link org.glassfish.jersey.server.ChunkedOutput} benchmark streaming small chunks using the default linked queue
+ * with a flush per chunk, the ring buffer with a flush per chunk, and the ring buffer with batched flushes.
+ * Each flush of the entity stream is charged with a fixed amount of CPU work simulating the cost of a write syscall.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChunkedOutputBenchmark {
+
+    @Param(value = {"default", "ring", "batched"})
+    private String mode;
+
+    @Param(value = {"1000"})
+    private int chunks;
+
+    @Param(value = {"1000"})
+    private long flushCost;
+
+    private volatile ApplicationHandler handler;
+
+    @Setup
+    public void start() throws Exception {
+        handler = new ApplicationHandler(new ChunkedOutputApplication());
+    }
+
+    @Benchmark
+    public long measure() throws Exception {
+        final ContainerRequest request = ContainerRequestBuilder
+                .from("chunks?mode=" + mode + "&chunks=" + chunks, "GET", handler.getConfiguration())
+                .build();
+        final SinkResponseWriter writer = new SinkResponseWriter(flushCost);
+        request.setWriter(writer);
+
+        handler.handle(request);
+        return writer.committed.get();
+    }
+
+    /**
+     * Response writer discarding the written bytes and completing once the response is committed.
+     */
+    private static final class SinkResponseWriter implements ContainerResponseWriter {
+
+        private final CompletableFuture<Long> committed = new CompletableFuture<>();
+        private final long flushCost;
+        private long bytes;
+
+        private SinkResponseWriter(final long flushCost) {
+            this.flushCost = flushCost;
+        }
+
+        @Override
+        public OutputStream writeResponseStatusAndHeaders(final long contentLength, final ContainerResponse responseContext) {
+            return new OutputStream() {
+                @Override
+                public void write(final int b) {
+                    bytes++;
+                }
+
+                @Override
+                public void write(final byte[] b, final int off, final int len) {
+                    bytes += len;
+                }
+
+                @Override
+                public void flush() {
+                    Blackhole.consumeCPU(flushCost);
+                }
+            };
+        }
+
+        @Override
+        public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
+            return true;
+        }
+
+        @Override
+        public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void commit() {
+            committed.complete(bytes);
+        }
+
+        @Override
+        public void failure(final Throwable error) {
+            committed.completeExceptionally(error);
+        }
+
+        @Override
+        public boolean enableResponseBuffering() {
+            return false;
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ChunkedOutputBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.tests.performance.benchmark;
 
+import java.net.URI;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -23,9 +24,16 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.test.util.client.LoopBackConnectorProvider;
+import org.glassfish.jersey.tests.performance.benchmark.server.ClientApplication;
+
+import org.glassfish.grizzly.http.server.HttpServer;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -33,6 +41,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -43,7 +52,10 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
- * Locator {@link org.glassfish.jersey.server.ApplicationHandler} benchmark.
+ * Client benchmark.
+ * <p/>
+ * The {@code loopback} connector measures the client runtime only. The {@code java-http} connector sends the requests
+ * to a Grizzly server over HTTP using {@code java.net.http.HttpClient}.
  *
  * @author Michal Gajdos
  */
@@ -55,39 +67,67 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 @State(Scope.Benchmark)
 public class ClientBenchmark {
 
+    private static final URI BASE_URI = URI.create("http://localhost:9009/");
+
+    /**
+     * The connector is looked up by name as {@code jersey-java-http-connector} requires JDK 11 while the benchmarks
+     * are built with JDK 8 as well.
+     */
+    private static final String JAVA_HTTP_CONNECTOR_PROVIDER =
+            "org.glassfish.jersey.java.http.connector.JavaHttpConnectorProvider";
+
+    @Param({"loopback", "java-http"})
+    private String connector;
+
     private volatile Client client;
+    private volatile WebTarget target;
+    private volatile HttpServer server;
 
     @Setup
     public void start() throws Exception {
-        client = ClientBuilder.newClient(LoopBackConnectorProvider.getClientConfig());
+        if ("loopback".equals(connector)) {
+            client = ClientBuilder.newClient(LoopBackConnectorProvider.getClientConfig());
+            target = client.target("foo");
+        } else {
+            server = GrizzlyHttpServerFactory.createHttpServer(BASE_URI, new ClientApplication());
+
+            final ConnectorProvider provider = (ConnectorProvider) Class.forName(JAVA_HTTP_CONNECTOR_PROVIDER)
+                    .getDeclaredConstructor()
+                    .newInstance();
+            client = ClientBuilder.newClient(new ClientConfig().connectorProvider(provider));
+            target = client.target(BASE_URI).path("foo");
+        }
     }
 
     @TearDown
     public void shutdown() {
         client.close();
+        if (server != null) {
+            server.shutdownNow();
+        }
     }
 
     @Benchmark
     public Response get() throws Exception {
-        return client.target("foo").request().get();
+        return consumed(target.request().get());
     }
 
     @Benchmark
     public Response post() throws Exception {
-        return client.target("foo").request().post(Entity.text("bar"));
+        return consumed(target.request().post(Entity.text("bar")));
     }
 
     @Benchmark
      public Response asyncBlock() throws Exception {
-        return client.target("foo").request().async().get().get();
+        return consumed(target.request().async().get().get());
     }
 
     @Benchmark
     public Future<Response> asyncIgnore() throws Exception {
-        return client.target("foo").request().async().get(new InvocationCallback<Response>() {
+        return target.request().async().get(new InvocationCallback<Response>() {
             @Override
             public void completed(final Response response) {
-                // NOOP
+                consumed(response);
             }
 
             @Override
@@ -99,10 +139,10 @@ public class ClientBenchmark {
 
     @Benchmark
     public Future<Response> asyncEntityIgnore() throws Exception {
-        return client.target("foo").request().async().post(Entity.text("bar"), new InvocationCallback<Response>() {
+        return target.request().async().post(Entity.text("bar"), new InvocationCallback<Response>() {
             @Override
             public void completed(final Response response) {
-                // NOOP
+                consumed(response);
             }
 
             @Override
@@ -112,6 +152,12 @@ public class ClientBenchmark {
         });
     }
 
+    private static Response consumed(final Response response) {
+        // reads the entity so that an HTTP connector can reuse the connection
+        response.readEntity(String.class);
+        return response;
+    }
+
     public static void main(final String[] args) throws Exception {
         final Options opt = new OptionsBuilder()
                 // Register our benchmarks.
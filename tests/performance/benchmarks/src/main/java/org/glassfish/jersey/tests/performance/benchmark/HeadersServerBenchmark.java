@@ -56,7 +56,7 @@ public class HeadersServerBenchmark {
     private static final MediaType MEDIA_PLAIN = MediaType.valueOf(HeadersResource.MEDIA_PLAIN);
     private static final MediaType MEDIA_JSON = MediaType.valueOf(HeadersResource.MEDIA_JSON);
 
-    private volatile ApplicationHandler handler;
+    protected volatile ApplicationHandler handler;
 
     @Setup
     public void start() throws Exception {
@@ -136,7 +136,7 @@ public class HeadersServerBenchmark {
         }
     }
 
-    private void consume(ContainerResponse response, String expectedContent, MediaType expectedMedia) {
+    protected void consume(ContainerResponse response, String expectedContent, MediaType expectedMedia) {
         if (response.getStatus() != 200) {
             throw new IllegalStateException("Status:" + response.getStatus());
         }
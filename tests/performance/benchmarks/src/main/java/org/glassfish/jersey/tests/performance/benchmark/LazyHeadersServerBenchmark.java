@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.internal.util.collection.LazyStringKeyIgnoreCaseMultivaluedMap;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.tests.performance.benchmark.headers.HeadersResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares copying the headers of a container request into the Jersey request with reading them lazily from
+ * the container through a {@link LazyStringKeyIgnoreCaseMultivaluedMap.Source}, for requests with many headers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LazyHeadersServerBenchmark extends HeadersServerBenchmark {
+
+    private static final int HEADERS = 30;
+    private static final URI BASE_URI = URI.create("/");
+    private static final URI REQUEST_URI = URI.create("/headers/getPlain");
+    private static final MediaType MEDIA_PLAIN = MediaType.valueOf(HeadersResource.MEDIA_PLAIN);
+
+    // native container headers, looked up by the lower-cased name like e.g. Netty does
+    private static final Map<String, List<String>> NATIVE_HEADERS = new LinkedHashMap<>();
+
+    static {
+        NATIVE_HEADERS.put("accept", Collections.singletonList(HeadersResource.MEDIA_PLAIN));
+        for (int i = 1; i < HEADERS; i++) {
+            NATIVE_HEADERS.put("x-header-" + i, Collections.singletonList("value of the header number " + i));
+        }
+    }
+
+    @Benchmark
+    public void testGetCopiedHeaders() throws ExecutionException, InterruptedException {
+        final ContainerRequest request = newRequest();
+        // what the container adapters used to do
+        for (final Map.Entry<String, List<String>> header : NATIVE_HEADERS.entrySet()) {
+            request.headers(header.getKey(), new ArrayList<>(header.getValue()));
+        }
+        consume(handler.apply(request).get(), HeadersResource.CONTENT_PLAIN, MEDIA_PLAIN);
+    }
+
+    @Benchmark
+    public void testGetLazyHeaders() throws ExecutionException, InterruptedException {
+        final ContainerRequest request = newRequest();
+        request.headers(new NativeHeaders());
+        consume(handler.apply(request).get(), HeadersResource.CONTENT_PLAIN, MEDIA_PLAIN);
+    }
+
+    private ContainerRequest newRequest() {
+        return new ContainerRequest(BASE_URI, REQUEST_URI, "GET", null, new MapPropertiesDelegate(),
+                handler.getConfiguration());
+    }
+
+    private static final class NativeHeaders implements LazyStringKeyIgnoreCaseMultivaluedMap.Source {
+
+        @Override
+        public List<String> get(final String name) {
+            final List<String> values = NATIVE_HEADERS.get(name.toLowerCase(Locale.ROOT));
+            return values == null ? null : new ArrayList<>(values);
+        }
+
+        @Override
+        public Iterable<String> names() {
+            return NATIVE_HEADERS.keySet();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(LazyHeadersServerBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
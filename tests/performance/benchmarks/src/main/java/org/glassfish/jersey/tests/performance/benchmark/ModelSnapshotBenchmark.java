@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.server.SyntheticApplication;
+import org.glassfish.jersey.tests.performance.benchmark.server.SyntheticResourceClassLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time-to-first-request benchmark of an application with a large number of generated resource classes, comparing
+ * the initialization of the {@link ApplicationHandler} that introspects and validates the resource classes with the one
+ * restored from the {@link ServerProperties#RESOURCE_MODEL_SNAPSHOT resource model snapshot}.
+ * <p>
+ * The resource classes are loaded once per trial, so the measured time does not include the class loading.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 40)
+@Fork(3)
+@State(Scope.Benchmark)
+public class ModelSnapshotBenchmark {
+
+    @Param(value = {"600"})
+    private int resources;
+
+    @Param(value = {"false", "true"})
+    private boolean snapshot;
+
+    private volatile List<Class<?>> resourceClasses;
+    private volatile Path file;
+    private volatile String path;
+
+    @Setup
+    public void start() throws IOException {
+        resourceClasses = new SyntheticResourceClassLoader(resources).getResourceClasses();
+        file = Files.createTempDirectory("jersey-benchmark").resolve("model.snapshot");
+        // a resource in the middle of the routing table
+        path = SyntheticResourceClassLoader.path(resources / 2) + "/42";
+
+        if (snapshot) {
+            // the first start stores the snapshot
+            new ApplicationHandler(application());
+        }
+    }
+
+    @TearDown
+    public void stop() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.getParent());
+    }
+
+    private ResourceConfig application() {
+        final ResourceConfig application = new SyntheticApplication(resourceClasses);
+        if (snapshot) {
+            application.property(ServerProperties.RESOURCE_MODEL_SNAPSHOT, file.toString());
+        }
+        return application;
+    }
+
+    @Benchmark
+    public ContainerResponse timeToFirstRequest() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(application());
+        return handler.apply(ContainerRequestBuilder.from(path, "GET", handler.getConfiguration()).build()).get();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ModelSnapshotBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
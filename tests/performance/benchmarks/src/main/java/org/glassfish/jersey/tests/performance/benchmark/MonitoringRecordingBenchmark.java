@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.internal.monitoring.core.HistogramTimeReservoir;
+import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the recording of execution times by request threads into the time windows of the monitoring statistics.
+ * Four request threads record each execution into the six {@link HistogramTimeReservoir reservoirs} of the statistics,
+ * while a single thread takes the snapshots like the monitoring statistics processor does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Group)
+public class MonitoringRecordingBenchmark {
+
+    private TimeReservoir<Long>[] reservoirs;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void start() {
+        final long now = System.currentTimeMillis();
+        reservoirs = new TimeReservoir[] {
+                new HistogramTimeReservoir(now, TimeUnit.MILLISECONDS),
+                new HistogramTimeReservoir(1, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS),
+                new HistogramTimeReservoir(15, TimeUnit.SECONDS, now, TimeUnit.MILLISECONDS),
+                new HistogramTimeReservoir(1, TimeUnit.MINUTES, now, TimeUnit.MILLISECONDS),
+                new HistogramTimeReservoir(15, TimeUnit.MINUTES, now, TimeUnit.MILLISECONDS),
+                new HistogramTimeReservoir(1, TimeUnit.HOURS, now, TimeUnit.MILLISECONDS)};
+    }
+
+    @Benchmark
+    @Group("recording")
+    @GroupThreads(4)
+    public void record() {
+        final long now = System.currentTimeMillis();
+        for (final TimeReservoir<Long> reservoir : reservoirs) {
+            reservoir.update(now & 0xff, now, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Benchmark
+    @Group("recording")
+    @GroupThreads(1)
+    public long snapshot() {
+        final long now = System.currentTimeMillis();
+        long size = 0;
+        for (final TimeReservoir<Long> reservoir : reservoirs) {
+            size += reservoir.getSnapshot(now, TimeUnit.MILLISECONDS).size();
+        }
+        return size;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(MonitoringRecordingBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.netty.httpserver.NettyHttpContainerProvider;
+import org.glassfish.jersey.tests.performance.benchmark.server.NonBlockingJsonApplication;
+
+import io.netty.channel.Channel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Netty container benchmark of small non-blocking JSON endpoints comparing the requests processed on the container
+ * executor service with the requests processed directly on the event loop.
+ * <p/>
+ * The throughput and the sampled latency are measured by concurrent clients sending the requests over HTTP.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 16, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 16, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class NettyEventLoopBenchmark {
+
+    private static final URI BASE_URI = URI.create("http://localhost:9010/");
+
+    private static final String PROJECT = "{\"id\":1,\"name\":\"foo\",\"description\":\"bar\"}";
+
+    @Param({"false", "true"})
+    private boolean eventLoop;
+
+    private volatile Channel server;
+    private volatile Client client;
+    private volatile WebTarget target;
+
+    @Setup
+    public void start() throws Exception {
+        server = NettyHttpContainerProvider.createServer(BASE_URI, new NonBlockingJsonApplication(eventLoop), false);
+        client = ClientBuilder.newClient();
+        target = client.target(BASE_URI).path("json");
+    }
+
+    @TearDown
+    public void shutdown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public String get() throws Exception {
+        return target.request(MediaType.APPLICATION_JSON).get(String.class);
+    }
+
+    @Benchmark
+    public String getAsync() throws Exception {
+        return target.path("async").request(MediaType.APPLICATION_JSON).get(String.class);
+    }
+
+    @Benchmark
+    public String post() throws Exception {
+        return target.request(MediaType.APPLICATION_JSON).post(Entity.json(PROJECT), String.class);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(NettyEventLoopBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.client.proxy.WebResourceFactory;
+import org.glassfish.jersey.test.util.client.LoopBackConnectorProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares requests sent by a {@link WebResourceFactory} proxy with the same requests built by the client API.
+ * <p/>
+ * The loopback connector is used so that the difference is not lost in the network exchange.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 16, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProxyClientBenchmark {
+
+    /**
+     * Resource interface of the proxy.
+     */
+    @Path("foo")
+    public interface FooResource {
+
+        @GET
+        @Path("{id}")
+        @Produces(MediaType.TEXT_PLAIN)
+        String get(@PathParam("id") String id, @QueryParam("q") String q, @HeaderParam("X-Trace") String trace);
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        @Produces(MediaType.TEXT_PLAIN)
+        String post(String entity);
+    }
+
+    private volatile Client client;
+    private volatile WebTarget target;
+    private volatile FooResource proxy;
+
+    @Setup
+    public void start() {
+        client = ClientBuilder.newClient(LoopBackConnectorProvider.getClientConfig());
+        target = client.target("http://localhost/");
+        proxy = WebResourceFactory.newResource(FooResource.class, target);
+    }
+
+    @TearDown
+    public void shutdown() {
+        client.close();
+    }
+
+    @Benchmark
+    public String proxyGet() {
+        return proxy.get("bar", "baz", "trace");
+    }
+
+    @Benchmark
+    public String clientGet() {
+        return target.path("foo").path("{id}").resolveTemplate("id", "bar").queryParam("q", "baz")
+                .request(MediaType.TEXT_PLAIN)
+                .header("X-Trace", "trace")
+                .get(String.class);
+    }
+
+    @Benchmark
+    public String proxyPost() {
+        return proxy.post("bar");
+    }
+
+    @Benchmark
+    public String clientPost() {
+        return target.path("foo")
+                .request(MediaType.TEXT_PLAIN)
+                .post(Entity.entity("bar", MediaType.TEXT_PLAIN), String.class);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ProxyClientBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ChunkedInput;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.media.sse.EventInput;
+import org.glassfish.jersey.media.sse.InboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link EventInput} benchmark reading a recorded stream of price ticker events interleaved with heartbeat comments,
+ * using either the default block-buffered SSE parser or the chunk parser followed by the SSE message body reader.
+ * The stream is served by a connector replaying the recording, so that no network I/O is involved.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SseParserBenchmark {
+
+    @Param(value = {"buffered", "chunked"})
+    private String parser;
+
+    @Param(value = {"10000"})
+    private int events;
+
+    private volatile Client client;
+
+    @Setup
+    public void start() {
+        final StringBuilder recording = new StringBuilder();
+        for (int i = 0; i < events; i++) {
+            if (i % 10 == 0) {
+                recording.append(": heartbeat\n\n");
+            }
+            recording.append("id: ").append(i).append('\n')
+                     .append("event: quote\n")
+                     .append("data: {\"symbol\":\"ORCL\",\"bid\":123.45,\"ask\":123.47,\"sequence\":").append(i).append("}\n")
+                     .append('\n');
+        }
+        final byte[] stream = recording.toString().getBytes(StandardCharsets.UTF_8);
+
+        client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider((jaxrsClient, config) -> new ReplayingConnector(stream))
+                .register(SseFeature.class));
+    }
+
+    @TearDown
+    public void shutdown() {
+        client.close();
+    }
+
+    @Benchmark
+    public int read(final Blackhole blackhole) {
+        final EventInput input = client.target("http://localhost/events")
+                                        .request(SseFeature.SERVER_SENT_EVENTS_TYPE)
+                                        .get(EventInput.class);
+        if ("chunked".equals(parser)) {
+            input.setParser(ChunkedInput.createMultiParser("\n\n", "\r\n\r\n"));
+        }
+
+        int count = 0;
+        InboundEvent event;
+        while ((event = input.read()) != null) {
+            blackhole.consume(event.getName());
+            blackhole.consume(event.getId());
+            blackhole.consume(event.isEmpty());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Connector responding to every request with the recorded event stream.
+     */
+    private static final class ReplayingConnector implements Connector {
+
+        private final byte[] stream;
+
+        private ReplayingConnector(final byte[] stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, SseFeature.SERVER_SENT_EVENTS);
+            response.setEntityStream(new ByteArrayInputStream(stream));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            final ClientResponse response = apply(request);
+            callback.response(response);
+            return CompletableFuture.completedFuture(response);
+        }
+
+        @Override
+        public String getName() {
+            return "replaying";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(SseParserBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.server.SseApplication;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Memory footprint of idle SSE connections kept by the JAX-RS {@link javax.ws.rs.sse.SseBroadcaster} and by
+ * {@link org.glassfish.jersey.media.sse.SseSinkRegistry}. Each invocation opens the given number of connections that
+ * never receive any event and reports the heap retained per connection as the {@code bytesPerConnection} counter.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SseSinkMemoryBenchmark {
+
+    @Param(value = {"broadcaster", "registry"})
+    private String mode;
+
+    @Param(value = {"10000"})
+    private int connections;
+
+    private SseApplication application;
+    private ApplicationHandler handler;
+
+    /**
+     * Heap retained per connection in bytes.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+
+        public long bytesPerConnection;
+    }
+
+    @Setup(Level.Iteration)
+    public void start() {
+        application = new SseApplication(mode);
+        handler = new ApplicationHandler(application);
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        application.close();
+    }
+
+    @Benchmark
+    public void measure(final Footprint footprint) {
+        final long before = usedHeap();
+        for (int i = 0; i < connections; i++) {
+            connect();
+        }
+        footprint.bytesPerConnection = (usedHeap() - before) / connections;
+    }
+
+    private void connect() {
+        final ContainerRequest request = ContainerRequestBuilder
+                .from("sse", "GET", handler.getConfiguration())
+                .accept(MediaType.SERVER_SENT_EVENTS_TYPE)
+                .build();
+        request.setWriter(new IdleResponseWriter());
+        handler.handle(request);
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Response writer of a connection whose client never closes it.
+     */
+    private static final class IdleResponseWriter implements ContainerResponseWriter {
+
+        @Override
+        public OutputStream writeResponseStatusAndHeaders(final long contentLength, final ContainerResponse responseContext) {
+            return new OutputStream() {
+                @Override
+                public void write(final int b) {
+                }
+
+                @Override
+                public void write(final byte[] b, final int off, final int len) {
+                }
+            };
+        }
+
+        @Override
+        public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
+            return true;
+        }
+
+        @Override
+        public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void failure(final Throwable error) {
+        }
+
+        @Override
+        public boolean enableResponseBuffering() {
+            return false;
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(SseSinkMemoryBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
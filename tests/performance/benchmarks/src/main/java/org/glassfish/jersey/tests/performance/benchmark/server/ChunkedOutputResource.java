@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ChunkedOutput;
+
+/**
+ * Resource streaming a number of small chunks from a separate thread, either using the default {@link ChunkedOutput}
+ * or a ring buffer backed one, optionally flushing the chunks in batches.
+ */
+@Path("chunks")
+public class ChunkedOutputResource {
+
+    private static final byte[] DELIMITER = "\n".getBytes();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "chunked-output-producer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public ChunkedOutput<String> get(@QueryParam("mode") final String mode, @QueryParam("chunks") final int chunks) {
+        final ChunkedOutput.Builder<String> builder = ChunkedOutput.<String>builder(String.class).chunkDelimiter(DELIMITER);
+        if ("ring".equals(mode) || "batched".equals(mode)) {
+            builder.ringBufferCapacity(1024);
+        }
+        if ("batched".equals(mode)) {
+            builder.flushAfterChunks(64).flushAfterBytes(8192).flushDelay(50, TimeUnit.MICROSECONDS);
+        }
+        final ChunkedOutput<String> output = builder.build();
+
+        EXECUTOR.execute(() -> {
+            try {
+                for (int i = 0; i < chunks; i++) {
+                    final String chunk = "{\"tick\":" + i + "}";
+                    while (!output.offer(chunk)) {
+                        LockSupport.parkNanos(1000);
+                    }
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            } finally {
+                try {
+                    output.close();
+                } catch (final IOException e) {
+                    // ignore
+                }
+            }
+        });
+        return output;
+    }
+}
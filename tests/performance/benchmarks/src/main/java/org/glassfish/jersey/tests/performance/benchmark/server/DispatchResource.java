@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+
+/**
+ * CRUD-like resource with parametrized resource methods.
+ */
+@Path("items")
+@Produces("text/plain")
+public class DispatchResource {
+
+    @GET
+    @Path("{id}")
+    public String get(@PathParam("id") final long id, @QueryParam("fields") final String fields) {
+        return fields == null ? Long.toString(id) : id + ":" + fields;
+    }
+
+    @POST
+    @Path("{id}")
+    public String post(@PathParam("id") final long id, final String entity) {
+        return entity;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import java.io.InputStream;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+/**
+ * Resource echoing binary entities.
+ */
+@Path("entity")
+@Consumes("application/octet-stream")
+@Produces("application/octet-stream")
+public class EntityResource {
+
+    @POST
+    @Path("bytes")
+    public byte[] bytes(final byte[] entity) {
+        return entity;
+    }
+
+    @POST
+    @Path("stream")
+    public InputStream stream(final InputStream entity) {
+        return entity;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.tests.performance.benchmark.entity.json.Project;
+
+/**
+ * JSON resource reading and writing {@link Project projects}.
+ */
+@Path("json")
+@Produces(MediaType.APPLICATION_JSON)
+public class JsonResource {
+
+    private static final List<Project> PROJECTS = Arrays.asList(
+            new Project(1L, "foo", "bar"),
+            new Project(2L, "baz", "qux"));
+
+    @GET
+    public List<Project> get() {
+        return PROJECTS;
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Project post(final Project project) {
+        return project;
+    }
+}
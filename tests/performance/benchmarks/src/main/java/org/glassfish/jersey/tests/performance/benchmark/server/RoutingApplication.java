@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Resource;
+
+/**
+ * Application with a configurable number of programmatic root resources, each having a resource method
+ * and a templated sub-resource method.
+ */
+public class RoutingApplication extends ResourceConfig {
+
+    public RoutingApplication(final int resources, final boolean prefixIndex) {
+        for (int i = 0; i < resources; i++) {
+            final String entity = "resource" + i;
+            final Resource.Builder builder = Resource.builder(path(i));
+            builder.addMethod("GET").handledBy(context -> Response.ok(entity).build());
+            builder.addChildResource("{id}").addMethod("GET").handledBy(context -> Response.ok(entity).build());
+            registerResources(builder.build());
+        }
+
+        property(ServerProperties.ROUTING_PREFIX_INDEX_ENABLED, prefixIndex);
+
+        // Turn off Monitoring to not affect benchmarks.
+        property(ServerProperties.MONITORING_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false);
+    }
+
+    /**
+     * Get the path of the resource with the given index.
+     *
+     * @param index index of the resource.
+     * @return resource path.
+     */
+    public static String path(final int index) {
+        return "api/v1/resource" + index;
+    }
+}
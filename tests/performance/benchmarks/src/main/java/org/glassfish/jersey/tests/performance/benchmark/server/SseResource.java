@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseBroadcaster;
+import javax.ws.rs.sse.SseEventSink;
+
+import org.glassfish.jersey.media.sse.SseSinkRegistry;
+
+/**
+ * Resource keeping the subscribed SSE event sinks either in a {@link SseBroadcaster} or in a {@link SseSinkRegistry}.
+ */
+@Path("sse")
+public class SseResource implements AutoCloseable {
+
+    private final SseSinkRegistry registry;
+
+    @Context
+    private Sse sse;
+
+    private SseBroadcaster broadcaster;
+
+    public SseResource(final String mode) {
+        this.registry = "registry".equals(mode) ? SseSinkRegistry.builder().build() : null;
+    }
+
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void subscribe(@Context final SseEventSink sink) {
+        if (registry != null) {
+            registry.register(sink);
+        } else {
+            broadcaster().register(sink);
+        }
+    }
+
+    private synchronized SseBroadcaster broadcaster() {
+        if (broadcaster == null) {
+            broadcaster = sse.newBroadcaster();
+        }
+        return broadcaster;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (registry != null) {
+            registry.close();
+        }
+        if (broadcaster != null) {
+            broadcaster.close();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jersey.repackaged.org.objectweb.asm.AnnotationVisitor;
+import jersey.repackaged.org.objectweb.asm.ClassWriter;
+import jersey.repackaged.org.objectweb.asm.MethodVisitor;
+import jersey.repackaged.org.objectweb.asm.Opcodes;
+
+/**
+ * Class loader of generated JAX-RS resource classes, used to benchmark the initialization of applications with a large
+ * number of resource classes. The class files of the generated classes are available as class loader resources.
+ * <p>
+ * A generated resource class {@code Resource<i>} is bound to the {@link #path(int) path} {@code api/v1/resource<i>}
+ * and has a {@code GET} resource method, a {@code POST} resource method consuming {@code text/plain} and a {@code GET}
+ * sub-resource method on the {@code {id}} path template returning the value of the path parameter. All the methods
+ * produce {@code text/plain}.
+ */
+public class SyntheticResourceClassLoader extends ClassLoader {
+
+    private static final String PACKAGE = "org/glassfish/jersey/tests/performance/benchmark/server/synthetic/";
+
+    private final Map<String, byte[]> classFiles = new HashMap<>();
+    private final List<Class<?>> resourceClasses;
+
+    /**
+     * Generate the given number of resource classes.
+     *
+     * @param resources number of resource classes.
+     */
+    public SyntheticResourceClassLoader(final int resources) {
+        super(SyntheticResourceClassLoader.class.getClassLoader());
+
+        for (int i = 0; i < resources; i++) {
+            classFiles.put(PACKAGE + "Resource" + i + ".class", generate(i));
+        }
+        resourceClasses = new ArrayList<>(resources);
+        for (int i = 0; i < resources; i++) {
+            try {
+                resourceClasses.add(loadClass(PACKAGE.replace('/', '.') + "Resource" + i));
+            } catch (final ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Get the generated resource classes.
+     *
+     * @return resource classes in the order of their indexes.
+     */
+    public List<Class<?>> getResourceClasses() {
+        return resourceClasses;
+    }
+
+    /**
+     * Get the path of the resource class with the given index.
+     *
+     * @param index index of the resource class.
+     * @return resource path.
+     */
+    public static String path(final int index) {
+        return "api/v1/resource" + index;
+    }
+
+    @Override
+    protected Class<?> findClass(final String name) throws ClassNotFoundException {
+        final byte[] classFile = classFiles.get(name.replace('.', '/') + ".class");
+        if (classFile == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, classFile, 0, classFile.length);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(final String name) {
+        final byte[] classFile = classFiles.get(name);
+        return classFile != null ? new ByteArrayInputStream(classFile) : super.getResourceAsStream(name);
+    }
+
+    private static byte[] generate(final int index) {
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, PACKAGE + "Resource" + index, null,
+                "java/lang/Object", null);
+        annotation(cw.visitAnnotation("Ljavax/ws/rs/Path;", true), path(index));
+
+        final MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        final MethodVisitor get = method(cw, "get", "()Ljava/lang/String;", "GET");
+        get.visitCode();
+        get.visitLdcInsn("resource" + index);
+        get.visitInsn(Opcodes.ARETURN);
+        get.visitMaxs(0, 0);
+        get.visitEnd();
+
+        final MethodVisitor post = method(cw, "post", "(Ljava/lang/String;)Ljava/lang/String;", "POST");
+        mediaTypes(post.visitAnnotation("Ljavax/ws/rs/Consumes;", true));
+        post.visitCode();
+        post.visitVarInsn(Opcodes.ALOAD, 1);
+        post.visitInsn(Opcodes.ARETURN);
+        post.visitMaxs(0, 0);
+        post.visitEnd();
+
+        final MethodVisitor item = method(cw, "getItem", "(Ljava/lang/String;)Ljava/lang/String;", "GET");
+        annotation(item.visitAnnotation("Ljavax/ws/rs/Path;", true), "{id}");
+        annotation(item.visitParameterAnnotation(0, "Ljavax/ws/rs/PathParam;", true), "id");
+        item.visitCode();
+        item.visitVarInsn(Opcodes.ALOAD, 1);
+        item.visitInsn(Opcodes.ARETURN);
+        item.visitMaxs(0, 0);
+        item.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static MethodVisitor method(final ClassWriter cw, final String name, final String descriptor,
+                                        final String httpMethod) {
+        final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, name, descriptor, null, null);
+        mv.visitAnnotation("Ljavax/ws/rs/" + httpMethod + ";", true).visitEnd();
+        mediaTypes(mv.visitAnnotation("Ljavax/ws/rs/Produces;", true));
+        return mv;
+    }
+
+    private static void annotation(final AnnotationVisitor av, final String value) {
+        av.visit("value", value);
+        av.visitEnd();
+    }
+
+    private static void mediaTypes(final AnnotationVisitor av) {
+        final AnnotationVisitor values = av.visitArray("value");
+        values.visit(null, "text/plain");
+        values.visitEnd();
+        av.visitEnd();
+    }
+}